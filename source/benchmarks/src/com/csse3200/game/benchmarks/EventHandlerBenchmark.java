@@ -0,0 +1,94 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.events.listeners.EventListener;
+import com.csse3200.game.events.listeners.EventListener2;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures event triggers per second for the string-keyed dispatch the event handler used to
+ * have, the current string shim, and typed event keys. Each handler has a realistic number of
+ * unrelated events registered alongside the one being triggered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventHandlerBenchmark {
+  private static final EventKey<EventListener2<Object, Object>> COLLISION =
+      EventKey.of("benchmarkCollision");
+  private static final int OTHER_EVENTS = 12;
+
+  @Param({"1", "4"})
+  public int listenerCount;
+
+  private LegacyEventHandler legacyHandler;
+  private EventHandler handler;
+  private final Object fixtureA = new Object();
+  private final Object fixtureB = new Object();
+  private Blackhole blackhole;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    this.blackhole = blackhole;
+    legacyHandler = new LegacyEventHandler();
+    handler = new EventHandler();
+    for (int i = 0; i < OTHER_EVENTS; i++) {
+      legacyHandler.addListener("other" + i, (Object a, Object b) -> {});
+      handler.addListener("other" + i, (Object a, Object b) -> {});
+    }
+    for (int i = 0; i < listenerCount; i++) {
+      legacyHandler.addListener(COLLISION.getName(), this::onCollision);
+      handler.addListener(COLLISION, this::onCollision);
+    }
+  }
+
+  @Benchmark
+  public void legacyStringTrigger() {
+    legacyHandler.trigger(COLLISION.getName(), fixtureA, fixtureB);
+  }
+
+  @Benchmark
+  public void stringTrigger() {
+    handler.trigger(COLLISION.getName(), fixtureA, fixtureB);
+  }
+
+  @Benchmark
+  public void typedTrigger() {
+    handler.trigger(COLLISION, fixtureA, fixtureB);
+  }
+
+  private void onCollision(Object a, Object b) {
+    blackhole.consume(a);
+  }
+
+  /** Copy of the previous event handler dispatch, kept as the baseline. */
+  private static class LegacyEventHandler {
+    private final Map<String, Array<EventListener>> listeners = new HashMap<>(0);
+
+    <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
+      listeners.computeIfAbsent(eventName, name -> new Array<>(1)).add(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
+      forEachListener(
+          eventName,
+          (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    }
+
+    private void forEachListener(String eventName, Consumer<EventListener> func) {
+      Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+      if (eventListeners != null) {
+        eventListeners.forEach(func);
+      }
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.PlaceableEntity;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.StructurePlacementService;
+import com.csse3200.game.services.TimerService;
+
+/**
+ * Runs the core game loop without a window, renderer or real clock, so the same scenario always
+ * simulates the same way. The libGDX headless backend is booted through the same
+ * {@link GameExtension} the unit tests use, and every tick advances game time by a fixed step
+ * before running timers, stepping physics and updating entities, in the same order as the planet
+ * screen.
+ *
+ * <p>Structures are placed through the {@link StructurePlacementService}, which spawns them here
+ * one tile per world unit instead of through a game area.
+ */
+public class HeadlessSimulation {
+  public static final float TICK_SECONDS = 1f / 60f;
+
+  private final GameExtension gameExtension = new GameExtension();
+  private final FixedTimeSource timeSource = new FixedTimeSource();
+  private final EntityService entityService;
+  private final PhysicsEngine physicsEngine;
+  private final TimerService timerService;
+  private final StructurePlacementService structurePlacementService;
+  private long ticks = 0;
+
+  public HeadlessSimulation() {
+    gameExtension.beforeAll(null);
+    ServiceLocator.registerTimeSource(timeSource);
+    timerService = new TimerService(timeSource);
+    ServiceLocator.registerTimerService(timerService);
+
+    PhysicsService physicsService = new PhysicsService();
+    physicsEngine = physicsService.getPhysics();
+    ServiceLocator.registerPhysicsService(physicsService);
+
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+
+    // Debug lines requested by AI tasks are recorded but never drawn
+    RenderService renderService = new RenderService();
+    renderService.setDebug(new DebugRenderer(null, null));
+    ServiceLocator.registerRenderService(renderService);
+
+    EventHandler placementEvents = new EventHandler();
+    structurePlacementService = new StructurePlacementService(placementEvents);
+    ServiceLocator.registerStructurePlacementService(structurePlacementService);
+    placementEvents.addListener("placeStructureAt",
+        (StructurePlacementService.placeStructureAtArgs args) ->
+            spawnAt(args.getEntity(), args.getTilePos()));
+  }
+
+  /**
+   * Create an entity and add it to the simulation at a world position.
+   *
+   * @param entity entity, not yet registered
+   * @param x world x position
+   * @param y world y position
+   * @return the entity
+   */
+  public Entity spawn(Entity entity, float x, float y) {
+    entity.setPosition(x, y);
+    entityService.register(entity);
+    return entity;
+  }
+
+  /**
+   * Place a structure through the structure placement service.
+   *
+   * @param structure structure, not yet registered
+   * @param x tile x position
+   * @param y tile y position
+   */
+  public void place(PlaceableEntity structure, int x, int y) {
+    structurePlacementService.placeStructureAt(structure, new GridPoint2(x, y), false, false);
+  }
+
+  private void spawnAt(Entity entity, GridPoint2 tilePos) {
+    spawn(entity, tilePos.x, tilePos.y);
+  }
+
+  /** Advance the simulation by one fixed step. */
+  public void tick() {
+    timeSource.advance();
+    timerService.update();
+    physicsEngine.update();
+    entityService.update();
+    ticks++;
+  }
+
+  /**
+   * @return ticks simulated since the simulation was created
+   */
+  public long getTicks() {
+    return ticks;
+  }
+
+  public EntityService getEntityService() {
+    return entityService;
+  }
+
+  /** Dispose every entity and clear the global services. */
+  public void dispose() {
+    entityService.dispose();
+    physicsEngine.dispose();
+    gameExtension.afterEach(null);
+  }
+
+  /** Game time that advances by exactly one tick each time it is asked to. */
+  private static class FixedTimeSource extends GameTime {
+    private long elapsedNanos = 0;
+
+    void advance() {
+      elapsedNanos += (long) (TICK_SECONDS * 1_000_000_000L);
+    }
+
+    @Override
+    public float getDeltaTime() {
+      return TICK_SECONDS;
+    }
+
+    @Override
+    public float getRawDeltaTime() {
+      return TICK_SECONDS;
+    }
+
+    @Override
+    public long getTime() {
+      return elapsedNanos / 1_000_000L;
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.csse3200.game.ai.tasks.AITaskComponent;
+import com.csse3200.game.components.FOVComponent;
+import com.csse3200.game.components.structures.TurretTargetableComponent;
+import com.csse3200.game.components.tasks.ChaseTask;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.PlaceableEntity;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.components.ColliderComponent;
+import com.csse3200.game.physics.components.HitboxComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.physics.components.PhysicsMovementComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scripted game scenarios run through a {@link HeadlessSimulation}. Each operation is one game
+ * tick, so the score is ticks per second. Run with the gc profiler (enabled in the benchmarks
+ * build) to also report the allocation rate, and bytes allocated per tick as gc.alloc.rate.norm.
+ *
+ * <ul>
+ *   <li>chasingEnemies: 500 enemies chasing a player who circles the map.</li>
+ *   <li>turrets: 200 turrets tracking 100 enemies chasing the player through their field.</li>
+ *   <li>wallGrid: a 100x100 grid of walls with 50 enemies chasing the player, who circles
+ *       outside it.</li>
+ * </ul>
+ *
+ * <p>Every scenario is seeded, so the same ticks are simulated on every run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SimulationBenchmark {
+  private static final long SEED = 3200;
+  private static final float PLAYER_ORBIT_RADIUS = 20f;
+  private static final float PLAYER_ORBIT_SECONDS = 30f;
+  private static final int CHASE_PRIORITY = 10;
+  private static final float VIEW_DISTANCE = 200f;
+  private static final float TURRET_RANGE = 4f;
+  private static final int WALL_GRID_SIZE = 100;
+  // Both clear the corners of the wall grid, which are about 71 tiles from its centre
+  private static final float WALL_ORBIT_RADIUS = 85f;
+  private static final float WALL_ENEMY_RADIUS = 75f;
+
+  @Param({"chasingEnemies", "turrets", "wallGrid"})
+  public String scenario;
+
+  private HeadlessSimulation simulation;
+  private Random random;
+  private Entity player;
+  private float centerX;
+  private float centerY;
+  private int turretDetections = 0;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    simulation = new HeadlessSimulation();
+    random = new Random(SEED);
+    switch (scenario) {
+      case "chasingEnemies":
+        setupChasingEnemies();
+        break;
+      case "turrets":
+        setupTurrets();
+        break;
+      case "wallGrid":
+        setupWallGrid();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown scenario: " + scenario);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    simulation.dispose();
+  }
+
+  @Benchmark
+  public long tick() {
+    movePlayer();
+    simulation.tick();
+    return simulation.getTicks() + turretDetections;
+  }
+
+  private void setupChasingEnemies() {
+    spawnPlayer(0f, 0f);
+    for (int i = 0; i < 500; i++) {
+      spawnEnemy(randomAround(centerX, 40f), randomAround(centerY, 40f));
+    }
+  }
+
+  private void setupTurrets() {
+    spawnPlayer(50f, 50f);
+    // 20 x 10 turrets of 2x2 tiles, spaced so their ranges overlap
+    for (int x = 0; x < 20; x++) {
+      for (int y = 0; y < 10; y++) {
+        simulation.place(createTurret(), 10 + x * 4, 30 + y * 4);
+      }
+    }
+    for (int i = 0; i < 100; i++) {
+      spawnEnemy(randomAround(centerX, 40f), randomAround(centerY, 40f));
+    }
+  }
+
+  private void setupWallGrid() {
+    for (int x = 0; x < WALL_GRID_SIZE; x++) {
+      for (int y = 0; y < WALL_GRID_SIZE; y++) {
+        simulation.place(createWall(), x, y);
+      }
+    }
+    // The player circles outside the grid, so enemies on the far side are pressed against the walls
+    spawnPlayer(WALL_GRID_SIZE / 2f, WALL_GRID_SIZE / 2f);
+    int spawned = 0;
+    while (spawned < 50) {
+      float angle = random.nextFloat() * MathUtils.PI2;
+      float x = centerX + MathUtils.cos(angle) * WALL_ENEMY_RADIUS;
+      float y = centerY + MathUtils.sin(angle) * WALL_ENEMY_RADIUS;
+      if (!isWallCell(x, y)) {
+        spawnEnemy(x, y);
+        spawned++;
+      }
+    }
+  }
+
+  private static boolean isWallCell(float x, float y) {
+    int cellX = MathUtils.floor(x);
+    int cellY = MathUtils.floor(y);
+    return cellX >= 0 && cellX < WALL_GRID_SIZE && cellY >= 0 && cellY < WALL_GRID_SIZE;
+  }
+
+  /** Move the player along a circle around the scenario's centre, at a fixed rate per tick. */
+  private void movePlayer() {
+    float seconds = simulation.getTicks() * HeadlessSimulation.TICK_SECONDS;
+    float angle = seconds / PLAYER_ORBIT_SECONDS * MathUtils.PI2;
+    float radius = "wallGrid".equals(scenario) ? WALL_ORBIT_RADIUS : PLAYER_ORBIT_RADIUS;
+    player.setPosition(centerX + MathUtils.cos(angle) * radius, centerY + MathUtils.sin(angle) * radius);
+  }
+
+  private void spawnPlayer(float x, float y) {
+    centerX = x;
+    centerY = y;
+    player = new Entity()
+        .addComponent(new PhysicsComponent().setBodyType(BodyDef.BodyType.KinematicBody))
+        .addComponent(new HitboxComponent().setLayer(PhysicsLayer.PLAYER));
+    simulation.spawn(player, x, y);
+  }
+
+  private void spawnEnemy(float x, float y) {
+    AITaskComponent aiComponent = new AITaskComponent()
+        .addTask(new ChaseTask(player, CHASE_PRIORITY, VIEW_DISTANCE, VIEW_DISTANCE));
+    Entity enemy = new Entity()
+        .addComponent(new PhysicsComponent())
+        .addComponent(new PhysicsMovementComponent())
+        .addComponent(new ColliderComponent())
+        .addComponent(new HitboxComponent().setLayer(PhysicsLayer.NPC))
+        .addComponent(new TurretTargetableComponent())
+        .addComponent(aiComponent);
+    simulation.spawn(enemy, x, y);
+  }
+
+  private PlaceableEntity createTurret() {
+    PlaceableEntity turret = new PlaceableEntity(2, 2);
+    turret.addComponent(new PhysicsComponent().setBodyType(BodyDef.BodyType.StaticBody))
+        .addComponent(new ColliderComponent().setLayer(PhysicsLayer.TURRET))
+        .addComponent(new HitboxComponent().setLayer(PhysicsLayer.STRUCTURE))
+        .addComponent(new FOVComponent(TURRET_RANGE, enemy -> turretDetections++, enemy -> {}));
+    return turret;
+  }
+
+  private PlaceableEntity createWall() {
+    PlaceableEntity wall = new PlaceableEntity(1, 1);
+    wall.addComponent(new PhysicsComponent().setBodyType(BodyDef.BodyType.StaticBody))
+        .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE))
+        .addComponent(new HitboxComponent().setLayer(PhysicsLayer.STRUCTURE));
+    return wall;
+  }
+
+  private float randomAround(float center, float spread) {
+    return center + (random.nextFloat() - 0.5f) * spread;
+  }
+}
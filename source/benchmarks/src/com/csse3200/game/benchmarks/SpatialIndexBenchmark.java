@@ -0,0 +1,87 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.structures.TurretTargetableComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a turret's FOV lookup through the spatial index against a full scan of every
+ * registered entity, as the entity count grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpatialIndexBenchmark {
+  private static final float MAP_SIZE = 200f;
+  private static final float FOV_RADIUS = 4f;
+  private static final int TURRETS = 50;
+
+  @Param({"1000", "5000", "10000"})
+  public int entityCount;
+
+  private EntityService entityService;
+  private Entity[] entities;
+  private Vector2[] turretPositions;
+  private final Array<Entity> results = new Array<>();
+
+  @Setup
+  public void setup() {
+    Random random = new Random(3200);
+    entityService = new EntityService();
+    entities = new Entity[entityCount];
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity();
+      entities[i] = entity;
+      // Half the entities are targetable enemies, the rest are other world objects
+      if (i % 2 == 0) {
+        entity.addComponent(new TurretTargetableComponent());
+      }
+      entity.setPosition(random.nextFloat() * MAP_SIZE, random.nextFloat() * MAP_SIZE);
+      entityService.register(entity);
+    }
+
+    turretPositions = new Vector2[TURRETS];
+    for (int i = 0; i < TURRETS; i++) {
+      turretPositions[i] = new Vector2(random.nextFloat() * MAP_SIZE, random.nextFloat() * MAP_SIZE);
+    }
+  }
+
+  @Benchmark
+  public void fullScan(Blackhole blackhole) {
+    for (Vector2 turret : turretPositions) {
+      List<Entity> targetables = entityService.getEntitiesByComponent(TurretTargetableComponent.class);
+      for (Entity entity : targetables) {
+        if (entity.getCenterPosition().dst(turret) <= FOV_RADIUS) {
+          blackhole.consume(entity);
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public void spatialQuery(Blackhole blackhole) {
+    for (Vector2 turret : turretPositions) {
+      entityService.getSpatialIndex()
+          .queryRadius(turret, FOV_RADIUS, TurretTargetableComponent.class, results);
+      for (int i = 0; i < results.size; i++) {
+        blackhole.consume(results.get(i));
+      }
+    }
+  }
+
+  @Benchmark
+  public void moveEntities() {
+    // Cost of keeping the index up to date as every entity moves slightly
+    for (Entity entity : entities) {
+      entity.setPosition((entity.getPosition().x + 0.1f) % MAP_SIZE, entity.getPosition().y);
+    }
+  }
+}
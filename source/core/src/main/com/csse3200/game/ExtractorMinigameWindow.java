@@ -5,19 +5,22 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.input.InputOverrideComponent;
 import com.csse3200.game.services.ServiceLocator;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This is a window that can be added to a stage to pop up for the extractor minigame.
  */
@@ -25,6 +28,8 @@ public class ExtractorMinigameWindow extends Window {
     private final Entity extractor;
     private final InputOverrideComponent inputOverrideComponent;
     private MouseState currentMouseState = MouseState.DEFAULT;
+    private final List<String> drawablePaths = new ArrayList<>();
+    private boolean released = false;
 
     /**
      * Returns a new Minigame window intialised with appropriate background.
@@ -38,7 +43,8 @@ public class ExtractorMinigameWindow extends Window {
     }
 
     public ExtractorMinigameWindow(Texture background, Entity extractor) {
-        super("", new Window.WindowStyle(new BitmapFont(), Color.BLACK, new TextureRegionDrawable(background)));
+        super("", new Window.WindowStyle(ServiceLocator.getResourceService().getDefaultFont(), Color.BLACK,
+                new TextureRegionDrawable(background)));
 
         this.extractor = extractor;
 
@@ -58,7 +64,7 @@ public class ExtractorMinigameWindow extends Window {
         // put extractors grid
         for (int row = 0; row < 3; row++) {
             for (int col = 0; col < 3; col++) {
-                Image extractorImage = new Image(new Texture(Gdx.files.internal("images/minigame/extractor.png")));
+                Image extractorImage = new Image(acquireDrawable("images/minigame/extractor.png"));
                 float x = col * cellSize;
                 float y = row * cellSize;
                 extractorImage.setPosition(x, y);
@@ -67,7 +73,7 @@ public class ExtractorMinigameWindow extends Window {
         }
 
         // put extinguisher and spanner
-        Image extinguisherImage = new Image(new Texture(Gdx.files.internal("images/minigame/extinguisher.png")));// TODO: change to extinguisher.png
+        Image extinguisherImage = new Image(acquireDrawable("images/minigame/extinguisher.png"));// TODO: change to extinguisher.png
         extinguisherImage.setPosition(-300, 400);
         imageTable.addActor(extinguisherImage);
         extinguisherImage.addListener(new ClickListener() {
@@ -78,7 +84,7 @@ public class ExtractorMinigameWindow extends Window {
                 Gdx.graphics.setCursor(Gdx.graphics.newCursor(extinguisherPixmap, 0, 0));
             }
         });
-        Image spannerImage = new Image(new Texture(Gdx.files.internal("images/minigame/spanner.png")));// TODO: change to spanner.png
+        Image spannerImage = new Image(acquireDrawable("images/minigame/spanner.png"));// TODO: change to spanner.png
         spannerImage.setPosition(600, 400);
         imageTable.addActor(spannerImage);
         spannerImage.addListener(new ClickListener() {
@@ -94,7 +100,7 @@ public class ExtractorMinigameWindow extends Window {
         for (int row = 0; row < 3; row++) {
             for (int col = 0; col < 3; col++) {
                 if ((row == 0 && (col == 0 || col == 2)) || (row == 2 && (col == 0 || col == 2))) {
-                    Image fireImage = new Image(new Texture(Gdx.files.internal("images/minigame/fire.png")));
+                    Image fireImage = new Image(acquireDrawable("images/minigame/fire.png"));
                     fireImage.setName("fire");
                     float x = col * cellSize + 50;
                     float y = row * cellSize + 50;
@@ -117,7 +123,7 @@ public class ExtractorMinigameWindow extends Window {
                         }
                     });
                 } else {
-                    Image holeImage = new Image(new Texture(Gdx.files.internal("images/minigame/Hole.png")));
+                    Image holeImage = new Image(acquireDrawable("images/minigame/Hole.png"));
                     holeImage.setName("hole");
                     float x = col * cellSize + 40;
                     float y = row * cellSize + 30;
@@ -144,7 +150,7 @@ public class ExtractorMinigameWindow extends Window {
         }
         add(imageTable).fill();
 
-        Skin skin = new Skin(Gdx.files.internal("kenney-rpg-expansion/kenneyrpg.json"));
+        Skin skin = ServiceLocator.getResourceService().acquireSkin();
         TextButton button = new TextButton("Complete Minigame", skin);
         TextButton button2 = new TextButton("Exit Minigame", skin);
         button.addListener(new ChangeListener() {
@@ -189,10 +195,28 @@ public class ExtractorMinigameWindow extends Window {
         remove();
     }
 
+    /**
+     * Acquires a shared drawable, which is released when the window is removed.
+     * @param path path of the texture
+     * @return shared drawable
+     */
+    private Drawable acquireDrawable(String path) {
+        drawablePaths.add(path);
+        return ServiceLocator.getResourceService().acquireDrawable(path);
+    }
+
     @Override
     public boolean remove() {
-        //Stop overriding input when exiting minigame
-        ServiceLocator.getInputService().unregister(inputOverrideComponent);
+        if (!released) {
+            //Stop overriding input when exiting minigame
+            ServiceLocator.getInputService().unregister(inputOverrideComponent);
+            ServiceLocator.getResourceService().releaseSkin();
+            for (String path : drawablePaths) {
+                ServiceLocator.getResourceService().releaseDrawable(path);
+            }
+            drawablePaths.clear();
+            released = true;
+        }
         Gdx.graphics.setSystemCursor(Cursor.SystemCursor.Arrow);
         return super.remove();
     }
@@ -3,6 +3,8 @@ package com.csse3200.game;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.csse3200.game.files.ConfigRegistry;
+import com.csse3200.game.files.AreaSnapshot;
 import com.csse3200.game.files.UserSettings;
 import com.csse3200.game.screens.*;
 import org.slf4j.Logger;
@@ -17,6 +19,8 @@ import static com.badlogic.gdx.Gdx.app;
  */
 public class GdxGame extends Game {
   private static final Logger logger = LoggerFactory.getLogger(GdxGame.class);
+  /** Set to true, e.g. with -Dgame.hotReloadConfigs=true, to reload configs when they are saved */
+  private static final String HOT_RELOAD_PROPERTY = "game.hotReloadConfigs";
   private ScreenType screenType;
   private int playerLives = 3; // As found in player config files.
 
@@ -24,6 +28,10 @@ public class GdxGame extends Game {
   public void create() {
     logger.info("Creating game");
     Gdx.graphics.setTitle("Escape Earth");
+    ConfigRegistry.preload();
+    if (Boolean.getBoolean(HOT_RELOAD_PROPERTY)) {
+      ConfigRegistry.enableHotReload();
+    }
     loadSettings();
 
     // Sets background to light yellow
@@ -38,7 +46,7 @@ public class GdxGame extends Game {
    */
   private void loadSettings() {
     logger.debug("Loading game settings");
-    UserSettings.Settings settings = UserSettings.get();
+    UserSettings.Settings settings = UserSettings.current();
     UserSettings.applySettings(settings);
   }
 
@@ -86,6 +94,9 @@ public class GdxGame extends Game {
   public void dispose() {
     logger.debug("Disposing of current screen");
     getScreen().dispose();
+    UserSettings.flush();
+    AreaSnapshot.flush();
+    ConfigRegistry.disableHotReload();
   }
 
   /**
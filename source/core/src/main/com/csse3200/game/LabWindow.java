@@ -1,9 +1,7 @@
 package com.csse3200.game;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -17,43 +15,52 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.input.InputOverrideComponent;
 import com.csse3200.game.services.ServiceLocator;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This is a window that can be added to a stage to pop up for the extractor Laboratory.
  */
 public class LabWindow extends Window {
+    private static final String BACKGROUND = "images/companion/lab.png";
     private final InputOverrideComponent inputOverrideComponent;
+    private final List<String> texturePaths = new ArrayList<>();
+    private boolean released = false;
     Table buttonTable;
     Table exit;
 
     public static LabWindow MakeNewLaboratory() {
-        Texture background = new Texture("images/companion/lab.png");
+        Texture background = ServiceLocator.getResourceService().acquireTexture(BACKGROUND);
         background.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
-        return new LabWindow(background);
+        LabWindow labWindow = new LabWindow(background);
+        labWindow.texturePaths.add(BACKGROUND);
+        return labWindow;
     }
 
     public LabWindow(Texture background) {
-        super("", new WindowStyle(new BitmapFont(), Color.BLACK, new TextureRegionDrawable(background)));
+        super("", new WindowStyle(ServiceLocator.getResourceService().getDefaultFont(), Color.BLACK,
+                new TextureRegionDrawable(background)));
 
         // Here set up the window to be centered on the stage with 80% width and 65% height.
         Stage stage = ServiceLocator.getRenderService().getStage();
         setWidth((float) (stage.getWidth() * 0.70));
         setHeight((float) (stage.getHeight() * 0.50));
         setPosition(stage.getWidth() / 2 - getWidth() / 2 * getScaleX(), stage.getHeight() / 2 - getHeight() / 2 * getScaleY());
-        Skin skin = new Skin(Gdx.files.internal("kenney-rpg-expansion/kenneyrpg.json"));
+        Skin skin = ServiceLocator.getResourceService().acquireSkin();
         // Create a Table to hold the buttons and center them within the window
         Table buttonTable = new Table();
         buttonTable.setFillParent(true);
         // Fill the entire LabWindow
 
         Table exit = new Table();
-        Texture deathpotionImage = new Texture("images/powerups/death_potion.png");
-        Texture speedpotionImage = new Texture("images/powerups/speed_boost.png");
-        Texture healthpotionImage = new Texture("images/powerups/health_boost.png");
-        Texture invincibilitypotionImage = new Texture("images/powerups/temp_immunity.png");
-        Texture doubledamageImage = new Texture("images/powerups/double_damage.png");
-        Texture extralifeImage = new Texture("images/powerups/extra_life.png");
-        Texture snapImage = new Texture("images/powerups/snap.png");
-        Texture doublecrossImage = new Texture("images/powerups/double_cross.png");
+        Texture deathpotionImage = acquireTexture("images/powerups/death_potion.png");
+        Texture speedpotionImage = acquireTexture("images/powerups/speed_boost.png");
+        Texture healthpotionImage = acquireTexture("images/powerups/health_boost.png");
+        Texture invincibilitypotionImage = acquireTexture("images/powerups/temp_immunity.png");
+        Texture doubledamageImage = acquireTexture("images/powerups/double_damage.png");
+        Texture extralifeImage = acquireTexture("images/powerups/extra_life.png");
+        Texture snapImage = acquireTexture("images/powerups/snap.png");
+        Texture doublecrossImage = acquireTexture("images/powerups/double_cross.png");
 
 
         Image potion1ImageWidget = new Image(deathpotionImage);
@@ -223,10 +230,29 @@ public class LabWindow extends Window {
      * Call this method to exit the Laboratory and repair the extractor's health.
      */
 
+    /**
+     * Acquires a shared texture, which is released when the window is removed.
+     *
+     * @param path path of the texture
+     * @return shared texture
+     */
+    private Texture acquireTexture(String path) {
+        texturePaths.add(path);
+        return ServiceLocator.getResourceService().acquireTexture(path);
+    }
+
     @Override
     public boolean remove() {
-        // Stop overriding input when exiting the Laboratory
-        ServiceLocator.getInputService().unregister(inputOverrideComponent);
+        if (!released) {
+            // Stop overriding input when exiting the Laboratory
+            ServiceLocator.getInputService().unregister(inputOverrideComponent);
+            ServiceLocator.getResourceService().releaseSkin();
+            for (String path : texturePaths) {
+                ServiceLocator.getResourceService().releaseTexture(path);
+            }
+            texturePaths.clear();
+            released = true;
+        }
         return super.remove();
     }
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.csse3200.game.ai;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.csse3200.game.entities.Entity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides how often each AI re-evaluates its task priorities. Each AI is given one of
+ * {@link #BUCKETS} round-robin buckets when created, and buckets take turns, so AIs which only
+ * re-evaluate every few frames are spread evenly across those frames instead of all evaluating at
+ * once. AIs near the focus (usually the player) evaluate every frame, and further or off-camera
+ * AIs evaluate less often. Between evaluations an AI keeps running the task it last chose.
+ *
+ * <p>Time spent evaluating priorities is also capped each frame. Once the budget is spent,
+ * remaining AIs keep their last decision until a later frame, unless they have already waited
+ * {@link #MAX_DEFERRED_FRAMES} frames.
+ *
+ * <p>AIs evaluate every frame when no scheduler is registered, e.g. in tests.
+ */
+public class AIScheduler {
+  public static final int BUCKETS = 4;
+  public static final long DEFAULT_BUDGET_NANOS = 2_000_000;
+  /** Frames an AI can be deferred by the budget before it evaluates anyway */
+  public static final int MAX_DEFERRED_FRAMES = 30;
+
+  static final float NEAR_DISTANCE = 8f;
+  static final float FAR_DISTANCE = 16f;
+  static final int NEAR_INTERVAL = 1;
+  static final int MID_INTERVAL = 2;
+  static final int FAR_INTERVAL = 4;
+  static final int OFF_CAMERA_INTERVAL = 8;
+  /** Distance past the edge of the camera which still counts as on camera */
+  private static final float CAMERA_MARGIN = 2f;
+
+  private final long budgetNanos;
+  private long frame = 0;
+  private int nextBucket = 0;
+  private boolean hasFocus = false;
+  private float focusX;
+  private float focusY;
+  private boolean hasCamera = false;
+  private float cameraMinX;
+  private float cameraMinY;
+  private float cameraMaxX;
+  private float cameraMaxY;
+
+  // Updated from think jobs, so shared between threads
+  private final AtomicLong spentNanos = new AtomicLong();
+  private final AtomicInteger evaluations = new AtomicInteger();
+  private final AtomicInteger deferrals = new AtomicInteger();
+  private long spentNanosLastFrame = 0;
+  private int evaluationsLastFrame = 0;
+  private int deferralsLastFrame = 0;
+
+  public AIScheduler() {
+    this(DEFAULT_BUDGET_NANOS);
+  }
+
+  /**
+   * @param budgetNanos time AIs can spend evaluating priorities each frame, in nanoseconds
+   */
+  public AIScheduler(long budgetNanos) {
+    this.budgetNanos = budgetNanos;
+  }
+
+  /**
+   * Start a new frame. Call once per frame before the entities are updated.
+   *
+   * @param focus entity AIs are prioritised around, usually the player. May be null.
+   * @param camera camera the game is drawn with, or null to treat every AI as on camera
+   */
+  public void beginFrame(Entity focus, Camera camera) {
+    frame++;
+    spentNanosLastFrame = spentNanos.getAndSet(0);
+    evaluationsLastFrame = evaluations.getAndSet(0);
+    deferralsLastFrame = deferrals.getAndSet(0);
+
+    hasFocus = focus != null;
+    if (hasFocus) {
+      focusX = focus.getCenterX();
+      focusY = focus.getCenterY();
+    }
+
+    hasCamera = camera != null;
+    if (hasCamera) {
+      float zoom = camera instanceof OrthographicCamera ortho ? ortho.zoom : 1f;
+      float halfWidth = camera.viewportWidth * zoom * 0.5f + CAMERA_MARGIN;
+      float halfHeight = camera.viewportHeight * zoom * 0.5f + CAMERA_MARGIN;
+      cameraMinX = camera.position.x - halfWidth;
+      cameraMaxX = camera.position.x + halfWidth;
+      cameraMinY = camera.position.y - halfHeight;
+      cameraMaxY = camera.position.y + halfHeight;
+    }
+  }
+
+  /**
+   * Give out the next round-robin bucket. Called once by each AI when it is created.
+   *
+   * @return bucket between 0 and {@link #BUCKETS} - 1
+   */
+  public int assignBucket() {
+    int bucket = nextBucket;
+    nextBucket = (nextBucket + 1) % BUCKETS;
+    return bucket;
+  }
+
+  /**
+   * Whether an AI should re-evaluate its priorities this frame. Safe to call from think jobs.
+   *
+   * @param entity entity the AI belongs to
+   * @param bucket bucket given to the AI by {@link #assignBucket()}
+   * @param lastEvaluatedFrame frame the AI last evaluated, or a negative number if it never has
+   * @return true to evaluate, false to keep the last decision
+   */
+  public boolean shouldEvaluate(Entity entity, int bucket, long lastEvaluatedFrame) {
+    if (lastEvaluatedFrame < 0) {
+      return true;
+    }
+    long waited = frame - lastEvaluatedFrame;
+    if (waited >= MAX_DEFERRED_FRAMES) {
+      return true;
+    }
+
+    if ((frame + bucket) % getInterval(entity) != 0) {
+      return false;
+    }
+    if (spentNanos.get() >= budgetNanos) {
+      deferrals.incrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Record time spent by an AI evaluating its priorities.
+   *
+   * @param nanos time spent in nanoseconds
+   */
+  public void recordEvaluation(long nanos) {
+    spentNanos.addAndGet(nanos);
+    evaluations.incrementAndGet();
+  }
+
+  /**
+   * @return number of frames started so far
+   */
+  public long getFrame() {
+    return frame;
+  }
+
+  /**
+   * @return nanoseconds AIs spent evaluating priorities last frame
+   */
+  public long getSpentNanosLastFrame() {
+    return spentNanosLastFrame;
+  }
+
+  /**
+   * @return number of AIs which evaluated their priorities last frame
+   */
+  public int getEvaluationsLastFrame() {
+    return evaluationsLastFrame;
+  }
+
+  /**
+   * @return number of AIs which were due to evaluate last frame but were deferred by the budget
+   */
+  public int getDeferralsLastFrame() {
+    return deferralsLastFrame;
+  }
+
+  /** Frames between evaluations for an AI, based on how far it is from the focus and camera. */
+  int getInterval(Entity entity) {
+    float x = entity.getCenterX();
+    float y = entity.getCenterY();
+    if (hasCamera && (x < cameraMinX || x > cameraMaxX || y < cameraMinY || y > cameraMaxY)) {
+      return OFF_CAMERA_INTERVAL;
+    }
+    if (!hasFocus) {
+      return NEAR_INTERVAL;
+    }
+
+    float dx = x - focusX;
+    float dy = y - focusY;
+    float distanceSquared = dx * dx + dy * dy;
+    if (distanceSquared <= NEAR_DISTANCE * NEAR_DISTANCE) {
+      return NEAR_INTERVAL;
+    } else if (distanceSquared <= FAR_DISTANCE * FAR_DISTANCE) {
+      return MID_INTERVAL;
+    }
+    return FAR_INTERVAL;
+  }
+}
@@ -0,0 +1,88 @@
+package com.csse3200.game.ai;
+
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsLayer;
+import com.csse3200.game.physics.VisibilityService;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Remembers whether an entity could see its target for a short time, so AI tasks which check line
+ * of sight every time their priority is evaluated don't raycast every frame. Each task should own
+ * its own cache.
+ *
+ * <p>When a {@link VisibilityService} is registered, checks whose cached result has expired are
+ * passed on to it instead of raycasting, so they are shared with other entities nearby and batched
+ * after the physics step.
+ */
+public class LineOfSightCache {
+  public static final long DEFAULT_TTL_MILLIS = 150;
+
+  private final PhysicsEngine physics;
+  private final DebugRenderer debugRenderer;
+  private final long ttlMillis;
+  private final RaycastHit hit = new RaycastHit();
+  private Entity lastTarget;
+  private long checkedAt;
+  private boolean visible;
+
+  public LineOfSightCache() {
+    this(DEFAULT_TTL_MILLIS);
+  }
+
+  /**
+   * @param ttlMillis how long a result is reused for, in milliseconds of game time
+   */
+  public LineOfSightCache(long ttlMillis) {
+    this.ttlMillis = ttlMillis;
+    physics = ServiceLocator.getPhysicsService().getPhysics();
+    debugRenderer = ServiceLocator.getRenderService().getDebug();
+  }
+
+  /**
+   * Whether there are no obstacles between the centers of two entities. Checks at most once per
+   * TTL for the same target.
+   *
+   * @param from entity looking
+   * @param target entity being looked at
+   * @return true if the target is visible
+   */
+  public boolean isVisible(Entity from, Entity target) {
+    GameTime timeSource = ServiceLocator.getTimeSource();
+    long now = timeSource != null ? timeSource.getTime() : 0;
+    if (target == lastTarget && timeSource != null && now - checkedAt < ttlMillis) {
+      return visible;
+    }
+
+    VisibilityService visibilityService = ServiceLocator.getVisibilityService();
+    if (visibilityService != null) {
+      visible = visibilityService.isVisible(from, target);
+    } else {
+      visible = raycast(from, target);
+    }
+    lastTarget = target;
+    checkedAt = now;
+    return visible;
+  }
+
+  /** Forget the cached result, so the next check isn't answered from the cache. */
+  public void invalidate() {
+    lastTarget = null;
+  }
+
+  private boolean raycast(Entity from, Entity target) {
+    Vector2 fromPosition = from.getCenterPosition();
+    Vector2 toPosition = target.getCenterPosition();
+    // If there is an obstacle in the path to the target, not visible.
+    if (physics.raycast(fromPosition, toPosition, PhysicsLayer.OBSTACLE, hit)) {
+      debugRenderer.drawLine(fromPosition, hit.point);
+      return false;
+    }
+    debugRenderer.drawLine(fromPosition, toPosition);
+    return true;
+  }
+}
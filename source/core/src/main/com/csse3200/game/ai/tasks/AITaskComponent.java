@@ -1,6 +1,9 @@
 package com.csse3200.game.ai.tasks;
 
+import com.csse3200.game.ai.AIScheduler;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.components.Thinker;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,12 +16,31 @@ import java.util.*;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>Task priorities, which can involve distance and line of sight checks, are evaluated in the
+ * parallel think phase. Switching and running tasks happens in update(). When an {@link AIScheduler}
+ * is registered, priorities are only re-evaluated on the frames it allows, and the last chosen task
+ * keeps running in between.
  */
-public class AITaskComponent extends Component implements TaskRunner {
+public class AITaskComponent extends Component implements TaskRunner, Thinker {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
 
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
   private PriorityTask currentTask;
+  // Highest priority task found by the last evaluation, and its priority
+  private PriorityTask desiredTask;
+  private int desiredPriority = -1;
+  private boolean thought = false;
+  private int bucket = 0;
+  private long lastEvaluatedFrame = -1;
+
+  @Override
+  public void create() {
+    AIScheduler scheduler = ServiceLocator.getAIScheduler();
+    if (scheduler != null) {
+      bucket = scheduler.assignBucket();
+    }
+  }
 
   /**
    * Add a priority task to the list of tasks. This task will be run only when it has the highest
@@ -39,10 +61,20 @@ public class AITaskComponent extends Component implements TaskRunner {
    * On update, run the current highest priority task. If it's a different one, stop the old one and
    * start the new one. If the highest priority task has negative priority, no task will be run.
    */
+  @Override
+  public void think() {
+    evaluate();
+    thought = true;
+  }
+
   @Override
   public void update() {
-    PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
+    if (!thought) {
+      evaluate();
+    }
+    thought = false;
+    PriorityTask desiredtask = desiredTask;
+    if (desiredtask == null || desiredPriority < 0) {
       return;
     }
 
@@ -52,6 +84,22 @@ public class AITaskComponent extends Component implements TaskRunner {
     currentTask.update();
   }
 
+  /**
+   * Get the first task of a particular class, e.g. to retarget a pooled entity's task.
+   *
+   * @param type task class
+   * @param <T> task type
+   * @return the task, or null if no task of that class was added
+   */
+  public <T extends PriorityTask> T getTask(Class<T> type) {
+    for (PriorityTask task : priorityTasks) {
+      if (type.isInstance(task)) {
+        return type.cast(task);
+      }
+    }
+    return null;
+  }
+
   @Override
   public void dispose() {
     if (currentTask != null) {
@@ -59,11 +107,52 @@ public class AITaskComponent extends Component implements TaskRunner {
     }
   }
 
-  private PriorityTask getHighestPriorityTask() {
-    try {
-      return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-    } catch (NoSuchElementException e) {
-      return null;
+  /** Stop the running task, so the highest priority task is started again once reactivated. */
+  @Override
+  public void reset() {
+    thought = false;
+    desiredTask = null;
+    desiredPriority = -1;
+    lastEvaluatedFrame = -1;
+    if (currentTask != null) {
+      currentTask.stop();
+      currentTask = null;
+    }
+  }
+
+  /** Re-evaluate task priorities if the scheduler allows it this frame. */
+  private void evaluate() {
+    AIScheduler scheduler = ServiceLocator.getAIScheduler();
+    if (scheduler == null) {
+      findHighestPriorityTask();
+      return;
+    }
+
+    // A task which has ended needs replacing straight away
+    boolean taskEnded = currentTask != null
+        && (currentTask.getStatus() == Task.Status.FINISHED
+        || currentTask.getStatus() == Task.Status.FAILED);
+    if (!taskEnded && !scheduler.shouldEvaluate(entity, bucket, lastEvaluatedFrame)) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    findHighestPriorityTask();
+    scheduler.recordEvaluation(System.nanoTime() - start);
+    lastEvaluatedFrame = scheduler.getFrame();
+  }
+
+  /** Find the first task with the highest priority, checking each task's priority only once. */
+  private void findHighestPriorityTask() {
+    desiredTask = null;
+    desiredPriority = -1;
+    for (int i = 0; i < priorityTasks.size(); i++) {
+      PriorityTask task = priorityTasks.get(i);
+      int priority = task.getPriority();
+      if (desiredTask == null || priority > desiredPriority) {
+        desiredTask = task;
+        desiredPriority = priority;
+      }
     }
   }
 
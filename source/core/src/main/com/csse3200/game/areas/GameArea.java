@@ -68,6 +68,14 @@ public abstract class GameArea implements Disposable {
             (StructurePlacementService.placeStructureAtArgs args) ->
                     spawnEntityAt(args.getEntity(), args.getTilePos(), args.isCenterX(), args.isCenterY())
     );
+    handler.addListener("placeStructuresAt",
+            (StructurePlacementService.placeStructuresAtArgs args) -> {
+              for (int i = 0; i < args.getEntities().size(); i++) {
+                spawnEntityAt(args.getEntities().get(i), args.getTilePositions().get(i), args.isCenterX(),
+                        args.isCenterY());
+              }
+            }
+    );
   }
 
   /**
@@ -11,6 +11,7 @@ import com.csse3200.game.GdxGame;
 import com.csse3200.game.areas.mapConfig.GameAreaConfig;
 import com.csse3200.game.areas.mapConfig.InvalidConfigException;
 import com.csse3200.game.areas.mapConfig.MapConfigLoader;
+import com.csse3200.game.areas.terrain.TerrainCollision;
 import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.PowerupType;
@@ -21,10 +22,10 @@ import com.csse3200.game.components.resources.ResourceDisplay;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.Fissure;
 import com.csse3200.game.entities.PlaceableEntity;
-import com.csse3200.game.entities.TileEntity;
 import com.csse3200.game.entities.configs.*;
 import com.csse3200.game.entities.factories.*;
 import com.csse3200.game.files.UserSettings;
+import com.csse3200.game.services.PathfindingService;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.TerrainService;
@@ -51,6 +52,8 @@ public class MapGameArea extends GameArea{
     private boolean validLoad = true;
     private static List<Entity> itemsOnMap = new ArrayList<>();
     private String thing;
+    private boolean assetsQueued = false;
+    private String[] terrainMapPath = null;
 
     public MapGameArea(String configPath, TerrainFactory terrainFactory, GdxGame game, int playerLives) {
         try {
@@ -65,6 +68,19 @@ public class MapGameArea extends GameArea{
         this.playerLives = playerLives;
     }
 
+    /**
+     * Create a game area from a config which has already been loaded, e.g. by
+     * {@link MapConfigLoader#loadMapDirectoryAsync(String)}.
+     * @param mapConfig Loaded config, or null if it failed to load
+     */
+    public MapGameArea(GameAreaConfig mapConfig, TerrainFactory terrainFactory, GdxGame game, int playerLives) {
+        this.mapConfig = mapConfig;
+        this.validLoad = mapConfig != null;
+        this.game = game;
+        this.terrainFactory = terrainFactory;
+        this.playerLives = playerLives;
+    }
+
     public static float getSpeedMult() {
         TiledMapTileLayer collisionLayer = (TiledMapTileLayer) terrain.getMap().getLayers().get("Base");
         Vector2 playerPos = getPlayer().getPosition();
@@ -110,13 +126,37 @@ public class MapGameArea extends GameArea{
     }
 
     /**
-     * Loads all assets listed in the config file
+     * Loads all assets listed in the config file, blocking until they are loaded
      */
     protected void loadAssets() {
         long start = System.currentTimeMillis();
-        logger.debug("Loading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
+        queueAssets();
+
+        while (!resourceService.loadForMillis(10)) {
+            logger.info("Loading... {}%", resourceService.getProgress());
+        }
+        logger.debug(String.format("Load took %d ms to load.", System.currentTimeMillis() - start));
+    }
 
+    /**
+     * Queues all assets listed in the config file, including the terrain map, without waiting for
+     * them to load. The screen is expected to call {@link ResourceService#loadForMillis(int)} each
+     * frame until they are finished before creating the area.
+     */
+    public void queueAssets() {
+        if (assetsQueued || mapConfig == null) return;
+        assetsQueued = true;
+        logger.debug("Queueing assets");
+        ResourceService resourceService = ServiceLocator.getResourceService();
+
+        if (mapConfig.terrainPath != null) {
+            String mapPath = TerrainFactory.resolveMapPath(mapConfig.terrainPath);
+            if (mapPath != null) {
+                terrainMapPath = new String[] {mapPath};
+                resourceService.loadTiledMaps(terrainMapPath);
+            }
+        }
         resourceService.loadDynamicAssets(mapConfig.getEntityTextures());
         if (mapConfig.texturePaths != null)
             resourceService.loadTextures(mapConfig.texturePaths);
@@ -128,12 +168,6 @@ public class MapGameArea extends GameArea{
             resourceService.loadParticleEffects(mapConfig.particleEffectPaths);
         if (mapConfig.backgroundMusicPath != null)
             resourceService.loadMusic(new String[] {mapConfig.backgroundMusicPath});
-
-        while (!resourceService.loadForMillis(10)) {
-            // This could be upgraded to a loading screen
-            logger.info("Loading... {}%", resourceService.getProgress());
-        }
-        logger.debug(String.format("Load took %d ms to load.", System.currentTimeMillis() - start));
     }
 
     /**
@@ -193,23 +227,29 @@ public class MapGameArea extends GameArea{
         spawnEntityAt(
                 ObstacleFactory.createWall(worldBounds.x, ObstacleFactory.WALL_SIZE), GridPoint2Utils.ZERO, false, false);
         ServiceLocator.registerTerrainService(new TerrainService(terrain));
+        structurePlacementService.setGridSize(tileBounds);
+
+        PathfindingService pathfindingService = new PathfindingService(tileBounds.x, tileBounds.y);
+        pathfindingService.trackStructures(structurePlacementService);
+        ServiceLocator.registerPathfindingService(pathfindingService);
     }
 
     public static void removeItemOnMap(Entity entityToRemove) {
         entityToRemove.setEnabled(false);
         itemsOnMap.remove(entityToRemove);
-        Gdx.app.postRunnable(entityToRemove::dispose);
+        ServiceLocator.getEntityService().destroy(entityToRemove);
     }
 
     /**
      * Spawns the game environment
      */
     private void spawnEnvironment() {
-        TiledMapTileLayer layer = (TiledMapTileLayer) terrain.getMap().getLayers().get("Tree Base");
-        List<TileEntity> environments = EnvironmentFactory.createEnvironment(layer);
+        TerrainCollision collision = terrain.getCollision("Tree Base");
+        spawnEntityAt(EnvironmentFactory.createEnvironment(collision), new GridPoint2(0, 0), false, false);
 
-        for (TileEntity tileEntity : environments) {
-            spawnEntityAt(tileEntity.getEntity(), tileEntity.getTilePosition(), false, false);
+        PathfindingService pathfindingService = ServiceLocator.getPathfindingService();
+        for (GridPoint2 tilePosition : collision.getSolidTiles()) {
+            pathfindingService.setBlocked(tilePosition.x, tilePosition.y, true);
         }
     }
 
@@ -471,7 +511,7 @@ public class MapGameArea extends GameArea{
      */
     private void playMusic() {
         if (mapConfig.backgroundMusicPath == null) return;
-        UserSettings.Settings settings = UserSettings.get();
+        UserSettings.Settings settings = UserSettings.current();
 
         Music music = ServiceLocator.getResourceService().getAsset(mapConfig.backgroundMusicPath, Music.class);
         music.setLooping(true);
@@ -494,9 +534,15 @@ public class MapGameArea extends GameArea{
     protected void unloadAssets() {
         logger.debug("Unloading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
+        resourceService.unloadUnreferencedAtlases();
 
         if (mapConfig == null) return;
+        assetsQueued = false;
 
+        if (terrainMapPath != null) {
+            resourceService.unloadAssets(terrainMapPath);
+            terrainMapPath = null;
+        }
         if (mapConfig.getEntityTextures() != null)
             resourceService.unloadAssets(mapConfig.getEntityTextures());
         if (mapConfig.texturePaths != null)
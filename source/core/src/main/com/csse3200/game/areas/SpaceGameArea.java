@@ -83,7 +83,7 @@ public class SpaceGameArea extends GameArea {
      * Method for the background music of the game
      */
     private void playMusic() {
-        UserSettings.Settings settings = UserSettings.get();
+        UserSettings.Settings settings = UserSettings.current();
         Music music = ServiceLocator.getResourceService().getAsset(backgroundMusic, Music.class);
         music.setLooping(true);
         music.setVolume(settings.musicVolume);
@@ -92,46 +92,25 @@ public class SpaceGameArea extends GameArea {
 
 
     /**
-     * Method for creating boundaries along the x-axis
-     * @param n Number of blocks that are added along the x-axis
-     * @param pos Start position from where the number of blocks are added
+     * Method for creating a line of boundary asteroids as a single entity
+     * @param n Number of blocks in the line
+     * @param pos Start position of the line on the map
+     * @param direction Tile offset between consecutive blocks
      */
-    private void spawnStaticAsteroidsRight(int n, GridPoint2 pos){
-        Entity asteroid_length = ObstacleFactory.createStaticAsteroid(STATIC_ASTEROID_SIZE, STATIC_ASTEROID_SIZE);
-        if (n <= 0) {
-            return;
-        }
-        spawnEntityAt(asteroid_length, pos, false, false);
-        // Increment the position for the next asteroid
-        pos.x += 1;
-        pos.y += 0;
-        spawnStaticAsteroidsRight(n - 1, pos); // Recursive call
-    }
-
-    /**
-     * Method of for creating the boundaries along the y-axis
-     * @param n Number of blocks that are added along the y-axis
-     * @param pos Start position from where the number of blocks are added on the map
-     */
-    private void spawnStaticAsteroidsUp(int n, GridPoint2 pos){
-        Entity asteroid_width = ObstacleFactory.createStaticAsteroid(STATIC_ASTEROID_SIZE, STATIC_ASTEROID_SIZE);
-        if (n <= 0) {
-            return;
-        }
-        spawnEntityAt(asteroid_width, pos, false, false);
-        // Increment the position for the next asteroid
-        pos.y += 1;
-        spawnStaticAsteroidsUp(n - 1, pos); // Recursive call
+    private void spawnStaticAsteroidLine(int n, GridPoint2 pos, GridPoint2 direction) {
+        Vector2 step = new Vector2(direction.x, direction.y).scl(terrain.getTileSize());
+        Entity line = ObstacleFactory.createStaticAsteroidLine(n, step, STATIC_ASTEROID_SIZE);
+        spawnEntityAt(line, pos, false, false);
     }
 
     /**
      * Method for creating the boundaries of the map
      */
     private void createBoundary(){
-        spawnStaticAsteroidsRight(60,new GridPoint2(0,-1));
-        spawnStaticAsteroidsRight(60,new GridPoint2(0,29));
-        spawnStaticAsteroidsUp(30,new GridPoint2(-1,0));
-        spawnStaticAsteroidsUp(30,new GridPoint2(59,0));
+        spawnStaticAsteroidLine(60, new GridPoint2(0, -1), new GridPoint2(1, 0));
+        spawnStaticAsteroidLine(60, new GridPoint2(0, 29), new GridPoint2(1, 0));
+        spawnStaticAsteroidLine(30, new GridPoint2(-1, 0), new GridPoint2(0, 1));
+        spawnStaticAsteroidLine(30, new GridPoint2(59, 0), new GridPoint2(0, 1));
     }
 
 
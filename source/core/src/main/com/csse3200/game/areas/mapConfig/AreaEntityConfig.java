@@ -62,13 +62,16 @@ public class AreaEntityConfig {
     public <T extends BaseEntityConfig> void addEntity(Entity entity) {
         T config = (T) entity.getComponent(SaveableComponent.class).save();
         Class entityType = entity.getComponent(SaveableComponent.class).getType();
-        if (entities.get(entityType.getSimpleName()) == null) {
-            List<Object> configs = new ArrayList<>();
-            configs.add(config);
-            entities.put(entityType.getSimpleName(), configs);
-        } else {
-            entities.get(entityType.getSimpleName()).add(config);
-        }
+        addConfig(entityType.getSimpleName(), config);
+    }
+
+    /**
+     * Adds a config to the list of configs with the given key
+     * @param key Simple name of the config type, e.g. "PlayerConfig"
+     * @param config Config to be added
+     */
+    public void addConfig(String key, BaseEntityConfig config) {
+        entities.computeIfAbsent(key, k -> new ArrayList<>()).add(config);
     }
 
     /**
@@ -3,6 +3,7 @@ package com.csse3200.game.areas.mapConfig;
 import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.csse3200.game.areas.MapGameArea;
+import com.csse3200.game.concurrency.JobSystem;
 import com.csse3200.game.entities.configs.PlayerConfig;
 import com.csse3200.game.files.FileLoader;
 import org.slf4j.Logger;
@@ -13,6 +14,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,7 +39,8 @@ public class MapConfigLoader {
      * @throws InvalidConfigException If the file is unable to be loaded to a GameAreaConfig
      */
     public static GameAreaConfig loadMapFile(String filePath) throws InvalidConfigException {
-        GameAreaConfig gameArea = FileLoader.readClass(GameAreaConfig.class, filePath, FileLoader.Location.INTERNAL);
+        GameAreaConfig gameArea =
+                FileLoader.readClassConcurrently(GameAreaConfig.class, filePath, FileLoader.Location.INTERNAL);
         if (gameArea == null) throw new InvalidConfigException("Failed to load map");
         return gameArea;
     }
@@ -55,6 +59,23 @@ public class MapConfigLoader {
         return gameAreaConfig;
     }
 
+    /**
+     * Loads a folder containing various .json files that represent a given game area on a
+     * background thread, so the screen can keep rendering while the area is parsed.
+     * @param mapDirPath Directory where files will be loaded from
+     * @return Future completed with the GameAreaConfig, or completed exceptionally with an
+     * InvalidConfigException if any file is unable to be loaded
+     */
+    public static CompletableFuture<GameAreaConfig> loadMapDirectoryAsync(String mapDirPath) {
+        return JobSystem.launch(() -> {
+            try {
+                return loadMapDirectory(mapDirPath);
+            } catch (InvalidConfigException exception) {
+                throw new CompletionException(exception);
+            }
+        });
+    }
+
     /**
      * Loads a directory containing entity .json files into an AreaEntityConfig object
      * @param loadPath Path of directory to be loaded from
@@ -64,9 +85,15 @@ public class MapConfigLoader {
     public static AreaEntityConfig loadEntities(String loadPath) throws InvalidConfigException {
         AreaEntityConfig areaEntityConfig = new AreaEntityConfig();
         var files = Arrays.stream(Gdx.files.internal(loadPath).list()).map(x -> x.path()).toList();
+
+        // Entity files are independent, so parse them all at once and add them in directory order
+        List<CompletableFuture<EntitiesConfigFile>> parsing = new ArrayList<>(files.size());
         for (String file : files) {
-            EntitiesConfigFile entitiesConfigFile =
-                    FileLoader.readClass(EntitiesConfigFile.class, file, FileLoader.Location.INTERNAL);
+            parsing.add(JobSystem.launch(() ->
+                    FileLoader.readClassConcurrently(EntitiesConfigFile.class, file, FileLoader.Location.INTERNAL)));
+        }
+        for (CompletableFuture<EntitiesConfigFile> future : parsing) {
+            EntitiesConfigFile entitiesConfigFile = future.join();
             if (entitiesConfigFile == null) continue;
             areaEntityConfig.addEntry(entitiesConfigFile.getMapEntry());
         }
@@ -74,7 +101,8 @@ public class MapConfigLoader {
     }
 
     /**
-     * Loads a generic config file from a given .json path.
+     * Loads a generic config file from a given .json path. Map directories are also loaded on
+     * background threads, so this never uses the shared parser.
      * @param configPath Path of .json file to be loaded from
      * @param target Class for data to be loaded to
      * @return Object of type T with loaded .json data
@@ -82,7 +110,7 @@ public class MapConfigLoader {
      * @throws InvalidConfigException If the file is unable to be loaded to Class of type T
      */
     public static <T> T loadConfigFile(String configPath, Class<T> target) throws InvalidConfigException {
-        T outClass = FileLoader.readClass(target, configPath, FileLoader.Location.INTERNAL);
+        T outClass = FileLoader.readClassConcurrently(target, configPath, FileLoader.Location.INTERNAL);
         if (outClass == null) throw new InvalidConfigException(FAIL_MESSAGE + target);
         return outClass;
     }
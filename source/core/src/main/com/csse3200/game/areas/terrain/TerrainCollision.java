@@ -0,0 +1,133 @@
+package com.csse3200.game.areas.terrain;
+
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Static collision geometry for a tile layer. Solid tiles without a custom collision box are
+ * greedy-meshed into the fewest axis-aligned rectangles covering them, so the whole layer can be
+ * attached to a single static body instead of one body per tile. Tiles with a custom collision
+ * box in the tileset keep their own rectangle.
+ *
+ * <p>All rectangles are in world units relative to the map origin.
+ */
+public class TerrainCollision {
+  /**
+   * Size of the default collider of a unit scale entity, which extends past the tile so that
+   * neighbouring tiles overlap without gaps.
+   */
+  static final float DEFAULT_COLLIDER_SIZE = 0.6f;
+
+  private final Array<Rectangle> rectangles = new Array<>();
+  private final Array<GridPoint2> solidTiles = new Array<>();
+
+  /**
+   * @param layer tile layer where every non-empty cell is solid
+   * @param tileSize world size of a tile
+   */
+  public TerrainCollision(TiledMapTileLayer layer, float tileSize) {
+    int width = layer.getWidth();
+    int height = layer.getHeight();
+    boolean[] solid = new boolean[width * height];
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+        if (cell == null) {
+          continue;
+        }
+        solidTiles.add(new GridPoint2(x, y));
+        MapObjects objects = cell.getTile().getObjects();
+        if (objects.getCount() >= 1) {
+          Rectangle box = ((RectangleMapObject) objects.get(0)).getRectangle();
+          rectangles.add(toCustomRectangle(box, x, y, layer.getTileWidth(), tileSize));
+        } else {
+          solid[x + y * width] = true;
+        }
+      }
+    }
+
+    mergeSolidTiles(solid, width, height, tileSize);
+  }
+
+  /**
+   * @return merged collision rectangles of the layer
+   */
+  public Array<Rectangle> getRectangles() {
+    return rectangles;
+  }
+
+  /**
+   * @return every non-empty tile of the layer, e.g. for marking tiles as unwalkable
+   */
+  public Array<GridPoint2> getSolidTiles() {
+    return solidTiles;
+  }
+
+  /**
+   * Greedily grows each unvisited solid tile into the widest run along its row, then extends the
+   * run upwards for as long as the full row span is solid.
+   */
+  private void mergeSolidTiles(boolean[] solid, int width, int height, float tileSize) {
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        if (!solid[x + y * width]) {
+          continue;
+        }
+
+        int runWidth = 1;
+        while (x + runWidth < width && solid[x + runWidth + y * width]) {
+          runWidth++;
+        }
+
+        int runHeight = 1;
+        while (y + runHeight < height && isRowSolid(solid, width, x, y + runHeight, runWidth)) {
+          runHeight++;
+        }
+
+        for (int j = 0; j < runHeight; j++) {
+          for (int i = 0; i < runWidth; i++) {
+            solid[x + i + (y + j) * width] = false;
+          }
+        }
+
+        // Same area as the union of the per-tile default colliders
+        rectangles.add(new Rectangle(
+            x * tileSize,
+            y * tileSize,
+            (runWidth - 1) * tileSize + DEFAULT_COLLIDER_SIZE,
+            (runHeight - 1) * tileSize + DEFAULT_COLLIDER_SIZE));
+      }
+    }
+  }
+
+  private static boolean isRowSolid(boolean[] solid, int width, int x, int y, int runWidth) {
+    for (int i = 0; i < runWidth; i++) {
+      if (!solid[x + i + y * width]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Converts a collision box from the tileset, in tile pixels, into a world rectangle.
+   */
+  private static Rectangle toCustomRectangle(
+      Rectangle box, int x, int y, int tilePixels, float tileSize) {
+    float shift = tileSize / 2;
+    float centerX = box.x / tilePixels + shift - (tileSize * (tilePixels - box.width) / tilePixels);
+    float centerY = box.y / tilePixels + shift - (tileSize * (tilePixels - box.height) / tilePixels);
+    float width = tileSize * (box.width / tilePixels);
+    float height = tileSize * (box.height / tilePixels);
+    return new Rectangle(
+        x * tileSize + centerX - width / 2,
+        y * tileSize + centerY - height / 2,
+        width,
+        height);
+  }
+}
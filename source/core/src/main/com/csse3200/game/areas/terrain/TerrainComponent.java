@@ -6,8 +6,10 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.rendering.RenderComponent;
 
 /**
@@ -22,6 +24,8 @@ public class TerrainComponent extends RenderComponent {
   private final OrthographicCamera camera;
   private final TerrainOrientation orientation;
   private final float tileSize;
+  private final boolean ownsMap;
+  private final ObjectMap<String, TerrainCollision> collisions = new ObjectMap<>();
 
   public TerrainComponent(
           OrthographicCamera camera,
@@ -29,7 +33,22 @@ public class TerrainComponent extends RenderComponent {
           TiledMapRenderer renderer,
           TerrainOrientation orientation,
           float tileSize) {
+    this(camera, map, renderer, orientation, tileSize, true);
+  }
+
+  /**
+   * @param ownsMap whether the terrain disposes the map. False for maps loaded through the
+   *     resource service, which are unloaded with the rest of the area's assets.
+   */
+  public TerrainComponent(
+          OrthographicCamera camera,
+          TiledMap map,
+          TiledMapRenderer renderer,
+          TerrainOrientation orientation,
+          float tileSize,
+          boolean ownsMap) {
     this.camera = camera;
+    this.ownsMap = ownsMap;
     this.tiledMap = map;
     this.orientation = orientation;
     this.tileSize = tileSize;
@@ -73,6 +92,23 @@ public class TerrainComponent extends RenderComponent {
     return tiledMap;
   }
 
+  /**
+   * Get the merged static collision geometry of a tile layer. The geometry is built on first use
+   * and cached for the lifetime of the terrain.
+   *
+   * @param layerName name of the tile layer
+   * @return collision geometry of the layer
+   */
+  public TerrainCollision getCollision(String layerName) {
+    TerrainCollision collision = collisions.get(layerName);
+    if (collision == null) {
+      TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(layerName);
+      collision = new TerrainCollision(layer, tileSize);
+      collisions.put(layerName, collision);
+    }
+    return collision;
+  }
+
   @Override
   public void draw(SpriteBatch batch) {
     tiledMapRenderer.setView(camera);
@@ -81,7 +117,9 @@ public class TerrainComponent extends RenderComponent {
 
   @Override
   public void dispose() {
-    tiledMap.dispose();
+    if (ownsMap) {
+      tiledMap.dispose();
+    }
     super.dispose();
   }
 
@@ -90,6 +128,12 @@ public class TerrainComponent extends RenderComponent {
     return 0f;
   }
 
+  @Override
+  public boolean isVisible(Rectangle viewBounds) {
+    // The tiled map renderer culls tiles to the camera itself
+    return true;
+  }
+
   @Override
   public int getLayer() {
     return TERRAIN_LAYER;
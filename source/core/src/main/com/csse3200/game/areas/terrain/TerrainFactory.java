@@ -57,25 +57,39 @@ public class TerrainFactory {
    * @return Terrain component which renders the terrain
    */
   public TerrainComponent createTerrain(String mapPath) {
-    TmxMapLoader mapLoader = new TmxMapLoader();
+    String resolvedPath = resolveMapPath(mapPath);
+    if (resolvedPath == null) {
+      throw new RuntimeException("Error loading TileMap" + mapPath);
+    }
 
-    TiledMap tiledMap = null;
+    // Use the map if it was streamed in with the area's assets, otherwise load it now
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    boolean preloaded = resourceService != null
+            && resourceService.containsAsset(resolvedPath, TiledMap.class);
+    TiledMap tiledMap = preloaded
+            ? resourceService.getAsset(resolvedPath, TiledMap.class)
+            : new TmxMapLoader().load(resolvedPath);
+
+    TiledMapRenderer renderer = createRenderer(tiledMap, 0.5f / tileSize);
+
+    return new TerrainComponent(camera, tiledMap, renderer, orientation, 0.5f, !preloaded);
+  }
+
+  /**
+   * Find the TMX file for a map, which depends on the directory the game is run from.
+   *
+   * @param mapPath The path of where the map is located
+   * @return absolute path of the map, or null if it could not be found
+   */
+  public static String resolveMapPath(String mapPath) {
     for (String origin :
             new String[]{"source/core/assets/", "core/assets/", "./"}) {
       File file = Gdx.files.internal(origin + mapPath).file();
       if (file.exists()) {
-        tiledMap = mapLoader.load(file.getAbsolutePath());
-        break;
+        return file.getAbsolutePath();
       }
     }
-
-    if (tiledMap == null) {
-      throw new RuntimeException("Error loading TileMap" + mapPath);
-    }
-
-    TiledMapRenderer renderer = createRenderer(tiledMap, 0.5f / tileSize);
-
-    return new TerrainComponent(camera, tiledMap, renderer, orientation, 0.5f);
+    return null;
   }
 
   public TerrainComponent createSpaceTerrain(TerrainType terrainType) {
@@ -6,10 +6,12 @@
 package com.csse3200.game.components;
 
 import com.csse3200.game.components.player.KeyboardPlayerInputComponent;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.events.listeners.EventListener1;
+import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.badlogic.gdx.utils.Timer;
 
 /**
  * Component used to store information related to combat such as health, attack, etc. Any entities
@@ -17,6 +19,8 @@ import com.badlogic.gdx.utils.Timer;
  * extended for more specific combat needs.
  */
 public class CombatStatsComponent extends Component {
+  /** Fired whenever health is set: (newHealth) */
+  public static final EventKey<EventListener1<Integer>> UPDATE_HEALTH = EventKey.of("updateHealth");
 
   private static final Logger logger = LoggerFactory.getLogger(CombatStatsComponent.class);
   private int health;
@@ -100,35 +104,21 @@ public class CombatStatsComponent extends Component {
       this.health = 0;
     }
     if (entity != null) {
-      entity.getEvents().trigger("updateHealth", this.health);
+      entity.getEvents().trigger(UPDATE_HEALTH, this.health);
     }
     if (entity != null) {
       if (isDead() && entity.getEntityType().equals("player") && !dead) {
         dead = true;
         entity.getComponent(KeyboardPlayerInputComponent.class).clearWalking(); // Stop player from walking
         entity.getComponent(CombatStatsComponent.class).setImmunity(true); // Prevent dying before respawn
-        final Timer timer = new Timer();
         entity.getEvents().trigger("playerDeath"); // Trigger death animation
-        Timer.Task killPlayer = new Timer.Task() {
-          @Override
-          public void run() {
-            minusLife();
-            entity.getEvents().trigger("deathScreen");
-            timer.clear();
-          }
-        };
-        timer.schedule(killPlayer, 1); // Animation lasts for 1 second before death screen is triggered
+        // Animation lasts for 1 second before death screen is triggered
+        ServiceLocator.getTimerService().schedule(entity, () -> {
+          minusLife();
+          entity.getEvents().trigger("deathScreen");
+        }, 1f);
       } else if (isDead() && entity.getEntityType().equals("companion")) {
-        final Timer timer1 = new Timer();
-        Timer.Task killCompanion = new Timer.Task() {
-          @Override
-          public void run() {
-            entity.getEvents().trigger("death");
-            timer1.clear();
-          }
-        };
-        timer1.schedule(killCompanion,1);
-
+        ServiceLocator.getTimerService().schedule(entity, () -> entity.getEvents().trigger("death"), 1f);
       } else if (isDead() && entity.getEntityType().equals("playerWeapon")) {
         entity.getEvents().trigger("death", 0);
       }
@@ -9,6 +9,7 @@ import com.csse3200.game.components.InteractableComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.services.ServiceLocator;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class CompanionInteractionControllerComponent extends Component {
@@ -19,7 +20,9 @@ public class CompanionInteractionControllerComponent extends Component {
      * @param effectAll If true, the interaction will affect all nearby entities; otherwise, only the closest one is affected.
      */
     public void interact(boolean effectAll) {
-        List<Entity> entities = ServiceLocator.getEntityService().getEntitiesByComponent(InteractableComponent.class);
+        // Copied, since interacting can spawn or remove entities, which changes the live view
+        List<Entity> entities = new ArrayList<>(
+                ServiceLocator.getEntityService().getEntitiesByComponent(InteractableComponent.class));
         float minDist = Float.MAX_VALUE;
         Entity closest = null;
 
@@ -1,9 +1,7 @@
 package com.csse3200.game.components.Companion;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -15,7 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.components.PowerupType;
 import com.csse3200.game.entities.configs.PowerupConfig;
 import com.csse3200.game.entities.configs.PowerupConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.input.InputOverrideComponent;
 import com.csse3200.game.services.ServiceLocator;
 import java.util.ArrayList;
@@ -30,6 +28,7 @@ public class CompanionInventoryDisplay extends Window {
     private InputOverrideComponent inputOverrideComponent;
     public PowerupConfigs powerupConfigs;
     private  Skin skin;
+    private final List<String> texturePaths = new ArrayList<>();
     private int healthPotionCount = 0;
     private TextButton deathPotionCountButton;
     private Label deathPotionCountLabel;
@@ -49,10 +48,11 @@ public class CompanionInventoryDisplay extends Window {
     }
 
     public CompanionInventoryDisplay(Texture background, CompanionInventoryComponent inventoryComponent) {
-        super("", new Window.WindowStyle(new BitmapFont(), Color.BLACK, new TextureRegionDrawable(background)));
+        super("", new Window.WindowStyle(ServiceLocator.getResourceService().getDefaultFont(), Color.BLACK,
+                new TextureRegionDrawable(background)));
 
-        skin = new Skin(Gdx.files.internal("kenney-rpg-expansion/kenneyrpg.json"));
-        powerupConfigs = FileLoader.readClass(PowerupConfigs.class, "configs/powerups.json");
+        skin = ServiceLocator.getResourceService().acquireSkin();
+        powerupConfigs = ConfigRegistry.get(PowerupConfigs.class, "configs/powerups.json");
         this.inventoryComponent = inventoryComponent;
 
 
@@ -258,7 +258,9 @@ public class CompanionInventoryDisplay extends Window {
     }
 
     private TextureRegionDrawable createTextureRegionDrawable(String path, float size) {
-        TextureRegionDrawable drawable = new TextureRegionDrawable(new Texture(path));
+        TextureRegionDrawable drawable =
+                new TextureRegionDrawable(ServiceLocator.getResourceService().acquireTexture(path));
+        texturePaths.add(path);
         drawable.setMinSize(size, size);
         return drawable;
     }
@@ -289,8 +291,24 @@ public class CompanionInventoryDisplay extends Window {
     public boolean remove() {
         //Stop overriding input when exiting
         ServiceLocator.getInputService().unregister(inputOverrideComponent);
+        releaseAssets();
         return super.remove();
     }
 
+    /**
+     * Releases the skin and textures acquired for the window.
+     */
+    private void releaseAssets() {
+        if (skin == null) {
+            return;
+        }
+        ServiceLocator.getResourceService().releaseSkin();
+        skin = null;
+        for (String path : texturePaths) {
+            ServiceLocator.getResourceService().releaseTexture(path);
+        }
+        texturePaths.clear();
+    }
+
 
 }
@@ -4,8 +4,6 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
-import com.badlogic.gdx.utils.Timer;
-import com.badlogic.gdx.utils.Timer.Task;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.player.KeyboardPlayerInputComponent;
 import com.csse3200.game.entities.Entity;
@@ -161,12 +159,7 @@ public class CompanionStatsDisplay extends UIComponent {
             isInvincible = false;
 
             // Schedule a task to reset the image after a delay (e.g., 10 seconds)
-            Timer.schedule(new Task() {
-                @Override
-                public void run() {
-                    resetImage();
-                }
-            }, 10.0f);
+            ServiceLocator.getTimerService().schedule(companion, this::resetImage, 10.0f);
         }
     }
 
@@ -187,16 +180,11 @@ public class CompanionStatsDisplay extends UIComponent {
             player.getComponent(CombatStatsComponent.class).setImmunity(true);
             isInfiniteHealth = false;
             this.setDuration(6000);
-            // Schedule a task to reset health to a normal value after a delay (e.g., 10 seconds)
-            java.util.TimerTask health = new java.util.TimerTask()  {
-                @Override
-                public void run() {
-                    companion.getComponent(CombatStatsComponent.class).setImmunity(false);
-                    player.getComponent(CombatStatsComponent.class).setImmunity(false);
-
-                }
-            };
-            new java.util.Timer().schedule(health, getDuration());
+            // Schedule a task to reset health to a normal value after a delay (duration is in ms)
+            ServiceLocator.getTimerService().schedule(player, () -> {
+                companion.getComponent(CombatStatsComponent.class).setImmunity(false);
+                player.getComponent(CombatStatsComponent.class).setImmunity(false);
+            }, getDuration() / 1000f);
         }
     }
 
@@ -248,13 +236,10 @@ public class CompanionStatsDisplay extends UIComponent {
 
         if (update) {
             // Schedule a task to remove the playerLowHealthLabel after a delay (e.g., 3 seconds)
-            Timer.schedule(new Task() {
-                @Override
-                public void run() {
-                    playerLowHealthLabel.remove();
-                    update = false;
-                }
-            }, 3000);
+            ServiceLocator.getTimerService().schedule(entity, () -> {
+                playerLowHealthLabel.remove();
+                update = false;
+            }, 3f);
         }
     }
 
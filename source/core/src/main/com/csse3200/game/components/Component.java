@@ -43,6 +43,24 @@ public class Component {
     // No action by default.
   }
 
+  /**
+   * Called instead of dispose() when the entity is returned to an
+   * {@link com.csse3200.game.entities.EntityPool}. Put the component back into the state it was in
+   * straight after create(), and release anything that must not stay active while the entity is
+   * parked, e.g. its registration with the render service.
+   */
+  public void reset() {
+    // No action by default.
+  }
+
+  /**
+   * Called when a pooled entity is registered again after being parked. create() is not called a
+   * second time, so re-acquire anything released in reset() here.
+   */
+  public void reactivate() {
+    // No action by default.
+  }
+
   /**
    * Set the entity to which this component belongs. This is called by the Entity, and should not be
    * set manually.
@@ -81,6 +99,16 @@ public class Component {
     }
   }
 
+  /**
+   * Used to trigger the parallel think phase of a {@link Thinker}. This should not need to be
+   * called manually.
+   */
+  public final void triggerThink() {
+    if (enabled) {
+      ((Thinker) this).think();
+    }
+  }
+
   /**
    * Used to trigger the component to early-update itself. This should not need to be called
    * manually.
@@ -1,23 +1,28 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.utils.ObjectMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Internal type system for components. Used to generate unique IDs for each component type at
  * runtime, allowing entities to get components by type.
+ *
+ * <p>Types can be looked up from any thread, since entities get components by type during the
+ * parallel think phase.
  */
 public class ComponentType {
-  private static final ObjectMap<Class<? extends Component>, ComponentType> componentTypes =
-      new ObjectMap<>();
-  private static int nextId = 0;
+  private static final Map<Class<? extends Component>, ComponentType> componentTypes =
+      new ConcurrentHashMap<>();
+  private static final AtomicInteger nextId = new AtomicInteger();
 
   private final int id;
 
   public static ComponentType getFrom(Class<? extends Component> type) {
     ComponentType componentType = componentTypes.get(type);
     if (componentType == null) {
-      componentType = new ComponentType();
-      componentTypes.put(type, componentType);
+      // Only one type is ever created for a class, even if threads race to register it
+      componentType = componentTypes.computeIfAbsent(type, key -> new ComponentType());
     }
     return componentType;
   }
@@ -27,7 +32,6 @@ public class ComponentType {
   }
 
   private ComponentType() {
-    id = nextId;
-    nextId++;
+    id = nextId.getAndIncrement();
   }
 }
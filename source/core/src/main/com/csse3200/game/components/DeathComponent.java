@@ -1,6 +1,5 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.entities.Entity;
@@ -10,8 +9,6 @@ import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 
 import java.util.Random;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * When this entity (usually killable entities) has health = 0, it disposes the enemy form the field of play.
@@ -54,35 +51,28 @@ public class DeathComponent extends Component {
 
 
             entity.getEvents().trigger("dispose");
-            // Schedule a task to execute entity::dispose after a delay
+            // Schedule a task to destroy the entity after a delay
             // Get the duration of the death animation
             float deathAnimationDuration = animator.getAnimationDuration("death");
-            // Convert the duration from seconds to milliseconds for the Timer
-            long delay = (long) (deathAnimationDuration * 1000);
-            Timer timer = new Timer();
+            ServiceLocator.getTimerService().schedule(entity, () -> {
+                ServiceLocator.getEntityService().destroy(entity);
 
-            timer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    Gdx.app.postRunnable(entity::dispose);
+                Random rand = new Random();
+                int powerupRandomiser = rand.nextInt(15);
 
-                    Random rand = new Random();
-                    int powerupRandomiser = rand.nextInt(15);
+                Entity powerup = null;
 
-                    Entity powerup = null;
-
-                    if (powerupRandomiser < 5) {                 // 1/3 chance of speed boost
-                        powerup = PowerupFactory.createSpeedPowerup();
-                    } else if (powerupRandomiser == 7) {        // 1/15 chance of speed boost
-                        powerup = PowerupFactory.createExtraLifePowerup();
-                    }
-                    else if (powerupRandomiser > 9){            // 1/3 chance of health boost
-                        powerup = PowerupFactory.createHealthPowerup();
-                    }
-
-                    ServiceLocator.getStructurePlacementService().spawnEntityAtVector(powerup, enemyBody);
+                if (powerupRandomiser < 5) {                 // 1/3 chance of speed boost
+                    powerup = PowerupFactory.createSpeedPowerup();
+                } else if (powerupRandomiser == 7) {        // 1/15 chance of speed boost
+                    powerup = PowerupFactory.createExtraLifePowerup();
                 }
-            }, delay); // Delay based on the death animation duration
+                else if (powerupRandomiser > 9){            // 1/3 chance of health boost
+                    powerup = PowerupFactory.createHealthPowerup();
+                }
+
+                ServiceLocator.getStructurePlacementService().spawnEntityAtVector(powerup, enemyBody);
+            }, deathAnimationDuration); // Delay based on the death animation duration
 
         }
     }
@@ -11,6 +11,13 @@ public class DistanceCheckComponent extends Component {
         this.interactLabel = label;
     }
 
+    /**
+     * @return how close the player needs to be for the interaction label to show
+     */
+    public float getProximityDistance() {
+        return proximityDistance;
+    }
+
     public void checkDistance(Entity player) {
         if (entity.getCenterPosition().dst(player.getCenterPosition()) <= proximityDistance) {
             interactLabel.setVisible(true);
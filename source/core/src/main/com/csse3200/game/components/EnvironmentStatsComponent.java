@@ -11,8 +11,6 @@ import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Component used to store information related to combat such as health, attack, etc. Any entities
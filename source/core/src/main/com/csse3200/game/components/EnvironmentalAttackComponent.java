@@ -1,6 +1,5 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
@@ -10,9 +9,7 @@ import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
-
-import java.util.Timer;
-import java.util.TimerTask;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * When this entity touches a valid enemy's hitbox, deal damage to them and apply a knockback.
@@ -28,7 +25,6 @@ public class EnvironmentalAttackComponent extends Component {
     private CombatStatsComponent combatStats;
     private HitboxComponent hitboxComponent;
     private boolean leftContact;
-    private Timer triggerTimer;
     /**
      * Create a component which attacks entities on collision, without knockback.
      * @param targetLayer The physics layer of the target's collider.
@@ -116,19 +112,11 @@ public class EnvironmentalAttackComponent extends Component {
 
         // Dispose Entity with animation
         entity.getEvents().trigger("explode");
-        // Schedule a task to execute entity::dispose after a delay
+        // Schedule a task to destroy the entity after a delay
         // Get the duration of the projectile explosion animation
         float deathAnimationDuration = animator.getAnimationDuration("explode");
-        // Convert the duration from seconds to milliseconds for the Timer
-        long delay = (long) (deathAnimationDuration * 1000);
-        Timer timer = new Timer();
-
-        timer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                Gdx.app.postRunnable(entity::dispose);
-            }
-        }, delay); // Delay based on the dispose animation duration
+        // Delay based on the dispose animation duration
+        ServiceLocator.getTimerService().schedule(entity, () -> ServiceLocator.getEntityService().destroy(entity), deathAnimationDuration);
 
     }
 
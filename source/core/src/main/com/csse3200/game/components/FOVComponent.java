@@ -1,44 +1,65 @@
 package com.csse3200.game.components;
 
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.structures.TurretTargetableComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.SpatialIndex;
 import com.csse3200.game.services.ServiceLocator;
 
 /** FOVComponent
  *  This component is used to detect enemies within a certain radius of the turret.
+ *  Enemies in range are looked up in the parallel think phase, and entered/exited are called in update.
  */
-public class FOVComponent extends ProximityActivationComponent {
+public class FOVComponent extends ProximityActivationComponent implements Thinker {
+    // Enemies within the FOV this frame and last frame, swapped each update to avoid allocating
+    private Array<Entity> inFov = new Array<>(false, 8);
+    private Array<Entity> previouslyInFov = new Array<>(false, 8);
+    private final Vector2 center = new Vector2();
+    private boolean thought = false;
+
     public FOVComponent(float radius, ProximityFunc entered, ProximityFunc exited) {
         super(radius, entered, exited);
     }
 
     /**
-     * Updates the FOV component.
+     * Finds the enemies in the FOV. Only enemies near the turret are looked up through the spatial
+     * index, rather than every targetable entity.
+     */
+    @Override
+    public void think() {
+        SpatialIndex spatialIndex = ServiceLocator.getEntityService().getSpatialIndex();
+        Array<Entity> swap = previouslyInFov;
+        previouslyInFov = inFov;
+        center.set(entity.getCenterX(), entity.getCenterY());
+        inFov = spatialIndex.queryRadius(
+                center, radius, TurretTargetableComponent.class, swap);
+        thought = true;
+    }
+
+    /**
+     * Updates the FOV component, notifying enemies which entered or left the FOV since last frame.
      */
     @Override
     public void update() {
-        var entities = ServiceLocator.getEntityService().getEntitiesByComponent(TurretTargetableComponent.class);
+        if (!thought) {
+            think();
+        }
+        thought = false;
+        SpatialIndex spatialIndex = ServiceLocator.getEntityService().getSpatialIndex();
 
-        for (Entity enemy : entities) {
-            var turretTargetableComponent = enemy.getComponent(TurretTargetableComponent.class);
+        for (Entity enemy : inFov) {
+            enemy.getComponent(TurretTargetableComponent.class).setInFov(true);
+            entered.call(enemy);
+        }
 
-            if (turretTargetableComponent == null) {
+        for (Entity enemy : previouslyInFov) {
+            // Enemies which have been unregistered are no longer tracked by the index
+            if (inFov.contains(enemy, true) || !spatialIndex.contains(enemy)) {
                 continue;
             }
-
-            boolean isInFOV = turretTargetableComponent.isInFov();
-
-            if (!isInFOV && enemyIsInFOV(enemy)) {
-                turretTargetableComponent.setInFov(true);
-                entered.call(enemy);
-
-            } else if (isInFOV && !enemyIsInFOV(enemy)) {
-                turretTargetableComponent.setInFov(false);
-                exited.call(enemy);
-            }
-            else if (isInFOV) {
-                entered.call(enemy);
-            }
+            enemy.getComponent(TurretTargetableComponent.class).setInFov(false);
+            exited.call(enemy);
         }
     }
 
@@ -3,6 +3,7 @@ package com.csse3200.game.components;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.csse3200.game.rendering.RenderComponent;
@@ -65,16 +66,18 @@ public class HealthBarComponent extends UIComponent {
      * Updates the position of the UI in the game world (accounting for the difference in scale)
      */
     private void updateUIPosition() {
+        // Follows where the entity is drawn, rather than its game position
+        Vector2 entityCenter = entity.getRenderPosition().mulAdd(entity.getScale(), 0.5f);
         float yPos = offsetY;
         float centerOffset = 0;
         if (center) {
-            yPos += entity.getCenterPosition().y;
+            yPos += entityCenter.y;
             centerOffset = healthBar.getHeight();
         } else {
-            yPos += entity.getCenterPosition().y;
+            yPos += entityCenter.y;
         }
 
-        var position2 = new Vector3(entity.getCenterPosition().x - width/2, yPos, 0);
+        var position2 = new Vector3(entityCenter.x - width/2, yPos, 0);
         position2.scl(SCALE_REDUCTION);
         healthBar.setPosition(position2.x, position2.y - centerOffset);
     }
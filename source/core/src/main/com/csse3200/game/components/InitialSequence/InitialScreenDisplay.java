@@ -10,10 +10,10 @@ import com.badlogic.gdx.scenes.scene2d.actions.RepeatAction;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.GdxGame.ScreenType;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerHandle;
 import com.csse3200.game.ui.AlertBox;
 import com.csse3200.game.ui.TitleBox;
 import com.csse3200.game.ui.UIComponent;
@@ -33,6 +33,7 @@ public class InitialScreenDisplay extends UIComponent {
     private Image planet;
     private Table rootTable;
     private Label storyLabel;
+    private TimerHandle printTask;
 
     /**
      * Creates a new instance of the InitialScreenDisplay.
@@ -136,7 +137,8 @@ public class InitialScreenDisplay extends UIComponent {
 
     private void printTextLetterByLetter(final String text, final Label label, final float speed, final float initialDelay) {
         label.setText(""); // Clear the label text initially
-        Timer.schedule(new Timer.Task() {
+        // Runs on the screen's timer service, and is cancelled along with this display
+        printTask = ServiceLocator.getTimerService().scheduleRepeating(entity, new Runnable() {
             int charIndex = 0;
 
             @Override
@@ -147,10 +149,10 @@ public class InitialScreenDisplay extends UIComponent {
                     charIndex++;
                 } else {
                     // Stop the Timer when all characters are printed
-                    this.cancel();
+                    printTask.cancel();
                 }
             }
-        }, initialDelay, speed, text.length() - 1);
+        }, initialDelay, speed);
     }
 
 
@@ -1,9 +1,6 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.actions.RepeatAction;
@@ -11,7 +8,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.services.ServiceLocator;
 
 public class InteractLabel extends Table {
@@ -19,10 +15,10 @@ public class InteractLabel extends Table {
     public InteractLabel() {
         super();
 
-        TextureRegionDrawable fButtonDrawable = new TextureRegionDrawable(new TextureRegion(ServiceLocator.getResourceService().getAsset("images/interface/f_button.png", Texture.class)));
-        Image fButtonImage = new Image(fButtonDrawable);
+        // Shared with every other prompt, and released when the screen's resources are disposed
+        Image fButtonImage = new Image(ServiceLocator.getResourceService().acquireDrawable("images/interface/f_button.png"));
 
-        Skin skin = new Skin(Gdx.files.internal("kenney-rpg-expansion/kenneyrpg.json"));
+        Skin skin = ServiceLocator.getResourceService().acquireSkin();
 
         Label messageLabelBeforeF = new Label("Press ", skin);
         messageLabelBeforeF.setColor(Color.WHITE);
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.g2d.ParticleEffect;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.csse3200.game.entities.configs.ParticleEffectsConfig;
@@ -61,6 +62,12 @@ public class ParticleComponent extends RenderComponent {
         entity.getEvents().addListener("stopEffect", this::stopEffect);
     }
 
+    @Override
+    public boolean isVisible(Rectangle viewBounds) {
+        // Particles can travel well outside the entity, so never cull them
+        return true;
+    }
+
     @Override
     protected void draw(SpriteBatch batch) {
         Matrix4 originalMatrix = batch.getProjectionMatrix().cpy();
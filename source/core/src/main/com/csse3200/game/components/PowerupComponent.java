@@ -1,14 +1,9 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.components.Companion.CompanionActions;
 import com.csse3200.game.components.player.PlayerActions;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.services.ServiceLocator;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -21,7 +16,6 @@ public class PowerupComponent extends Component {
     private final Entity companion = ServiceLocator.getEntityService().getCompanion();
     private long duration;
 
-    private ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
     /**
      * Assigns a type and targetLayer value to a given Powerup
      */
@@ -62,10 +56,10 @@ public class PowerupComponent extends Component {
                     setDuration(8000);
 
                     // Schedule a task to reset the speed values after the specified duration
-                    executorService.schedule(() -> {
+                    ServiceLocator.getTimerService().schedule(player, () -> {
                         player.getComponent(PlayerActions.class).setSpeed(3, 3);
                         companion.getComponent(CompanionActions.class).setSpeed(4, 4);
-                    }, getDuration(), TimeUnit.MILLISECONDS);}
+                    }, getDuration() / 1000f);}
                     break;
 
                 case EXTRA_LIFE:
@@ -79,10 +73,10 @@ public class PowerupComponent extends Component {
                     companion.getComponent(CombatStatsComponent.class).setImmunity(true);
                     player.getComponent(CombatStatsComponent.class).setImmunity(true);
                     setDuration(6000);
-                    executorService.schedule(() -> {
+                    ServiceLocator.getTimerService().schedule(player, () -> {
                         companion.getComponent(CombatStatsComponent.class).setImmunity(false);
                         player.getComponent(CombatStatsComponent.class).setImmunity(false);
-                    }, getDuration(), TimeUnit.MILLISECONDS);}
+                    }, getDuration() / 1000f);}
                     break;
 
                 case DOUBLE_DAMAGE:
@@ -91,9 +85,9 @@ public class PowerupComponent extends Component {
                     }else {
                     player.getComponent(CombatStatsComponent.class).setAttackMultiplier(2);
                     setDuration(12000);
-                    executorService.schedule(() -> {
+                    ServiceLocator.getTimerService().schedule(player, () -> {
                         player.getComponent(CombatStatsComponent.class).setAttackMultiplier(1);
-                    }, getDuration(), TimeUnit.MILLISECONDS);}
+                    }, getDuration() / 1000f);}
                     break;
 
                 default:
@@ -101,7 +95,7 @@ public class PowerupComponent extends Component {
             }
 
             if (entity != null) {
-                Gdx.app.postRunnable(entity::dispose);
+                ServiceLocator.getEntityService().destroy(entity);
             }
     }
 
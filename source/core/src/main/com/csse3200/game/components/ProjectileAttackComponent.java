@@ -1,6 +1,5 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
@@ -10,7 +9,7 @@ import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
-import com.badlogic.gdx.utils.Timer;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * When this entity touches a valid enemy's hitbox, deal damage to them and apply a knockback.
@@ -25,8 +24,8 @@ public class ProjectileAttackComponent extends Component {
   private float knockbackForce = 0f;
   private CombatStatsComponent combatStats;
   private HitboxComponent hitboxComponent;
+  private short hitboxLayer;
   private boolean leftContact;
-  private Timer triggerTimer;
   /**
    * Create a component which attacks entities on collision, without knockback.
    * @param targetLayer The physics layer of the target's collider.
@@ -50,10 +49,18 @@ public class ProjectileAttackComponent extends Component {
    */
   @Override
   public void create() {
-    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
-    entity.getEvents().addListener("collisionEnd", this::onCollisionEnd);
+    entity.getEvents().addListener(PhysicsComponent.COLLISION_START, this::onCollisionStart);
+    entity.getEvents().addListener(PhysicsComponent.COLLISION_END, this::onCollisionEnd);
     combatStats = entity.getComponent(CombatStatsComponent.class);
     hitboxComponent = entity.getComponent(HitboxComponent.class);
+    hitboxLayer = hitboxComponent.getLayer();
+    leftContact = true;
+  }
+
+  /** Restore the hitbox layer cleared by the last hit, so a pooled projectile can hit again. */
+  @Override
+  public void reset() {
+    hitboxComponent.setLayer(hitboxLayer);
     leftContact = true;
   }
 
@@ -118,19 +125,11 @@ public class ProjectileAttackComponent extends Component {
 
     // Dispose Entity with animation
     entity.getEvents().trigger("explode");
-    // Schedule a task to execute entity::dispose after a delay
+    // Schedule a task to destroy the entity after a delay
     // Get the duration of the projectile explosion animation
     float deathAnimationDuration = animator.getAnimationDuration("explode");
-    // Convert the duration from seconds to milliseconds for the Timer
-    long delay = (long) (deathAnimationDuration * 1000);
-
     // Delay based on the dispose animation duration
-    Timer.schedule(new Timer.Task(){
-      @Override
-      public void run() {
-        Gdx.app.postRunnable(entity::dispose);
-      }
-    }, delay);
+    ServiceLocator.getTimerService().schedule(entity, () -> ServiceLocator.getEntityService().destroy(entity), deathAnimationDuration);
 
   }
 
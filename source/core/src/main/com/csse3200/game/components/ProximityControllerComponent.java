@@ -1,16 +1,58 @@
 package com.csse3200.game.components;
 
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.SpatialIndex;
 import com.csse3200.game.services.ServiceLocator;
 
 import java.util.List;
 
 public class ProximityControllerComponent extends Component {
+    // Entities near the player this check and the last check, swapped to avoid allocating
+    private Array<Entity> nearby = new Array<>(false, 8);
+    private Array<Entity> previouslyNearby = new Array<>(false, 8);
+    private final Vector2 center = new Vector2();
+
+    /**
+     * Updates the interaction prompts of entities near the player. Entities which were near the
+     * player on the last check are re-checked so that their prompts are hidden once out of range.
+     */
     public void checkAllEntitiesProximity() {
-        List<Entity> entities = ServiceLocator.getEntityService().getEntitiesByComponent(DistanceCheckComponent.class);
-        for (Entity target : entities) {
+        EntityService entityService = ServiceLocator.getEntityService();
+        SpatialIndex spatialIndex = entityService.getSpatialIndex();
+        Array<Entity> swap = previouslyNearby;
+        previouslyNearby = nearby;
+        center.set(entity.getCenterX(), entity.getCenterY());
+        nearby = spatialIndex.queryRadius(center,
+                getMaxProximityDistance(entityService), DistanceCheckComponent.class, swap);
+
+        for (Entity target : nearby) {
             target.getComponent(DistanceCheckComponent.class).checkDistance(entity);
         }
+        for (Entity target : previouslyNearby) {
+            if (!nearby.contains(target, true) && spatialIndex.contains(target)) {
+                target.getComponent(DistanceCheckComponent.class).checkDistance(entity);
+            }
+        }
     }
-}
 
+    /**
+     * Gets the largest proximity distance of the registered distance check components, which bounds
+     * how far from the player entities need to be checked. Only the current entity service's
+     * entities are looked at, so distances of removed entities or cleared areas no longer count.
+     *
+     * @param entityService service the checked entities are registered with
+     * @return the largest proximity distance, or 0 if there are no distance check components
+     */
+    private static float getMaxProximityDistance(EntityService entityService) {
+        List<Entity> targets = entityService.getEntitiesByComponent(DistanceCheckComponent.class);
+        float maxProximityDistance = 0f;
+        for (int i = 0; i < targets.size(); i++) {
+            DistanceCheckComponent distanceCheck = targets.get(i).getComponent(DistanceCheckComponent.class);
+            maxProximityDistance = Math.max(maxProximityDistance, distanceCheck.getProximityDistance());
+        }
+        return maxProximityDistance;
+    }
+}
@@ -1,11 +1,6 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -13,15 +8,16 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.input.InputOverrideComponent;
 import com.csse3200.game.services.ServiceLocator;
 
 public class ShipInteractionPopup extends Window {
     private final InputOverrideComponent inputOverrideComponent;
+    private boolean released = false;
 
     public ShipInteractionPopup() {
-        super("", new Window.WindowStyle(new BitmapFont(), Color.BLACK, getBrownBackgroundStatic()));
+        super("", new Window.WindowStyle(ServiceLocator.getResourceService().getDefaultFont(), Color.BLACK,
+                ServiceLocator.getResourceService().getColorDrawable(Color.BROWN)));
 
         Stage stage = ServiceLocator.getRenderService().getStage();
         float popupWidth = (float) (stage.getWidth() * 0.3);  //setting the width of the popup
@@ -29,7 +25,7 @@ public class ShipInteractionPopup extends Window {
         setPosition(stage.getWidth() / 2 - popupWidth / 2, stage.getHeight() / 2 - popupHeight / 2);
         setSize(popupWidth, popupHeight); //setting the popup size at once using width and height variables
 
-        Skin skin = new Skin(Gdx.files.internal("kenney-rpg-expansion/kenneyrpg.json"));
+        Skin skin = ServiceLocator.getResourceService().acquireSkin();
         Label.LabelStyle labelStyle = skin.get(Label.LabelStyle.class);
 
         Label titleLabel = new Label("ship", labelStyle);
@@ -60,22 +56,12 @@ public class ShipInteractionPopup extends Window {
 
     @Override
     public boolean remove() {
-        ServiceLocator.getInputService().unregister(inputOverrideComponent);
+        if (!released) {
+            ServiceLocator.getInputService().unregister(inputOverrideComponent);
+            ServiceLocator.getResourceService().releaseSkin();
+            released = true;
+        }
         return super.remove();
     }
-    private static TextureRegionDrawable getBrownBackgroundStatic() {
-        Texture texture = createColoredTextureStatic(1, 1, Color.BROWN);
-        return new TextureRegionDrawable(new TextureRegion(texture));
-    }
-
-    private static Texture createColoredTextureStatic(int width, int height, Color color) {
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
-        pixmap.setColor(color);
-        pixmap.fill();
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
-    }
-
 }
 
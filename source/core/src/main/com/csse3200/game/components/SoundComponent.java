@@ -9,9 +9,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * This component can be used to trigger sounds by an entity to play.
@@ -20,7 +19,8 @@ public class SoundComponent extends Component {
     private static final Logger logger = LoggerFactory.getLogger(SoundComponent.class);
     private final SoundsConfig soundsConfig;
     private final Map<String, Sound> sounds;
-    private final Set<String> looping;
+    private final Map<String, Long> looping;
+    private final Consumer<UserSettings.Settings> settingsListener = this::updateLoopVolume;
 
     /**
      * Creates a new SoundComponent using the sounds specified in the soundsConfig file.
@@ -29,7 +29,7 @@ public class SoundComponent extends Component {
     public SoundComponent(SoundsConfig soundsConfig) {
         this.soundsConfig = soundsConfig;
         sounds = new HashMap<>();
-        looping = new HashSet<>();
+        looping = new HashMap<>();
     }
 
     /**
@@ -56,6 +56,7 @@ public class SoundComponent extends Component {
         entity.getEvents().addListener("playSound", this::playSound);
         entity.getEvents().addListener("loopSound", this::loopSound);
         entity.getEvents().addListener("stopSound", this::stopSound);
+        UserSettings.addListener(settingsListener);
     }
 
     /**
@@ -73,8 +74,7 @@ public class SoundComponent extends Component {
             return;
         }
 
-        var settings = UserSettings.get();
-        sound.play(settings.soundVolume);
+        sound.play(UserSettings.current().soundVolume);
     }
 
     /**
@@ -83,7 +83,7 @@ public class SoundComponent extends Component {
      * @param soundName - the name of the sound to loop as specified in the config file.
      */
     public void loopSound(String soundName) {
-        if (looping.contains(soundName)) {
+        if (looping.containsKey(soundName)) {
             return;
         }
 
@@ -95,9 +95,8 @@ public class SoundComponent extends Component {
             return;
         }
 
-        var settings = UserSettings.get();
-        sound.loop(settings.soundVolume);
-        looping.add(soundName);
+        long id = sound.loop(UserSettings.current().soundVolume);
+        looping.put(soundName, id);
     }
 
     /**
@@ -117,4 +116,23 @@ public class SoundComponent extends Component {
         sound.stop();
         looping.remove(soundName);
     }
+
+    /**
+     * Applies a new sound volume to every sound currently looping, so they don't have to be restarted.
+     * @param settings - the new user settings.
+     */
+    private void updateLoopVolume(UserSettings.Settings settings) {
+        for (var entry : looping.entrySet()) {
+            Sound sound = sounds.get(entry.getKey());
+            if (sound != null) {
+                sound.setVolume(entry.getValue(), settings.soundVolume);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        UserSettings.removeListener(settingsListener);
+        super.dispose();
+    }
 }
@@ -0,0 +1,21 @@
+package com.csse3200.game.components;
+
+/**
+ * Implemented by components which can split their per-frame work into a parallel "think" phase
+ * and the usual serial update(). Each frame the entity service calls think() on every thinker,
+ * spread across the {@link com.csse3200.game.concurrency.JobSystem} when there are enough
+ * entities, and then runs earlyUpdate() and update() on the render thread as normal.
+ *
+ * <p>think() runs at the same time as other entities' think(), so it may read any game state but
+ * must only write to fields of its own component. Work out what to do in think(), e.g. which AI
+ * task to run or which enemies are in range, and apply it in update(). Triggering events,
+ * creating or disposing entities, moving bodies and playing sounds must all wait for update().
+ * Raycasts through the physics engine are safe, but are run one at a time.
+ *
+ * <p>update() can't rely on think() having run first, e.g. when the entity was registered part
+ * way through the frame, so it should work out what it needs itself if think() didn't.
+ */
+public interface Thinker {
+  /** Called once per frame before update(), possibly on another thread. Not called if disabled. */
+  void think();
+}
@@ -8,8 +8,9 @@ import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerHandle;
 import com.csse3200.game.ui.DialogComponent;
-import com.badlogic.gdx.utils.Timer;
 
 /**
  * TouchAttackComponent is responsible for dealing damage and applying knockback to entities when
@@ -21,12 +22,14 @@ import com.badlogic.gdx.utils.Timer;
  * if the target entity has a PhysicsComponent.
  */
 public class TouchAttackComponent extends Component {
+  private static final float TICK_DAMAGE_INTERVAL = 2f;
 
   private short targetLayer;
   private float knockbackForce = 1f;
   private CombatStatsComponent combatStats;
   private HitboxComponent hitboxComponent;
   private boolean leftContact;
+  private TimerHandle tickDamage;
 
   /**
    * Creates a TouchAttackComponent that attacks entities on collision, without knockback.
@@ -54,8 +57,8 @@ public class TouchAttackComponent extends Component {
   @Override
   public void create() {
     // Listen for collision events
-    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
-    entity.getEvents().addListener("collisionEnd", this::onCollisionEnd);
+    entity.getEvents().addListener(PhysicsComponent.COLLISION_START, this::onCollisionStart);
+    entity.getEvents().addListener(PhysicsComponent.COLLISION_END, this::onCollisionEnd);
 
     // Retrieve necessary components
     combatStats = entity.getComponent(CombatStatsComponent.class);
@@ -96,16 +99,13 @@ public class TouchAttackComponent extends Component {
 
     // Targeting STRUCTURE entity type
     if (target.getComponent(HitboxComponent.class).getLayer() == PhysicsLayer.STRUCTURE) {
-      // Schedule the trigger every 2 seconds
-      Timer.Task task = new Timer.Task() {
-        @Override
-        public void run() {
-          if (!leftContact) {
-            hitOnce(target, source, sourceStats, targetStats);
-          }
+      // Deal damage every 2 seconds until contact ends
+      cancelTickDamage();
+      tickDamage = ServiceLocator.getTimerService().scheduleRepeating(entity, () -> {
+        if (!leftContact) {
+          hitOnce(target, source, sourceStats, targetStats);
         }
-      };
-      Timer.schedule(task, 2000, 2000); // Initial delay: 2000, Repeat every 2000 milliseconds (2 seconds)
+      }, TICK_DAMAGE_INTERVAL, TICK_DAMAGE_INTERVAL);
     } else {
       // hit once, push away
       hitOnce(target, source, sourceStats, targetStats);
@@ -157,6 +157,14 @@ public class TouchAttackComponent extends Component {
   private void onCollisionEnd(Fixture me, Fixture other) {
     // Stop dealing tick damage
     leftContact = true;
+    cancelTickDamage();
+  }
+
+  private void cancelTickDamage() {
+    if (tickDamage != null) {
+      tickDamage.cancel();
+      tickDamage = null;
+    }
   }
 
   /**
@@ -1,9 +1,9 @@
 package com.csse3200.game.components.Weapons;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Class to control the movement of weapons that have been spawned
@@ -89,7 +89,7 @@ public class WeaponControllerComponent extends Component {
     private void despawn() {
         AnimationRenderComponent animator = entity.getComponent(AnimationRenderComponent.class);
         animator.stopAnimation();
-        Gdx.app.postRunnable(entity::dispose);
+        ServiceLocator.getEntityService().destroy(entity);
     }
 
     /**
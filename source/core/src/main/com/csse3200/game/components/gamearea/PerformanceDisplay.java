@@ -3,6 +3,17 @@ package com.csse3200.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.csse3200.game.entities.EntityPool;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.VisibilityService;
+import com.csse3200.game.profiling.FrameProfiler;
+import com.csse3200.game.profiling.ProfileScope;
+import com.csse3200.game.rendering.RenderMetrics;
+import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
@@ -11,6 +22,11 @@ import com.csse3200.game.ui.UIComponent;
  */
 public class PerformanceDisplay extends UIComponent {
   private static final float Z_INDEX = 5f;
+  /** Frames between recomputing profiler percentiles, which sorts every scope's samples */
+  private static final int STATISTICS_INTERVAL = 30;
+  private static final int SLOWEST_COMPONENTS = 5;
+  private final ProfileScope[] slowestComponents = new ProfileScope[SLOWEST_COMPONENTS];
+  private int framesSinceStatistics = STATISTICS_INTERVAL;
   private Label profileLabel;
 
   @Override
@@ -45,9 +61,120 @@ public class PerformanceDisplay extends UIComponent {
         message
             .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
             .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
+
+    RenderService renderService = ServiceLocator.getRenderService();
+    RenderMetrics metrics = renderService.getMetrics();
+    if (metrics != null) {
+      message =
+          message.concat(
+              String.format(
+                  "Draw calls: %d (max %d sprites/batch)%n",
+                  metrics.getRenderCalls(), metrics.getMaxSpritesInBatch()));
+    }
+    IntArray layers = renderService.getLayerIds();
+    for (int i = 0; i < layers.size; i++) {
+      int layer = layers.get(i);
+      message =
+          message.concat(
+              String.format(
+                  "Layer %d: %d drawn, %d culled%n",
+                  layer, renderService.getDrawnCount(layer), renderService.getCulledCount(layer)));
+    }
+
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    if (physicsService != null) {
+      PhysicsEngine physics = physicsService.getPhysics();
+      message =
+          message.concat(
+              String.format(
+                  "Physics: %d steps/frame at %d Hz, %.1f ms dropped (%d steps total)%n",
+                  physics.getStepsLastUpdate(), physics.getStepRate(),
+                  physics.getDroppedTimeLastUpdate() * 1000f, physics.getStepCount()));
+    }
+
+    VisibilityService visibilityService = ServiceLocator.getVisibilityService();
+    if (visibilityService != null) {
+      message =
+          message.concat(
+              String.format(
+                  "Line of sight: %d checks, %.0f%% shared, %d raycasts, %d deferred%n",
+                  visibilityService.getRequestsLastFrame(),
+                  visibilityService.getHitRateLastFrame() * 100f,
+                  visibilityService.getRaycastsLastFrame(),
+                  visibilityService.getDeferredLastFrame()));
+    }
+
+    EntityService entityService = ServiceLocator.getEntityService();
+    if (entityService != null) {
+      message =
+          message.concat(
+              String.format(
+                  "Destroyed: %d entities/frame (%d total)%n",
+                  entityService.getDestroyedLastFrame(), entityService.getDestroyedTotal()));
+      Array<EntityPool<?>> pools = entityService.getPools();
+      for (int i = 0; i < pools.size; i++) {
+        EntityPool<?> pool = pools.get(i);
+        message =
+            message.concat(
+                String.format(
+                    "Pool %s: %d used, %d idle, %d hits, %d misses, max %d%n",
+                    pool.getName(), pool.getInUse(), pool.getIdleCount(),
+                    pool.getHits(), pool.getMisses(), pool.getHighWater()));
+      }
+    }
+
+    FrameProfiler profiler = ServiceLocator.getProfiler();
+    if (profiler != null) {
+      message = message.concat(getProfilerStats(profiler));
+    }
     return message;
   }
 
+  private String getProfilerStats(FrameProfiler profiler) {
+    if (++framesSinceStatistics >= STATISTICS_INTERVAL) {
+      profiler.updateStatistics();
+      framesSinceStatistics = 0;
+    }
+
+    String message = "Frame (p50/p95/p99 ms)\n";
+    Array<ProfileScope> stages = profiler.getStageScopes();
+    for (int i = 0; i < stages.size; i++) {
+      message = message.concat(formatScope(stages.get(i)));
+    }
+    if (profiler.isProfilingComponents()) {
+      int count = findSlowestComponents(profiler.getComponentScopes());
+      for (int i = 0; i < count; i++) {
+        message = message.concat(formatScope(slowestComponents[i]));
+      }
+    }
+    return message;
+  }
+
+  private static String formatScope(ProfileScope scope) {
+    return String.format(
+        "%s: %.2f / %.2f / %.2f%n", scope.getName(), scope.getP50(), scope.getP95(), scope.getP99());
+  }
+
+  /** Fills slowestComponents with the component scopes with the highest p95, slowest first */
+  private int findSlowestComponents(Array<ProfileScope> scopes) {
+    int count = 0;
+    for (int i = 0; i < scopes.size; i++) {
+      ProfileScope scope = scopes.get(i);
+      int index = count;
+      while (index > 0 && slowestComponents[index - 1].getP95() < scope.getP95()) {
+        if (index < SLOWEST_COMPONENTS) {
+          slowestComponents[index] = slowestComponents[index - 1];
+        }
+        index--;
+      }
+      if (index < SLOWEST_COMPONENTS) {
+        slowestComponents[index] = scope;
+        count = Math.min(count + 1, SLOWEST_COMPONENTS);
+      }
+    }
+    return count;
+  }
+
   @Override
   public float getZIndex() {
     return Z_INDEX;
@@ -1,12 +0,0 @@
-package com.csse3200.game.components.joinable;
-
-/**
- * Used by JoinableComponent to pass around the direction of
- * a join between elements.
- */
-public enum JoinDirection {
-    LEFT,
-    RIGHT,
-    UP,
-    DOWN
-}
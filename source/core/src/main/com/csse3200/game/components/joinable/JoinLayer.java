@@ -1,8 +0,0 @@
-package com.csse3200.game.components.joinable;
-
-/**
- * Used by JoinableComponent to check if two entities should be joined.
- */
-public enum JoinLayer {
-    WALLS
-}
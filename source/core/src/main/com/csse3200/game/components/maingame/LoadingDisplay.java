@@ -0,0 +1,65 @@
+package com.csse3200.game.components.maingame;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.csse3200.game.ui.UIComponent;
+
+/**
+ * Displays a progress bar while a game area is being loaded.
+ */
+public class LoadingDisplay extends UIComponent {
+  private static final float Z_INDEX = 3f;
+  private Table table;
+  private ProgressBar progressBar;
+  private Label progressLabel;
+
+  @Override
+  public void create() {
+    super.create();
+    addActors();
+  }
+
+  private void addActors() {
+    table = new Table();
+    table.center();
+    table.setFillParent(true);
+
+    progressBar = new ProgressBar(0, 100, 1, false, skin);
+    progressLabel = new Label("Loading... 0%", skin);
+
+    table.add(progressLabel).padBottom(10f);
+    table.row();
+    table.add(progressBar).width(400f);
+
+    stage.addActor(table);
+  }
+
+  /**
+   * Show how far through loading the game area is.
+   *
+   * @param percent progress from 0 to 100
+   */
+  public void setProgress(int percent) {
+    progressBar.setValue(percent);
+    progressLabel.setText("Loading... " + percent + "%");
+  }
+
+  @Override
+  public void draw(SpriteBatch batch) {
+    // draw is handled by the stage
+  }
+
+  @Override
+  public float getZIndex() {
+    return Z_INDEX;
+  }
+
+  @Override
+  public void dispose() {
+    table.clear();
+    table.remove();
+    super.dispose();
+  }
+}
@@ -3,7 +3,7 @@ package com.csse3200.game.components.maingame;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.configs.PlayerConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.screens.PlanetScreen;
 import com.csse3200.game.services.PlanetTravel;
 import com.csse3200.game.services.ServiceLocator;
@@ -18,7 +18,7 @@ public class MainGameActions extends Component {
   private static final Logger logger = LoggerFactory.getLogger(MainGameActions.class);
   private GdxGame game;
   private static final PlayerConfig config =
-          FileLoader.readClass(PlayerConfig.class, "configs/player.json");
+          ConfigRegistry.get(PlayerConfig.class, "configs/player.json");
 
   public MainGameActions(GdxGame game) {
     this.game = game;
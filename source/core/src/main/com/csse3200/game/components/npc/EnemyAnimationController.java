@@ -31,6 +31,11 @@ public class EnemyAnimationController extends Component {
     entity.getEvents().trigger("standing");
   }
 
+  @Override
+  public void reactivate() {
+    entity.getEvents().trigger("standing");
+  }
+
 
   /**
    * Initialise animation
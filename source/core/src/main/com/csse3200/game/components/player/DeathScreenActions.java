@@ -3,7 +3,7 @@ package com.csse3200.game.components.player;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.configs.PlayerConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.screens.PlanetScreen;
 import com.csse3200.game.services.PlanetTravel;
 import com.csse3200.game.services.ServiceLocator;
@@ -22,7 +22,7 @@ public class DeathScreenActions extends Component {
     private GdxGame game;
     private int lives;
     private static final PlayerConfig config =
-            FileLoader.readClass(PlayerConfig.class, "configs/player.json");
+            ConfigRegistry.get(PlayerConfig.class, "configs/player.json");
 
     public DeathScreenActions(GdxGame game, int lives) { // Modify the constructor
         this.game = game;
@@ -4,6 +4,7 @@ import com.csse3200.game.components.Component;
 import com.csse3200.game.components.InteractableComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.services.ServiceLocator;
+import java.util.ArrayList;
 import java.util.List;
 
 public class InteractionControllerComponent extends Component {
@@ -17,7 +18,9 @@ public class InteractionControllerComponent extends Component {
      * have interact component, and will call interact() with between the two entities.
      */
     public void interact() {
-        List<Entity> entities = ServiceLocator.getEntityService().getEntitiesByComponent(InteractableComponent.class);
+        // Copied, since interacting can spawn or remove entities, which changes the live view
+        List<Entity> entities = new ArrayList<>(
+                ServiceLocator.getEntityService().getEntitiesByComponent(InteractableComponent.class));
         float minDist = Float.MAX_VALUE;
         Entity closest = null;
         for (Entity target : entities) {
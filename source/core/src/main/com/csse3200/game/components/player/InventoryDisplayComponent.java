@@ -1,7 +1,6 @@
 package com.csse3200.game.components.player;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -24,6 +23,7 @@ import java.util.Map;
 public class InventoryDisplayComponent extends UIComponent {
 
     private Map<Button, WeaponType> buttonWeaponMap = new HashMap<>();
+    private ArrayList<String> imagePaths = new ArrayList<>();
     Table table = new Table();
     InventoryComponent inventory;
     Entity player;
@@ -54,7 +54,8 @@ public class InventoryDisplayComponent extends UIComponent {
             Label nameLabel = new Label(config.name, skin,"thick");
             nameLabel.setColor(Color.BLACK);
             nameLabel.setFontScale(0.2f, 0.2f);
-            Image image = new Image( new Texture(config.imagePath));
+            Image image = new Image(ServiceLocator.getResourceService().acquireDrawable(config.imagePath));
+            imagePaths.add(config.imagePath);
             buttonTable.add(image).size(64, 64).row();
             buttonTable.add(nameLabel);
             updateButtonTableColor(button, weapon);
@@ -99,12 +100,27 @@ public class InventoryDisplayComponent extends UIComponent {
     void equipEvent() {
         table.clear();
         buttonWeaponMap.clear();
+        // Acquire the new images before releasing the old ones so shared textures stay loaded
+        ArrayList<String> oldImagePaths = imagePaths;
+        imagePaths = new ArrayList<>();
         makeTable();
+        releaseImages(oldImagePaths);
         for (Map.Entry<Button, WeaponType> entry : buttonWeaponMap.entrySet()) {
             updateButtonTableColor(entry.getKey(), entry.getValue());
         }
     }
 
+    /**
+     * Releases the weapon images shown by a table.
+     *
+     * @param paths paths of the images acquired for the table
+     */
+    private void releaseImages(ArrayList<String> paths) {
+        for (String path : paths) {
+            ServiceLocator.getResourceService().releaseDrawable(path);
+        }
+    }
+
     /**
      * Adds the main table to the stage.
      * Positions the table on the stage and sets its size.
@@ -135,4 +151,11 @@ public class InventoryDisplayComponent extends UIComponent {
     protected void draw(SpriteBatch batch) {
         // Handled by stage
     }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        releaseImages(imagePaths);
+        imagePaths.clear();
+    }
 }
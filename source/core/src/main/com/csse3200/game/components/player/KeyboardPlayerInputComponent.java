@@ -17,7 +17,6 @@ import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.utils.math.Vector2Utils;
 
 import java.util.HashMap;
-import java.util.Timer;
 
 
 /**d
@@ -312,8 +311,6 @@ public class KeyboardPlayerInputComponent extends InputComponent {
    * @return
    */
   public int triggerDodgeEvent() {
-
-      final Timer timer = new Timer();
     this.walkDirection = keysToVector().scl(DODGE_SPEED);
     Directions dir = keysToDirection();
 
@@ -337,16 +334,10 @@ public class KeyboardPlayerInputComponent extends InputComponent {
     }
 
 
-    java.util.TimerTask stopDodge = new java.util.TimerTask() {
-      @Override
-      public void run() {
-        triggerWalkEvent();
-        entity.getEvents().trigger("dodged");
-        timer.cancel();
-        timer.purge();
-      }
-    };
-    timer.schedule(stopDodge, DODGE_DURATION);
+    ServiceLocator.getTimerService().schedule(entity, () -> {
+      triggerWalkEvent();
+      entity.getEvents().trigger("dodged");
+    }, DODGE_DURATION / 1000f);
     return DODGE_DURATION;
   }
 
@@ -369,17 +360,10 @@ public class KeyboardPlayerInputComponent extends InputComponent {
    */
   public void dodge() {
     dodgeAvailable = false;
-    final Timer timer = new Timer();
-    java.util.TimerTask makeDodgeAvailable = new java.util.TimerTask() {
-      @Override
-      public void run() {
-        dodgeAvailable = true;
-        entity.getEvents().trigger("dodgeAvailable");
-        timer.cancel();
-        timer.purge();
-      }
-    };
-    timer.schedule(makeDodgeAvailable, DODGE_COOLDOWN);
+    ServiceLocator.getTimerService().schedule(entity, () -> {
+      dodgeAvailable = true;
+      entity.getEvents().trigger("dodgeAvailable");
+    }, DODGE_COOLDOWN / 1000f);
   }
 
     /**
@@ -6,15 +6,15 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Weapons.WeaponType;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.PlayerConfig;
 import com.csse3200.game.entities.configs.WeaponConfig;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
-import java.util.Timer;
-import java.util.TimerTask;
 
 
 /**
@@ -37,6 +37,7 @@ public class PlayerStatsDisplay extends UIComponent {
   private InventoryComponent inventory;
   private Label ammoLabel;
   private Table weaponImageTable;
+  private String weaponImagePath;
 
   /**
    * Constructor for the PlayerStatsDisplay
@@ -183,7 +184,7 @@ public class PlayerStatsDisplay extends UIComponent {
     ammoBarFrame = new Image(ServiceLocator.getResourceService().getAsset("images/player/widestatbar.png", Texture.class));
 
     WeaponConfig config = inventory.getConfigs().GetWeaponConfig(inventory.getEquippedType());
-    Image weaponImage = new Image( new Texture(config.imagePath));
+    Image weaponImage = new Image(acquireWeaponImage(config.imagePath));
     int currentAmmo = inventory.getCurrentAmmo();
     int maxAmmo = inventory.getCurrentMaxAmmo();
     CharSequence ammoText = String.format("%d / %d", currentAmmo, maxAmmo);
@@ -274,12 +275,27 @@ public class PlayerStatsDisplay extends UIComponent {
    */
   public void updateWeapon(WeaponType weapon) {
     WeaponConfig config = inventory.getConfigs().GetWeaponConfig(weapon);
-    Image weaponImage = new Image( new Texture(config.imagePath));
+    Image weaponImage = new Image(acquireWeaponImage(config.imagePath));
     weaponImageTable.clear();
     weaponImageTable.add(weaponImage).size(30f);
     updateAmmo(inventory.getCurrentAmmo(), inventory.getCurrentMaxAmmo(), inventory.getCurrentAmmoUse());
   }
 
+  /**
+   * Acquires the shared drawable of a weapon's image, releasing the one shown before it.
+   * @param imagePath path of the weapon's image
+   * @return shared drawable of the image
+   */
+  private Drawable acquireWeaponImage(String imagePath) {
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    Drawable drawable = resourceService.acquireDrawable(imagePath);
+    if (weaponImagePath != null) {
+      resourceService.releaseDrawable(weaponImagePath);
+    }
+    weaponImagePath = imagePath;
+    return drawable;
+  }
+
   /**
    * Alert for when maximum number of lives (3) has been reached. Is placed in the left corner below
    * number of lives player stats.
@@ -302,16 +318,8 @@ public class PlayerStatsDisplay extends UIComponent {
    */
   public void maxLivesReached() {
     maxLivesAlert(); // indicates to player that max number of lives has been reached
-    final Timer timer = new Timer();
-    TimerTask removeAlert = new TimerTask() {
-      @Override
-      public void run() {
-        maxLivesLabel.remove();
-        timer.cancel();
-        timer.purge();
-      }
-    };
-    timer.schedule(removeAlert, 3000); // removes alert after 1 second
+    // removes alert after 3 seconds
+    ServiceLocator.getTimerService().schedule(entity, maxLivesLabel::remove, 3f);
   }
 
   @Override
@@ -322,5 +330,9 @@ public class PlayerStatsDisplay extends UIComponent {
     healthBarFill.remove();
     dodgeBarFill.remove();
     livesBarFill.remove();
+    if (weaponImagePath != null) {
+      ServiceLocator.getResourceService().releaseDrawable(weaponImagePath);
+      weaponImagePath = null;
+    }
   }
 }
@@ -1,20 +1,24 @@
 package com.csse3200.game.components.resources;
 
-import com.badlogic.gdx.Gdx;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.player.IAlpha;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
 import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ui.UIComponent;
 
+import java.util.List;
+
 public class PopupComponent extends Component {
     GameTime timer;
     double startTime;
     double lastTime;
     double speed;
     int duration;
+    private List<IAlpha> fadingComponents;
+    private boolean expired = false;
 
     /**
      * Popup Component
@@ -34,6 +38,21 @@ public class PopupComponent extends Component {
         this.duration = duration;
     }
 
+    @Override
+    public void create() {
+        fadingComponents = entity.getComponents(IAlpha.class);
+    }
+
+    /**
+     * Restart the popup when it is reused from a pool.
+     */
+    @Override
+    public void reactivate() {
+        this.startTime = this.timer.getTime();
+        this.lastTime = this.startTime;
+        this.expired = false;
+    }
+
     @Override
     public void update() {
         super.update();
@@ -42,13 +61,17 @@ public class PopupComponent extends Component {
         double lifespan = this.timer.getTimeSince((long) startTime);
         lastTime = timer.getTime();
 
-        if (lifespan > duration) {
-            Gdx.app.postRunnable(entity::dispose);
+        if (lifespan > duration && !expired) {
+            expired = true;
+            ServiceLocator.getEntityService().destroy(entity);
         }
 
 
-        this.entity.setPosition(this.entity.getPosition().x, (float) (this.entity.getPosition().y + since * speed));
-        this.entity.getComponents(IAlpha.class).forEach(component -> component.setAlpha(1.0F - (float) (lifespan / duration)));
+        this.entity.setPosition(this.entity.getPositionX(), (float) (this.entity.getPositionY() + since * speed));
+        float alpha = 1.0F - (float) (lifespan / duration);
+        for (int i = 0; i < fadingComponents.size(); i++) {
+            fadingComponents.get(i).setAlpha(alpha);
+        }
     }
 
     /**
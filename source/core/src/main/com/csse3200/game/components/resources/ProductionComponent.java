@@ -2,13 +2,14 @@ package com.csse3200.game.components.resources;
 
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.components.Thinker;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.factories.PopupFactory;
-import com.csse3200.game.services.GameStateObserver;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ResourceLedger;
 import com.csse3200.game.services.ServiceLocator;
 
-public class ProductionComponent extends Component {
+public class ProductionComponent extends Component implements Thinker {
 
     // Timer used to track time since last tick
     GameTime timer;
@@ -22,6 +23,9 @@ public class ProductionComponent extends Component {
     // The time of the last tick
     long lastTime;
 
+    // Ticks due this frame, worked out in the think phase, or -1 if think hasn't run
+    int ticksDue = -1;
+
     public Resource getProduces() {
         return produces;
     }
@@ -70,30 +74,52 @@ public class ProductionComponent extends Component {
         return (long) 1.0;
     }
 
+    /**
+     * Works out how many ticks are due this frame. Production itself happens in update, since it
+     * triggers events and spawns popups.
+     */
+    @Override
+    public void think() {
+        ticksDue = countTicksDue();
+    }
+
+    private int countTicksDue() {
+        return (int) Math.max(0, (this.timer.getTime() - this.lastTime) / this.tickRate);
+    }
+
     @Override
     public void update() {
         // Grab useful services and components:
-        GameStateObserver gameStateObserver = ServiceLocator.getGameStateObserverService();
+        ResourceLedger resourceLedger = ServiceLocator.getGameStateObserverService().getResourceLedger();
         CombatStatsComponent combatStats = this.getEntity().getComponent(CombatStatsComponent.class);
 
-        // If our health JUST crossed a threshold, we notify the observer
+        // If our health JUST crossed a threshold, we update the extractor count
         if (combatStats != null && combatStats.getHealth() <= 0 && !this.damaged) {
             this.damaged = true;
-            gameStateObserver.trigger("extractorsAdd", this.produces.toString(), -1);
+            resourceLedger.addExtractors(this.produces, -1);
         } else if (combatStats != null && combatStats.getHealth() > 0 && this.damaged) {
-            gameStateObserver.trigger("extractorsAdd", this.produces.toString(), 1);
+            resourceLedger.addExtractors(this.produces, 1);
             this.damaged = false;
         }
 
         super.update();
-        while (this.timer.getTime() - this.lastTime >= this.tickRate ) {
+        int ticks = this.ticksDue >= 0 ? this.ticksDue : countTicksDue();
+        this.ticksDue = -1;
+        int produced = 0;
+        for (int i = 0; i < ticks; i++) {
             this.getEntity().getEvents().trigger("produceResource", this.produces, this.tickSize);
-            int produced = (int) ((long) this.tickSize * this.getProductionModifier());
-            gameStateObserver.trigger("resourceAdd", this.produces.toString(), produced);
+            produced += (int) ((long) this.tickSize * this.getProductionModifier());
             this.lastTime += this.tickRate;
+        }
+        if (ticks == 0) {
+            return;
+        }
 
-            if (!this.damaged) {
-                Entity popup = new PopupFactory().createPopup(this.produces);
+        // One change for all the ticks caught up on this frame
+        resourceLedger.add(this.produces, produced);
+        if (!this.damaged) {
+            for (int i = 0; i < ticks; i++) {
+                Entity popup = PopupFactory.createPopup(this.produces);
                 ServiceLocator.getEntityPlacementService().PlaceEntityAt(popup, this.entity.getPosition().add(this.entity.getScale().scl(0.65F)));
             }
         }
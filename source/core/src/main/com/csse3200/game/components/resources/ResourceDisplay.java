@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Stack;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.csse3200.game.services.ResourceLedger;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
@@ -28,6 +29,8 @@ public class ResourceDisplay extends UIComponent {
     int maxResource = 1000; // TODO make this a reference to gamestate and actually work
     int maxExtractors = 4; // Defines the maximum amount of extractors per bar
     int steps = 64; // The number of intervals on the progress bar (rounds the percentages to this amount of steps)
+    ResourceLedger drawnLedger; // The ledger and version the bars were last sized from
+    long drawnVersion = -1;
 
     /**
      * Constructor for the ResourceDisplay.
@@ -91,6 +94,7 @@ public class ResourceDisplay extends UIComponent {
      */
     public ResourceDisplay withResource(Resource resource) {
         this.resources.add(resource);
+        this.drawnVersion = -1;
 
         Image barForegroundImage= new Image(ServiceLocator.getResourceService().getAsset("images/resources/resourcebar_foreground.png", Texture.class));
         Image barBackgroundImage= new Image(ServiceLocator.getResourceService().getAsset("images/resources/resourcebar_background.png", Texture.class));
@@ -140,28 +144,26 @@ public class ResourceDisplay extends UIComponent {
 
     /**
      * Draws the resource bars on the screen.
-     * The drawing is managed by the stage.
+     * The drawing is managed by the stage, and the bars are only resized when the resource ledger changes.
      *
      * @param batch The SpriteBatch used for drawing.
      */
     @Override
     public void draw(SpriteBatch batch)  {
         // draw is handled by the stage
+        ResourceLedger ledger = ServiceLocator.getGameStateObserverService().getResourceLedger();
+        long version = ledger.getVersion();
+        if (ledger == this.drawnLedger && version == this.drawnVersion) {
+            return;
+        }
+
         for (Resource resource : this.resources) {
-            Object count = ServiceLocator.getGameStateObserverService().getStateData("extractors/" + resource.toString());
-            if (count != null) {
-                this.setExtractorCount(resource, (Integer) count);
-            } else {
-                this.setExtractorCount(resource, 0);
-            }
-
-            Object quantity = ServiceLocator.getGameStateObserverService().getStateData("resource/" + resource.toString());
-            if (quantity != null) {
-                int value = (int) quantity;
-                setWidth(resource, Math.min((double) Math.round((float) value / (float) maxResource * this.steps) / this.steps, 1.0));
-            } else {
-                setWidth(resource, 0.0);
-            }
+            this.setExtractorCount(resource, ledger.getExtractors(resource));
+
+            int value = ledger.getAmount(resource);
+            setWidth(resource, Math.min((double) Math.round((float) value / (float) maxResource * this.steps) / this.steps, 1.0));
         }
+        this.drawnLedger = ledger;
+        this.drawnVersion = version;
     }
 }
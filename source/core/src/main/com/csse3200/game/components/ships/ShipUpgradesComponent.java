@@ -1,8 +1,8 @@
 package com.csse3200.game.components.ships;
 
-import com.badlogic.gdx.Gdx;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Represents the upgrades for ship
@@ -45,7 +45,7 @@ public class ShipUpgradesComponent extends Component {
         }
 
         if (entity != null) {
-            Gdx.app.postRunnable(entity::dispose);
+            ServiceLocator.getEntityService().destroy(entity);
         }
     }
 
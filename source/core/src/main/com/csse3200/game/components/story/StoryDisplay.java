@@ -4,16 +4,14 @@
  */
 package com.csse3200.game.components.story;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
-import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.components.mainmenu.InsertButtons;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +30,7 @@ public class StoryDisplay extends UIComponent {
     private ArrayList<String> storyImages;
     private int start;
     private int end;
+    private String backgroundPath;
 
     private static final String[] buttonImages = {"images/interface/next_cut.png", "images/prev-cut.png"};
 
@@ -61,9 +60,7 @@ public class StoryDisplay extends UIComponent {
         start = 0;
         end = 6;
 
-        Texture storyLine = new Texture(Gdx.files.internal(storyImages.get(start)));
-        TextureRegionDrawable storyBackground = new TextureRegionDrawable(storyLine);
-        table.setBackground(storyBackground);
+        showImage(storyImages.get(start));
 
         start += 1;
         stage.addActor(table);
@@ -129,8 +126,7 @@ public class StoryDisplay extends UIComponent {
      */
     private void nextScene() {
         if (start < end) {
-            Drawable next = new TextureRegionDrawable(new Texture(Gdx.files.internal(storyImages.get(start))));
-            table.setBackground(next);
+            showImage(storyImages.get(start));
             start += 1;
         } else {
             entity.getEvents().trigger("skip");
@@ -142,12 +138,25 @@ public class StoryDisplay extends UIComponent {
      */
     private void prevScene() {
         if (end - start > 0 && start > 0) {
-            Drawable prev = new TextureRegionDrawable(new Texture(Gdx.files.internal(storyImages.get(start - 1))));
-            table.setBackground(prev);
+            showImage(storyImages.get(start - 1));
             start -= 1;
         }
     }
 
+    /**
+     * Shows a story image as the background, releasing the image shown before it.
+     *
+     * @param imagePath path of the story image
+     */
+    private void showImage(String imagePath) {
+        ResourceService resourceService = ServiceLocator.getResourceService();
+        table.setBackground(resourceService.acquireDrawable(imagePath));
+        if (backgroundPath != null) {
+            resourceService.releaseDrawable(backgroundPath);
+        }
+        backgroundPath = imagePath;
+    }
+
     @Override
     public float getZIndex() {
         return Z_INDEX;
@@ -157,6 +166,10 @@ public class StoryDisplay extends UIComponent {
     public void dispose() {
         table.clear();
         stage.clear();
+        if (backgroundPath != null) {
+            ServiceLocator.getResourceService().releaseDrawable(backgroundPath);
+            backgroundPath = null;
+        }
         super.dispose();
     }
 }
@@ -13,20 +13,37 @@ import com.csse3200.game.services.ServiceLocator;
 public class CostComponent extends Component implements Placeable {
 
     private final ObjectMap<String, Integer> cost;
+    // Whether the cost of the next placement has already been taken
+    private boolean paid;
 
     /**
      * Creates a new CostComponent with the given cost.
      * @param cost - the cost to charge the player when placed.
      */
     public CostComponent(ObjectMap<String, Integer> cost) {
+        this(cost, false);
+    }
+
+    /**
+     * Creates a new CostComponent with the given cost.
+     * @param cost - the cost to charge the player when placed.
+     * @param paid - whether the player has already paid for the first placement, e.g. by a tool.
+     */
+    public CostComponent(ObjectMap<String, Integer> cost, boolean paid) {
         this.cost = cost;
+        this.paid = paid;
     }
 
     /**
-     * Charges the player the specified cost of the structure.
+     * Charges the player the specified cost of the structure, unless it has already been paid.
      */
     @Override
     public void placed() {
+        if (paid) {
+            paid = false;
+            return;
+        }
+
         for (var elementCost : cost.entries()) {
             addResource(elementCost.key, -elementCost.value);
         }
@@ -5,8 +5,23 @@ package com.csse3200.game.components.structures;
  * a join between elements.
  */
 public enum JoinDirection {
-    LEFT,
-    RIGHT,
-    UP,
-    DOWN
+    LEFT(1),
+    RIGHT(4),
+    UP(2),
+    DOWN(8);
+
+    private final int mask;
+
+    JoinDirection(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Retrieves the bit set in a join mask when joined in this direction.
+     *
+     * @return the direction's bit.
+     */
+    public int getMask() {
+        return mask;
+    }
 }
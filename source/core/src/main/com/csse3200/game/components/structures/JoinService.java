@@ -0,0 +1,83 @@
+package com.csse3200.game.components.structures;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Batches the join updates of {@link JoinableComponent}s for a screen.
+ *
+ * <p>Changing a join only queues the component here; {@link #resolve()} then updates the texture
+ * and shape of every queued component together, and should be called once per frame after entities
+ * have been updated. Regions for each join mask are also looked up once per atlas and shared.
+ * The service belongs to the screen which registers it, and should be cleared along with the screen.
+ */
+public class JoinService {
+    private final Map<TextureAtlas, TextureAtlas.AtlasRegion[]> regionTables = new HashMap<>();
+    private final Array<JoinableComponent> dirtyJoins = new Array<>(false, 16);
+
+    /**
+     * Updates the texture and shape of every component whose joins changed since the last call.
+     */
+    public void resolve() {
+        for (int i = 0; i < dirtyJoins.size; i++) {
+            dirtyJoins.get(i).resolveJoin();
+        }
+        dirtyJoins.clear();
+    }
+
+    /**
+     * @return number of components waiting to be resolved
+     */
+    public int getDirtyCount() {
+        return dirtyJoins.size;
+    }
+
+    /**
+     * Forgets every queued component and cached region, e.g. when the screen is disposed.
+     */
+    public void clear() {
+        for (int i = 0; i < dirtyJoins.size; i++) {
+            dirtyJoins.get(i).cancelJoin();
+        }
+        dirtyJoins.clear();
+        regionTables.clear();
+    }
+
+    /**
+     * Queues a component to be resolved at the end of the frame.
+     *
+     * @param component - the component whose joins changed.
+     */
+    void queue(JoinableComponent component) {
+        dirtyJoins.add(component);
+    }
+
+    /**
+     * Removes a component from the queue without resolving it, e.g. when it is disposed.
+     *
+     * @param component - the component to remove.
+     */
+    void remove(JoinableComponent component) {
+        dirtyJoins.removeValue(component, true);
+    }
+
+    /**
+     * Looks up the region for a join mask in the given atlas, remembering it for every
+     * component using the same atlas.
+     *
+     * @param atlas - the atlas to look in.
+     * @param mask - the join mask.
+     * @return the region for the given mask.
+     */
+    TextureAtlas.AtlasRegion getRegion(TextureAtlas atlas, int mask) {
+        TextureAtlas.AtlasRegion[] regions =
+                regionTables.computeIfAbsent(atlas, key -> new TextureAtlas.AtlasRegion[JoinableComponent.JOIN_MASKS]);
+        if (regions[mask] == null) {
+            regions[mask] = atlas.findRegion(JoinableComponent.getRegionName(mask));
+        }
+        return regions[mask];
+    }
+}
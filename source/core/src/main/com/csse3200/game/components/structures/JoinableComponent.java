@@ -2,7 +2,6 @@ package com.csse3200.game.components.structures;
 
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.GridPoint2;
-import com.badlogic.gdx.physics.box2d.Shape;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.PlaceableEntity;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -10,26 +9,57 @@ import com.csse3200.game.rendering.AtlasRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.StructurePlacementService;
 
-import java.util.ArrayList;
 import java.util.EnumMap;
-import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * This component is used to change the texture and collision bounds of an entity
  * depending on its neighbours.
+ *
+ * <p>The directions an entity is joined in are kept as a 4-bit mask (see {@link JoinDirection#getMask()}).
+ * Changing a join only queues the component on the screen's {@link JoinService}, which updates the
+ * texture and shape of every queued component together at the end of the frame, so a wall which is
+ * re-joined several times in one frame is only rebuilt once, and not at all if its mask ends up
+ * unchanged. Regions and shapes for each mask are looked up once and shared. Without a join service
+ * the texture and shape are updated straight away.
  */
 public class JoinableComponent extends AtlasRenderComponent implements Placeable {
-    private final Map<JoinDirection, Boolean> joinedInDirectionMap;
+    /** The number of distinct join masks. */
+    public static final int JOIN_MASKS = 16;
+
+    private static final Map<JoinDirection, GridPoint2> DIRECTION_MATRICES =  new EnumMap<>(JoinDirection.class);
+    // Texture region and shape id of each mask, with joins listed in left-up-right-down order
+    private static final String[] REGION_NAMES = new String[JOIN_MASKS];
+
     private final JoinLayer layer;
     private final JoinableComponentShapes shapes;
-    private static final Map<JoinDirection, GridPoint2> DIRECTION_MATRICES =  new EnumMap<>(JoinDirection.class);
+    // The directions currently joined in, and those the texture and shape were last built for
+    private int joinMask = 0;
+    private int appliedMask = -1;
+    private boolean dirty = false;
+    private boolean removed = false;
 
     static {
         DIRECTION_MATRICES.put(JoinDirection.UP, new GridPoint2(0,-2));
         DIRECTION_MATRICES.put(JoinDirection.DOWN, new GridPoint2(0,2));
         DIRECTION_MATRICES.put(JoinDirection.LEFT, new GridPoint2(2,0));
         DIRECTION_MATRICES.put(JoinDirection.RIGHT, new GridPoint2(-2,0));
+
+        JoinDirection[] nameOrder = {JoinDirection.LEFT, JoinDirection.UP, JoinDirection.RIGHT, JoinDirection.DOWN};
+        REGION_NAMES[0] = "no-connection";
+        for (int mask = 1; mask < JOIN_MASKS; mask++) {
+            StringBuilder name = new StringBuilder();
+            for (JoinDirection direction : nameOrder) {
+                if ((mask & direction.getMask()) != 0) {
+                    if (name.length() > 0) {
+                        name.append('-');
+                    }
+                    name.append(direction.name().toLowerCase(Locale.ROOT));
+                }
+            }
+            REGION_NAMES[mask] = name.toString();
+        }
     }
 
     /**
@@ -64,15 +94,29 @@ public class JoinableComponent extends AtlasRenderComponent implements Placeable
 
         this.layer = layer;
         this.shapes = shapes;
+    }
 
-        joinedInDirectionMap = new EnumMap<>(JoinDirection.class) {
-            {
-                put(JoinDirection.UP, false);
-                put(JoinDirection.DOWN, false);
-                put(JoinDirection.LEFT, false);
-                put(JoinDirection.RIGHT, false);
-            }
-        };
+    /**
+     * Gets the id of the texture region and collision shape for a join mask,
+     * e.g. "left-right" or "no-connection".
+     *
+     * @param mask - the join mask.
+     * @return the id for the given mask.
+     */
+    public static String getRegionName(int mask) {
+        return REGION_NAMES[mask];
+    }
+
+    /**
+     * Looks up the region for a join mask in the given atlas, through the join service's shared
+     * regions if there is one.
+     */
+    private static TextureAtlas.AtlasRegion getRegion(TextureAtlas atlas, int mask) {
+        JoinService joinService = ServiceLocator.getJoinService();
+        if (joinService == null) {
+            return atlas.findRegion(REGION_NAMES[mask]);
+        }
+        return joinService.getRegion(atlas, mask);
     }
 
 
@@ -83,57 +127,55 @@ public class JoinableComponent extends AtlasRenderComponent implements Placeable
      * @param isJoined - whether the entity is joined in the given direction.
      */
     public void updateJoin(JoinDirection direction, boolean isJoined) {
-        joinedInDirectionMap.put(direction, isJoined);
-        updateAtlasTexture();
-        updateShape();
+        if (isJoined) {
+            joinMask |= direction.getMask();
+        } else {
+            joinMask &= ~direction.getMask();
+        }
+        markDirty();
     }
 
     /**
-     * Updates the entities collision shape to match the new cardinalities.
+     * Retrieves the directions the entity is joined in.
+     *
+     * @return the join mask.
      */
-    private void updateShape() {
-        Shape shape = shapes.getShape(deriveCardinalityId());
-
-        entity.getComponent(ColliderComponent.class).setShape(shape);
+    public int getJoinMask() {
+        return joinMask;
     }
 
     /**
-     * Updates the entities texture to match the new cardinalities.
+     * Queues the component to have its texture and shape updated at the end of the frame.
      */
-    private void updateAtlasTexture() {
-        setRegion(deriveCardinalityId(), false);
+    private void markDirty() {
+        JoinService joinService = ServiceLocator.getJoinService();
+        if (joinService == null) {
+            resolveJoin();
+        } else if (!dirty) {
+            dirty = true;
+            joinService.queue(this);
+        }
     }
 
     /**
-     * Derives the id for the current cardinality which can be used to fetch
-     * the collision shape and texture.
-     *
-     * @return the cardinalities' id.
+     * Drops a queued update without applying it, when the join service is cleared.
      */
-    private String deriveCardinalityId() {
-        List<String> regions = new ArrayList<>();
-
-        if (Boolean.TRUE.equals(joinedInDirectionMap.get(JoinDirection.LEFT))) {
-            regions.add("left");
-        }
-
-        if (Boolean.TRUE.equals(joinedInDirectionMap.get(JoinDirection.UP))) {
-            regions.add("up");
-        }
-
-        if (Boolean.TRUE.equals(joinedInDirectionMap.get(JoinDirection.RIGHT))) {
-            regions.add("right");
-        }
-
-        if (Boolean.TRUE.equals(joinedInDirectionMap.get(JoinDirection.DOWN))) {
-            regions.add("down");
-        }
+    void cancelJoin() {
+        dirty = false;
+    }
 
-        if (!regions.isEmpty()) {
-            return String.join("-", regions);
+    /**
+     * Updates the entities texture and collision shape to match the join mask, if it changed.
+     */
+    void resolveJoin() {
+        dirty = false;
+        if (removed || entity == null || joinMask == appliedMask) {
+            return;
         }
+        appliedMask = joinMask;
 
-        return "no-connection";
+        setRegion(getRegion(getAtlas(), joinMask), false);
+        entity.getComponent(ColliderComponent.class).setShape(shapes.getShape(joinMask));
     }
 
     /**
@@ -198,7 +240,7 @@ public class JoinableComponent extends AtlasRenderComponent implements Placeable
      * @param atlas - new atlas.
      */
     public void updateTextureAtlas(TextureAtlas atlas) {
-        updateTextureAtlas(atlas, deriveCardinalityId());
+        updateTextureAtlas(atlas, getRegion(atlas, joinMask));
     }
 
     /**
@@ -220,14 +262,16 @@ public class JoinableComponent extends AtlasRenderComponent implements Placeable
         Entity left = structurePlacementService.getStructureAt(centrePosition.cpy().add(-2,0));
         Entity right = structurePlacementService.getStructureAt(centrePosition.cpy().add(2,0));
 
-        // adds whether there is a wall in each direction to the JoinDirection array.
-        joinedInDirectionMap.put(JoinDirection.UP, isEntityJoinable(up));
-        joinedInDirectionMap.put(JoinDirection.DOWN, isEntityJoinable(down));
-        joinedInDirectionMap.put(JoinDirection.LEFT, isEntityJoinable(left));
-        joinedInDirectionMap.put(JoinDirection.RIGHT, isEntityJoinable(right));
+        // sets the bit for each direction with a wall in it.
+        joinMask = 0;
+        joinMask |= isEntityJoinable(up) ? JoinDirection.UP.getMask() : 0;
+        joinMask |= isEntityJoinable(down) ? JoinDirection.DOWN.getMask() : 0;
+        joinMask |= isEntityJoinable(left) ? JoinDirection.LEFT.getMask() : 0;
+        joinMask |= isEntityJoinable(right) ? JoinDirection.RIGHT.getMask() : 0;
 
-        updateAtlasTexture();
-        updateShape();
+        removed = false;
+        appliedMask = -1;
+        markDirty();
 
         notifyNeighbours(true);
     }
@@ -237,7 +281,19 @@ public class JoinableComponent extends AtlasRenderComponent implements Placeable
      */
     @Override
     public void willRemove() {
+        removed = true;
         notifyNeighbours(false);
     }
+
+    @Override
+    public void dispose() {
+        removed = true;
+        JoinService joinService = ServiceLocator.getJoinService();
+        if (dirty && joinService != null) {
+            joinService.remove(this);
+            dirty = false;
+        }
+        super.dispose();
+    }
 }
 
@@ -11,15 +11,34 @@ import com.badlogic.gdx.utils.ObjectMap;
 public class JoinableComponentShapes {
     public ObjectMap<String, Vector2[]> vertices;
 
+    // One shape per join mask, shared by every fixture. Box2D copies the shape into each fixture.
+    private final transient ChainShape[] sharedShapes = new ChainShape[JoinableComponent.JOIN_MASKS];
+
     /**
      * Gets the shape with the given id.
      *
      * @param id - the cardinalities' id.
-     * @return the shape for the given cardinality id.
+     * @return a new shape for the given cardinality id, which the caller owns.
      */
     public ChainShape getShape(String id) {
         ChainShape shape = new ChainShape();
         shape.createChain(vertices.get(id));
         return shape;
     }
+
+    /**
+     * Gets the shared shape for the given join mask. The shape is created the first time the
+     * mask is used and must not be disposed or changed by the caller.
+     *
+     * @param mask - the join mask, see {@link JoinDirection#getMask()}.
+     * @return the shape for the given join mask.
+     */
+    public ChainShape getShape(int mask) {
+        ChainShape shape = sharedShapes[mask];
+        if (shape == null) {
+            shape = getShape(JoinableComponent.getRegionName(mask));
+            sharedShapes[mask] = shape;
+        }
+        return shape;
+    }
 }
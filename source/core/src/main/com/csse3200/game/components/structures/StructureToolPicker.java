@@ -14,7 +14,7 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Scaling;
 import com.csse3200.game.components.structures.tools.Tool;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 import org.slf4j.Logger;
@@ -38,7 +38,7 @@ public class StructureToolPicker extends UIComponent {
     private final HashSet<String> unlockedTools;
 
     private final ToolsConfig structureTools =
-            FileLoader.readClass(ToolsConfig.class, "configs/structure_tools.json");
+            ConfigRegistry.get(ToolsConfig.class, "configs/structure_tools.json");
     private Tool selectedTool;
 
     /**
@@ -44,12 +44,12 @@ public class IntermediateWallTool extends PlacementTool {
             return false;
         }
 
-        if (!hasEnoughResources()) {
+        if (!spendResources()) {
             return false;
         }
 
         PlaceableEntity newStructure = createStructure(player);
-        newStructure.addComponent(new CostComponent(cost));
+        newStructure.addComponent(new CostComponent(cost, true));
 
         ServiceLocator.getStructurePlacementService().replaceStructureAt(newStructure, position, false, false);
 
@@ -6,7 +6,6 @@ import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.components.structures.CostComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.PlaceableEntity;
-import com.csse3200.game.services.GameStateObserver;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -41,12 +40,12 @@ public abstract class PlacementTool extends Tool {
             return false;
         }
 
-        if (!hasEnoughResources()) {
+        if (!spendResources()) {
             player.getEvents().trigger("displayWarningAtPosition", "Insufficient resources",
                     new Vector2((float) position.x / 2, (float) position.y / 2));
             return false;
         }
-        newStructure.addComponent(new CostComponent(cost));
+        newStructure.addComponent(new CostComponent(cost, true));
 
         ServiceLocator.getStructurePlacementService().placeStructureAt(newStructure, position, false, false);
 
@@ -78,20 +77,16 @@ public abstract class PlacementTool extends Tool {
      * @return whether the player has sufficient resources to place the structure.
      */
     public boolean hasEnoughResources() {
-        GameStateObserver stateObserver = ServiceLocator.getGameStateObserverService();
-
-        for (var resourceCost : cost.entries()) {
-            var availableResources = stateObserver.getStateData("resource/" + resourceCost.key);
-
-            if (!(availableResources instanceof Integer)) {
-                return false;
-            }
-
-            if ((int)availableResources < resourceCost.value) {
-                return false;
-            }
-        }
+        return cost.isEmpty() || ServiceLocator.getGameStateObserverService().getResourceLedger().canAfford(cost);
+    }
 
-        return true;
+    /**
+     * Takes the cost of the structure from the player's resources in one transaction, so the check
+     * and the charge can't be split by another change.
+     *
+     * @return whether the player could pay. Nothing is taken if they could not.
+     */
+    protected boolean spendResources() {
+        return cost.isEmpty() || ServiceLocator.getGameStateObserverService().getResourceLedger().trySpend(cost);
     }
 }
@@ -6,7 +6,6 @@ import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.components.structures.CostComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.PlaceableEntity;
-import com.csse3200.game.services.GameStateObserver;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -41,12 +40,12 @@ public abstract class ReplacementTool extends PlacementTool {
             return false;
         }
 
-        if (!hasEnoughResources()) {
+        if (!spendResources()) {
             player.getEvents().trigger("displayWarningAtPosition", "Insufficient resources",
                     new Vector2((float) position.x / 2, (float) position.y / 2));
             return false;
         }
-        newStructure.addComponent(new CostComponent(cost));
+        newStructure.addComponent(new CostComponent(cost, true));
 
         ServiceLocator.getStructurePlacementService().replaceStructureAt(newStructure, position, false, false);
 
@@ -78,20 +77,6 @@ public abstract class ReplacementTool extends PlacementTool {
      * @return whether the player has sufficient resources to place the structure.
      */
     public boolean hasEnoughResources() {
-        GameStateObserver stateObserver = ServiceLocator.getGameStateObserverService();
-
-        for (var resourceCost : cost.entries()) {
-            var availableResources = stateObserver.getStateData("resource/" + resourceCost.key);
-
-            if (!(availableResources instanceof Integer)) {
-                return false;
-            }
-
-            if ((int)availableResources < resourceCost.value) {
-                return false;
-            }
-        }
-
-        return true;
+        return cost.isEmpty() || ServiceLocator.getGameStateObserverService().getResourceLedger().canAfford(cost);
     }
 }
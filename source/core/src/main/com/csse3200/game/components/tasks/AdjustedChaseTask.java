@@ -1,31 +1,28 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.LineOfSightCache;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
-import com.csse3200.game.physics.PhysicsEngine;
-import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.raycast.RaycastHit;
-import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
-import com.badlogic.gdx.utils.Timer;
+import com.csse3200.game.services.TimerHandle;
 
 import static java.lang.Math.abs;
 
 /** Chases a target entity until they get too far away or line of sight is lost. Additional functionality
  * so that it actively checks if entity is stuck behind an object when chasing and adjusts movement. */
 public class AdjustedChaseTask extends DefaultTask implements PriorityTask {
+  private static final float DIRECTION_CHECK_DELAY = 0.5f;
   private final Entity target;
   private final int priority;
   private final float viewDistance;
   private final float maxChaseDistance;
   private final float shootDistance;
-  private final PhysicsEngine physics;
-  private final DebugRenderer debugRenderer;
-  private final RaycastHit hit = new RaycastHit();
+  private final LineOfSightCache lineOfSight;
   private MovementTask movementTask;
   private Vector2 lastPos;
+  private TimerHandle directionCheck;
   boolean isStuck = false;
 
   /**
@@ -40,8 +37,7 @@ public class AdjustedChaseTask extends DefaultTask implements PriorityTask {
     this.viewDistance = viewDistance;
     this.maxChaseDistance = maxChaseDistance;
     this.shootDistance = 0;
-    physics = ServiceLocator.getPhysicsService().getPhysics();
-    debugRenderer = ServiceLocator.getRenderService().getDebug();
+    lineOfSight = new LineOfSightCache();
   }
 
   @Override
@@ -59,14 +55,13 @@ public class AdjustedChaseTask extends DefaultTask implements PriorityTask {
       this.owner.getEntity().getEvents().trigger("chaseStart");
     }
 
-    Timer.schedule(new Timer.Task(){
-      @Override
-      public void run() {
-        if(getDirection(target.getPosition() )!= direction){
-          start();
-        }
+    // Restart if the target has switched sides, so the animation faces the right way
+    cancelDirectionCheck();
+    directionCheck = ServiceLocator.getTimerService().schedule(owner.getEntity(), () -> {
+      if (getDirection(target.getPosition()) != direction) {
+        start();
       }
-    },500);
+    }, DIRECTION_CHECK_DELAY);
 
   }
 
@@ -89,9 +84,17 @@ public class AdjustedChaseTask extends DefaultTask implements PriorityTask {
     }
   }
 
+  private void cancelDirectionCheck() {
+    if (directionCheck != null) {
+      directionCheck.cancel();
+      directionCheck = null;
+    }
+  }
+
   @Override
   public void stop() {
     super.stop();
+    cancelDirectionCheck();
     movementTask.stop();
   }
 
@@ -125,16 +128,7 @@ public class AdjustedChaseTask extends DefaultTask implements PriorityTask {
   }
 
   private boolean isTargetVisible() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Vector2 to = target.getCenterPosition();
-
-    // If there is an obstacle in the path to the player, not visible.
-    if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-      debugRenderer.drawLine(from, hit.point);
-      return false;
-    }
-    debugRenderer.drawLine(from, to);
-    return true;
+    return lineOfSight.isVisible(owner.getEntity(), target);
   }
 
   /**
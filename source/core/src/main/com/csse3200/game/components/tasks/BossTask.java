@@ -1,35 +1,32 @@
 package com.csse3200.game.components.tasks;
 
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.ai.LineOfSightCache;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.ai.tasks.Task;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
-import com.csse3200.game.physics.PhysicsEngine;
-import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.raycast.RaycastHit;
-import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
-import com.badlogic.gdx.utils.Timer;
+import com.csse3200.game.services.TimerHandle;
 
 /**
  * BossTask controls actions of the Boss Entity. Responsible for attacking
  * and movement.
  */
 public class BossTask extends DefaultTask implements PriorityTask {
+  private static final float DIRECTION_CHECK_DELAY = 0.5f;
   private final Entity target;
   private final int priority;
   private final float viewDistance;
   private final float maxChaseDistance;
-  private final PhysicsEngine physics;
-  private final DebugRenderer debugRenderer;
-  private final RaycastHit hit = new RaycastHit();
+  private final LineOfSightCache lineOfSight;
   private MovementTask movementTask;
   private Task currentTask;
   private SpecialAttackTask specialAttackTask;
   private boolean unleashed;
   private boolean attackReady;
+  private TimerHandle directionCheck;
 
   /**
    * @param target The entity to chase.
@@ -42,8 +39,7 @@ public class BossTask extends DefaultTask implements PriorityTask {
     this.priority = priority;
     this.viewDistance = viewDistance;
     this.maxChaseDistance = maxChaseDistance;
-    physics = ServiceLocator.getPhysicsService().getPhysics();
-    debugRenderer = ServiceLocator.getRenderService().getDebug();
+    lineOfSight = new LineOfSightCache();
   }
 
   /**
@@ -73,14 +69,13 @@ public class BossTask extends DefaultTask implements PriorityTask {
       this.owner.getEntity().getEvents().trigger("chaseStart");
     }
 
-    Timer.schedule(new Timer.Task(){
-      @Override
-      public void run() {
-        if(getDirection(target.getPosition() )!= direction){
-          start();
-        }
+    // Restart if the target has switched sides, so the animation faces the right way
+    cancelDirectionCheck();
+    directionCheck = ServiceLocator.getTimerService().schedule(owner.getEntity(), () -> {
+      if (getDirection(target.getPosition()) != direction) {
+        start();
       }
-    },500);
+    }, DIRECTION_CHECK_DELAY);
   }
 
   @Override
@@ -107,9 +102,17 @@ public class BossTask extends DefaultTask implements PriorityTask {
     currentTask.update();
   }
 
+  private void cancelDirectionCheck() {
+    if (directionCheck != null) {
+      directionCheck.cancel();
+      directionCheck = null;
+    }
+  }
+
   @Override
   public void stop() {
     super.stop();
+    cancelDirectionCheck();
     movementTask.stop();
   }
 
@@ -159,16 +162,7 @@ public class BossTask extends DefaultTask implements PriorityTask {
    * @return true or false, if target is in sight of Boss
    */
   private boolean isTargetVisible() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Vector2 to = target.getCenterPosition();
-
-    // If there is an obstacle in the path to the player, not visible.
-    if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-      debugRenderer.drawLine(from, hit.point);
-      return false;
-    }
-    debugRenderer.drawLine(from, to);
-    return true;
+    return lineOfSight.isVisible(owner.getEntity(), target);
   }
 
   /**
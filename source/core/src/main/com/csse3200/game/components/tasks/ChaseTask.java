@@ -1,33 +1,39 @@
 package com.csse3200.game.components.tasks;
 
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.csse3200.game.ai.LineOfSightCache;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
 import com.csse3200.game.entities.Entity;
-import com.csse3200.game.physics.PhysicsEngine;
-import com.csse3200.game.physics.PhysicsLayer;
-import com.csse3200.game.physics.raycast.RaycastHit;
-import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.services.PathfindingService;
 import com.csse3200.game.services.ServiceLocator;
 
 
 import java.util.ArrayList;
-import java.util.Timer;
-import java.util.TimerTask;
 
 
-/** Chases a target entity until they get too far away or line of sight is lost */
+/**
+ * Chases a target entity until they get too far away or line of sight is lost. When a
+ * {@link PathfindingService} is registered, the chase follows a path around blocked tiles.
+ */
 public class ChaseTask extends DefaultTask implements PriorityTask {
   private final Entity target;
   private final int priority;
   private final float viewDistance;
   private final float maxChaseDistance;
   private final float shootDistance;
-  private final PhysicsEngine physics;
-  private final DebugRenderer debugRenderer;
-  private final RaycastHit hit = new RaycastHit();
+  private final LineOfSightCache lineOfSight;
   private MovementTask movementTask;
   private char direction;
+  // Path from the last tiles the entity and target were on, reused between updates
+  private final IntArray path = new IntArray();
+  private final GridPoint2 pathStart = new GridPoint2(-1, -1);
+  private final GridPoint2 pathTarget = new GridPoint2(-1, -1);
+  private boolean hasPath = false;
+  private final Vector2 waypoint = new Vector2();
 
   /**
    * @param target The entity to chase.
@@ -41,8 +47,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     this.viewDistance = viewDistance;
     this.maxChaseDistance = maxChaseDistance;
     this.shootDistance = 0;
-    physics = ServiceLocator.getPhysicsService().getPhysics();
-    debugRenderer = ServiceLocator.getRenderService().getDebug();
+    lineOfSight = new LineOfSightCache();
   }
 
   /**
@@ -60,14 +65,14 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     this.viewDistance = viewDistance;
     this.maxChaseDistance = maxChaseDistance;
     this.shootDistance = shootDistance;
-    physics = ServiceLocator.getPhysicsService().getPhysics();
-    debugRenderer = ServiceLocator.getRenderService().getDebug();
+    lineOfSight = new LineOfSightCache();
   }
 
   @Override
   public void start() {
     super.start();
-    movementTask = new MovementTask(target.getPosition());
+    pathStart.set(-1, -1);
+    movementTask = new MovementTask(getNextPosition());
     movementTask.create(owner);
     movementTask.start();
     direction = getDirection(target.getPosition());
@@ -86,7 +91,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   @Override
   public void update() {
     char direction2 = getDirection(target.getPosition());
-    movementTask.setTarget(target.getPosition());
+    movementTask.setTarget(getNextPosition());
     movementTask.update();
 
     if (movementTask.getStatus() != Status.ACTIVE) {
@@ -112,6 +117,38 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
     return getInactivePriority();
   }
 
+  /**
+   * Finds where to move next to reach the target. A new path is only found once the entity or
+   * target moves onto another tile, or the chase is restarted.
+   *
+   * @return the next tile of the path, or the target's position when there is no path to follow
+   */
+  private Vector2 getNextPosition() {
+    Vector2 targetPosition = target.getPosition();
+    PathfindingService pathfindingService = ServiceLocator.getPathfindingService();
+    if (pathfindingService == null) {
+      return targetPosition;
+    }
+
+    Vector2 position = owner.getEntity().getPosition();
+    int startX = MathUtils.floor(position.x);
+    int startY = MathUtils.floor(position.y);
+    int targetX = MathUtils.floor(targetPosition.x);
+    int targetY = MathUtils.floor(targetPosition.y);
+    if (startX != pathStart.x || startY != pathStart.y || targetX != pathTarget.x || targetY != pathTarget.y) {
+      pathStart.set(startX, startY);
+      pathTarget.set(targetX, targetY);
+      hasPath = pathfindingService.findPath(startX, startY, targetX, targetY, path);
+    }
+
+    // Head straight for the target once it is on the next tile, or if there is no way around
+    if (!hasPath || path.size <= 1) {
+      return targetPosition;
+    }
+    int next = path.first();
+    return waypoint.set(pathfindingService.getCellX(next), pathfindingService.getCellY(next));
+  }
+
   private float getDistanceToTarget() {
     return owner.getEntity().getPosition().dst(target.getPosition());
   }
@@ -133,16 +170,7 @@ public class ChaseTask extends DefaultTask implements PriorityTask {
   }
 
   private boolean isTargetVisible() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Vector2 to = target.getCenterPosition();
-
-    // If there is an obstacle in the path to the player, not visible.
-    if (physics.raycast(from, to, PhysicsLayer.OBSTACLE, hit)) {
-      debugRenderer.drawLine(from, hit.point);
-      return false;
-    }
-    debugRenderer.drawLine(from, to);
-    return true;
+    return lineOfSight.isVisible(owner.getEntity(), target);
   }
   /**
    * This get method returns a char indicating the position of the target relative to the enemy.
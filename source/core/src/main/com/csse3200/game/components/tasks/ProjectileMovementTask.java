@@ -1,6 +1,5 @@
 package com.csse3200.game.components.tasks;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
@@ -25,18 +24,30 @@ public class ProjectileMovementTask extends DefaultTask implements PriorityTask
    * @param maxChaseDistance Maximum distance from the entity while moving before giving up.
    */
   public ProjectileMovementTask(Vector2 targetLocation, int priority, float viewDistance, float maxChaseDistance) {
-    this.targetLocation = targetLocation;
+    this.targetLocation = targetLocation.cpy();
     this.priority = priority;
     this.viewDistance = viewDistance;
     this.maxChaseDistance = maxChaseDistance;
     debugRenderer = ServiceLocator.getRenderService().getDebug();
   }
 
+  /**
+   * Aim the projectile at a new location, e.g. when a pooled projectile is fired again.
+   *
+   * @param targetLocation The location where the projectile will go to.
+   */
+  public void setTargetLocation(Vector2 targetLocation) {
+    this.targetLocation.set(targetLocation);
+  }
+
   @Override
   public void start() {
     super.start();
-    movementTask = new MovementTask(targetLocation);
-    movementTask.create(owner);
+    if (movementTask == null) {
+      // Reused between starts, and always moves to targetLocation which is updated in place
+      movementTask = new MovementTask(targetLocation);
+      movementTask.create(owner);
+    }
     movementTask.start();
 
     this.owner.getEntity().getEvents().trigger("chaseStart");
@@ -46,7 +57,7 @@ public class ProjectileMovementTask extends DefaultTask implements PriorityTask
   public void update() {
     movementTask.update();
     if (movementTask.getStatus() != Status.ACTIVE) {
-      Gdx.app.postRunnable(owner.getEntity()::dispose);
+      ServiceLocator.getEntityService().destroy(owner.getEntity());
     }
   }
 
@@ -9,16 +9,18 @@ import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerHandle;
 import com.csse3200.game.utils.math.Vector2Utils;
-import com.badlogic.gdx.utils.Timer;
 
 /** Runs away from target entity if it gets too close */
 public class RunTask extends DefaultTask implements PriorityTask {
+  private static final float DIRECTION_CHECK_DELAY = 0.5f;
   private final Entity target;
   private final int priority;
   private final float runDistance;
   private final RaycastHit hit = new RaycastHit();
   private MovementTask movementTask;
+  private TimerHandle directionCheck;
 
   /**
    * @param target The entity to chase.
@@ -46,14 +48,13 @@ public class RunTask extends DefaultTask implements PriorityTask {
     if(direction == '>'||direction == '='){
       this.owner.getEntity().getEvents().trigger("chaseStart");
     }
-    Timer.schedule(new Timer.Task(){
-      @Override
-      public void run() {
-        if(getDirection(target.getPosition() )!= direction){
-          start();
-        }
+    // Restart if the target has switched sides, so the animation faces the right way
+    cancelDirectionCheck();
+    directionCheck = ServiceLocator.getTimerService().schedule(owner.getEntity(), () -> {
+      if (getDirection(target.getPosition()) != direction) {
+        start();
       }
-    },500);
+    }, DIRECTION_CHECK_DELAY);
   }
 
   @Override
@@ -65,10 +66,18 @@ public class RunTask extends DefaultTask implements PriorityTask {
     }
   }
 
+  private void cancelDirectionCheck() {
+    if (directionCheck != null) {
+      directionCheck.cancel();
+      directionCheck = null;
+    }
+  }
+
   @Override
   public void stop() {
     owner.getEntity().getComponent(PhysicsMovementComponent.class).changeMaxSpeed(Vector2Utils.ONE);
     super.stop();
+    cancelDirectionCheck();
     movementTask.stop();
   }
 
@@ -1,6 +1,5 @@
 package com.csse3200.game.components.upgradetree;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
@@ -17,7 +16,6 @@ import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.ObjectMap;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.components.SoundComponent;
 import com.csse3200.game.components.Weapons.WeaponType;
 import com.csse3200.game.components.player.InventoryComponent;
@@ -27,9 +25,10 @@ import com.csse3200.game.components.structures.ToolsConfig;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.WeaponConfig;
 import com.csse3200.game.entities.configs.WeaponConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.input.InputOverrideComponent;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerHandle;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -46,16 +45,21 @@ public class UpgradeDisplay extends Window {
     private static final float WINDOW_HEIGHT_SCALE = 0.65f;
     private static final float SIZE = 64f;
     private static final String MATERIALS_FORMAT = "%d";
+    private static final String TOOLTIP_BACKGROUND = "kenney-rpg-expansion/PNG/panel_brown.png";
+    private static final String LOCK_IMAGE = "images/upgradetree/lock.png";
     private final InputOverrideComponent inputOverrideComponent;
     private final Entity upgradeBench;
     private Label materialsLabel;
+    private TimerHandle materialsUpdate;
     private final WeaponConfigs weaponConfigs;
     private final Entity player;
-    private final Skin skin;
+    private Skin skin;
+    private final List<String> texturePaths = new ArrayList<>();
     private final ToolsConfig structureTools;
     private final StructureToolPicker structurePicker;
     private final List<UpgradeNode> trees = new ArrayList<>();
     private final ShapeRenderer shapeRenderer = new ShapeRenderer();
+    private final Drawable tooltipBackground;
     private float nodeYSpacing;
     private float nodeXSpacing;
 
@@ -77,11 +81,12 @@ public class UpgradeDisplay extends Window {
      * @param background    The texture to be used for the background of the upgrade display.
      */
     public UpgradeDisplay(Texture background) {
-        super("", new Window.WindowStyle(new BitmapFont(), Color.BLACK, new TextureRegionDrawable(background)));
+        super("", new Window.WindowStyle(ServiceLocator.getResourceService().getDefaultFont(), Color.BLACK,
+                new TextureRegionDrawable(background)));
 
-        skin = new Skin(Gdx.files.internal("kenney-rpg-expansion/kenneyrpg.json"));
-        weaponConfigs = FileLoader.readClass(WeaponConfigs.class, "configs/weapons.json");
-        structureTools = FileLoader.readClass(ToolsConfig.class, "configs/structure_tools.json");
+        skin = ServiceLocator.getResourceService().acquireSkin();
+        weaponConfigs = ConfigRegistry.get(WeaponConfigs.class, "configs/weapons.json");
+        structureTools = ConfigRegistry.get(ToolsConfig.class, "configs/structure_tools.json");
         player = ServiceLocator.getEntityService().getPlayer();
         structurePicker = player.getComponent(StructureToolPicker.class);
         this.upgradeBench = player;
@@ -89,6 +94,11 @@ public class UpgradeDisplay extends Window {
         // todo: remove this testing line - just gives max resources in upgrade tree
         upgradeBench.getComponent(UpgradeTree.class).subtractMaterials(-1000);
 
+        // Every tooltip shares one background, fetched once for the life of the display
+        Texture tooltipTexture = acquireTexture(TOOLTIP_BACKGROUND);
+        tooltipTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        tooltipBackground = new TextureRegionDrawable(new TextureRegion(tooltipTexture));
+
         setupWindowDimensions();
 
         Table titleTable = createTitleTable();
@@ -332,11 +342,38 @@ public class UpgradeDisplay extends Window {
      * @return The TextureRegionDrawable instance.
      */
     private TextureRegionDrawable createTextureRegionDrawable(String path, float size) {
-        TextureRegionDrawable drawable = new TextureRegionDrawable(new Texture(path));
+        TextureRegionDrawable drawable = new TextureRegionDrawable(acquireTexture(path));
         drawable.setMinSize(size, size);
         return drawable;
     }
 
+    /**
+     * Acquires a shared texture, which is released when the display is removed.
+     *
+     * @param path The path of the texture.
+     * @return The shared texture.
+     */
+    private Texture acquireTexture(String path) {
+        texturePaths.add(path);
+        return ServiceLocator.getResourceService().acquireTexture(path);
+    }
+
+    /**
+     * Gets a label style from the shared skin, adding it the first time it is needed. Styles in the
+     * shared skin are used by other windows, so they are never modified here.
+     *
+     * @param name The name of the style.
+     * @param font The font of the style.
+     * @param color The font colour of the style.
+     * @return The label style.
+     */
+    private Label.LabelStyle getLabelStyle(String name, BitmapFont font, Color color) {
+        if (!skin.has(name, Label.LabelStyle.class)) {
+            skin.add(name, new Label.LabelStyle(font, color));
+        }
+        return skin.get(name, Label.LabelStyle.class);
+    }
+
     /**
      * Creates an exit button for the upgrade tree display.
      *
@@ -378,14 +415,11 @@ public class UpgradeDisplay extends Window {
         table.setPosition((float) (getWidth() * getScaleX() * 0.10),
                 (float) (getHeight() * getScaleY() * 0.88));
 
-        // update the materials label every 250ms
-        Timer.schedule(new Timer.Task() {
-            @Override
-            public void run() {
-                int updatedMaterials = upgradeBench.getComponent(UpgradeTree.class).getMaterials();
-                String updatedStr = String.format(MATERIALS_FORMAT, updatedMaterials);
-                materialsLabel.setText(updatedStr);
-            }
+        // update the materials label every 250ms until the display is removed
+        materialsUpdate = ServiceLocator.getTimerService().scheduleRepeating(upgradeBench, () -> {
+            int updatedMaterials = upgradeBench.getComponent(UpgradeTree.class).getMaterials();
+            String updatedStr = String.format(MATERIALS_FORMAT, updatedMaterials);
+            materialsLabel.setText(updatedStr);
         }, 0.25f, 0.25f);
 
         return table;
@@ -404,9 +438,7 @@ public class UpgradeDisplay extends Window {
      */
     private void createTooltipLabel(Table table, String attributeName, String valueFormat) {
         table.pad(20);
-        Label.LabelStyle labelStyle = skin.get(Label.LabelStyle.class);
-        labelStyle.fontColor = Color.BLACK;
-        labelStyle.font = skin.getFont("thick_black");
+        Label.LabelStyle labelStyle = getLabelStyle("upgrade-tooltip", skin.getFont("thick_black"), Color.BLACK);
 
         Label attributeLabel = new Label(attributeName, labelStyle);
         attributeLabel.setWrap(true);
@@ -415,8 +447,8 @@ public class UpgradeDisplay extends Window {
         if (valueFormat.isEmpty()) {
             table.add(attributeLabel).width(200).colspan(2).left().padLeft(10).padBottom(20).row();
         } else {
-            BitmapFont font = new BitmapFont();
-            Label.LabelStyle redLabelStyle = new Label.LabelStyle(font, Color.RED);
+            Label.LabelStyle redLabelStyle = getLabelStyle("upgrade-tooltip-value",
+                    ServiceLocator.getResourceService().getDefaultFont(), Color.RED);
 
             Label valueLabel = new Label(valueFormat, redLabelStyle);
             valueLabel.setWrap(true);
@@ -436,11 +468,7 @@ public class UpgradeDisplay extends Window {
 
         Table tooltipTable = new Table();
         tooltipTable.defaults().left().padLeft(2).padTop(5).padRight(10);
-        Texture texture = new Texture(Gdx.files.internal("kenney-rpg-expansion/PNG/panel_brown.png"));
-        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-        Drawable bg = new TextureRegionDrawable(new TextureRegion(texture));
-
-        tooltipTable.setBackground(bg);
+        tooltipTable.setBackground(tooltipBackground);
 
         if (node.getWeaponType() != null) {
             createWeaponTooltip(tooltipTable, node);
@@ -562,7 +590,7 @@ public class UpgradeDisplay extends Window {
     private Image lockItem(UpgradeNode node, UpgradeTree stats, ImageButton weaponButton) {
         if (stats.isWeaponUnlocked(node.getName())) return null;
 
-        Image lock = new Image(new Texture("images/upgradetree/lock.png"));
+        Image lock = new Image(acquireTexture(LOCK_IMAGE));
         lock.setSize(UpgradeDisplay.SIZE, UpgradeDisplay.SIZE);
         weaponButton.addActor(lock);
         weaponButton.setColor(0.5f, 0.5f, 0.5f, 0.5f); // grey out the image
@@ -657,9 +685,26 @@ public class UpgradeDisplay extends Window {
     public boolean remove() {
         //Stop overriding input when exiting
         ServiceLocator.getInputService().unregister(inputOverrideComponent);
+        materialsUpdate.cancel();
+        releaseAssets();
         return super.remove();
     }
 
+    /**
+     * Releases the skin and textures acquired for the display.
+     */
+    private void releaseAssets() {
+        if (skin == null) {
+            return;
+        }
+        ServiceLocator.getResourceService().releaseSkin();
+        skin = null;
+        for (String path : texturePaths) {
+            ServiceLocator.getResourceService().releaseTexture(path);
+        }
+        texturePaths.clear();
+    }
+
     /**
      * Renders the background, the connection lines, and the ImageButtons for the upgrade tree.
      *
@@ -1,13 +1,19 @@
 package com.csse3200.game.entities;
 
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntIntMap;
 import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentType;
+import com.csse3200.game.components.Thinker;
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.profiling.FrameProfiler;
+import com.csse3200.game.profiling.ProfileScope;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,9 +47,20 @@ public class Entity {
   private boolean created = false;
   private Vector2 position = Vector2.Zero.cpy();
   private GridPoint2 gridPosition = new GridPoint2(0,0);
+  // Where the entity is drawn relative to its game position, e.g. to smooth physics movement
+  private final Vector2 renderOffset = new Vector2();
   private Vector2 scale = new Vector2(1, 1);
   private float rotation = 0;
   private Array<Component> createdComponents;
+  // Created components which implement Thinker, or null if there are none
+  private Array<Component> thinkers;
+  SpatialIndex spatialIndex;
+  int spatialCell;
+  EntityPool<?> pool;
+  // Index of the entity in each of the entity service's arrays, keyed by array id
+  IntIntMap arrayIndices;
+  boolean destroyQueued = false;
+  private boolean parked = false;
 
 
   public Entity() {
@@ -110,6 +127,8 @@ public class Entity {
   public void setPosition(Vector2 position) {
     this.position = position.cpy();
     this.gridPosition = new GridPoint2((int) Math.floor(position.cpy().x), (int) Math.floor(position.cpy().y));
+    renderOffset.setZero();
+    updateSpatialIndex();
     getEvents().trigger(EVT_NAME_POS, position.cpy());
   }
 
@@ -124,6 +143,8 @@ public class Entity {
     this.position.y = y;
     this.gridPosition.x = (int) Math.floor(x);
     this.gridPosition.y = (int) Math.floor(y);
+    renderOffset.setZero();
+    updateSpatialIndex();
     getEvents().trigger(EVT_NAME_POS, position.cpy());
   }
 
@@ -152,7 +173,9 @@ public class Entity {
   public void setPosition(Vector2 position, boolean notify) {
     this.position = position;
     this.gridPosition = new GridPoint2((int) Math.floor(position.x), (int) Math.floor(position.y));
+    updateSpatialIndex();
     if (notify) {
+      renderOffset.setZero();
       getEvents().trigger(EVT_NAME_POS, position);
     }
   }
@@ -173,6 +196,7 @@ public class Entity {
    */
   public void setScale(Vector2 scale) {
     this.scale = scale.cpy();
+    updateSpatialIndex();
   }
 
   /**
@@ -184,6 +208,7 @@ public class Entity {
   public void setScale(float x, float y) {
     this.scale.x = x;
     this.scale.y = y;
+    updateSpatialIndex();
   }
 
   /**
@@ -194,6 +219,7 @@ public class Entity {
   public void scaleWidth(float x) {
     this.scale.y = this.scale.y / this.scale.x * x;
     this.scale.x = x;
+    updateSpatialIndex();
   }
 
   /**
@@ -204,6 +230,7 @@ public class Entity {
   public void scaleHeight(float y) {
     this.scale.x = this.scale.x / this.scale.y * y;
     this.scale.y = y;
+    updateSpatialIndex();
   }
 
   /**
@@ -215,6 +242,80 @@ public class Entity {
     return getPosition().mulAdd(getScale(), 0.5f);
   }
 
+  /**
+   * Get the x coordinate of the entity's center position without allocating a vector.
+   *
+   * @return center x position
+   */
+  public float getCenterX() {
+    return position.x + scale.x * 0.5f;
+  }
+
+  /**
+   * Get the y coordinate of the entity's center position without allocating a vector.
+   *
+   * @return center y position
+   */
+  public float getCenterY() {
+    return position.y + scale.y * 0.5f;
+  }
+
+  /**
+   * Get the x coordinate of the entity's position without allocating a vector.
+   *
+   * @return x position
+   */
+  public float getPositionX() {
+    return position.x;
+  }
+
+  /**
+   * Get the y coordinate of the entity's position without allocating a vector.
+   *
+   * @return y position
+   */
+  public float getPositionY() {
+    return position.y;
+  }
+
+  /**
+   * Get where the entity is drawn. This is the game position plus the render offset, so it can lag
+   * slightly behind the game position. Use it for drawing only; game logic should use
+   * {@link #getPosition()}.
+   *
+   * @return render position
+   */
+  public Vector2 getRenderPosition() {
+    return position.cpy().add(renderOffset);
+  }
+
+  /**
+   * Set the offset from the game position to where the entity is drawn. It is cleared whenever the
+   * entity is moved directly.
+   *
+   * @param x x offset
+   * @param y y offset
+   */
+  public void setRenderOffset(float x, float y) {
+    renderOffset.set(x, y);
+  }
+
+  /**
+   * Get the area covered by the entity's position and scale without allocating.
+   *
+   * @param out rectangle to store the bounds in
+   * @return out, for chaining
+   */
+  public Rectangle getBounds(Rectangle out) {
+    return out.set(position.x, position.y, scale.x, scale.y);
+  }
+
+  private void updateSpatialIndex() {
+    if (spatialIndex != null) {
+      spatialIndex.update(this);
+    }
+  }
+
   /**
    * Get a component of type T on the entity.
    *
@@ -274,19 +375,68 @@ public class Entity {
     return this;
   }
 
-  /** Dispose of the entity. This will dispose of all components on this entity. */
+  /**
+   * Dispose of the entity. This will dispose of all components on this entity and cancel its timers.
+   * Entities obtained from an {@link EntityPool} are parked in their pool instead, and only disposed
+   * if the pool is full.
+   */
   public void dispose() {
+    if (pool != null) {
+      if (!parked) {
+        pool.free(this);
+      }
+      return;
+    }
     for (Component component : createdComponents) {
       component.dispose();
     }
+    TimerService timerService = ServiceLocator.getTimerService();
+    if (timerService != null) {
+      timerService.cancelAll(this);
+    }
     ServiceLocator.getEntityService().unregister(this);
   }
 
+  /**
+   * Remove a pooled entity from the world without disposing it. Its timers are cancelled and every
+   * component is reset, ready for the entity to be registered again.
+   */
+  void park() {
+    TimerService timerService = ServiceLocator.getTimerService();
+    if (timerService != null) {
+      timerService.cancelAll(this);
+    }
+    ServiceLocator.getEntityService().unregister(this);
+    if (createdComponents != null) {
+      for (int i = 0; i < createdComponents.size; i++) {
+        createdComponents.get(i).reset();
+      }
+    }
+    parked = true;
+  }
+
+  /**
+   * @return true if the entity is parked in its pool, waiting to be registered again
+   */
+  public boolean isParked() {
+    return parked;
+  }
+
   /**
    * Create the entity and start running. This is called when the entity is registered in the world,
-   * and should not be called manually.
+   * and should not be called manually. A parked entity reactivates its components instead of
+   * creating them again.
    */
   public void create() {
+    if (parked) {
+      parked = false;
+      if (created) {
+        for (int i = 0; i < createdComponents.size; i++) {
+          createdComponents.get(i).reactivate();
+        }
+        return;
+      }
+    }
     if (created) {
       logger.error(
               "{} was created twice. Entity should only be registered with the entity service once.",
@@ -294,12 +444,33 @@ public class Entity {
       return;
     }
     createdComponents = components.values().toArray();
+    for (Component component : createdComponents) {
+      if (component instanceof Thinker) {
+        if (thinkers == null) {
+          thinkers = new Array<>(false, 2);
+        }
+        thinkers.add(component);
+      }
+    }
     for (Component component : createdComponents) {
       component.create();
     }
     created = true;
   }
 
+  /**
+   * Run the think phase of every {@link Thinker} component. Called by the entity service, possibly
+   * on a job thread, and should not be called manually.
+   */
+  public void think() {
+    if (!enabled || thinkers == null) {
+      return;
+    }
+    for (int i = 0; i < thinkers.size; i++) {
+      thinkers.get(i).triggerThink();
+    }
+  }
+
   /**
    * Perform an early update on all components. This is called by the entity service and should not
    * be called manually.
@@ -321,11 +492,26 @@ public class Entity {
     if (!enabled) {
       return;
     }
+    FrameProfiler profiler = ServiceLocator.getProfiler();
+    if (profiler != null && profiler.isProfilingComponents()) {
+      updateProfiled(profiler);
+      return;
+    }
     for (int i = 0; i < createdComponents.size; i++) {
       createdComponents.get(i).triggerUpdate();
     }
   }
 
+  private void updateProfiled(FrameProfiler profiler) {
+    for (int i = 0; i < createdComponents.size; i++) {
+      Component component = createdComponents.get(i);
+      ProfileScope scope = profiler.getComponentScope(component);
+      scope.begin();
+      component.triggerUpdate();
+      scope.end();
+    }
+  }
+
   /**
    * This entity's unique ID. Used for equality checks
    *
@@ -0,0 +1,156 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps short-lived entities, such as projectiles and popups, so they can be registered again
+ * instead of being built from scratch. Pooled entities are used like any other entity: when one is
+ * disposed it is unregistered and its components are reset, and its physics body is parked rather
+ * than destroyed. The next {@link #obtain()} hands it back out, and registering it reactivates its
+ * components without calling create() again.
+ *
+ * <p>Pools are created through {@link EntityService#createPool(String, Supplier, int)} and are
+ * disposed along with the entity service.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * Entity bullet = entityService.getPool("bullet").obtain();
+ * bullet.setPosition(x, y);
+ * entityService.register(bullet);
+ * ...
+ * bullet.dispose(); // Back into the pool
+ * </pre>
+ *
+ * @param <T> type of the pooled entities
+ */
+public class EntityPool<T extends Entity> {
+  private static final Logger logger = LoggerFactory.getLogger(EntityPool.class);
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private final String name;
+  private final Supplier<T> factory;
+  private final int capacity;
+  private final Array<T> idle;
+  private int hits = 0;
+  private int misses = 0;
+  private int inUse = 0;
+  private int highWater = 0;
+  private boolean disposed = false;
+
+  /**
+   * @param name name of the pool, shown in metrics
+   * @param factory creates a new entity when the pool is empty. The entity must not be registered.
+   * @param capacity most idle entities kept. Entities freed while the pool is full are disposed.
+   */
+  EntityPool(String name, Supplier<T> factory, int capacity) {
+    this.name = name;
+    this.factory = factory;
+    this.capacity = capacity;
+    this.idle = new Array<>(false, Math.min(capacity, DEFAULT_CAPACITY));
+  }
+
+  /**
+   * Take an entity from the pool, or create one if the pool is empty. The entity is not registered,
+   * so set it up and register it with the entity service as usual.
+   *
+   * @return unregistered entity
+   */
+  public T obtain() {
+    T entity;
+    if (idle.size > 0) {
+      entity = idle.pop();
+      hits++;
+    } else {
+      entity = factory.get();
+      entity.pool = this;
+      misses++;
+    }
+    inUse++;
+    highWater = Math.max(highWater, inUse);
+    return entity;
+  }
+
+  /**
+   * Park an entity which was disposed, or dispose it if the pool is full. Called by the entity.
+   *
+   * @param entity entity from this pool
+   */
+  @SuppressWarnings("unchecked")
+  void free(Entity entity) {
+    if (entity.pool != this) {
+      logger.error("{} does not belong to pool {}", entity, name);
+      return;
+    }
+    inUse = Math.max(inUse - 1, 0);
+    if (disposed || idle.size >= capacity) {
+      entity.pool = null;
+      entity.dispose();
+      return;
+    }
+    entity.park();
+    idle.add((T) entity);
+  }
+
+  /** Dispose every idle entity. Entities still in use are disposed normally when they are freed. */
+  public void dispose() {
+    logger.debug("Disposing pool {}: {} hits, {} misses, high water {}", name, hits, misses, highWater);
+    for (int i = 0; i < idle.size; i++) {
+      T entity = idle.get(i);
+      entity.pool = null;
+      entity.dispose();
+    }
+    idle.clear();
+    disposed = true;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return most idle entities kept
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @return number of obtains served by a parked entity
+   */
+  public int getHits() {
+    return hits;
+  }
+
+  /**
+   * @return number of obtains which had to create a new entity
+   */
+  public int getMisses() {
+    return misses;
+  }
+
+  /**
+   * @return entities obtained and not yet freed
+   */
+  public int getInUse() {
+    return inUse;
+  }
+
+  /**
+   * @return most entities in use at the same time
+   */
+  public int getHighWater() {
+    return highWater;
+  }
+
+  /**
+   * @return entities parked and ready to be obtained
+   */
+  public int getIdleCount() {
+    return idle.size;
+  }
+}
@@ -1,15 +1,27 @@
 package com.csse3200.game.entities;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.csse3200.game.areas.mapConfig.AreaEntityConfig;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
 import com.csse3200.game.components.SaveableComponent;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.files.AreaSnapshot;
 import com.csse3200.game.files.FileLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Provides a global access point for entities to register themselves. This allows for iterating
@@ -21,18 +33,77 @@ import java.util.List;
 public class EntityService {
   private static final Logger logger = LoggerFactory.getLogger(EntityService.class);
   private static final int INITIAL_CAPACITY = 16;
+  /** Fewest entities before the think phase is split across job threads */
+  static final int PARALLEL_THINK_THRESHOLD = 128;
+  /** Entities thought about by each job */
+  static final int THINK_CHUNK_SIZE = 64;
+  private static final String SAVE_FILE = "saves/savefile.sav";
+  private static final String JSON_EXPORT_FILE = "saves/savefile.json";
 
-  private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+  private final EntityArray registered = new EntityArray();
+  private final Array<Entity> entities = registered.entities;
+  private final SpatialIndex spatialIndex = new SpatialIndex();
+  // Registered entities with each component type, keyed by component type id
+  private final IntMap<EntityArray> entitiesByComponent = new IntMap<>();
+  private final IntMap<List<Entity>> entitiesByComponentViews = new IntMap<>();
+  private final Array<Archetype> archetypes = new Array<>(false, 4);
+  private final ObjectMap<String, EntityPool<?>> poolsByName = new ObjectMap<>();
+  private final Array<EntityPool<?>> pools = new Array<>(false, 4);
+  // Entities waiting to be disposed at the end of the frame
+  private final Array<Entity> destroyQueue = new Array<>(false, INITIAL_CAPACITY);
+  private int destroyedLastFrame = 0;
+  private long destroyedTotal = 0;
+  private ThinkMode thinkMode = ThinkMode.PARALLEL;
+  private final Array<CompletableFuture<Void>> thinkJobs = new Array<>(false, 8);
 
   private Array<Entity> getEntities() {
     return entities;
   }
 
-  public AreaEntityConfig saveCurrentArea() {
+  /**
+   * Gets the spatial index of all registered entities, used for proximity queries.
+   *
+   * @return spatial index of registered entities
+   */
+  public SpatialIndex getSpatialIndex() {
+    return spatialIndex;
+  }
+
+  /**
+   * Save every saveable entity in the current area. The entities are captured straight away, and
+   * the save file is compressed and written in the background.
+   *
+   * @return future completed once the save is on disk, or completed exceptionally if it couldn't
+   *     be written
+   * @see AreaSnapshot
+   */
+  public CompletableFuture<Void> saveCurrentArea() {
+    AreaSnapshot snapshot = AreaSnapshot.capture(getEntitiesByComponent(SaveableComponent.class));
+    logger.debug("Captured {} entities ({} bytes) to save", snapshot.getRecordCount(), snapshot.getSize());
+    return snapshot.writeAsync(Gdx.files.local(SAVE_FILE));
+  }
+
+  /**
+   * Load the entities saved by {@link #saveCurrentArea()}.
+   *
+   * @return saved entities, keyed by their config type
+   * @throws IOException if there is no valid save
+   */
+  public static AreaEntityConfig loadSavedArea() throws IOException {
+    return AreaSnapshot.read(Gdx.files.local(SAVE_FILE));
+  }
+
+  /**
+   * Write every saveable entity in the current area to a readable JSON file, for debugging saves.
+   * Blocks while the file is written.
+   *
+   * @return saved entities, keyed by their config type
+   */
+  public AreaEntityConfig exportCurrentArea() {
     AreaEntityConfig areaEntityConfig = new AreaEntityConfig();
     areaEntityConfig.addEntities(getEntitiesByComponent(SaveableComponent.class));
 
-    FileLoader.writeClass(areaEntityConfig, "saves/savefile.json", FileLoader.Location.LOCAL);
+    FileLoader.writeClass(areaEntityConfig, JSON_EXPORT_FILE, FileLoader.Location.LOCAL);
 
     return areaEntityConfig;
   }
@@ -57,19 +128,102 @@ public class EntityService {
    * Example:
    *    getEntitiesByComponent(PowerupComponent.class) will return a list
    *    of all registered powerup entities.
+   * <p>
+   * The returned list is an unmodifiable, live view which is kept up to date as entities are
+   * registered and unregistered, so it can be kept and iterated each frame without allocating. Do
+   * not modify it. Entities destroyed with {@link #destroy(Entity)} stay in the view until the
+   * destroyed entities are flushed at the end of {@link #update()}, but registering, unregistering
+   * or disposing an entity changes it straight away. Copy the list before iterating if the loop
+   * might do any of those, e.g. when it calls out to other entities' components.
    *
    * @param componentClass The component class to search for
-   * @return An array of entities who have the specified component
+   * @return A list of entities who have the specified component
    */
   public List<Entity> getEntitiesByComponent(Class<? extends Component> componentClass) {
-    List<Entity> filteredEntities = new ArrayList<>();
+    int typeId = ComponentType.getFrom(componentClass).getId();
+    List<Entity> view = entitiesByComponentViews.get(typeId);
+    if (view == null) {
+      view = new EntityListView(getOrCreateComponentEntities(typeId).entities);
+      entitiesByComponentViews.put(typeId, view);
+    }
+    return view;
+  }
+
+  /**
+   * Gets all entities which have every one of the specified component classes, e.g. turret
+   * targets which have both a TurretTargetableComponent and a CombatStatsComponent.
+   * <p>
+   * Like {@link #getEntitiesByComponent(Class)}, the returned list is an unmodifiable, live view.
+   * The same list is returned for the same set of components, so it can be looked up once and
+   * kept.
+   *
+   * @param componentClasses The component classes to search for
+   * @return A list of entities who have all of the specified components
+   */
+  @SafeVarargs
+  public final List<Entity> getEntitiesByComponents(Class<? extends Component>... componentClasses) {
+    int[] typeIds = new int[componentClasses.length];
+    for (int i = 0; i < componentClasses.length; i++) {
+      typeIds[i] = ComponentType.getFrom(componentClasses[i]).getId();
+    }
+    Arrays.sort(typeIds);
 
-    for (Entity entity : new  Array.ArrayIterator<>(entities)) {
-      if (entity.getComponent(componentClass) != null) {
-        filteredEntities.add(entity);
+    for (int i = 0; i < archetypes.size; i++) {
+      if (Arrays.equals(archetypes.get(i).typeIds, typeIds)) {
+        return archetypes.get(i).view;
       }
     }
-    return filteredEntities;
+
+    Archetype archetype = new Archetype(typeIds);
+    for (int i = 0; i < entities.size; i++) {
+      if (archetype.matches(entities.get(i))) {
+        archetype.members.add(entities.get(i));
+      }
+    }
+    archetypes.add(archetype);
+    return archetype.view;
+  }
+
+  /**
+   * Get a pool of reusable entities created with {@link #createPool(String, Supplier, int)}.
+   *
+   * @param name name of the pool
+   * @param <T> type of the pooled entities
+   * @return the pool, or null if none has been created with that name
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Entity> EntityPool<T> getPool(String name) {
+    return (EntityPool<T>) poolsByName.get(name);
+  }
+
+  /**
+   * Create a pool of reusable entities, which are disposed along with this service. See
+   * {@link EntityPool}.
+   *
+   * @param name name of the pool, used to look it up again
+   * @param factory creates a new, unregistered entity when the pool is empty
+   * @param capacity most idle entities kept in the pool
+   * @param <T> type of the pooled entities
+   * @return the new pool, or the existing pool if one already has that name
+   */
+  public <T extends Entity> EntityPool<T> createPool(String name, Supplier<T> factory, int capacity) {
+    EntityPool<T> pool = getPool(name);
+    if (pool != null) {
+      logger.error("Entity pool {} already exists, the existing pool will be used", name);
+      return pool;
+    }
+    logger.debug("Creating entity pool {}", name);
+    pool = new EntityPool<>(name, factory, capacity);
+    poolsByName.put(name, pool);
+    pools.add(pool);
+    return pool;
+  }
+
+  /**
+   * @return every entity pool, e.g. to show their metrics
+   */
+  public Array<EntityPool<?>> getPools() {
+    return pools;
   }
 
   /**
@@ -78,36 +232,202 @@ public class EntityService {
    */
   public void register(Entity entity) {
     logger.debug("Registering {} in entity service", entity);
-    entities.add(entity);
+    registered.add(entity);
+    spatialIndex.insert(entity);
+    addToComponentRegistry(entity);
     entity.create();
   }
 
   /**
    * Unregister an entity with the entity service. The entity will be removed and stop updating.
+   * This takes constant time for each of the entity's components.
    * @param entity entity to be removed.
    */
   public void unregister(Entity entity) {
     logger.debug("Unregistering {} in entity service", entity);
-    entities.removeValue(entity, true);
+    registered.remove(entity);
+    spatialIndex.remove(entity);
+    removeFromComponentRegistry(entity);
   }
 
   /**
-   * Update all registered entities. Should only be called from the main game loop.
+   * Destroy an entity at the end of the entity update. Until then it is skipped by update(), and
+   * it is then disposed along with every other entity destroyed that frame. Prefer this to
+   * disposing an entity directly, or posting its dispose as a runnable, from inside a game loop
+   * callback.
+   *
+   * @param entity registered entity to destroy. Destroying it more than once has no effect.
+   */
+  public void destroy(Entity entity) {
+    if (entity.destroyQueued) {
+      return;
+    }
+    if (!registered.contains(entity)) {
+      logger.debug("Not destroying {}, it is not registered", entity);
+      return;
+    }
+    entity.destroyQueued = true;
+    destroyQueue.add(entity);
+  }
+
+  /**
+   * Dispose every entity destroyed since this was last called. Called at the end of update().
+   * Entities destroyed while disposing are disposed in the same pass.
+   */
+  public void disposeDestroyed() {
+    int destroyed = 0;
+    for (int i = 0; i < destroyQueue.size; i++) {
+      Entity entity = destroyQueue.get(i);
+      entity.destroyQueued = false;
+      // Skip entities already disposed directly since they were destroyed
+      if (registered.contains(entity)) {
+        entity.dispose();
+        destroyed++;
+      }
+    }
+    destroyQueue.clear();
+    destroyedLastFrame = destroyed;
+    destroyedTotal += destroyed;
+  }
+
+  /**
+   * @return entities disposed by the last call to {@link #disposeDestroyed()}
+   */
+  public int getDestroyedLastFrame() {
+    return destroyedLastFrame;
+  }
+
+  /**
+   * @return entities disposed through {@link #destroy(Entity)} since the service was created
+   */
+  public long getDestroyedTotal() {
+    return destroyedTotal;
+  }
+
+  private void addToComponentRegistry(Entity entity) {
+    if (entity.components == null) {
+      return;
+    }
+    for (IntMap.Entry<Component> component : entity.components) {
+      getOrCreateComponentEntities(component.key).add(entity);
+    }
+    for (int i = 0; i < archetypes.size; i++) {
+      if (archetypes.get(i).matches(entity)) {
+        archetypes.get(i).members.add(entity);
+      }
+    }
+  }
+
+  private void removeFromComponentRegistry(Entity entity) {
+    if (entity.components == null) {
+      return;
+    }
+    for (IntMap.Entry<Component> component : entity.components) {
+      EntityArray componentEntities = entitiesByComponent.get(component.key);
+      if (componentEntities != null) {
+        componentEntities.remove(entity);
+      }
+    }
+    for (int i = 0; i < archetypes.size; i++) {
+      archetypes.get(i).members.remove(entity);
+    }
+  }
+
+  private EntityArray getOrCreateComponentEntities(int typeId) {
+    EntityArray componentEntities = entitiesByComponent.get(typeId);
+    if (componentEntities == null) {
+      componentEntities = new EntityArray();
+      entitiesByComponent.put(typeId, componentEntities);
+    }
+    return componentEntities;
+  }
+
+  /**
+   * Set how the think phase of {@link com.csse3200.game.components.Thinker} components is run.
+   * Tests which need entities to think in a fixed order can use {@link ThinkMode#SERIAL}.
+   *
+   * @param thinkMode how to run the think phase
+   */
+  public void setThinkMode(ThinkMode thinkMode) {
+    this.thinkMode = thinkMode;
+  }
+
+  public ThinkMode getThinkMode() {
+    return thinkMode;
+  }
+
+  /**
+   * Update all registered entities, then dispose those destroyed during the update. Should only be
+   * called from the main game loop.
+   *
+   * <p>Thinker components first think about the frame, in parallel when there are enough
+   * entities. Every entity is then updated one at a time on the calling thread.
    */
   public void update() {
+    think();
     for (int i = 0; i < entities.size; i++) {
-      entities.get(i).earlyUpdate();
-      entities.get(i).update();
+      Entity entity = entities.get(i);
+      if (entity.destroyQueued) {
+        continue;
+      }
+      entity.earlyUpdate();
+      entity.update();
+    }
+    disposeDestroyed();
+  }
+
+  private void think() {
+    int count = entities.size;
+    if (thinkMode == ThinkMode.SERIAL || count < PARALLEL_THINK_THRESHOLD) {
+      thinkRange(0, count);
+      return;
+    }
+
+    for (int start = THINK_CHUNK_SIZE; start < count; start += THINK_CHUNK_SIZE) {
+      int from = start;
+      int to = Math.min(start + THINK_CHUNK_SIZE, count);
+      thinkJobs.add(JobSystem.launch(() -> {
+        thinkRange(from, to);
+        return null;
+      }));
+    }
+    // Think about the first chunk here rather than sitting idle
+    try {
+      thinkRange(0, Math.min(THINK_CHUNK_SIZE, count));
+      for (int i = 0; i < thinkJobs.size; i++) {
+        thinkJobs.get(i).join();
+      }
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    } finally {
+      thinkJobs.clear();
+    }
+  }
+
+  private void thinkRange(int from, int to) {
+    for (int i = from; i < to; i++) {
+      Entity entity = entities.get(i);
+      if (!entity.destroyQueued) {
+        entity.think();
+      }
     }
   }
 
   /**
-   * Dispose all entities.
+   * Dispose all entities, including those parked in entity pools.
    */
   public void dispose() {
-    for (Entity entity : entities) {
+    // Disposing unregisters each entity, which reorders the array
+    for (Entity entity : entities.toArray(Entity.class)) {
       entity.dispose();
     }
+    destroyQueue.clear();
+    for (int i = 0; i < pools.size; i++) {
+      pools.get(i).dispose();
+    }
   }
   public Entity getCompanion() {
     for (Entity entity : entities) {
@@ -118,4 +438,98 @@ public class EntityService {
     return null;
   }
 
+  /** How the think phase of each frame is run */
+  public enum ThinkMode {
+    /** Split across job threads once there are enough entities */
+    PARALLEL,
+    /** One entity at a time in registration order, on the calling thread */
+    SERIAL
+  }
+
+  /**
+   * Registered entities with a particular set of component types.
+   */
+  private static class Archetype {
+    private final int[] typeIds;
+    private final EntityArray members = new EntityArray();
+    private final List<Entity> view = new EntityListView(members.entities);
+
+    private Archetype(int[] typeIds) {
+      this.typeIds = typeIds;
+    }
+
+    private boolean matches(Entity entity) {
+      if (entity.components == null) {
+        return false;
+      }
+      for (int typeId : typeIds) {
+        if (!entity.components.containsKey(typeId)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Unordered array of entities which adds and removes in constant time. Each entity keeps its index
+   * in every array it belongs to, so removing swaps the last entity into its slot instead of
+   * searching for it.
+   */
+  private static class EntityArray {
+    private static int nextId = 0;
+    private final int id = nextId++;
+    private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+
+    private void add(Entity entity) {
+      getIndices(entity).put(id, entities.size);
+      entities.add(entity);
+    }
+
+    private boolean contains(Entity entity) {
+      int index = getIndices(entity).get(id, -1);
+      return index >= 0 && index < entities.size && entities.get(index) == entity;
+    }
+
+    private void remove(Entity entity) {
+      int index = getIndices(entity).remove(id, -1);
+      if (index < 0 || index >= entities.size || entities.get(index) != entity) {
+        return;
+      }
+      Entity last = entities.pop();
+      if (last != entity) {
+        entities.set(index, last);
+        getIndices(last).put(id, index);
+      }
+    }
+
+    private static IntIntMap getIndices(Entity entity) {
+      // Read directly rather than through a method, so entities mocked in tests work too
+      if (entity.arrayIndices == null) {
+        entity.arrayIndices = new IntIntMap(4);
+      }
+      return entity.arrayIndices;
+    }
+  }
+
+  /**
+   * Unmodifiable list backed by an array of entities.
+   */
+  private static class EntityListView extends AbstractList<Entity> {
+    private final Array<Entity> entities;
+
+    private EntityListView(Array<Entity> entities) {
+      this.entities = entities;
+    }
+
+    @Override
+    public Entity get(int index) {
+      return entities.get(index);
+    }
+
+    @Override
+    public int size() {
+      return entities.size;
+    }
+  }
 }
@@ -0,0 +1,237 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.csse3200.game.components.Component;
+
+/**
+ * Uniform grid of registered entities, bucketed by their center position. Entities are moved
+ * between buckets as their position changes, so proximity queries only have to look at the
+ * entities in nearby cells instead of every registered entity.
+ *
+ * <p>Queries write their results into a caller-supplied array, so they do not allocate when the
+ * same array is reused between frames. Queries only read the index, so they can be run from
+ * several threads at once, e.g. by {@link com.csse3200.game.components.Thinker} components, as long
+ * as no entities move or are registered at the same time.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ *   Array&lt;Entity&gt; nearby = new Array&lt;&gt;();
+ *   ServiceLocator.getEntityService().getSpatialIndex()
+ *       .queryRadius(center, 4f, TurretTargetableComponent.class, nearby);
+ * </pre>
+ */
+public class SpatialIndex {
+  public static final float DEFAULT_CELL_SIZE = 2f;
+
+  private final float cellSize;
+  private final IntMap<Array<Entity>> cells = new IntMap<>();
+  // Non-empty buckets, so they can be visited without the map's shared iterator
+  private final Array<Array<Entity>> occupied = new Array<>(false, 16);
+  private final Array<Array<Entity>> spareBuckets = new Array<>(false, 16);
+  private int size = 0;
+
+  public SpatialIndex() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  /**
+   * @param cellSize width and height of each grid cell in metres
+   */
+  public SpatialIndex(float cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Whether the entity is currently tracked by this index.
+   *
+   * @param entity entity to check
+   * @return true if tracked, false otherwise
+   */
+  public boolean contains(Entity entity) {
+    return entity.spatialIndex == this;
+  }
+
+  /**
+   * @return number of entities in the index
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Finds every entity whose center lies within a circle.
+   *
+   * @param center center of the circle
+   * @param radius radius of the circle
+   * @param componentFilter only include entities with this component, or null for any entity
+   * @param out cleared and filled with the matching entities
+   * @return out, for chaining
+   */
+  public Array<Entity> queryRadius(
+      Vector2 center, float radius, Class<? extends Component> componentFilter, Array<Entity> out) {
+    out.clear();
+    float radiusSquared = radius * radius;
+    forEachCandidate(
+        center.x - radius, center.y - radius, center.x + radius, center.y + radius,
+        componentFilter, out);
+
+    // Candidates cover the bounding square of the circle, so trim the corners
+    for (int i = out.size - 1; i >= 0; i--) {
+      Entity entity = out.get(i);
+      float dx = entity.getCenterX() - center.x;
+      float dy = entity.getCenterY() - center.y;
+      if (dx * dx + dy * dy > radiusSquared) {
+        out.removeIndex(i);
+      }
+    }
+    return out;
+  }
+
+  /**
+   * Finds every entity whose center lies within an axis-aligned box.
+   *
+   * @param minX left edge of the box
+   * @param minY bottom edge of the box
+   * @param maxX right edge of the box
+   * @param maxY top edge of the box
+   * @param componentFilter only include entities with this component, or null for any entity
+   * @param out cleared and filled with the matching entities
+   * @return out, for chaining
+   */
+  public Array<Entity> queryAABB(
+      float minX, float minY, float maxX, float maxY,
+      Class<? extends Component> componentFilter, Array<Entity> out) {
+    out.clear();
+    forEachCandidate(minX, minY, maxX, maxY, componentFilter, out);
+    return out;
+  }
+
+  /**
+   * Start tracking an entity. Called by the entity service when the entity is registered.
+   *
+   * @param entity entity to track
+   */
+  void insert(Entity entity) {
+    if (entity.spatialIndex == this) {
+      return;
+    }
+    int cell = getCell(entity.getCenterX(), entity.getCenterY());
+    entity.spatialIndex = this;
+    entity.spatialCell = cell;
+    getOrCreateBucket(cell).add(entity);
+    size++;
+  }
+
+  /**
+   * Stop tracking an entity. Called by the entity service when the entity is unregistered.
+   *
+   * @param entity entity to stop tracking
+   */
+  void remove(Entity entity) {
+    if (entity.spatialIndex != this) {
+      return;
+    }
+    removeFromBucket(entity, entity.spatialCell);
+    entity.spatialIndex = null;
+    size--;
+  }
+
+  /**
+   * Move an entity to the bucket matching its current center. Called by the entity whenever its
+   * position or scale changes.
+   *
+   * @param entity entity which moved
+   */
+  void update(Entity entity) {
+    int cell = getCell(entity.getCenterX(), entity.getCenterY());
+    if (cell == entity.spatialCell) {
+      return;
+    }
+    removeFromBucket(entity, entity.spatialCell);
+    entity.spatialCell = cell;
+    getOrCreateBucket(cell).add(entity);
+  }
+
+  private void forEachCandidate(
+      float minX, float minY, float maxX, float maxY,
+      Class<? extends Component> componentFilter, Array<Entity> out) {
+    int minCellX = toCellCoordinate(minX);
+    int minCellY = toCellCoordinate(minY);
+    int maxCellX = toCellCoordinate(maxX);
+    int maxCellY = toCellCoordinate(maxY);
+
+    long cellsInRange = (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1);
+    if (cellsInRange > cells.size) {
+      // Cheaper to visit every occupied cell than every cell in range
+      for (int i = 0; i < occupied.size; i++) {
+        addMatching(occupied.get(i), minX, minY, maxX, maxY, componentFilter, out);
+      }
+      return;
+    }
+
+    for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+      for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+        Array<Entity> bucket = cells.get(packCell(cellX, cellY));
+        if (bucket != null) {
+          addMatching(bucket, minX, minY, maxX, maxY, componentFilter, out);
+        }
+      }
+    }
+  }
+
+  private static void addMatching(
+      Array<Entity> bucket, float minX, float minY, float maxX, float maxY,
+      Class<? extends Component> componentFilter, Array<Entity> out) {
+    for (int i = 0; i < bucket.size; i++) {
+      Entity entity = bucket.get(i);
+      float x = entity.getCenterX();
+      float y = entity.getCenterY();
+      if (x < minX || x > maxX || y < minY || y > maxY) {
+        continue;
+      }
+      if (componentFilter == null || entity.getComponent(componentFilter) != null) {
+        out.add(entity);
+      }
+    }
+  }
+
+  private Array<Entity> getOrCreateBucket(int cell) {
+    Array<Entity> bucket = cells.get(cell);
+    if (bucket == null) {
+      bucket = spareBuckets.isEmpty() ? new Array<>(false, 4) : spareBuckets.pop();
+      cells.put(cell, bucket);
+      occupied.add(bucket);
+    }
+    return bucket;
+  }
+
+  private void removeFromBucket(Entity entity, int cell) {
+    Array<Entity> bucket = cells.get(cell);
+    if (bucket == null) {
+      return;
+    }
+    bucket.removeValue(entity, true);
+    if (bucket.isEmpty()) {
+      cells.remove(cell);
+      occupied.removeValue(bucket, true);
+      spareBuckets.add(bucket);
+    }
+  }
+
+  private int getCell(float x, float y) {
+    return packCell(toCellCoordinate(x), toCellCoordinate(y));
+  }
+
+  private int toCellCoordinate(float position) {
+    return MathUtils.floor(position / cellSize);
+  }
+
+  /** Packs cell coordinates between -32768 and 32767 into a single key */
+  private static int packCell(int cellX, int cellY) {
+    return (cellX << 16) | (cellY & 0xFFFF);
+  }
+}
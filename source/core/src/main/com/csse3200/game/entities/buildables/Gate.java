@@ -15,7 +15,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.PlaceableEntity;
 import com.csse3200.game.entities.configs.GateConfig;
 import com.csse3200.game.entities.configs.ParticleEffectsConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
@@ -25,10 +25,10 @@ import java.util.Objects;
 
 public class Gate extends PlaceableEntity {
     private static final GateConfig config =
-            FileLoader.readClass(GateConfig.class, "configs/gates.json");
+            ConfigRegistry.get(GateConfig.class, "configs/gates.json");
 
     private static final JoinableComponentShapes shapes =
-            FileLoader.readClass(JoinableComponentShapes.class, "vertices/walls.json");
+            ConfigRegistry.get(JoinableComponentShapes.class, "vertices/walls.json");
     private final TextureAtlas openAtlas;
 
     private final TextureAtlas closedAtlas;
@@ -12,7 +12,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.PlaceableEntity;
 import com.csse3200.game.entities.configs.TurretConfig;
 import com.csse3200.game.entities.configs.TurretConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.HitboxComponent;
@@ -43,7 +43,7 @@ public class Turret extends PlaceableEntity{
      *               (used to get position and rotation)
      */
     public Turret(TurretType type, Entity player) {
-        this(FileLoader.readClass(TurretConfigs.class, "configs/turrets.json").GetTurretConfig(type)); // create turret with config file
+        this(ConfigRegistry.get(TurretConfigs.class, "configs/turrets.json").GetTurretConfig(type)); // create turret with config file
     }
 
     /**
@@ -12,7 +12,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.PlaceableEntity;
 import com.csse3200.game.entities.configs.WallConfig;
 import com.csse3200.game.entities.configs.WallConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.HitboxComponent;
@@ -35,10 +35,10 @@ import java.util.Objects;
  */
 public class Wall extends PlaceableEntity {
     private static final JoinableComponentShapes shapes =
-            FileLoader.readClass(JoinableComponentShapes.class, "vertices/walls.json");
+            ConfigRegistry.get(JoinableComponentShapes.class, "vertices/walls.json");
 
     private static final WallConfigs configs =
-            FileLoader.readClass(WallConfigs.class, "configs/walls.json");
+            ConfigRegistry.get(WallConfigs.class, "configs/walls.json");
 
     WallType type;
 
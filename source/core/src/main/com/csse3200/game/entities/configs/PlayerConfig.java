@@ -1,6 +1,6 @@
 package com.csse3200.game.entities.configs;
 
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 
 import java.util.Objects;
 
@@ -14,7 +14,7 @@ public class PlayerConfig extends HealthEntityConfig  {
 
   public PlayerConfig() {
     this.spritePath = "images/player.atlas";
-    this.sounds = FileLoader.readClass(SoundsConfig.class, "configs/player_sounds.json");
+    this.sounds = ConfigRegistry.get(SoundsConfig.class, "configs/player_sounds.json");
   }
 
   @Override
@@ -1,7 +1,6 @@
 package com.csse3200.game.entities.factories;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.components.TouchAttackComponent;
 import com.csse3200.game.components.Weapons.WeaponControllerComponent;
@@ -11,7 +10,7 @@ import com.csse3200.game.components.player.InventoryComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.WeaponConfig;
 import com.csse3200.game.entities.configs.WeaponConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
@@ -22,7 +21,7 @@ import com.csse3200.game.rendering.AnimationRenderComponent;
  */
 public class AttackFactory {
   private static final WeaponConfigs configs =
-          FileLoader.readClass(WeaponConfigs.class, "configs/weapons.json");
+          ConfigRegistry.get(WeaponConfigs.class, "configs/weapons.json");
 
   //TODO: REMOVE - LEGACY
   /**
@@ -62,8 +61,7 @@ public class AttackFactory {
                     .addComponent(weaponController);
     attack.setEntityType("playerWeapon");
 
-    TextureAtlas atlas = new TextureAtlas(config.textureAtlas);
-    AnimationRenderComponent animator = new AnimationRenderComponent(atlas);
+    AnimationRenderComponent animator = new AnimationRenderComponent(config.textureAtlas);
 
     switch (config.animationType) {
       case 8:
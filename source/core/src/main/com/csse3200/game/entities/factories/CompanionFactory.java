@@ -19,7 +19,7 @@ import com.csse3200.game.components.player.PlayerAnimationController;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.CompanionConfig;
 import com.csse3200.game.entities.configs.PlayerConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.input.InputComponent;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
@@ -37,7 +37,7 @@ import java.util.Objects;
  */
 public class CompanionFactory {
     private static final CompanionConfig config =
-            FileLoader.readClass(CompanionConfig.class, "configs/companion.json");
+            ConfigRegistry.get(CompanionConfig.class, "configs/companion.json");
 
     public static Entity createCompanion(){
        return createCompanion(config);
@@ -85,7 +85,8 @@ public class CompanionFactory {
                         .addComponent(new FollowComponent(player,1f))
                         .addComponent(new InteractionControllerComponent(false));
                          companion.addComponent(new SaveableComponent<>(p -> {
-                               CompanionConfig companionConfig = config;
+                               // The given config may be shared through the ConfigRegistry, so save a copy of it
+                               CompanionConfig companionConfig = copyConfig(config);
                                companionConfig.position = new GridPoint2((int) companion.getPosition().x, (int)companion.getPosition().y);
                                companionConfig.health = companion.getComponent(CombatStatsComponent.class).getHealth();
                                return companionConfig;
@@ -98,6 +99,28 @@ public class CompanionFactory {
         companion.setEntityType("companion");
         return companion;
     }
+
+    /**
+     * Copies a companion config, so that a config shared through the ConfigRegistry is never changed.
+     *
+     * @param config Configuration to copy
+     * @return A new config with the same properties
+     */
+    private static CompanionConfig copyConfig(CompanionConfig config) {
+        CompanionConfig copy = new CompanionConfig();
+        copy.spritePath = config.spritePath;
+        copy.position = config.position == null ? null : new GridPoint2(config.position);
+        copy.requiredTextures = config.requiredTextures;
+        copy.scale = config.scale.cpy();
+        copy.speed = config.speed;
+        copy.health = config.health;
+        copy.maxHealth = config.maxHealth;
+        copy.baseAttack = config.baseAttack;
+        copy.attackMultiplier = config.attackMultiplier;
+        copy.isImmune = config.isImmune;
+        return copy;
+    }
+
     private CompanionFactory() {
         throw new IllegalStateException("Instantiating static util class");
     }
@@ -1,7 +1,6 @@
 package com.csse3200.game.entities.factories;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.*;
@@ -16,7 +15,7 @@ import com.csse3200.game.entities.configs.EnemyConfig;
 import com.csse3200.game.entities.configs.NPCConfigs;
 import com.csse3200.game.entities.enemies.EnemyBehaviour;
 import com.csse3200.game.entities.enemies.EnemyType;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -42,7 +41,7 @@ import java.util.List;
 
 public class EnemyFactory {
   private static final NPCConfigs configs =
-      FileLoader.readClass(NPCConfigs.class, "configs/enemy.json");
+      ConfigRegistry.get(NPCConfigs.class, "configs/enemy.json");
   public static DialogueBox dialogueBox;
 
   /**
@@ -76,14 +75,14 @@ public class EnemyFactory {
     // Cycles through all targets
     //TODO: This should probably be contained in its own AITask -
     // this doesn't allow for new entities after enemy creation
+    // Live view of the entity service; only adds tasks, so nothing is registered while iterating
     List<Entity> targets = ServiceLocator.getEntityService().getEntitiesByComponent(HitboxComponent.class);
     for (Entity target : targets) {
       // Adds the specific behaviour to entity
       EnemyBehaviourSelector(target, config.type, config.behaviour, aiComponent);
     }
 
-    TextureAtlas atlas = new TextureAtlas(config.spritePath);
-    animator = new AnimationRenderComponent(atlas);
+    animator = new AnimationRenderComponent(config.spritePath);
 
     // SETUP
     Entity enemy =
@@ -7,7 +7,7 @@ import com.csse3200.game.components.InteractableComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.LaboratoryConfig;
 import com.csse3200.game.entities.configs.PlayerConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -24,7 +24,7 @@ import static com.csse3200.game.screens.MainMenuScreen.logger;
 public class LaboratoryFactory {
 
     private static final LaboratoryConfig config =
-            FileLoader.readClass(LaboratoryConfig.class, "configs/laboratory.json");
+            ConfigRegistry.get(LaboratoryConfig.class, "configs/laboratory.json");
     /**
      * Creates a new laboratory entity with default properties.
      *
@@ -8,7 +8,7 @@ import com.csse3200.game.components.ships.ShipAnimationController;
 import com.csse3200.game.components.ships.ShipStatDisplay;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.ShipConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.input.InputComponent;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
@@ -21,7 +21,7 @@ import com.csse3200.game.services.ServiceLocator;
 
 public class MinigameShipFactory {
 
-    private static final ShipConfig stats = FileLoader.readClass(ShipConfig.class, "configs/ship.json");
+    private static final ShipConfig stats = ConfigRegistry.get(ShipConfig.class, "configs/ship.json");
     /**
      * Creates a new minigame ship to match the config file
      * @return Created minigame ship
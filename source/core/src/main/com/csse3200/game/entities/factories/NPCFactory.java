@@ -19,7 +19,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.BotanistConfig;
 import com.csse3200.game.entities.configs.AstroConfig;
 import com.csse3200.game.entities.configs.NPCConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -47,7 +47,7 @@ public class NPCFactory {
   public static DialogueBox dialogueBox;
 
   /** Configuration class for NPC properties. */
-  private static final NPCConfigs configs = FileLoader.readClass(NPCConfigs.class, "configs/NPCs.json");
+  private static final NPCConfigs configs = ConfigRegistry.get(NPCConfigs.class, "configs/NPCs.json");
 
   /** Asset manager to load and manage assets. */
   public AssetManager assetManager;
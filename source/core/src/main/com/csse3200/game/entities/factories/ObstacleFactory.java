@@ -8,11 +8,12 @@ import com.csse3200.game.entities.PlaceableEntity;
 import com.csse3200.game.entities.buildables.Turret;
 import com.csse3200.game.entities.buildables.TurretType;
 import com.csse3200.game.entities.configs.*;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.rendering.RepeatedTextureRenderComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
 
 /**
@@ -25,17 +26,17 @@ public class ObstacleFactory {
   public static float WALL_SIZE = 0.1f;
 
   private static final WallConfigs configs =
-          FileLoader.readClass(WallConfigs.class, "configs/walls.json");
+          ConfigRegistry.get(WallConfigs.class, "configs/walls.json");
 
   private static final AsteroidConfig asteroidConfig =
-          FileLoader.readClass(AsteroidConfig.class, "configs/asteroid.json");
+          ConfigRegistry.get(AsteroidConfig.class, "configs/asteroid.json");
   private static final MinigameConfigs minigameConfigs =
-          FileLoader.readClass(MinigameConfigs.class, "configs/minigame.json");
+          ConfigRegistry.get(MinigameConfigs.class, "configs/minigame.json");
   private static final TurretConfigs turretconfigs =
-          FileLoader.readClass(TurretConfigs.class, "configs/turrets.json");
+          ConfigRegistry.get(TurretConfigs.class, "configs/turrets.json");
 
   private static final BaseEntityConfig treeConfig =
-          FileLoader.readClass(BaseEntityConfig.class, "configs/tree.json");
+          ConfigRegistry.get(BaseEntityConfig.class, "configs/tree.json");
   protected static TerrainComponent terrain;
 
   /**
@@ -65,37 +66,6 @@ public class ObstacleFactory {
     return createTree(treeConfig);
   }
 
-  /**
-   * Creates a visible obstacle
-   * @return Environment entity
-   */
-  public static Entity createEnvironment() {
-    Entity environment =
-            new Entity().addComponent(new PhysicsComponent())
-            .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
-
-    environment.getComponent(PhysicsComponent.class).setBodyType(BodyType.StaticBody);
-    return environment;
-  }
-
-  /**
-   * Creates an obstacle with a custom sized collision box
-   * @param sizeX the length of the new collision box
-   * @param sizeY the height of the new collision box
-   * @param posX the relative x coordinate of the top left corner of the collision box
-   * @param posY the relative y coordinate of the top left corner of the collision box
-   * @return Environment entity with the set collision box
-   */
-  public static Entity createEnvironment(float sizeX, float sizeY, float posX, float posY) {
-    Entity environment =
-            new Entity().addComponent(new PhysicsComponent())
-                    .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
-
-    environment.getComponent(PhysicsComponent.class).setBodyType(BodyType.StaticBody);
-    PhysicsUtils.setCustomCollider(environment, sizeX, sizeY, posX, posY);
-    return environment;
-  }
-
   /**
    * Creates a tree top entity.
    * @return entity
@@ -185,8 +155,31 @@ public class ObstacleFactory {
     return asteroid;
   }
   public static Entity createStaticAsteroid(float width, float height) {
-    asteroidConfig.scale = new Vector2(width, height);
-    return createStaticAsteroid(asteroidConfig);
+    Entity asteroid = createStaticAsteroid(asteroidConfig);
+    asteroid.setScale(width, height);
+    return asteroid;
+  }
+
+  /**
+   * Creates a line of static asteroids as a single entity with one collider spanning the line,
+   * instead of one entity and physics body per asteroid.
+   *
+   * @param count number of asteroids in the line
+   * @param step offset between consecutive asteroids
+   * @param size width and height of each asteroid
+   * @return entity
+   */
+  public static Entity createStaticAsteroidLine(int count, Vector2 step, float size) {
+    Entity line = new Entity()
+            .addComponent(new RepeatedTextureRenderComponent(asteroidConfig.spritePath, count, step))
+            .addComponent(new PhysicsComponent().setBodyType(BodyType.StaticBody))
+            .addComponent(new ColliderComponent().setLayer(PhysicsLayer.OBSTACLE));
+    line.setScale(size, size);
+
+    // Covers the same area as the default collider of every asteroid in the line
+    Vector2 colliderSize = step.cpy().scl(count - 1f).add(size * 0.6f, size * 0.6f);
+    line.getComponent(ColliderComponent.class).setAsBox(colliderSize, colliderSize.cpy().scl(0.5f));
+    return line;
   }
 
   /**
@@ -205,8 +198,9 @@ public class ObstacleFactory {
   }
 
   public static Entity createObstacleEnemy(float width, float height){
-    minigameConfigs.obstacleEnemy.scale = new Vector2(width, height);
-    return createObstacleEnemy(minigameConfigs.obstacleEnemy);
+    Entity enemy = createObstacleEnemy(minigameConfigs.obstacleEnemy);
+    enemy.setScale(width, height);
+    return enemy;
   }
 
   public static Entity createObstacleGameGoal(BaseEntityConfig config){ //TODO: Could create custom config type if necessary
@@ -226,8 +220,9 @@ public class ObstacleFactory {
 
   //TODO: REMOVE - LEGACY
   public static Entity createObstacleGameGoal(float width, float height){
-    minigameConfigs.obstacleGameGoal.scale = new Vector2(width, height);
-    return createObstacleGameGoal(minigameConfigs.obstacleGameGoal);
+    Entity goal = createObstacleGameGoal(minigameConfigs.obstacleGameGoal);
+    goal.setScale(width, height);
+    return goal;
   }
 
   private ObstacleFactory() {
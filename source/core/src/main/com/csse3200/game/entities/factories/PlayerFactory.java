@@ -16,7 +16,7 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.PlayerConfig;
 import com.csse3200.game.entities.configs.WeaponConfig;
 import com.csse3200.game.entities.configs.WeaponConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.input.InputComponent;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
@@ -41,9 +41,9 @@ public class PlayerFactory {
     private static DialogueBox dialogueBox;
 
     private static final PlayerConfig config =
-            FileLoader.readClass(PlayerConfig.class, "configs/player.json");
+            ConfigRegistry.get(PlayerConfig.class, "configs/player.json");
     private static final WeaponConfigs weaponConfigs =
-            FileLoader.readClass(WeaponConfigs.class, "configs/weapons.json");
+            ConfigRegistry.get(WeaponConfigs.class, "configs/weapons.json");
 
     //TODO: REMOVE - LEGACY
 
@@ -113,7 +113,8 @@ public class PlayerFactory {
                         .addComponent(new UpgradeTree());
 
         player.addComponent(new SaveableComponent<>(p -> {
-                PlayerConfig playerConfig = config;
+                // The given config may be shared through the ConfigRegistry, so save a copy of it
+                PlayerConfig playerConfig = copyConfig(config);
                 playerConfig.position = new GridPoint2((int) player.getPosition().x, (int)player.getPosition().y);
                 playerConfig.health = player.getComponent(CombatStatsComponent.class).getHealth();
                 return playerConfig;
@@ -127,6 +128,29 @@ public class PlayerFactory {
         return player;
     }
 
+    /**
+     * Copies a player config, so that a config shared through the ConfigRegistry is never changed.
+     *
+     * @param config - configuration to copy
+     * @return a new config with the same properties
+     */
+    private static PlayerConfig copyConfig(PlayerConfig config) {
+        PlayerConfig copy = new PlayerConfig();
+        copy.spritePath = config.spritePath;
+        copy.position = config.position == null ? null : new GridPoint2(config.position);
+        copy.requiredTextures = config.requiredTextures;
+        copy.scale = config.scale.cpy();
+        copy.health = config.health;
+        copy.maxHealth = config.maxHealth;
+        copy.baseAttack = config.baseAttack;
+        copy.attackMultiplier = config.attackMultiplier;
+        copy.isImmune = config.isImmune;
+        copy.speed = config.speed;
+        copy.lives = config.lives;
+        copy.sounds = config.sounds;
+        return copy;
+    }
+
     private PlayerFactory() {
         throw new IllegalStateException("Instantiating static util class");
     }
@@ -7,7 +7,7 @@ import com.csse3200.game.components.Weapons.WeaponType;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.WeaponConfig;
 import com.csse3200.game.entities.configs.WeaponConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.rendering.TextureRenderComponent;
 
 /**
@@ -15,7 +15,7 @@ import com.csse3200.game.rendering.TextureRenderComponent;
  */
 public class PlayerWeaponFactory {
   private static final WeaponConfigs configs =
-          FileLoader.readClass(WeaponConfigs.class, "configs/weapons.json");
+          ConfigRegistry.get(WeaponConfigs.class, "configs/weapons.json");
   /**
    * Static function to create a new weapon entity
    * @param weaponType - the type of weapon entity to be made
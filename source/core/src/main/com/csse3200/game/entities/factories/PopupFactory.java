@@ -3,10 +3,39 @@ package com.csse3200.game.entities.factories;
 import com.csse3200.game.components.resources.PopupComponent;
 import com.csse3200.game.components.resources.Resource;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityPool;
+import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.rendering.TextureRenderComponent;
+import com.csse3200.game.services.ServiceLocator;
 
 public class PopupFactory {
+    private static final int POPUP_POOL_CAPACITY = 32;
+    private static final String[] POOL_NAMES = new String[Resource.values().length];
+
+    static {
+        for (Resource resource : Resource.values()) {
+            POOL_NAMES[resource.ordinal()] = "popup:" + resource;
+        }
+    }
+
+    /**
+     * Creates a popup showing a resource. Popups come from a pool per resource, since extractors
+     * create one every time they produce.
+     *
+     * @param resource the resource shown
+     * @return the popup entity, not yet registered
+     */
     public static Entity createPopup(Resource resource) {
+        EntityService entityService = ServiceLocator.getEntityService();
+        String poolName = POOL_NAMES[resource.ordinal()];
+        EntityPool<Entity> pool = entityService.getPool(poolName);
+        if (pool == null) {
+            pool = entityService.createPool(poolName, () -> buildPopup(resource), POPUP_POOL_CAPACITY);
+        }
+        return pool.obtain();
+    }
+
+    private static Entity buildPopup(Resource resource) {
 
         Entity popup = new Entity()
                 .addComponent(new PopupComponent(500, 0.001));
@@ -6,14 +6,14 @@ import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.PlayerConfig;
 import com.csse3200.game.entities.configs.PowerupConfig;
 import com.csse3200.game.entities.configs.PowerupConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
 
 public class PowerupFactory {
-    public static final PowerupConfigs configs = FileLoader.readClass(PowerupConfigs.class, "configs/powerups.json");
+    public static final PowerupConfigs configs = ConfigRegistry.get(PowerupConfigs.class, "configs/powerups.json");
 
     private PowerupFactory() {
         throw new IllegalStateException("Utility class");
@@ -1,7 +1,6 @@
 package com.csse3200.game.entities.factories;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.CombatStatsComponent;
@@ -9,9 +8,11 @@ import com.csse3200.game.components.ProjectileAttackComponent;
 import com.csse3200.game.components.npc.EnemyAnimationController;
 import com.csse3200.game.components.tasks.ProjectileMovementTask;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityPool;
+import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.entities.configs.EnemyBulletConfig;
 import com.csse3200.game.entities.configs.ProjectileConfigs;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -19,6 +20,7 @@ import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.services.ServiceLocator;
 
 /**
  * Factory to create projectile entities with predefined components.
@@ -26,32 +28,58 @@ import com.csse3200.game.rendering.AnimationRenderComponent;
 public class ProjectileFactory {
 
     static final ProjectileConfigs configs =
-            FileLoader.readClass(ProjectileConfigs.class, "configs/projectile.json");
+            ConfigRegistry.get(ProjectileConfigs.class, "configs/projectile.json");
+    private static final int BULLET_POOL_CAPACITY = 128;
 
     //TODO: Remove target location and shooter in exchange for a vector and damage properties in config?
     /**
      * Creates a projectile, using the stats of the shooter which will fire towards a certain location.
+     * Bullets come from a pool per sprite, so a bullet which has hit something or reached its target
+     * is fired again rather than rebuilt.
      *
      * @param targetLocation The location where the projectile is aimed
      * @param shooter The entity which fired the projectile
      * @param config The configuration file to match the bullet to
-     * @return The projectile entity
+     * @return The projectile entity, not yet registered
      */
     public static Entity createEnemyBullet(Vector2 targetLocation, Entity shooter, EnemyBulletConfig config) {
         int damage = shooter.getComponent(CombatStatsComponent.class).getAttack();
 
+        Entity bullet = getBulletPool(config).obtain();
+        bullet.getComponent(CombatStatsComponent.class).setBaseAttack(damage);
+        bullet.getComponent(AITaskComponent.class)
+                .getTask(ProjectileMovementTask.class)
+                .setTargetLocation(targetLocation);
+        return bullet;
+    }
+
+    private static EntityPool<Entity> getBulletPool(EnemyBulletConfig config) {
+        EntityService entityService = ServiceLocator.getEntityService();
+        EntityPool<Entity> pool = entityService.getPool(config.spritePath);
+        if (pool == null) {
+            pool = entityService.createPool(
+                    config.spritePath, () -> createPooledEnemyBullet(config), BULLET_POOL_CAPACITY);
+        }
+        return pool;
+    }
+
+    /**
+     * Builds a new bullet for the bullet pool. Its damage and target are set each time it is obtained.
+     *
+     * @param config The configuration file to match the bullet to
+     * @return The projectile entity
+     */
+    private static Entity createPooledEnemyBullet(EnemyBulletConfig config) {
         Entity enemy = createBaseBullet();
 
         AITaskComponent aiComponent = new AITaskComponent();
 
         //TODO: Change this to a vector?
-        aiComponent.addTask(new ProjectileMovementTask(targetLocation, 10, 100f, 100f));
-
-        TextureAtlas atlas = new TextureAtlas(config.spritePath);
+        aiComponent.addTask(new ProjectileMovementTask(Vector2.Zero, 10, 100f, 100f));
 
         // Animations for the bullet
         AnimationRenderComponent animator =
-                new AnimationRenderComponent(atlas);
+                new AnimationRenderComponent(config.spritePath);
         animator.addAnimation("angry_float", 0.1f, Animation.PlayMode.LOOP);
         animator.addAnimation("float", 0.1f, Animation.PlayMode.LOOP);
         animator.addAnimation("explode",0.3f, Animation.PlayMode.LOOP);
@@ -59,7 +87,7 @@ public class ProjectileFactory {
 
 
         enemy
-                .addComponent(new CombatStatsComponent(0, damage, 1, false))
+                .addComponent(new CombatStatsComponent(0, 0, 1, false))
                 .addComponent(animator)
                 .addComponent(new EnemyAnimationController())
                 .addComponent(aiComponent);
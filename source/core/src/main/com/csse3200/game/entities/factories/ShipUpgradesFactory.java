@@ -6,7 +6,7 @@ import com.csse3200.game.components.ships.ShipUpgradesComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.AllShipUpgradesConfig;
 import com.csse3200.game.entities.configs.ShipUpgradesConfig;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
@@ -14,7 +14,7 @@ import com.csse3200.game.rendering.TextureRenderComponent;
 public class ShipUpgradesFactory {
 
     private static final AllShipUpgradesConfig configs
-            = FileLoader.readClass(AllShipUpgradesConfig.class, "configs/shipUpgrades.json");
+            = ConfigRegistry.get(AllShipUpgradesConfig.class, "configs/shipUpgrades.json");
 
     /**
      * Based on given ShipUpgradesConfig, create the relevant stat upgrade
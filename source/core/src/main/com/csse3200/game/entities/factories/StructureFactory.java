@@ -26,7 +26,7 @@ import com.csse3200.game.entities.configs.ExtractorConfig;
 import com.csse3200.game.entities.configs.ShipConfig;
 import com.csse3200.game.entities.PlaceableEntity;
 
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.PhysicsUtils;
 import com.csse3200.game.physics.components.ColliderComponent;
@@ -56,7 +56,7 @@ public class StructureFactory {
 
     //Default configs
     public static final ShipConfig defaultShip =
-            FileLoader.readClass(ShipConfig.class, "configs/ship.json");
+            ConfigRegistry.get(ShipConfig.class, "configs/ship.json");
 
 
     /**
@@ -1,14 +1,11 @@
 package com.csse3200.game.events;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.events.listeners.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
-
 /**
  * Send and receive events between objects. EventHandler provides an implementation of the Observer
  * pattern, also known as an event system or publish/subscribe. When an event is triggered with
@@ -17,16 +14,20 @@ import java.util.function.Consumer;
  * <p>Currently supports up to 3 arguments for an event. More can be added, but consider instead
  * passing a class with required fields.
  *
+ * <p>Events are identified by an interned {@link EventKey}. Frequently triggered events should
+ * declare a typed key constant, which is checked at compile time and skips the name lookup.
+ * Listeners and triggers using the event's name resolve to the same key.
+ *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
  */
 public class EventHandler {
   private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-  Map<String, Array<EventListener>> listeners;
+  IntMap<Array<EventListener>> listeners;
 
   public EventHandler() {
     // Assume no events by default, which will be the case for most entities
-    listeners = new HashMap<>(0);
+    listeners = new IntMap<>(0);
   }
 
   /**
@@ -36,7 +37,7 @@ public class EventHandler {
    * @param listener function to call when event fires
    */
   public void addListener(String eventName, EventListener0 listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -47,7 +48,7 @@ public class EventHandler {
    * @param <T> argument type
    */
   public <T> void addListener(String eventName, EventListener1<T> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -59,7 +60,7 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    */
   public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
   }
 
   /**
@@ -72,7 +73,55 @@ public class EventHandler {
    * @param <T2> Type of arg 2
    */
   public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKey.of(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with zero arguments
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   */
+  public void addListener(EventKey<EventListener0> event, EventListener0 listener) {
+    registerListener(event, listener);
+  }
+
+  /**
+   * Add a listener to an event with one argument
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   * @param <T> argument type
+   */
+  public <T> void addListener(EventKey<EventListener1<T>> event, EventListener1<T> listener) {
+    registerListener(event, listener);
+  }
+
+  /**
+   * Add a listener to an event with two arguments
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  public <T0, T1> void addListener(
+      EventKey<EventListener2<T0, T1>> event, EventListener2<T0, T1> listener) {
+    registerListener(event, listener);
+  }
+
+  /**
+   * Add a listener to an event with three arguments
+   *
+   * @param event key of the event
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  public <T0, T1, T2> void addListener(
+      EventKey<EventListener3<T0, T1, T2>> event, EventListener3<T0, T1, T2> listener) {
+    registerListener(event, listener);
   }
 
   /**
@@ -81,8 +130,7 @@ public class EventHandler {
    * @param eventName name of the event
    */
   public void trigger(String eventName) {
-    logTrigger(eventName);
-    forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+    trigger(EventKey.<EventListener0>of(eventName));
   }
 
   /**
@@ -92,15 +140,12 @@ public class EventHandler {
    * @param arg0 arg to pass to event
    * @param <T> argument type
    */
-  @SuppressWarnings("unchecked")
   public <T> void trigger(String eventName, T arg0) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+    trigger(EventKey.<EventListener1<T>>of(eventName), arg0);
   }
 
   /**
-   * Trigger an event with one argument
+   * Trigger an event with two arguments
    *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
@@ -108,16 +153,12 @@ public class EventHandler {
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    trigger(EventKey.<EventListener2<T0, T1>>of(eventName), arg0, arg1);
   }
 
   /**
-   * Trigger an event with one argument
+   * Trigger an event with three arguments
    *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
@@ -127,33 +168,113 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    * @param <T2> Type of arg 2
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) ->
-            ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+    trigger(EventKey.<EventListener3<T0, T1, T2>>of(eventName), arg0, arg1, arg2);
+  }
+
+  /**
+   * Trigger an event with no arguments
+   *
+   * @param event key of the event
+   */
+  public void trigger(EventKey<EventListener0> event) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = listeners.get(event.getId());
+    if (eventListeners == null) {
+      return;
+    }
+    // Listeners added while dispatching are not called until the next trigger
+    EventListener[] items = eventListeners.items;
+    int size = eventListeners.size;
+    for (int i = 0; i < size; i++) {
+      ((EventListener0) items[i]).handle();
+    }
   }
 
-  private void registerListener(String eventName, EventListener listener) {
-    logger.debug("Adding listener {} to event {}", listener, eventName);
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+  /**
+   * Trigger an event with one argument
+   *
+   * @param event key of the event
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void trigger(EventKey<EventListener1<T>> event, T arg0) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = listeners.get(event.getId());
     if (eventListeners == null) {
-      eventListeners = new Array<>(1);
-      listeners.put(eventName, eventListeners);
+      return;
+    }
+    EventListener[] items = eventListeners.items;
+    int size = eventListeners.size;
+    for (int i = 0; i < size; i++) {
+      ((EventListener1<T>) items[i]).handle(arg0);
     }
-    eventListeners.add(listener);
   }
 
-  private void forEachListener(String eventName, Consumer<EventListener> func) {
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners != null) {
-      eventListeners.forEach(func);
+  /**
+   * Trigger an event with two arguments
+   *
+   * @param event key of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1> void trigger(EventKey<EventListener2<T0, T1>> event, T0 arg0, T1 arg1) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = listeners.get(event.getId());
+    if (eventListeners == null) {
+      return;
+    }
+    EventListener[] items = eventListeners.items;
+    int size = eventListeners.size;
+    for (int i = 0; i < size; i++) {
+      ((EventListener2<T0, T1>) items[i]).handle(arg0, arg1);
+    }
+  }
+
+  /**
+   * Trigger an event with three arguments
+   *
+   * @param event key of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param arg2 arg 2 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1, T2> void trigger(
+      EventKey<EventListener3<T0, T1, T2>> event, T0 arg0, T1 arg1, T2 arg2) {
+    logTrigger(event);
+    Array<EventListener> eventListeners = listeners.get(event.getId());
+    if (eventListeners == null) {
+      return;
+    }
+    EventListener[] items = eventListeners.items;
+    int size = eventListeners.size;
+    for (int i = 0; i < size; i++) {
+      ((EventListener3<T0, T1, T2>) items[i]).handle(arg0, arg1, arg2);
     }
   }
 
-  private static void logTrigger(String eventName) {
-    logger.debug("Triggering event {}", eventName);
+  private void registerListener(EventKey<?> event, EventListener listener) {
+    logger.debug("Adding listener {} to event {}", listener, event);
+    Array<EventListener> eventListeners = listeners.get(event.getId());
+    if (eventListeners == null) {
+      eventListeners = new Array<>(true, 1, EventListener.class);
+      listeners.put(event.getId(), eventListeners);
+    }
+    eventListeners.add(listener);
+  }
+
+  private static void logTrigger(EventKey<?> event) {
+    // Checked first so the hot path skips the logging call entirely
+    if (logger.isDebugEnabled()) {
+      logger.debug("Triggering event {}", event);
+    }
   }
 }
@@ -0,0 +1,73 @@
+package com.csse3200.game.events;
+
+import com.csse3200.game.events.listeners.EventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interned, typed name of an event. Each distinct event name maps to exactly one key with a
+ * unique integer id, which {@link EventHandler} uses to find listeners without hashing strings on
+ * every trigger. The listener type parameter ties listeners and triggers of the same key to the
+ * same arguments at compile time.
+ *
+ * <p>Keys are usually declared once as constants next to the code that triggers them:
+ *
+ * <pre>
+ *   public static final EventKey&lt;EventListener1&lt;Integer&gt;&gt; UPDATE_HEALTH =
+ *       EventKey.of("updateHealth");
+ * </pre>
+ *
+ * <p>String based listeners and triggers resolve to the same interned key, so they interoperate
+ * with typed ones.
+ *
+ * @param <T> listener type of the event
+ */
+public final class EventKey<T extends EventListener> {
+  private static final ConcurrentMap<String, EventKey<?>> keys = new ConcurrentHashMap<>();
+  private static final AtomicInteger nextId = new AtomicInteger();
+
+  private final String name;
+  private final int id;
+
+  private EventKey(String name, int id) {
+    this.name = name;
+    this.id = id;
+  }
+
+  /**
+   * Get the interned key for an event name, creating it on first use.
+   *
+   * @param name name of the event
+   * @param <T> listener type of the event
+   * @return key shared by every user of the name
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends EventListener> EventKey<T> of(String name) {
+    EventKey<?> key = keys.get(name);
+    if (key == null) {
+      key = keys.computeIfAbsent(name, newName -> new EventKey<>(newName, nextId.getAndIncrement()));
+    }
+    return (EventKey<T>) key;
+  }
+
+  /**
+   * @return name of the event
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return unique slot of the event, used to index listeners
+   */
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,565 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.SerializationException;
+import com.csse3200.game.areas.mapConfig.AreaEntityConfig;
+import com.csse3200.game.components.SaveableComponent;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.configs.BaseEntityConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary snapshot of every saveable entity in an area. Capturing copies each entity's saved config
+ * into a byte buffer on the calling thread, which is much cheaper than building and pretty
+ * printing JSON, and {@link #writeAsync(FileHandle)} compresses the buffer and writes it to disk on
+ * a blocking {@link JobSystem} thread.
+ *
+ * <p>Files start with an uncompressed header (magic, format version, body length and CRC) followed
+ * by the deflated body. The body is a record count and then one length-prefixed record per entity,
+ * holding the config's area key, class and its public fields as (name, tag, value) entries. Strings
+ * are interned, so field and class names are only written once per file. Unknown fields are
+ * skipped when reading, so fields can be added to configs without bumping the version.
+ *
+ * <p>Example use:
+ *
+ * <pre>
+ * AreaSnapshot.capture(entities).writeAsync(file);
+ * ...
+ * AreaEntityConfig saved = AreaSnapshot.read(file);
+ * </pre>
+ */
+public class AreaSnapshot {
+  private static final Logger logger = LoggerFactory.getLogger(AreaSnapshot.class);
+  /** "SAVE" */
+  static final int MAGIC = 0x53415645;
+  public static final short VERSION = 1;
+  private static final int HEADER_SIZE = 14;
+  private static final int BYTES_PER_ENTITY = 128;
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private static final int NULL_STRING = -1;
+  private static final int NEW_STRING = -2;
+
+  static final byte TAG_NULL = 0;
+  static final byte TAG_INT = 1;
+  static final byte TAG_FLOAT = 2;
+  static final byte TAG_BOOLEAN = 3;
+  static final byte TAG_STRING = 4;
+  static final byte TAG_LONG = 5;
+  static final byte TAG_DOUBLE = 6;
+  static final byte TAG_GRID_POINT = 7;
+  static final byte TAG_VECTOR2 = 8;
+  static final byte TAG_ENUM = 9;
+  /** Any other value, written as JSON */
+  static final byte TAG_JSON = 10;
+
+  /** Saved fields of each config class */
+  private static final Map<Class<?>, Field[]> fieldCache = new ConcurrentHashMap<>();
+  /** Each write waits for the one before, so an older save can't replace a newer one */
+  private static volatile CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+  private ByteBuffer buffer;
+  private final ObjectIntMap<String> strings = new ObjectIntMap<>();
+  private Json json;
+  private int recordCount = 0;
+
+  private AreaSnapshot(int capacity) {
+    buffer = ByteBuffer.allocate(Math.max(capacity, BYTES_PER_ENTITY));
+    // Record count, filled in once capture finishes
+    buffer.putInt(0);
+  }
+
+  /**
+   * Capture the saved config of every entity. Must be called on the render thread, since the save
+   * functions read live entity state.
+   *
+   * @param entities entities with a {@link SaveableComponent}
+   * @return snapshot ready to be written
+   */
+  public static AreaSnapshot capture(List<Entity> entities) {
+    AreaSnapshot snapshot = new AreaSnapshot(entities.size() * BYTES_PER_ENTITY);
+    for (int i = 0; i < entities.size(); i++) {
+      SaveableComponent<?> saveable = entities.get(i).getComponent(SaveableComponent.class);
+      snapshot.putRecord(saveable.getType().getSimpleName(), saveable.save());
+    }
+    snapshot.buffer.putInt(0, snapshot.recordCount);
+    snapshot.buffer.flip();
+    return snapshot;
+  }
+
+  /**
+   * @return number of entities in the snapshot
+   */
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  /**
+   * @return size of the uncompressed body in bytes
+   */
+  public int getSize() {
+    return buffer.limit();
+  }
+
+  /**
+   * Compress and write the snapshot on a blocking job thread. The file is written to a temporary
+   * file, synced to disk and then moved over the old save, so a crash part way through never
+   * leaves a broken save behind.
+   *
+   * @param file file to write to
+   * @return future completed once the snapshot is on disk, or completed exceptionally with an
+   *     {@link UncheckedIOException} if it couldn't be written
+   */
+  public CompletableFuture<Void> writeAsync(FileHandle file) {
+    Path target = file.file().toPath();
+    CompletableFuture<Void> previous = lastWrite;
+    CompletableFuture<Void> write = JobSystem.launchBlocking(() -> {
+      // A failed save has already been reported, and shouldn't stop this one
+      previous.exceptionally(e -> null).join();
+      try {
+        write(target);
+      } catch (IOException e) {
+        logger.error("Failed to save snapshot to {}", target, e);
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    });
+    lastWrite = write;
+    return write;
+  }
+
+  /**
+   * Wait for the last snapshot to be written. Call before the game exits. A failed write has
+   * already been logged and reported through its future, so it isn't thrown again here.
+   */
+  public static void flush() {
+    lastWrite.exceptionally(e -> null).join();
+  }
+
+  /**
+   * Read a snapshot into an area config.
+   *
+   * @param file file to read from
+   * @return saved entities, keyed by their config type
+   * @throws IOException if the file can't be read or isn't a valid snapshot
+   */
+  public static AreaEntityConfig read(FileHandle file) throws IOException {
+    AreaEntityConfig areaEntityConfig = new AreaEntityConfig();
+    read(file, areaEntityConfig::addConfig);
+    return areaEntityConfig;
+  }
+
+  /**
+   * Read a snapshot one entity at a time, without holding the whole file in memory.
+   *
+   * @param file file to read from
+   * @param consumer called with the area key and config of each saved entity, in capture order
+   * @throws IOException if the file can't be read or isn't a valid snapshot
+   */
+  public static void read(FileHandle file, BiConsumer<String, BaseEntityConfig> consumer)
+      throws IOException {
+    try (DataInputStream header = new DataInputStream(new BufferedInputStream(file.read()))) {
+      if (header.readInt() != MAGIC) {
+        throw new IOException("Not a save snapshot: " + file.path());
+      }
+      short version = header.readShort();
+      if (version > VERSION) {
+        throw new IOException("Save snapshot version " + version + " is newer than " + VERSION);
+      }
+      header.readInt(); // Body length, only needed by tools which skip the body
+      int expectedCrc = header.readInt();
+
+      CheckedInputStream checked = new CheckedInputStream(new InflaterInputStream(header), new CRC32());
+      Reader reader = new Reader(new DataInputStream(checked));
+      int count = reader.in.readInt();
+      for (int i = 0; i < count; i++) {
+        reader.readRecord(consumer);
+      }
+      if ((int) checked.getChecksum().getValue() != expectedCrc) {
+        throw new IOException("Save snapshot is corrupt: " + file.path());
+      }
+    } catch (EOFException e) {
+      throw new IOException("Save snapshot is truncated: " + file.path(), e);
+    }
+  }
+
+  private void write(Path target) throws IOException {
+    ByteBuffer body = buffer.duplicate();
+    CRC32 crc = new CRC32();
+    crc.update(body.duplicate());
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC).putShort(VERSION).putInt(body.remaining()).putInt((int) crc.getValue());
+    header.flip();
+
+    Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      Files.createDirectories(target.getParent());
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        // Not closed here, since that would close the channel before it is synced
+        DeflaterOutputStream out = new DeflaterOutputStream(Channels.newOutputStream(channel), deflater);
+        out.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+        out.finish();
+        channel.force(true);
+      }
+      try {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      logger.debug("Saved {} entities to {}", recordCount, target);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void putRecord(String key, BaseEntityConfig config) {
+    ensureCapacity(Integer.BYTES);
+    int lengthPosition = buffer.position();
+    buffer.putInt(0);
+
+    putString(key);
+    putString(config.getClass().getName());
+    Field[] fields = getFields(config.getClass());
+    ensureCapacity(Integer.BYTES);
+    buffer.putInt(fields.length);
+    for (Field field : fields) {
+      putString(field.getName());
+      try {
+        putValue(field.get(config));
+      } catch (IllegalAccessException e) {
+        logger.error("Failed to save {}.{}", config.getClass().getSimpleName(), field.getName());
+        putValue(null);
+      }
+    }
+
+    buffer.putInt(lengthPosition, buffer.position() - lengthPosition - Integer.BYTES);
+    recordCount++;
+  }
+
+  private void putValue(Object value) {
+    ensureCapacity(1 + 2 * Long.BYTES);
+    if (value == null) {
+      buffer.put(TAG_NULL);
+    } else if (value instanceof Integer integer) {
+      buffer.put(TAG_INT).putInt(integer);
+    } else if (value instanceof Float number) {
+      buffer.put(TAG_FLOAT).putFloat(number);
+    } else if (value instanceof Boolean bool) {
+      buffer.put(TAG_BOOLEAN).put((byte) (bool ? 1 : 0));
+    } else if (value instanceof String string) {
+      buffer.put(TAG_STRING);
+      putString(string);
+    } else if (value instanceof Long number) {
+      buffer.put(TAG_LONG).putLong(number);
+    } else if (value instanceof Double number) {
+      buffer.put(TAG_DOUBLE).putDouble(number);
+    } else if (value instanceof GridPoint2 point) {
+      buffer.put(TAG_GRID_POINT).putInt(point.x).putInt(point.y);
+    } else if (value instanceof Vector2 vector) {
+      buffer.put(TAG_VECTOR2).putFloat(vector.x).putFloat(vector.y);
+    } else if (value instanceof Enum<?> constant) {
+      buffer.put(TAG_ENUM);
+      putString(constant.getDeclaringClass().getName());
+      putString(constant.name());
+    } else {
+      if (json == null) {
+        json = new Json();
+      }
+      buffer.put(TAG_JSON);
+      putString(getJsonType(value).getName());
+      putBytes(json.toJson(value).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /** Write a string, or the index of the string if it has already been written. */
+  private void putString(String value) {
+    ensureCapacity(Integer.BYTES);
+    if (value == null) {
+      buffer.putInt(NULL_STRING);
+      return;
+    }
+    int index = strings.get(value, -1);
+    if (index >= 0) {
+      buffer.putInt(index);
+      return;
+    }
+    strings.put(value, strings.size);
+    buffer.putInt(NEW_STRING);
+    putBytes(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void putBytes(byte[] bytes) {
+    ensureCapacity(Integer.BYTES + bytes.length);
+    buffer.putInt(bytes.length);
+    buffer.put(bytes);
+  }
+
+  private void ensureCapacity(int bytes) {
+    if (buffer.remaining() >= bytes) {
+      return;
+    }
+    ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+    buffer.flip();
+    grown.put(buffer);
+    buffer = grown;
+  }
+
+  /** Type a JSON value is saved as. Collections may be immutable, so use a plain one. */
+  private static Class<?> getJsonType(Object value) {
+    if (value instanceof List) {
+      return ArrayList.class;
+    } else if (value instanceof Set) {
+      return HashSet.class;
+    } else if (value instanceof Map) {
+      return HashMap.class;
+    }
+    return value.getClass();
+  }
+
+  /** Type to read a JSON value back as for a field of the given type. */
+  private static Class<?> getJsonType(Class<?> fieldType) {
+    if (!fieldType.isInterface() && !Modifier.isAbstract(fieldType.getModifiers())) {
+      return fieldType;
+    } else if (fieldType.isAssignableFrom(ArrayList.class)) {
+      return ArrayList.class;
+    } else if (fieldType.isAssignableFrom(HashSet.class)) {
+      return HashSet.class;
+    } else if (fieldType.isAssignableFrom(HashMap.class)) {
+      return HashMap.class;
+    }
+    return fieldType;
+  }
+
+  /** Saved fields of a config: every public field which isn't static or transient. */
+  private static Field[] getFields(Class<?> type) {
+    return fieldCache.computeIfAbsent(type, t -> {
+      List<Field> fields = new ArrayList<>();
+      for (Field field : t.getFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)
+            && !Modifier.isFinal(modifiers)) {
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }
+      return fields.toArray(new Field[0]);
+    });
+  }
+
+  /** Reads records from a snapshot body, keeping the string table built up so far. */
+  private static class Reader {
+    private final DataInputStream in;
+    private final List<String> strings = new ArrayList<>();
+    private Json json;
+
+    Reader(DataInputStream in) {
+      this.in = in;
+    }
+
+    void readRecord(BiConsumer<String, BaseEntityConfig> consumer) throws IOException {
+      in.readInt(); // Record length, only needed by tools which skip records
+      String key = readString();
+      String className = readString();
+      BaseEntityConfig config = newConfig(className);
+
+      int fieldCount = in.readInt();
+      for (int i = 0; i < fieldCount; i++) {
+        String name = readString();
+        Field field = config != null ? getField(config.getClass(), name) : null;
+        Object value = readValue(field);
+        if (field != null) {
+          setField(config, field, value);
+        }
+      }
+      if (config != null) {
+        consumer.accept(key, config);
+      }
+    }
+
+    /**
+     * Read a field value. Enum and JSON values are read as the declared type of the field, never a
+     * class named in the file; they are skipped if the field is unknown.
+     */
+    private Object readValue(Field field) throws IOException {
+      byte tag = in.readByte();
+      switch (tag) {
+        case TAG_NULL:
+          return null;
+        case TAG_INT:
+          return in.readInt();
+        case TAG_FLOAT:
+          return in.readFloat();
+        case TAG_BOOLEAN:
+          return in.readByte() != 0;
+        case TAG_STRING:
+          return readString();
+        case TAG_LONG:
+          return in.readLong();
+        case TAG_DOUBLE:
+          return in.readDouble();
+        case TAG_GRID_POINT:
+          return new GridPoint2(in.readInt(), in.readInt());
+        case TAG_VECTOR2:
+          return new Vector2(in.readFloat(), in.readFloat());
+        case TAG_ENUM:
+          readString(); // Saved class, only used by tools
+          return readEnum(field, readString());
+        case TAG_JSON:
+          readString(); // Saved class, only used by tools
+          return readJson(field, new String(readBytes(), StandardCharsets.UTF_8));
+        default:
+          throw new IOException("Unknown field tag " + tag);
+      }
+    }
+
+    private String readString() throws IOException {
+      int index = in.readInt();
+      if (index == NULL_STRING) {
+        return null;
+      }
+      if (index == NEW_STRING) {
+        String value = new String(readBytes(), StandardCharsets.UTF_8);
+        strings.add(value);
+        return value;
+      }
+      if (index < 0 || index >= strings.size()) {
+        throw new IOException("Unknown string " + index);
+      }
+      return strings.get(index);
+    }
+
+    private byte[] readBytes() throws IOException {
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      return bytes;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readEnum(Field field, String name) {
+      if (field == null || !field.getType().isEnum()) {
+        return null;
+      }
+      try {
+        return Enum.valueOf((Class<Enum>) field.getType(), name);
+      } catch (IllegalArgumentException e) {
+        logger.error("Unknown saved value {}.{}", field.getType().getSimpleName(), name);
+        return null;
+      }
+    }
+
+    private Object readJson(Field field, String text) {
+      if (field == null) {
+        return null;
+      }
+      if (json == null) {
+        json = new Json();
+        // Never create classes named in the file
+        json.setTypeName(null);
+        json.setIgnoreUnknownFields(true);
+      }
+      try {
+        return json.readValue(getJsonType(field.getType()), getElementType(field), new JsonReader().parse(text));
+      } catch (SerializationException e) {
+        logger.error("Skipping saved field {} which can't be read", field.getName());
+        return null;
+      }
+    }
+
+    /** Create an empty config, only if the saved class is a config. */
+    private static BaseEntityConfig newConfig(String className) {
+      try {
+        // Not initialised until it is known to be a config
+        Class<?> type = Class.forName(className, false, AreaSnapshot.class.getClassLoader());
+        if (!BaseEntityConfig.class.isAssignableFrom(type)) {
+          logger.error("Skipping saved entity with class {}, which isn't a config", className);
+          return null;
+        }
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return (BaseEntityConfig) constructor.newInstance();
+      } catch (ReflectiveOperationException e) {
+        logger.error("Skipping saved entity with unknown config {}", className);
+        return null;
+      }
+    }
+
+    /** Element type of a collection field, or the value type of a map field, if it is declared. */
+    private static Class<?> getElementType(Field field) {
+      if (field.getGenericType() instanceof ParameterizedType parameterized) {
+        Type[] arguments = parameterized.getActualTypeArguments();
+        Type element = arguments[arguments.length - 1];
+        if (element instanceof Class<?> elementClass) {
+          return elementClass;
+        }
+      }
+      return null;
+    }
+
+    private static Field getField(Class<?> type, String name) {
+      for (Field field : getFields(type)) {
+        if (field.getName().equals(name)) {
+          return field;
+        }
+      }
+      return null;
+    }
+
+    private static void setField(BaseEntityConfig config, Field field, Object value) {
+      try {
+        if (value != null || !field.getType().isPrimitive()) {
+          field.set(config, value);
+        }
+      } catch (IllegalArgumentException | IllegalAccessException e) {
+        logger.error("Skipping saved field {}.{} with the wrong type",
+            config.getClass().getSimpleName(), field.getName());
+      }
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.csse3200.game.components.structures.JoinableComponentShapes;
+import com.csse3200.game.components.structures.ToolsConfig;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.entities.configs.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Parses each config file once and hands out the same instance to everything that needs it. Every
+ * config in the config and vertices directories is parsed in parallel by {@link #preload()} when
+ * the game starts, so factories no longer parse files on the render thread the first time they are
+ * used. Configs which weren't preloaded are parsed on first use.
+ *
+ * <p>Configs are shared, so they must be treated as read-only.
+ *
+ * <p>In development, {@link #enableHotReload()} watches the config directories and re-parses files
+ * when they are saved. Reloaded configs are swapped in on the render thread and reload listeners
+ * are notified, but classes which keep a config in a static field hold on to the old instance.
+ */
+public class ConfigRegistry {
+  private static final Logger logger = LoggerFactory.getLogger(ConfigRegistry.class);
+  private static final String[] CONFIG_DIRS = {"configs", "vertices"};
+  private static final String JSON_EXTENSION = "json";
+
+  /** Type of every known config file */
+  private static final ObjectMap<String, Class<?>> types = new ObjectMap<>();
+  private static final Map<String, CompletableFuture<Object>> configs = new ConcurrentHashMap<>();
+  private static final SnapshotArray<Consumer<String>> reloadListeners =
+      new SnapshotArray<>(false, 4, Consumer.class);
+  private static WatchService watchService;
+
+  static {
+    types.put("configs/NPCs.json", NPCConfigs.class);
+    types.put("configs/asteroid.json", AsteroidConfig.class);
+    types.put("configs/companion.json", CompanionConfig.class);
+    types.put("configs/deathScreen.json", SoundsConfig.class);
+    types.put("configs/enemy.json", NPCConfigs.class);
+    types.put("configs/gates.json", GateConfig.class);
+    types.put("configs/laboratory.json", LaboratoryConfig.class);
+    types.put("configs/minigame.json", MinigameConfigs.class);
+    types.put("configs/player.json", PlayerConfig.class);
+    types.put("configs/player_sounds.json", SoundsConfig.class);
+    types.put("configs/powerups.json", PowerupConfigs.class);
+    types.put("configs/projectile.json", ProjectileConfigs.class);
+    types.put("configs/ship.json", ShipConfig.class);
+    types.put("configs/shipUpgrades.json", AllShipUpgradesConfig.class);
+    types.put("configs/structure_tools.json", ToolsConfig.class);
+    types.put("configs/tree.json", BaseEntityConfig.class);
+    types.put("configs/turrets.json", TurretConfigs.class);
+    types.put("configs/walls.json", WallConfigs.class);
+    types.put("configs/weapons.json", WeaponConfigs.class);
+    types.put("vertices/walls.json", JoinableComponentShapes.class);
+  }
+
+  /**
+   * Start parsing every known config in the background. Files found in the config directories
+   * which have no known type are skipped, e.g. map configs loaded by the map config loader.
+   */
+  public static void preload() {
+    for (String dir : CONFIG_DIRS) {
+      for (FileHandle file : Gdx.files.internal(dir).list(JSON_EXTENSION)) {
+        String path = dir + "/" + file.name();
+        if (!types.containsKey(path)) {
+          logger.debug("Skipping {} with no registered config type", path);
+        }
+      }
+    }
+
+    // Jar builds can't list internal directories, so the known configs are always loaded
+    for (ObjectMap.Entry<String, Class<?>> entry : types) {
+      String path = entry.key;
+      Class<?> type = entry.value;
+      configs.computeIfAbsent(path, p -> JobSystem.launch(() -> parse(p, type)));
+    }
+    logger.debug("Preloading {} configs", types.size);
+  }
+
+  /**
+   * Get a config, parsing it if it has not been loaded yet. Waits for the config if it is still
+   * being preloaded.
+   *
+   * @param type config class
+   * @param path path of the config file
+   * @param <T> config class
+   * @return shared config, or null if it could not be parsed
+   */
+  public static <T> T get(Class<T> type, String path) {
+    CompletableFuture<Object> future = configs.get(path);
+    if (future == null) {
+      CompletableFuture<Object> parsing = new CompletableFuture<>();
+      future = configs.putIfAbsent(path, parsing);
+      if (future == null) {
+        // Parse outside the map, since configs can read other configs while being parsed
+        future = parsing;
+        parsing.complete(parse(path, type));
+      }
+    }
+    return type.cast(future.join());
+  }
+
+  /**
+   * Watch the config directories and reload configs when their files change. Only works when the
+   * assets are on the file system, i.e. when running from the IDE.
+   */
+  public static synchronized void enableHotReload() {
+    if (watchService != null) {
+      return;
+    }
+
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      for (String dir : CONFIG_DIRS) {
+        FileHandle handle = Gdx.files.internal(dir);
+        if (handle.isDirectory()) {
+          handle.file().toPath().register(watchService, StandardWatchEventKinds.ENTRY_MODIFY,
+              StandardWatchEventKinds.ENTRY_CREATE);
+        }
+      }
+    } catch (IOException e) {
+      logger.error("Failed to watch config directories", e);
+      return;
+    }
+
+    WatchService watcher = watchService;
+    JobSystem.launchBlocking(() -> watch(watcher));
+    logger.info("Hot reloading configs");
+  }
+
+  /** Stop watching the config directories. */
+  public static synchronized void disableHotReload() {
+    if (watchService == null) {
+      return;
+    }
+
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      logger.error("Failed to stop watching config directories", e);
+    }
+    watchService = null;
+  }
+
+  /**
+   * Listen for configs being hot reloaded. Called on the render thread with the path of the config.
+   *
+   * @param listener called when a config is reloaded
+   */
+  public static void addReloadListener(Consumer<String> listener) {
+    reloadListeners.add(listener);
+  }
+
+  /**
+   * Stop listening for configs being hot reloaded.
+   *
+   * @param listener listener previously added
+   */
+  public static void removeReloadListener(Consumer<String> listener) {
+    reloadListeners.removeValue(listener, true);
+  }
+
+  private static Object watch(WatchService watcher) {
+    try {
+      while (true) {
+        WatchKey key = watcher.take();
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() != StandardWatchEventKinds.OVERFLOW) {
+            String path = dir.getFileName() + "/" + event.context();
+            reload(path);
+          }
+        }
+        key.reset();
+      }
+    } catch (ClosedWatchServiceException e) {
+      logger.debug("Stopped watching configs");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  private static void reload(String path) {
+    Class<?> type = types.get(path);
+    if (type == null) {
+      return;
+    }
+
+    Object config = parse(path, type);
+    if (config == null) {
+      // Keep the old config while the file is invalid, e.g. half way through being saved
+      return;
+    }
+
+    Gdx.app.postRunnable(() -> {
+      configs.put(path, CompletableFuture.completedFuture(config));
+      logger.info("Reloaded {}", path);
+      Consumer<String>[] items = reloadListeners.begin();
+      for (int i = 0, n = reloadListeners.size; i < n; i++) {
+        items[i].accept(path);
+      }
+      reloadListeners.end();
+    });
+  }
+
+  private static Object parse(String path, Class<?> type) {
+    return FileLoader.readClassConcurrently(type, path, FileLoader.Location.INTERNAL);
+  }
+
+  private ConfigRegistry() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+}
@@ -41,6 +41,25 @@ public class FileLoader {
    * @return instance of class, may be null
    */
   public static <T> T readClass(Class<T> type, String filename, Location location) {
+    return read(json, type, filename, location);
+  }
+
+  /**
+   * Read generic Java classes from a JSON file on any thread, e.g. from a
+   * {@link com.csse3200.game.concurrency.JobSystem} job. The shared Json used by
+   * {@link #readClass(Class, String, Location)} isn't thread safe, so each call parses with its own.
+   *
+   * @param type class type
+   * @param filename file to read from
+   * @param location File storage type
+   * @param <T> Class type to read JSON into
+   * @return instance of class, may be null
+   */
+  public static <T> T readClassConcurrently(Class<T> type, String filename, Location location) {
+    return read(new Json(), type, filename, location);
+  }
+
+  private static <T> T read(Json json, Class<T> type, String filename, Location location) {
     logger.debug("Reading class {} from {}", type.getSimpleName(), filename);
     FileHandle file = getFileHandle(filename, location);
     if (file == null) {
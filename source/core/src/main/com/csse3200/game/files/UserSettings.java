@@ -2,43 +2,170 @@ package com.csse3200.game.files;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics.DisplayMode;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.csse3200.game.concurrency.JobSystem;
 import com.csse3200.game.files.FileLoader.Location;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Reading, Writing, and applying user settings in the game.
+ *
+ * <p>Settings are read from disk once and kept in memory, so they can be looked up every time a
+ * sound plays. New settings replace the cached snapshot straight away and are written to disk in
+ * the background, with rapid changes coalesced into a single write.
  */
 public class UserSettings {
+  private static final Logger logger = LoggerFactory.getLogger(UserSettings.class);
   private static final String ROOT_DIR = "CSSE3200Game";
   private static final String SETTINGS_FILE = "settings.json";
+  private static final String TEMP_SUFFIX = ".tmp";
 
   private static final int WINDOW_WIDTH = 1280;
   private static final int WINDOW_HEIGHT = 800;
 
+  private static final SnapshotArray<Consumer<Settings>> listeners = new SnapshotArray<>(false, 8, Consumer.class);
+  private static final AtomicReference<Settings> pendingWrite = new AtomicReference<>();
+  private static final Object writeLock = new Object();
+  private static volatile Settings current;
+  // Absolute settings file used instead of the default, or null
+  private static volatile File settingsFile;
+
+  /**
+   * Get the current user settings. The returned snapshot is shared and must not be modified; use
+   * {@link #get()} for a copy to edit.
+   * @return Current settings
+   */
+  public static Settings current() {
+    Settings settings = current;
+    if (settings == null) {
+      settings = load();
+      current = settings;
+    }
+    return settings;
+  }
+
   /**
    * Get the stored user settings
    * @return Copy of the current settings
    */
   public static Settings get() {
-    String path = ROOT_DIR + File.separator + SETTINGS_FILE;
-    Settings fileSettings = FileLoader.readClass(Settings.class, path, Location.EXTERNAL);
-    // Use default values if file doesn't exist
-    return fileSettings != null ? fileSettings : new Settings();
+    return current().copy();
   }
 
   /**
-   * Set the stored user settings
+   * Set the stored user settings. Listeners are notified straight away, and the settings are
+   * written to disk in the background.
    * @param settings New settings to store
    * @param applyImmediate true to immediately apply new settings.
    */
   public static void set(Settings settings, boolean applyImmediate) {
-    String path = ROOT_DIR + File.separator + SETTINGS_FILE;
-    FileLoader.writeClass(settings, path, Location.EXTERNAL);
+    Settings snapshot = settings.copy();
+    current = snapshot;
+
+    // Only schedule a write if one isn't already waiting, it will pick up the latest settings
+    if (pendingWrite.getAndSet(snapshot) == null) {
+      JobSystem.launchBlocking(UserSettings::writePending);
+    }
 
     if (applyImmediate) {
-      applySettings(settings);
+      applySettings(snapshot);
     }
+
+    Consumer<Settings>[] items = listeners.begin();
+    for (int i = 0, n = listeners.size; i < n; i++) {
+      items[i].accept(snapshot);
+    }
+    listeners.end();
+  }
+
+  /**
+   * Listen for changes to the settings. Called on the thread which set the settings, with the new
+   * shared snapshot.
+   * @param listener Called when settings change
+   */
+  public static void addListener(Consumer<Settings> listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Stop listening for changes to the settings.
+   * @param listener Listener previously added
+   */
+  public static void removeListener(Consumer<Settings> listener) {
+    listeners.removeValue(listener, true);
+  }
+
+  /**
+   * Write any settings which haven't been written yet, blocking until they are on disk. Call before
+   * the game exits.
+   */
+  public static void flush() {
+    writePending();
+  }
+
+  /**
+   * Use another settings file and forget the cached settings, e.g. so tests don't touch the
+   * player's settings. Settings waiting to be written go to the old file first.
+   * @param file Absolute settings file, or null for the default
+   */
+  static void setFile(File file) {
+    writePending();
+    settingsFile = file;
+    current = null;
+  }
+
+  private static Settings load() {
+    File file = settingsFile;
+    Settings fileSettings = file != null
+        ? FileLoader.readClass(Settings.class, file.getAbsolutePath(), Location.ABSOLUTE)
+        : FileLoader.readClass(Settings.class, getPath(), Location.EXTERNAL);
+    // Use default values if file doesn't exist
+    return fileSettings != null ? fileSettings : new Settings();
+  }
+
+  private static Object writePending() {
+    synchronized (writeLock) {
+      // Taken inside the lock so an older write can never land after a newer one
+      Settings settings = pendingWrite.getAndSet(null);
+      if (settings != null) {
+        write(settings);
+      }
+    }
+    return null;
+  }
+
+  private static void write(Settings settings) {
+    File file = settingsFile;
+    Path target = file != null ? file.toPath() : Gdx.files.external(getPath()).file().toPath();
+    Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+    try {
+      Files.createDirectories(target.getParent());
+      // Own Json instance, since FileLoader's is used on the render thread
+      Files.write(temp, new Json().prettyPrint(settings).getBytes(StandardCharsets.UTF_8));
+      try {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      logger.error("Failed to write settings to {}", target, e);
+    }
+  }
+
+  private static String getPath() {
+    return ROOT_DIR + File.separator + SETTINGS_FILE;
   }
 
   /**
@@ -92,6 +219,26 @@ public class UserSettings {
     public DisplaySettings displayMode = null;
     public float musicVolume = 0.3f;
     public float soundVolume = 0.5f;
+    /**
+     * Physics steps per second, e.g. 30, 60 or 120. Independant of FPS.
+     */
+    public int physicsRate = 60;
+
+    /**
+     * @return Copy of these settings
+     */
+    public Settings copy() {
+      Settings copy = new Settings();
+      copy.fps = fps;
+      copy.fullscreen = fullscreen;
+      copy.vsync = vsync;
+      copy.uiScale = uiScale;
+      copy.displayMode = displayMode == null ? null : displayMode.copy();
+      copy.musicVolume = musicVolume;
+      copy.soundVolume = soundVolume;
+      copy.physicsRate = physicsRate;
+      return copy;
+    }
   }
 
   /**
@@ -109,6 +256,17 @@ public class UserSettings {
       this.height = displayMode.height;
       this.refreshRate = displayMode.refreshRate;
     }
+
+    /**
+     * @return Copy of these display settings
+     */
+    public DisplaySettings copy() {
+      DisplaySettings copy = new DisplaySettings();
+      copy.width = width;
+      copy.height = height;
+      copy.refreshRate = refreshRate;
+      return copy;
+    }
   }
 
   private UserSettings() {
@@ -1,5 +1,6 @@
 package com.csse3200.game.physics;
 
+import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 
 /**
@@ -12,4 +13,15 @@ public class BodyUserData {
    * The entity to which this body is attached
    */
   public Entity entity;
+
+  /**
+   * Position of the body before the most recent physics step, used to interpolate its entity's
+   * position. Only valid when previousStep is the step before the engine's current step count.
+   */
+  public final Vector2 previousPosition = new Vector2();
+
+  /**
+   * The step previousPosition was saved before, or -1 if it should not be used
+   */
+  public long previousStep = -1;
 }
@@ -1,6 +1,9 @@
 package com.csse3200.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.events.listeners.EventListener2;
+import com.csse3200.game.physics.components.PhysicsComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,14 +22,14 @@ public class PhysicsContactListener implements ContactListener {
 
   @Override
   public void beginContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+    triggerEventOn(contact.getFixtureA(), PhysicsComponent.COLLISION_START, contact.getFixtureB());
+    triggerEventOn(contact.getFixtureB(), PhysicsComponent.COLLISION_START, contact.getFixtureA());
   }
 
   @Override
   public void endContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+    triggerEventOn(contact.getFixtureA(), PhysicsComponent.COLLISION_END, contact.getFixtureB());
+    triggerEventOn(contact.getFixtureB(), PhysicsComponent.COLLISION_END, contact.getFixtureA());
   }
 
   @Override
@@ -39,10 +42,13 @@ public class PhysicsContactListener implements ContactListener {
     // Nothing to do after resolving contact
   }
 
-  private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+  private void triggerEventOn(
+      Fixture fixture, EventKey<EventListener2<Fixture, Fixture>> evt, Fixture otherFixture) {
     BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
     if (userData != null && userData.entity != null) {
-      logger.debug("{} on entity {}", evt, userData.entity);
+      if (logger.isDebugEnabled()) {
+        logger.debug("{} on entity {}", evt, userData.entity);
+      }
       userData.entity.getEvents().trigger(evt, fixture, otherFixture);
     }
   }
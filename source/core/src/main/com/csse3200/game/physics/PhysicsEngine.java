@@ -2,7 +2,9 @@ package com.csse3200.game.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
 import com.csse3200.game.physics.raycast.AllHitCallback;
 import com.csse3200.game.physics.raycast.RaycastHit;
 import com.csse3200.game.physics.raycast.SingleHitCallback;
@@ -14,11 +16,18 @@ import org.slf4j.LoggerFactory;
 /**
  * Process game physics using the Box2D library. See the Box2D documentation for examples or use
  * cases.
+ *
+ * <p>The world is stepped at a fixed rate, independent of the frame rate. When the game falls
+ * behind, at most {@link #getMaxSteps()} steps are run per update and the rest of the time is
+ * dropped, so the simulation slows down rather than spending ever longer catching up. If
+ * interpolation is on, the position of each moving body before the last step is kept, so entities
+ * can be drawn part way between steps (see {@link #getAlpha()}).
  */
 public class PhysicsEngine implements Disposable {
   private static final Logger logger = LoggerFactory.getLogger(PhysicsEngine.class);
   private static final float MAX_UPDATE_TIME = 0.25f;
-  private static final float PHYSICS_TIMESTEP = 0.016f;
+  public static final int DEFAULT_STEP_RATE = 60;
+  public static final int DEFAULT_MAX_STEPS = 5;
   private static final Vector2 GRAVITY = new Vector2(0f, -0f);
   private static final int VELOCITY_ITERATIONS = 6;
   private static final int POSITION_ITERATIONS = 2;
@@ -27,7 +36,20 @@ public class PhysicsEngine implements Disposable {
   private final GameTime timeSource;
   private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
+  // Bodies are destroyed together once the world has finished stepping
+  private final Array<Body> bodiesToDestroy = new Array<>(false, 16, Body.class);
+  private int bodiesDestroyedLastUpdate = 0;
+  // Reused to find the bodies to save the previous positions of
+  private final Array<Body> bodies = new Array<>(false, 64, Body.class);
   private float accumulator;
+  private int stepRate = DEFAULT_STEP_RATE;
+  private float timeStep = 1f / DEFAULT_STEP_RATE;
+  private int maxSteps = DEFAULT_MAX_STEPS;
+  private boolean interpolating = true;
+  private long stepCount = 0;
+  private int stepsLastUpdate = 0;
+  private float droppedTimeLastUpdate = 0f;
+  private float droppedTimeTotal = 0f;
 
   public PhysicsEngine() {
     this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -49,10 +71,138 @@ public class PhysicsEngine implements Disposable {
 
     // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
     // we need to catch up, we'll compute multiple in a row before getting to rendering.
-    while (accumulator >= PHYSICS_TIMESTEP) {
-      world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-      accumulator -= PHYSICS_TIMESTEP;
+    int steps = (int) (accumulator / timeStep);
+    droppedTimeLastUpdate = 0f;
+    if (steps > maxSteps) {
+      // Too far behind to catch up without making the next frame slower still, so let the
+      // simulation run slower than real time for a while instead
+      droppedTimeLastUpdate = (steps - maxSteps) * timeStep;
+      droppedTimeTotal += droppedTimeLastUpdate;
+      accumulator -= droppedTimeLastUpdate;
+      steps = maxSteps;
     }
+
+    for (int i = 0; i < steps; i++) {
+      if (interpolating && i == steps - 1) {
+        savePreviousPositions();
+      }
+      world.step(timeStep, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+      accumulator -= timeStep;
+      stepCount++;
+    }
+    accumulator = Math.max(accumulator, 0f);
+    stepsLastUpdate = steps;
+    destroyQueuedBodies();
+  }
+
+  /** Save the position of every moving body, before the last step of an update. */
+  private void savePreviousPositions() {
+    world.getBodies(bodies);
+    for (int i = 0; i < bodies.size; i++) {
+      Body body = bodies.items[i];
+      if (body.getType() != BodyDef.BodyType.StaticBody
+          && body.isAwake()
+          && body.getUserData() instanceof BodyUserData userData) {
+        userData.previousPosition.set(body.getPosition());
+        userData.previousStep = stepCount;
+      }
+    }
+    bodies.clear();
+  }
+
+  /**
+   * Set how many times a second the world is stepped. Lower rates are cheaper, and with
+   * interpolation on still look smooth at higher frame rates.
+   *
+   * @param stepRate steps per second, e.g. 30, 60 or 120
+   */
+  public void setStepRate(int stepRate) {
+    if (stepRate <= 0) {
+      throw new IllegalArgumentException("Physics step rate must be positive: " + stepRate);
+    }
+    this.stepRate = stepRate;
+    this.timeStep = 1f / stepRate;
+  }
+
+  /**
+   * @return steps per second
+   */
+  public int getStepRate() {
+    return stepRate;
+  }
+
+  /**
+   * @return seconds simulated by each step
+   */
+  public float getTimeStep() {
+    return timeStep;
+  }
+
+  /**
+   * Set the most steps run in one update. Time beyond this is dropped.
+   *
+   * @param maxSteps the most steps per update, at least 1
+   */
+  public void setMaxSteps(int maxSteps) {
+    if (maxSteps <= 0) {
+      throw new IllegalArgumentException("Physics max steps must be positive: " + maxSteps);
+    }
+    this.maxSteps = maxSteps;
+  }
+
+  public int getMaxSteps() {
+    return maxSteps;
+  }
+
+  /**
+   * Set whether entities are drawn between the last two steps, rather than at the last step.
+   *
+   * @param interpolating true to interpolate, default = true
+   */
+  public void setInterpolating(boolean interpolating) {
+    this.interpolating = interpolating;
+  }
+
+  public boolean isInterpolating() {
+    return interpolating;
+  }
+
+  /**
+   * How far the game is between the last step and the next one, used to interpolate between the
+   * previous and current position of bodies.
+   *
+   * @return fraction of a step since the last step, from 0 to 1
+   */
+  public float getAlpha() {
+    return Math.min(accumulator / timeStep, 1f);
+  }
+
+  /**
+   * @return number of steps run since the engine was created
+   */
+  public long getStepCount() {
+    return stepCount;
+  }
+
+  /**
+   * @return steps run in the last update
+   */
+  public int getStepsLastUpdate() {
+    return stepsLastUpdate;
+  }
+
+  /**
+   * @return seconds of game time dropped in the last update because it needed too many steps
+   */
+  public float getDroppedTimeLastUpdate() {
+    return droppedTimeLastUpdate;
+  }
+
+  /**
+   * @return seconds of game time dropped since the engine was created
+   */
+  public float getDroppedTimeTotal() {
+    return droppedTimeTotal;
   }
 
   public Body createBody(BodyDef bodyDef) {
@@ -60,9 +210,34 @@ public class PhysicsEngine implements Disposable {
     return world.createBody(bodyDef);
   }
 
+  /**
+   * Destroy a body after the next physics update. Until then the body is deactivated, so it no
+   * longer collides or shows up in raycasts. Safe to call from inside a contact callback.
+   *
+   * @param body body to destroy
+   */
   public void destroyBody(Body body) {
-    logger.debug("Destroying physics body {}", body);
-    world.destroyBody(body);
+    logger.debug("Queueing physics body {} for destruction", body);
+    if (!world.isLocked()) {
+      body.setActive(false);
+    }
+    bodiesToDestroy.add(body);
+  }
+
+  /** Destroy every body queued by {@link #destroyBody(Body)}. Called after stepping the world. */
+  public void destroyQueuedBodies() {
+    for (int i = 0; i < bodiesToDestroy.size; i++) {
+      world.destroyBody(bodiesToDestroy.items[i]);
+    }
+    bodiesDestroyedLastUpdate = bodiesToDestroy.size;
+    bodiesToDestroy.clear();
+  }
+
+  /**
+   * @return bodies destroyed at the end of the last physics update
+   */
+  public int getBodiesDestroyedLastUpdate() {
+    return bodiesDestroyedLastUpdate;
   }
 
   public Joint createJoint(JointDef jointDef) {
@@ -101,9 +276,10 @@ public class PhysicsEngine implements Disposable {
    * @param hit The hit of the closest collider will be stored in this.
    * @param layerMask The physics layer mask which specifies layers that can be hit. Other layers
    *     will be ignored.
-   * @return true if a collider was hit, false otherwise.
+   * @return true if a collider was hit, false otherwise. Raycasts are run one at a time, so this
+   *     can be called from {@link com.csse3200.game.components.Thinker} components.
    */
-  public boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
+  public synchronized boolean raycast(Vector2 from, Vector2 to, short layerMask, RaycastHit hit) {
     singleHitCallback.didHit = false;
     singleHitCallback.layerMask = layerMask;
     singleHitCallback.hit = hit;
@@ -133,14 +309,55 @@ public class PhysicsEngine implements Disposable {
    *     will be ignored.
    * @return All hits made by the ray, unordered. Empty if no hits were made.
    */
-  public RaycastHit[] raycastAll(Vector2 from, Vector2 to, short layerMask) {
+  public synchronized RaycastHit[] raycastAll(Vector2 from, Vector2 to, short layerMask) {
     allHitCallback.layerMask = layerMask;
     world.rayCast(allHitCallback, from, to);
     return allHitCallback.getHitsAndClear();
   }
 
+  /**
+   * Cast a ray in a straight line from one point to another, adding every collision against
+   * colliders in the specified layers to an array. Hits are taken from a pool rather than allocated,
+   * and should be freed back to it by the caller.
+   *
+   * @param from The starting point of the ray.
+   * @param to The end point of the ray.
+   * @param layerMask The physics layer mask which specifies layers that can be hit. Other layers
+   *     will be ignored.
+   * @param hitPool Pool to take hits from.
+   * @param hits Array the hits are added to, sorted from closest to furthest.
+   * @return the number of hits added.
+   */
+  public synchronized int raycastAll(
+      Vector2 from, Vector2 to, short layerMask, Pool<RaycastHit> hitPool, Array<RaycastHit> hits) {
+    int start = hits.size;
+    allHitCallback.layerMask = layerMask;
+    allHitCallback.hitPool = hitPool;
+    allHitCallback.output = hits;
+    try {
+      world.rayCast(allHitCallback, from, to);
+    } finally {
+      allHitCallback.hitPool = null;
+      allHitCallback.output = null;
+    }
+
+    // Box2D reports hits in any order. There are only ever a few, so insertion sort them.
+    for (int i = start + 1; i < hits.size; i++) {
+      RaycastHit hit = hits.get(i);
+      int j = i - 1;
+      while (j >= start && hits.get(j).fraction > hit.fraction) {
+        hits.set(j + 1, hits.get(j));
+        j--;
+      }
+      hits.set(j + 1, hit);
+    }
+    return hits.size - start;
+  }
+
   @Override
   public void dispose() {
+    // Disposing the world destroys every body, including any still queued
+    bodiesToDestroy.clear();
     world.dispose();
   }
 }
@@ -0,0 +1,272 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import com.csse3200.game.rendering.DebugRenderer;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.ServiceLocator;
+
+import java.util.Comparator;
+
+/**
+ * Answers line of sight checks between entities, sharing and batching the raycasts behind them.
+ *
+ * <p>Checks are grouped by the cell the looking entity is in and the target, so entities standing
+ * in the same cell and looking at the same target share one raycast. Each check is answered with
+ * the latest result for its group, and asks for the group to be raycast again. Those raycasts are
+ * run together by {@link #resolve()}, which should be called once per frame after the physics
+ * world has stepped. At most a budget of raycasts are run per frame, longest waiting first; the rest
+ * wait for the next frame. No raycasts are run while checking, so checks are cheap from any thread;
+ * a new group counts as visible until it is first raycast.
+ *
+ * <p>Every obstacle along a ray is kept, closest first, in hit buffers taken from a pool. Checks can
+ * be made from {@link com.csse3200.game.components.Thinker} components.
+ */
+public class VisibilityService {
+  public static final int DEFAULT_RAYCAST_BUDGET = 64;
+  /** Frames a group is kept after it was last checked */
+  static final int MAX_IDLE_FRAMES = 60;
+  private static final Comparator<Query> LONGEST_WAITING_FIRST =
+      (a, b) -> Long.compare(a.resolvedFrame, b.resolvedFrame);
+
+  private final PhysicsEngine physics;
+  private final short layerMask;
+  private final int raycastBudget;
+  private final LongMap<Query> queries = new LongMap<>();
+  // Groups checked since the last resolve, which need raycasting again
+  private final Array<Query> pending = new Array<>(false, 32, Query.class);
+  private final Array<Query> idle = new Array<>(false, 16, Query.class);
+  private final Pool<Query> queryPool =
+      new Pool<>() {
+        @Override
+        protected Query newObject() {
+          return new Query();
+        }
+      };
+  private final Pool<RaycastHit> hitPool =
+      new Pool<>() {
+        @Override
+        protected RaycastHit newObject() {
+          return new RaycastHit();
+        }
+      };
+  private long frame = 0;
+  private int requests = 0;
+  private int shared = 0;
+  private int raycasts = 0;
+  private int requestsLastFrame = 0;
+  private int sharedLastFrame = 0;
+  private int raycastsLastFrame = 0;
+  private int deferredLastFrame = 0;
+
+  /** Check line of sight against obstacles, with the default raycast budget. */
+  public VisibilityService() {
+    this(ServiceLocator.getPhysicsService().getPhysics(), PhysicsLayer.OBSTACLE, DEFAULT_RAYCAST_BUDGET);
+  }
+
+  /**
+   * @param physics engine to raycast with
+   * @param layerMask layers which block line of sight
+   * @param raycastBudget most raycasts to run each frame
+   */
+  public VisibilityService(PhysicsEngine physics, short layerMask, int raycastBudget) {
+    this.physics = physics;
+    this.layerMask = layerMask;
+    this.raycastBudget = raycastBudget;
+  }
+
+  /**
+   * Whether there are no obstacles between the centers of two entities.
+   *
+   * @param from entity looking
+   * @param target entity being looked at
+   * @return true if the target was visible when last checked from the same cell, or if it hasn't
+   *     been checked from the cell yet
+   */
+  public synchronized boolean isVisible(Entity from, Entity target) {
+    return request(from, target).hits.isEmpty();
+  }
+
+  /**
+   * Get the obstacles between the centers of two entities.
+   *
+   * @param from entity looking
+   * @param target entity being looked at
+   * @return obstacles hit, closest first, which is empty until the first resolve. Owned by the
+   *     service and only valid until the next resolve, so copy anything which is kept.
+   */
+  public synchronized Array<RaycastHit> getHits(Entity from, Entity target) {
+    return request(from, target).hits;
+  }
+
+  /**
+   * Raycast the groups checked since the last resolve, up to the budget, and forget groups which
+   * haven't been checked for a while. Should be called once per frame, after the physics step.
+   */
+  public synchronized void resolve() {
+    int allowed = raycastBudget;
+    if (pending.size > allowed) {
+      pending.sort(LONGEST_WAITING_FIRST);
+    }
+
+    RenderService renderService = ServiceLocator.getRenderService();
+    DebugRenderer debugRenderer = renderService != null ? renderService.getDebug() : null;
+    int deferred = 0;
+    for (int i = 0; i < pending.size; i++) {
+      Query query = pending.get(i);
+      if (i < allowed) {
+        raycast(query);
+        query.pending = false;
+      } else {
+        pending.set(deferred++, query);
+      }
+      if (debugRenderer != null) {
+        debugRenderer.drawLine(query.from, query.hits.isEmpty() ? query.to : query.hits.first().point);
+      }
+    }
+    pending.truncate(deferred);
+
+    removeIdleQueries();
+
+    requestsLastFrame = requests;
+    sharedLastFrame = shared;
+    raycastsLastFrame = raycasts;
+    deferredLastFrame = deferred;
+    requests = 0;
+    shared = 0;
+    raycasts = 0;
+    frame++;
+  }
+
+  /**
+   * @return line of sight checks made in the last frame
+   */
+  public synchronized int getRequestsLastFrame() {
+    return requestsLastFrame;
+  }
+
+  /**
+   * @return raycasts run in the last frame
+   */
+  public synchronized int getRaycastsLastFrame() {
+    return raycastsLastFrame;
+  }
+
+  /**
+   * @return groups left waiting for the next frame because the budget ran out
+   */
+  public synchronized int getDeferredLastFrame() {
+    return deferredLastFrame;
+  }
+
+  /**
+   * @return fraction of checks in the last frame answered from an existing group, from 0 to 1
+   */
+  public synchronized float getHitRateLastFrame() {
+    return requestsLastFrame == 0 ? 0f : (float) sharedLastFrame / requestsLastFrame;
+  }
+
+  /**
+   * @return number of groups being kept
+   */
+  public synchronized int getQueryCount() {
+    return queries.size;
+  }
+
+  /** Forget every group, e.g. when the game area changes. */
+  public synchronized void clear() {
+    for (Query query : queries.values()) {
+      free(query);
+    }
+    queries.clear();
+    pending.clear();
+  }
+
+  private Query request(Entity from, Entity target) {
+    requests++;
+    Vector2 fromPosition = from.getCenterPosition();
+    long key = key(fromPosition, target);
+    Query query = queries.get(key);
+    if (query == null) {
+      // Raycast with the others on the next resolve, after the physics step
+      query = queryPool.obtain();
+      query.key = key;
+      query.target = target;
+      query.from.set(fromPosition);
+      query.resolvedFrame = -1;
+      query.pending = true;
+      queries.put(key, query);
+      pending.add(query);
+    } else {
+      shared++;
+      query.from.set(fromPosition);
+      if (!query.pending && query.resolvedFrame != frame) {
+        query.pending = true;
+        pending.add(query);
+      }
+    }
+    query.lastRequestedFrame = frame;
+    return query;
+  }
+
+  private void raycast(Query query) {
+    freeHits(query);
+    query.to.set(query.target.getCenterPosition());
+    physics.raycastAll(query.from, query.to, layerMask, hitPool, query.hits);
+    query.resolvedFrame = frame;
+    raycasts++;
+  }
+
+  private void removeIdleQueries() {
+    for (Query query : queries.values()) {
+      if (!query.pending && frame - query.lastRequestedFrame > MAX_IDLE_FRAMES) {
+        idle.add(query);
+      }
+    }
+    for (int i = 0; i < idle.size; i++) {
+      Query query = idle.get(i);
+      queries.remove(query.key);
+      free(query);
+    }
+    idle.clear();
+  }
+
+  private void free(Query query) {
+    freeHits(query);
+    query.target = null;
+    query.pending = false;
+    queryPool.free(query);
+  }
+
+  private void freeHits(Query query) {
+    for (int i = 0; i < query.hits.size; i++) {
+      query.hits.get(i).fixture = null;
+    }
+    hitPool.freeAll(query.hits);
+    query.hits.clear();
+  }
+
+  /** Key of the group for an entity at a position looking at a target */
+  private static long key(Vector2 fromPosition, Entity target) {
+    int cellX = MathUtils.floor(fromPosition.x);
+    int cellY = MathUtils.floor(fromPosition.y);
+    return ((long) target.getId() << 32) | ((long) (cellX & 0xFFFF) << 16) | (cellY & 0xFFFF);
+  }
+
+  /** Entities in one cell looking at one target, and the result of the last raycast between them */
+  private static class Query {
+    private final Vector2 from = new Vector2();
+    private final Vector2 to = new Vector2();
+    private final Array<RaycastHit> hits = new Array<>(true, 4, RaycastHit.class);
+    private long key;
+    private Entity target;
+    private long resolvedFrame = -1;
+    private long lastRequestedFrame;
+    private boolean pending;
+  }
+}
@@ -0,0 +1,81 @@
+package com.csse3200.game.physics.components;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.physics.PhysicsLayer;
+
+/**
+ * Attaches many box colliders to a single physics body, e.g. all the merged walls of a map on one
+ * static body. Unlike {@link ColliderComponent}, which owns exactly one fixture, this creates one
+ * fixture per rectangle.
+ */
+public class CompoundColliderComponent extends Component {
+  private final Array<Rectangle> boxes;
+  private final Array<Fixture> fixtures = new Array<>();
+  private final FixtureDef fixtureDef = new FixtureDef();
+
+  /**
+   * @param boxes rectangles relative to the entity's position
+   */
+  public CompoundColliderComponent(Array<Rectangle> boxes) {
+    this.boxes = boxes;
+    fixtureDef.filter.categoryBits = PhysicsLayer.OBSTACLE;
+  }
+
+  /**
+   * Set the collider layer, used in collision logic. Must be called before the entity is created.
+   *
+   * @param layerMask Bitmask of {@link PhysicsLayer} the colliders belong to
+   * @return self
+   */
+  public CompoundColliderComponent setLayer(short layerMask) {
+    fixtureDef.filter.categoryBits = layerMask;
+    return this;
+  }
+
+  /**
+   * @return The {@link PhysicsLayer} the colliders belong to
+   */
+  public short getLayer() {
+    return fixtureDef.filter.categoryBits;
+  }
+
+  /** @return Physics fixtures of this collider. Empty before created() */
+  public Array<Fixture> getFixtures() {
+    return fixtures;
+  }
+
+  @Override
+  public void create() {
+    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
+    PolygonShape shape = new PolygonShape();
+    fixtureDef.shape = shape;
+    Vector2 center = new Vector2();
+    for (Rectangle box : boxes) {
+      box.getCenter(center);
+      shape.setAsBox(box.width / 2, box.height / 2, center, 0f);
+      // Box2D copies the shape into the fixture, so one shape serves every box
+      fixtures.add(physBody.createFixture(fixtureDef));
+    }
+    fixtureDef.shape = null;
+    shape.dispose();
+  }
+
+  @Override
+  public void dispose() {
+    super.dispose();
+    Body physBody = entity.getComponent(PhysicsComponent.class).getBody();
+    for (Fixture fixture : fixtures) {
+      if (physBody.getFixtureList().contains(fixture, true)) {
+        physBody.destroyFixture(fixture);
+      }
+    }
+    fixtures.clear();
+  }
+}
@@ -4,7 +4,10 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.events.EventKey;
+import com.csse3200.game.events.listeners.EventListener2;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsContactListener;
 import com.csse3200.game.physics.PhysicsEngine;
@@ -18,9 +21,17 @@ import com.csse3200.game.services.ServiceLocator;
  * {@link PhysicsContactListener }
  */
 public class PhysicsComponent extends Component {
+  /** Fired when a fixture of this entity starts touching another: (thisFixture, otherFixture) */
+  public static final EventKey<EventListener2<Fixture, Fixture>> COLLISION_START =
+      EventKey.of("collisionStart");
+  /** Fired when a fixture of this entity stops touching another: (thisFixture, otherFixture) */
+  public static final EventKey<EventListener2<Fixture, Fixture>> COLLISION_END =
+      EventKey.of("collisionEnd");
+
   private static final float GROUND_FRICTION = 5f;
   private final PhysicsEngine physics;
   private final Body body;
+  private final BodyUserData userData = new BodyUserData();
 
   /** Create a physics component with default settings. */
   public PhysicsComponent() {
@@ -69,22 +80,38 @@ public class PhysicsComponent extends Component {
     body.setTransform(entity.getPosition(), 0f);
     body.setActive(true);
 
-    BodyUserData userData = new BodyUserData();
     userData.entity = entity;
     body.setUserData(userData);
 
-    entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+    entity.getEvents().addListener("setPosition", (Vector2 pos) -> {
+      body.setTransform(pos, 0f);
+      // Moved directly, so don't slide from the old position
+      userData.previousStep = -1;
+    });
   }
 
   /**
    * Entity position needs to be updated to match the new physics position. This should happen
    * before other updates, which may use the new position.
+   *
+   * <p>The entity's position always matches the body. When the engine interpolates, only where the
+   * entity is drawn is moved back between the body's position before and after the last step, so
+   * it moves smoothly even when the world steps less often than frames are drawn.
    */
   @Override
   public void earlyUpdate() {
     Vector2 bodyPos = body.getPosition();
     // Don't notify position changes due to physics
     entity.setPosition(bodyPos, false);
+    if (physics.isInterpolating() && userData.previousStep == physics.getStepCount() - 1) {
+      // previous + (body - previous) * alpha, relative to the body
+      float behind = 1f - physics.getAlpha();
+      entity.setRenderOffset(
+          (userData.previousPosition.x - bodyPos.x) * behind,
+          (userData.previousPosition.y - bodyPos.y) * behind);
+    } else {
+      entity.setRenderOffset(0f, 0f);
+    }
   }
 
   @Override
@@ -92,6 +119,20 @@ public class PhysicsComponent extends Component {
     physics.destroyBody(body);
   }
 
+  /** Park the body while the entity is pooled, rather than destroying it. */
+  @Override
+  public void reset() {
+    body.setLinearVelocity(0f, 0f);
+    body.setActive(false);
+  }
+
+  @Override
+  public void reactivate() {
+    body.setTransform(entity.getPositionX(), entity.getPositionY(), 0f);
+    body.setActive(enabled);
+    userData.previousStep = -1;
+  }
+
   @Override
   public void setEnabled(boolean enabled) {
     super.setEnabled(enabled);
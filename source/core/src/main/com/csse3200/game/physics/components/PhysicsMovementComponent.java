@@ -44,6 +44,12 @@ public class PhysicsMovementComponent extends Component implements MovementContr
     }
   }
 
+  @Override
+  public void reset() {
+    targetPosition = null;
+    movementEnabled = true;
+  }
+
   @Override
   public boolean getMoving() {
     return movementEnabled;
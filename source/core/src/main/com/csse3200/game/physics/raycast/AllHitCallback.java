@@ -4,14 +4,20 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.RayCastCallback;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
 /**
  * Cast a ray against all colliders that match the layer mask. All hits will be stored, with an empty
  * array if no hits occurred.
+ *
+ * <p>If a hit pool and output array are set, hits are instead taken from the pool and added to the
+ * output, with their point and normal copied, so no hits are allocated once the pool is warm.
  */
 public class AllHitCallback implements RayCastCallback {
   private final Array<RaycastHit> raycastHits;
   public short layerMask = ~0;
+  public Pool<RaycastHit> hitPool;
+  public Array<RaycastHit> output;
 
   public AllHitCallback() {
     this.raycastHits = new Array<>(false, 4);
@@ -26,10 +32,20 @@ public class AllHitCallback implements RayCastCallback {
   @Override
   public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
     if ((fixture.getFilterData().categoryBits & layerMask) != 0) {
+      if (hitPool != null) {
+        RaycastHit hit = hitPool.obtain();
+        hit.fixture = fixture;
+        hit.point = hit.point == null ? new Vector2(point) : hit.point.set(point);
+        hit.normal = hit.normal == null ? new Vector2(normal) : hit.normal.set(normal);
+        hit.fraction = fraction;
+        output.add(hit);
+        return 1; // Keep going, every hit along the ray is wanted
+      }
       RaycastHit hit = new RaycastHit();
       hit.fixture = fixture;
       hit.normal = normal;
       hit.point = point;
+      hit.fraction = fraction;
       raycastHits.add(hit);
       return fraction;
     }
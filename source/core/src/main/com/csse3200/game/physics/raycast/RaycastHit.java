@@ -14,4 +14,7 @@ public class RaycastHit {
 
   /** the normal vector of the collider surface at the hit point. */
   public Vector2 normal;
+
+  /** How far along the ray the hit was, from 0 at the start to 1 at the end. */
+  public float fraction;
 }
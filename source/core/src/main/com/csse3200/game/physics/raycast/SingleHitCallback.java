@@ -20,6 +20,7 @@ public class SingleHitCallback implements RayCastCallback {
       hit.fixture = fixture;
       hit.point = point;
       hit.normal = normal;
+      hit.fraction = fraction;
       return fraction; // Continue in case of closer object
     }
     return 1; // Ignore this collision, it wasn't in the layer mask.
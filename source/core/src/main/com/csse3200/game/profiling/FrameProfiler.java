@@ -0,0 +1,169 @@
+package com.csse3200.game.profiling;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Lightweight frame profiler. Each stage of the main loop is timed by a named {@link ProfileScope},
+ * and component updates can optionally be timed per component class. Frame totals are kept in a
+ * rolling window so the debug overlay can show p50/p95/p99 times, and can be dumped to CSV.
+ *
+ * <p>Example usage:
+ *
+ * <pre>
+ *   ProfileScope physics = profiler.getScope("physics");
+ *   ...
+ *   physics.begin();
+ *   physicsEngine.update();
+ *   physics.end();
+ *   ...
+ *   profiler.endFrame();
+ * </pre>
+ */
+public class FrameProfiler {
+  public static final int DEFAULT_WINDOW_SIZE = 300;
+  private static final String COMPONENT_PREFIX = "component:";
+
+  private final int windowSize;
+  private final long[] scratch;
+  private final ObjectMap<String, ProfileScope> scopesByName = new ObjectMap<>();
+  private final Array<ProfileScope> stageScopes = new Array<>(false, 8, ProfileScope.class);
+  private final IntMap<ProfileScope> componentScopes = new IntMap<>();
+  private final Array<ProfileScope> componentScopeList = new Array<>(false, 32, ProfileScope.class);
+  private boolean profilingComponents = false;
+
+  public FrameProfiler() {
+    this(DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * @param windowSize number of frames kept for percentiles
+   */
+  public FrameProfiler(int windowSize) {
+    this.windowSize = windowSize;
+    this.scratch = new long[windowSize];
+  }
+
+  /**
+   * Get the scope for a stage of the frame, creating it on first use. Callers should keep the
+   * returned scope rather than looking it up every frame.
+   *
+   * @param name name of the stage
+   * @return scope for the stage
+   */
+  public ProfileScope getScope(String name) {
+    ProfileScope scope = scopesByName.get(name);
+    if (scope == null) {
+      scope = new ProfileScope(name, windowSize);
+      scopesByName.put(name, scope);
+      stageScopes.add(scope);
+    }
+    return scope;
+  }
+
+  /**
+   * Get the scope timing every update of a component class, creating it on first use.
+   *
+   * @param component component being updated
+   * @return scope for the component's class
+   */
+  public ProfileScope getComponentScope(Component component) {
+    int typeId = ComponentType.getFrom(component.getClass()).getId();
+    ProfileScope scope = componentScopes.get(typeId);
+    if (scope == null) {
+      scope = new ProfileScope(COMPONENT_PREFIX + component.getClass().getSimpleName(), windowSize);
+      componentScopes.put(typeId, scope);
+      componentScopeList.add(scope);
+    }
+    return scope;
+  }
+
+  /**
+   * @param enabled whether entities should time each component's update
+   */
+  public void setProfilingComponents(boolean enabled) {
+    profilingComponents = enabled;
+  }
+
+  /**
+   * @return true if entities should time each component's update
+   */
+  public boolean isProfilingComponents() {
+    return profilingComponents;
+  }
+
+  /** Store the totals of the finished frame in every scope's rolling window. */
+  public void endFrame() {
+    for (int i = 0; i < stageScopes.size; i++) {
+      stageScopes.items[i].endFrame();
+    }
+    if (profilingComponents) {
+      for (int i = 0; i < componentScopeList.size; i++) {
+        componentScopeList.items[i].endFrame();
+      }
+    }
+  }
+
+  /** Recompute the percentiles of every scope. Sorts each window, so avoid calling every frame. */
+  public void updateStatistics() {
+    for (int i = 0; i < stageScopes.size; i++) {
+      stageScopes.items[i].updateStatistics(scratch);
+    }
+    for (int i = 0; i < componentScopeList.size; i++) {
+      componentScopeList.items[i].updateStatistics(scratch);
+    }
+  }
+
+  /**
+   * @return scopes of the frame stages, in the order they were created
+   */
+  public Array<ProfileScope> getStageScopes() {
+    return stageScopes;
+  }
+
+  /**
+   * @return scopes of the profiled component classes
+   */
+  public Array<ProfileScope> getComponentScopes() {
+    return componentScopeList;
+  }
+
+  /**
+   * Write the current statistics of every scope as CSV.
+   *
+   * @param file file to write to, overwritten if it exists
+   * @throws IOException if the file could not be opened or written
+   */
+  public void dumpCsv(FileHandle file) throws IOException {
+    updateStatistics();
+    Writer writer;
+    try {
+      writer = file.writer(false, "UTF-8");
+    } catch (GdxRuntimeException e) {
+      // FileHandle reports a file which can't be opened unchecked
+      throw new IOException("Could not open " + file.path(), e);
+    }
+    try (writer) {
+      writer.write("scope,samples,p50_ms,p95_ms,p99_ms,max_ms\n");
+      writeRows(writer, stageScopes);
+      writeRows(writer, componentScopeList);
+    }
+  }
+
+  private static void writeRows(Writer writer, Array<ProfileScope> scopes) throws IOException {
+    for (ProfileScope scope : scopes) {
+      writer.write(String.format(Locale.ROOT, "%s,%d,%.4f,%.4f,%.4f,%.4f\n",
+          scope.getName(), scope.getSampleCount(),
+          scope.getP50(), scope.getP95(), scope.getP99(), scope.getMax()));
+    }
+  }
+}
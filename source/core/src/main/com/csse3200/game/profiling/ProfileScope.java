@@ -0,0 +1,114 @@
+package com.csse3200.game.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Times one stage of a frame, e.g. the physics step or a component class's updates. A scope may
+ * be entered several times per frame and the time is summed. At the end of each frame the total is
+ * stored in a rolling window, from which percentiles are computed on demand.
+ *
+ * <p>Timing does not allocate, so scopes can be left in hot code.
+ */
+public class ProfileScope {
+  private static final double NANOS_PER_MILLI = 1_000_000d;
+
+  private final String name;
+  private final long[] samples;
+  private int sampleCount = 0;
+  private int nextSample = 0;
+  private long startNanos = 0;
+  private long frameNanos = 0;
+
+  private double p50;
+  private double p95;
+  private double p99;
+  private double max;
+
+  /**
+   * @param name name shown in the overlay and CSV dumps
+   * @param windowSize number of frames kept for percentiles
+   */
+  ProfileScope(String name, int windowSize) {
+    this.name = name;
+    this.samples = new long[windowSize];
+  }
+
+  /** Start timing. Must be followed by {@link #end()} in the same frame. */
+  public void begin() {
+    startNanos = System.nanoTime();
+  }
+
+  /** Stop timing and add the elapsed time to this frame's total. */
+  public void end() {
+    frameNanos += System.nanoTime() - startNanos;
+  }
+
+  /**
+   * Add time to this frame's total directly.
+   *
+   * @param nanos elapsed time in nanoseconds
+   */
+  void record(long nanos) {
+    frameNanos += nanos;
+  }
+
+  /** Store this frame's total in the rolling window and start a new frame. */
+  void endFrame() {
+    samples[nextSample] = frameNanos;
+    nextSample = (nextSample + 1) % samples.length;
+    sampleCount = Math.min(sampleCount + 1, samples.length);
+    frameNanos = 0;
+  }
+
+  /**
+   * Recompute the percentiles from the rolling window.
+   *
+   * @param scratch array at least as long as the window, overwritten
+   */
+  void updateStatistics(long[] scratch) {
+    if (sampleCount == 0) {
+      p50 = p95 = p99 = max = 0;
+      return;
+    }
+    System.arraycopy(samples, 0, scratch, 0, sampleCount);
+    Arrays.sort(scratch, 0, sampleCount);
+    p50 = percentile(scratch, 0.50);
+    p95 = percentile(scratch, 0.95);
+    p99 = percentile(scratch, 0.99);
+    max = scratch[sampleCount - 1] / NANOS_PER_MILLI;
+  }
+
+  private double percentile(long[] sorted, double fraction) {
+    int index = (int) Math.ceil(fraction * sampleCount) - 1;
+    return sorted[Math.max(index, 0)] / NANOS_PER_MILLI;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** @return number of frames in the rolling window */
+  public int getSampleCount() {
+    return sampleCount;
+  }
+
+  /** @return median frame time in milliseconds, as of the last statistics update */
+  public double getP50() {
+    return p50;
+  }
+
+  /** @return 95th percentile frame time in milliseconds, as of the last statistics update */
+  public double getP95() {
+    return p95;
+  }
+
+  /** @return 99th percentile frame time in milliseconds, as of the last statistics update */
+  public double getP99() {
+    return p99;
+  }
+
+  /** @return slowest frame time in milliseconds, as of the last statistics update */
+  public double getMax() {
+    return max;
+  }
+}
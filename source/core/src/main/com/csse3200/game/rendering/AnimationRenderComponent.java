@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -9,6 +10,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,17 +39,34 @@ public class AnimationRenderComponent extends RenderComponent {
   private static final Logger logger = LoggerFactory.getLogger(AnimationRenderComponent.class);
   private final GameTime timeSource;
   private final TextureAtlas atlas;
+  private final String atlasPath;
+  private boolean atlasReleased = false;
   private final Map<String, Animation<TextureRegion>> animations;
   private Animation<TextureRegion> currentAnimation;
   private String currentAnimationName;
   private float animationPlayTime;
 
   /**
-   * Create the component for a given texture atlas.
+   * Create the component for a given texture atlas. The component does not own the atlas and never
+   * disposes it; the caller must, usually by loading it through the resource service.
    * @param atlas libGDX-supported texture atlas containing desired animations
    */
   public AnimationRenderComponent(TextureAtlas atlas) {
     this.atlas = atlas;
+    this.atlasPath = null;
+    this.animations = new HashMap<>(4);
+    timeSource = ServiceLocator.getTimeSource();
+  }
+
+  /**
+   * Create the component for a texture atlas shared through the resource service. The atlas is
+   * only loaded once no matter how many entities use it, and animations added to this component
+   * are shared with every other entity using the same atlas.
+   * @param atlasPath path of the libGDX-supported texture atlas containing desired animations
+   */
+  public AnimationRenderComponent(String atlasPath) {
+    this.atlas = ServiceLocator.getResourceService().acquireTextureAtlas(atlasPath);
+    this.atlasPath = atlasPath;
     this.animations = new HashMap<>(4);
     timeSource = ServiceLocator.getTimeSource();
   }
@@ -72,23 +91,35 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if added successfully, false otherwise
    */
   public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-    Array<AtlasRegion> regions = atlas.findRegions(name);
-    if (regions == null || regions.size == 0) {
-      logger.warn("Animation {} not found in texture atlas", name);
-      return false;
-    } else if (animations.containsKey(name)) {
+    if (animations.containsKey(name)) {
       logger.warn(
           "Animation {} already added in texture atlas. Animations should only be added once.",
           name);
       return false;
     }
 
-    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
+    Animation<TextureRegion> animation = createAnimation(name, frameDuration, playMode);
+    if (animation == null) {
+      logger.warn("Animation {} not found in texture atlas", name);
+      return false;
+    }
     animations.put(name, animation);
     logger.debug("Adding animation {}", name);
     return true;
   }
 
+  private Animation<TextureRegion> createAnimation(String name, float frameDuration, PlayMode playMode) {
+    if (atlasPath != null) {
+      return ServiceLocator.getResourceService().getAnimation(atlasPath, name, frameDuration, playMode);
+    }
+
+    Array<AtlasRegion> regions = atlas.findRegions(name);
+    if (regions == null || regions.size == 0) {
+      return null;
+    }
+    return new Animation<>(frameDuration, regions, playMode);
+  }
+
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
     TextureRegion defaultTexture = this.atlas.findRegion("default");
@@ -180,24 +211,54 @@ public class AnimationRenderComponent extends RenderComponent {
     return animation.getAnimationDuration();
   }
 
+  @Override
+  public Texture getTexture() {
+    if (currentAnimation == null) {
+      return null;
+    }
+    return currentAnimation.getKeyFrame(animationPlayTime).getTexture();
+  }
+
   @Override
   protected void draw(SpriteBatch batch) {
     if (currentAnimation == null) {
       return;
     }
     TextureRegion region = currentAnimation.getKeyFrame(animationPlayTime);
-    Vector2 pos = entity.getPosition();
+    Vector2 pos = entity.getRenderPosition();
     Vector2 scale = entity.getScale();
     //Why can't I change this?? ;(  todo: daniel plz
     // batch.draw(region, pos.x, pos.y, scale.x/2, scale.y/2, scale.x, scale.y, 1, 1, entity.getRotation());
     batch.draw(region, pos.x, pos.y, scale.x, scale.y);
-    animationPlayTime += timeSource.getDeltaTime();
+  }
+
+  /**
+   * Advances the current animation. Done here rather than when drawing, so animations keep playing
+   * and finish on time while they are culled off screen.
+   */
+  @Override
+  public void update() {
+    if (currentAnimation != null) {
+      animationPlayTime += timeSource.getDeltaTime();
+    }
   }
 /*Added java doc to Companion stats display , spawn companion in forest game area, (spawn companion ,spawn laboratotory,spawn potion) in earth game area,keyboard companion input component,Companion Action,Companion Animation Controller,CompanionInteractionControllerComponent,
 CompanionInventoryComponent,TouchCompanionInputComponent,CombatStatsComponent,LaboratoryInventoryComponent,PotionComponent,PotionType,LaboratoryFactory,PotionFactory,LabWindow.*/
   @Override
   public void dispose() {
-    atlas.dispose();
+    // The atlas is shared with other entities, so only give back this component's reference.
+    // Atlases passed in directly belong to the caller and are left alone.
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (atlasPath != null && !atlasReleased && resourceService != null) {
+      resourceService.releaseTextureAtlas(atlasPath);
+      atlasReleased = true;
+    }
     super.dispose();
   }
+
+  @Override
+  public void reset() {
+    super.reset();
+    stopAnimation();
+  }
 }
@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
@@ -31,6 +32,28 @@ public class AtlasRenderComponent extends RenderComponent {
         currentRegion = atlas.findRegion(region);
     }
 
+    /**
+     * Changes the atlas being used to a new atlas and sets the region to be
+     * the given region, which should come from the new atlas.
+     *
+     * @param atlas - the new atlas
+     * @param region - the new region
+     */
+    public void updateTextureAtlas(TextureAtlas atlas, TextureAtlas.AtlasRegion region) {
+        this.atlas = atlas;
+
+        currentRegion = region;
+    }
+
+    /**
+     * Retrieves the atlas regions are currently taken from.
+     *
+     * @return the current atlas.
+     */
+    public TextureAtlas getAtlas() {
+        return atlas;
+    }
+
     /** Scale the entity to a width of 1 and a height matching the texture's ratio */
     public void scaleEntity() {
         entity.setScale(1f, ((float)currentRegion.getRegionHeight()) / ((float)currentRegion.getRegionWidth()));
@@ -50,9 +73,28 @@ public class AtlasRenderComponent extends RenderComponent {
         }
     }
 
+    /**
+     * Sets the region to use when drawing the texture, without looking it up by name.
+     *
+     * @param region - the region to use, from the current atlas
+     * @param scaleEntity - whether the scale should be updated.
+     */
+    public void setRegion(TextureAtlas.AtlasRegion region, boolean scaleEntity) {
+        this.currentRegion = region;
+
+        if (scaleEntity) {
+            scaleEntity();
+        }
+    }
+
+    @Override
+    public Texture getTexture() {
+        return currentRegion == null ? null : currentRegion.getTexture();
+    }
+
     @Override
     protected void draw(SpriteBatch batch) {
-        Vector2 position = entity.getPosition();
+        Vector2 position = entity.getRenderPosition();
         Vector2 scale = entity.getScale();
         batch.draw(currentRegion, position.x, position.y, scale.x, scale.y);
     }
@@ -62,7 +62,7 @@ public class DamageTextureComponent extends RenderComponent {
 
     @Override
     protected void draw(SpriteBatch batch) {
-        Vector2 position = entity.getPosition();
+        Vector2 position = entity.getRenderPosition();
         Vector2 scale = entity.getScale();
         Texture texture = getCurrentHealthTexture();
         batch.draw(texture, position.x, position.y, scale.x, scale.y);
@@ -57,7 +57,7 @@ public class DebugRenderer {
    * @param color line color
    * @param lineWidth line width
    */
-  public void drawLine(Vector2 from, Vector2 to, Color color, float lineWidth) {
+  public synchronized void drawLine(Vector2 from, Vector2 to, Color color, float lineWidth) {
     ensureCapacity();
     DrawRequest request = drawRequests[requestCount];
     request.drawRequestType = DrawRequestType.LINE;
@@ -86,7 +86,7 @@ public class DebugRenderer {
    * @param color line color
    * @param lineWidth line width
    */
-  public void drawRectangle(Vector2 pos, Vector2 size, Color color, float lineWidth) {
+  public synchronized void drawRectangle(Vector2 pos, Vector2 size, Color color, float lineWidth) {
     ensureCapacity();
     DrawRequest request = drawRequests[requestCount];
     request.drawRequestType = DrawRequestType.RECT;
@@ -1,6 +1,7 @@
 package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.services.ServiceLocator;
@@ -11,7 +12,10 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
   private static final int DEFAULT_LAYER = 1;
+  /** Extra world units around the entity which may still be drawn to, e.g. by rotated textures */
+  private static final float CULL_MARGIN = 1f;
   private Float z_override = null;
+  protected final Rectangle bounds = new Rectangle();
 
   @Override
   public void create() {
@@ -23,6 +27,16 @@ public abstract class RenderComponent extends Component implements Renderable, D
     ServiceLocator.getRenderService().unregister(this);
   }
 
+  @Override
+  public void reset() {
+    ServiceLocator.getRenderService().unregister(this);
+  }
+
+  @Override
+  public void reactivate() {
+    ServiceLocator.getRenderService().register(this);
+  }
+
   @Override
   public void render(SpriteBatch batch) {
     draw(batch);
@@ -41,7 +55,27 @@ public abstract class RenderComponent extends Component implements Renderable, D
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return this.z_override == null ? -entity.getPosition().y : this.z_override;
+    return this.z_override == null ? -entity.getPositionY() : this.z_override;
+  }
+
+  @Override
+  public boolean isVisible(Rectangle viewBounds) {
+    getBounds(bounds);
+    return bounds.x - CULL_MARGIN < viewBounds.x + viewBounds.width
+        && bounds.x + bounds.width + CULL_MARGIN > viewBounds.x
+        && bounds.y - CULL_MARGIN < viewBounds.y + viewBounds.height
+        && bounds.y + bounds.height + CULL_MARGIN > viewBounds.y;
+  }
+
+  /**
+   * Get the world area this component draws to, used to skip components outside the camera's
+   * view. Defaults to the entity's position and scale.
+   *
+   * @param out rectangle to store the bounds in
+   * @return out, for chaining
+   */
+  protected Rectangle getBounds(Rectangle out) {
+    return entity.getBounds(out);
   }
 
   /**
@@ -0,0 +1,56 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Sprite batch statistics of the last rendered frame. Each render call is a flush of the sprite
+ * batch, which happens whenever the texture being drawn changes or the batch fills up.
+ */
+public class RenderMetrics {
+  private int renderCalls = 0;
+  private int totalRenderCalls = 0;
+  private int maxSpritesInBatch = 0;
+  private int frameStartRenderCalls = 0;
+
+  /**
+   * Start counting a new frame. Resets the batch's per-frame counters.
+   *
+   * @param batch batch the frame is drawn with
+   */
+  public void beginFrame(SpriteBatch batch) {
+    frameStartRenderCalls = batch.totalRenderCalls;
+    batch.maxSpritesInBatch = 0;
+  }
+
+  /**
+   * Record the batch's counters once everything in the frame has been drawn.
+   *
+   * @param batch batch the frame was drawn with
+   */
+  public void endFrame(SpriteBatch batch) {
+    totalRenderCalls = batch.totalRenderCalls;
+    renderCalls = totalRenderCalls - frameStartRenderCalls;
+    maxSpritesInBatch = batch.maxSpritesInBatch;
+  }
+
+  /**
+   * @return render calls made during the last frame, including the UI stage
+   */
+  public int getRenderCalls() {
+    return renderCalls;
+  }
+
+  /**
+   * @return render calls made by the batch since it was created
+   */
+  public int getTotalRenderCalls() {
+    return totalRenderCalls;
+  }
+
+  /**
+   * @return most sprites drawn by a single render call during the last frame
+   */
+  public int getMaxSpritesInBatch() {
+    return maxSpritesInBatch;
+  }
+}
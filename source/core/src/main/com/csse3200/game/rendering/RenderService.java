@@ -1,26 +1,44 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 import com.csse3200.game.utils.SortedIntMap;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
- * this service has render() called once per frame.
+ * this service has render() called once per frame, unless it is outside the current view bounds.
+ *
+ * <p>Each layer stays sorted between frames and is re-sorted with an insertion sort, which is close
+ * to linear when only a few renderables changed order since the last frame.
+ *
+ * <p>With texture sorting enabled, renderables are ordered by z band first and then by texture, so
+ * renderables sharing a texture within a band are drawn together without flushing the batch.
+ * Renderables within the same band may then be drawn out of z order.
  */
 public class RenderService implements Disposable {
   private static final int INITIAL_LAYER_CAPACITY = 4;
   private static final int INITIAL_CAPACITY = 4;
+  private static final float DEFAULT_Z_BAND = 1f;
   private Stage stage;
   private DebugRenderer debugRenderer;
+  private RenderMetrics metrics;
 
   /**
    * Map from layer to list of renderables, allows us to render each layer in the correct order
    */
-  private final SortedIntMap<Array<Renderable>> renderables =
+  private final SortedIntMap<RenderLayer> renderables =
       new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+  private final IntArray layerIds = new IntArray(true, INITIAL_LAYER_CAPACITY);
+  private final Rectangle viewBounds = new Rectangle();
+  private boolean cullingEnabled = false;
+  private boolean textureSorting = false;
+  private float zBand = DEFAULT_Z_BAND;
 
   /**
    * Register a new renderable.
@@ -29,11 +47,14 @@ public class RenderService implements Disposable {
    */
   public void register(Renderable renderable) {
     int layerIndex = renderable.getLayer();
-    if (!renderables.containsKey(layerIndex)) {
-      renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+    RenderLayer layer = renderables.get(layerIndex);
+    if (layer == null) {
+      layer = new RenderLayer();
+      renderables.put(layerIndex, layer);
+      layerIds.add(layerIndex);
+      layerIds.sort();
     }
-    Array<Renderable> layer = renderables.get(layerIndex);
-    layer.add(renderable);
+    layer.renderables.add(renderable);
   }
 
   /**
@@ -42,28 +63,128 @@ public class RenderService implements Disposable {
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
-    Array<Renderable> layer = renderables.get(renderable.getLayer());
+    RenderLayer layer = renderables.get(renderable.getLayer());
     if (layer != null) {
-      layer.removeValue(renderable, true);
+      layer.renderables.removeValue(renderable, true);
     }
   }
 
+  /**
+   * Set the area of the world visible to the camera. Renderables outside of it are skipped until
+   * culling is disabled again.
+   *
+   * @param bounds visible world area, or null to disable culling and draw everything
+   */
+  public void setViewBounds(Rectangle bounds) {
+    cullingEnabled = bounds != null;
+    if (cullingEnabled) {
+      viewBounds.set(bounds);
+    }
+  }
+
+  /**
+   * Enable or disable grouping renderables by texture within z bands.
+   *
+   * @param enabled true to group by texture, false to draw in strict z order
+   * @param zBand range of z indices treated as the same band, must be positive
+   */
+  public void setTextureSorting(boolean enabled, float zBand) {
+    this.textureSorting = enabled;
+    this.zBand = zBand;
+  }
+
+  /**
+   * @return true if renderables are grouped by texture within z bands
+   */
+  public boolean isTextureSorting() {
+    return textureSorting;
+  }
+
   /**
    * Trigger rendering on the given batch. This should be called only from the main renderer.
    *
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
-    for (Array<Renderable> layer : renderables) {
+    for (RenderLayer layer : renderables) {
+      Array<Renderable> layerRenderables = layer.renderables;
       // Sort into rendering order
-      layer.sort();
+      insertionSort(layerRenderables);
 
-      for (Renderable renderable : layer) {
+      layer.drawn = 0;
+      layer.culled = 0;
+      for (int i = 0; i < layerRenderables.size; i++) {
+        Renderable renderable = layerRenderables.get(i);
+        if (cullingEnabled && !renderable.isVisible(viewBounds)) {
+          layer.culled++;
+          continue;
+        }
         renderable.render(batch);
+        layer.drawn++;
       }
     }
   }
 
+  /**
+   * @return ids of every layer which has had a renderable registered, in rendering order
+   */
+  public IntArray getLayerIds() {
+    return layerIds;
+  }
+
+  /**
+   * @param layer layer id
+   * @return number of renderables in the layer drawn last frame
+   */
+  public int getDrawnCount(int layer) {
+    RenderLayer renderLayer = renderables.get(layer);
+    return renderLayer == null ? 0 : renderLayer.drawn;
+  }
+
+  /**
+   * @param layer layer id
+   * @return number of renderables in the layer skipped last frame for being out of view
+   */
+  public int getCulledCount(int layer) {
+    RenderLayer renderLayer = renderables.get(layer);
+    return renderLayer == null ? 0 : renderLayer.culled;
+  }
+
+  /**
+   * Stable insertion sort, which only does a single pass over an array that is already in order.
+   * Renderables only move a little between frames, so this is cheaper than a full sort each frame.
+   */
+  private void insertionSort(Array<Renderable> array) {
+    Renderable[] items = array.items;
+    for (int i = 1; i < array.size; i++) {
+      Renderable current = items[i];
+      int j = i - 1;
+      while (j >= 0 && compare(items[j], current) > 0) {
+        items[j + 1] = items[j];
+        j--;
+      }
+      items[j + 1] = current;
+    }
+  }
+
+  private int compare(Renderable a, Renderable b) {
+    if (!textureSorting) {
+      return a.compareTo(b);
+    }
+    int bandA = MathUtils.floor(a.getZIndex() / zBand);
+    int bandB = MathUtils.floor(b.getZIndex() / zBand);
+    if (bandA != bandB) {
+      return Integer.compare(bandA, bandB);
+    }
+    int textureOrder = Integer.compare(getTextureKey(a), getTextureKey(b));
+    return textureOrder != 0 ? textureOrder : a.compareTo(b);
+  }
+
+  private static int getTextureKey(Renderable renderable) {
+    Texture texture = renderable.getTexture();
+    return texture == null ? 0 : texture.getTextureObjectHandle();
+  }
+
   public void setStage(Stage stage) {
     this.stage = stage;
   }
@@ -80,8 +201,28 @@ public class RenderService implements Disposable {
     return debugRenderer;
   }
 
+  public void setMetrics(RenderMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return sprite batch statistics of the renderer, or null if no renderer is attached
+   */
+  public RenderMetrics getMetrics() {
+    return metrics;
+  }
+
   @Override
   public void dispose() {
     renderables.clear();
+    layerIds.clear();
+  }
+
+  /** Renderables of a single layer with the counters from the last frame */
+  private static class RenderLayer {
+    private final Array<Renderable> renderables =
+        new Array<>(true, INITIAL_CAPACITY, Renderable.class);
+    private int drawn = 0;
+    private int culled = 0;
   }
 }
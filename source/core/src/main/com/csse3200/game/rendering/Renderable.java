@@ -1,6 +1,8 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Can be rendered onto the screen given a Sprite batch.
@@ -23,4 +25,23 @@ public interface Renderable extends Comparable<Renderable> {
    * @return layer
    */
   int getLayer();
+
+  /**
+   * Whether the renderable could draw anything inside the camera's view. Renderables which are
+   * not visible are skipped for the frame.
+   * @param viewBounds area of the world visible to the camera
+   * @return true if the renderable should be drawn, true by default
+   */
+  default boolean isVisible(Rectangle viewBounds) {
+    return true;
+  }
+
+  /**
+   * Texture the renderable will draw next, used to group renderables sharing a texture so the
+   * sprite batch is flushed less often.
+   * @return texture, or null if unknown or drawing several textures
+   */
+  default Texture getTexture() {
+    return null;
+  }
 }
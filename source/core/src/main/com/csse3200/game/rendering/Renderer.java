@@ -5,6 +5,8 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
@@ -29,6 +31,8 @@ public class Renderer implements Disposable {
   private Stage stage;
   private RenderService renderService;
   private DebugRenderer debugRenderer;
+  private final Rectangle viewBounds = new Rectangle();
+  private final RenderMetrics metrics = new RenderMetrics();
   String vertexShader;
   String fragmentShader;
   ShaderProgram shaderProgram;
@@ -97,6 +101,7 @@ public class Renderer implements Disposable {
 
     renderService.setStage(stage);
     renderService.setDebug(debugRenderer);
+    renderService.setMetrics(metrics);
     resizeCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
   }
 
@@ -113,14 +118,33 @@ public class Renderer implements Disposable {
     Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
     batch.setShader(null); // shader code
+    metrics.beginFrame(batch);
     batch.begin();
 
+    renderService.setViewBounds(updateViewBounds());
     renderService.render(batch);
     batch.end();
     debugRenderer.render(projMatrix);
 
     stage.act();
     stage.draw();
+    metrics.endFrame(batch);
+  }
+
+  /**
+   * Enable or disable grouping renderables that share a texture to reduce sprite batch flushes.
+   * Renderables whose z index falls in the same band may be drawn out of order while enabled.
+   *
+   * @param enabled true to group by texture
+   * @param zBand range of z indices treated as the same band
+   */
+  public void setTextureSorting(boolean enabled, float zBand) {
+    renderService.setTextureSorting(enabled, zBand);
+  }
+
+  /** @return sprite batch statistics of the last frame */
+  public RenderMetrics getMetrics() {
+    return metrics;
   }
 
   /**
@@ -140,6 +164,26 @@ public class Renderer implements Disposable {
     return debugRenderer;
   }
 
+  /**
+   * Fit the view bounds around the camera's frustum, so renderables outside it can be skipped.
+   *
+   * @return world area visible to the camera
+   */
+  private Rectangle updateViewBounds() {
+    Vector3[] corners = camera.getCamera().frustum.planePoints;
+    float minX = corners[0].x;
+    float minY = corners[0].y;
+    float maxX = minX;
+    float maxY = minY;
+    for (int i = 1; i < corners.length; i++) {
+      minX = Math.min(minX, corners[i].x);
+      minY = Math.min(minY, corners[i].y);
+      maxX = Math.max(maxX, corners[i].x);
+      maxY = Math.max(maxY, corners[i].y);
+    }
+    return viewBounds.set(minX, minY, maxX - minX, maxY - minY);
+  }
+
   private void resizeCamera(int screenWidth, int screenHeight) {
     camera.resize(screenWidth, screenHeight, gameWidth);
   }
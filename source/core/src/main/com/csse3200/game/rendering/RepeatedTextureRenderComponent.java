@@ -0,0 +1,66 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * Render a static texture several times in a line, e.g. a wall of identical blocks drawn by a
+ * single entity. Each copy is scaled to the entity's scale, and copies are offset by a fixed step.
+ */
+public class RepeatedTextureRenderComponent extends RenderComponent {
+  private final Texture texture;
+  private final int count;
+  private final Vector2 step;
+
+  /**
+   * @param texturePath Internal path of static texture to render.
+   * @param count Number of copies to draw
+   * @param step Offset between the bottom left corners of consecutive copies
+   */
+  public RepeatedTextureRenderComponent(String texturePath, int count, Vector2 step) {
+    this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class), count, step);
+  }
+
+  /**
+   * @param texture Static texture to render.
+   * @param count Number of copies to draw
+   * @param step Offset between the bottom left corners of consecutive copies
+   */
+  public RepeatedTextureRenderComponent(Texture texture, int count, Vector2 step) {
+    this.texture = texture;
+    this.count = count;
+    this.step = step.cpy();
+  }
+
+  /**
+   * @return Number of copies drawn
+   */
+  public int getCount() {
+    return count;
+  }
+
+  @Override
+  public Texture getTexture() {
+    return texture;
+  }
+
+  @Override
+  protected Rectangle getBounds(Rectangle out) {
+    entity.getBounds(out);
+    float lastX = out.x + step.x * (count - 1);
+    float lastY = out.y + step.y * (count - 1);
+    return out.merge(lastX, lastY).merge(lastX + out.width, lastY + out.height);
+  }
+
+  @Override
+  protected void draw(SpriteBatch batch) {
+    Vector2 position = entity.getRenderPosition();
+    Vector2 scale = entity.getScale();
+    for (int i = 0; i < count; i++) {
+      batch.draw(texture, position.x + step.x * i, position.y + step.y * i, scale.x, scale.y);
+    }
+  }
+}
@@ -3,13 +3,17 @@ package com.csse3200.game.rendering;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.player.IAlpha;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 
 /** Render a static texture. */
 public class TextureRenderComponent extends RenderComponent implements IAlpha {
     private final Texture texture;
+    /** Region of a packed page holding the texture, drawn instead of the texture when present */
+    private final TextureRegion region;
     private float rotation = 0.0f;
     private float alpha = 1.0f;
 
@@ -18,7 +22,15 @@ public class TextureRenderComponent extends RenderComponent implements IAlpha {
      *                    Will be scaled to the entity's scale.
      */
     public TextureRenderComponent(String texturePath) {
-        this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+        this(ServiceLocator.getResourceService(), texturePath);
+    }
+
+    private TextureRenderComponent(ResourceService resourceService, String texturePath) {
+        TextureRegion packedRegion = resourceService.getPackedRegion(texturePath);
+        this.region = packedRegion;
+        this.texture = packedRegion != null
+                ? packedRegion.getTexture()
+                : resourceService.getAsset(texturePath, Texture.class);
     }
 //...
 
@@ -27,13 +39,18 @@ public class TextureRenderComponent extends RenderComponent implements IAlpha {
      */
     public TextureRenderComponent(Texture texture) {
         this.texture = texture;
+        this.region = null;
     }
 
     /**
      * Scale the entity to a width of 1 and a height matching the texture's ratio
      */
     public void scaleEntity() {
-        entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+        if (region != null) {
+            entity.setScale(1f, (float) region.getRegionHeight() / region.getRegionWidth());
+        } else {
+            entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+        }
     }
 
     public void setRotation(float degrees) {
@@ -50,14 +67,23 @@ public class TextureRenderComponent extends RenderComponent implements IAlpha {
         this.alpha = alpha;
     }
 
+    @Override
+    public Texture getTexture() {
+        return texture;
+    }
+
     @Override
     protected void draw(SpriteBatch batch) {
-        Vector2 position = entity.getPosition();
+        Vector2 position = entity.getRenderPosition();
         Vector2 scale = entity.getScale();
 
         Color colour = batch.getColor() == null ? Color.valueOf("FFFFFF") : batch.getColor();
         batch.setColor(colour.r, colour.g, colour.b, this.alpha);
 
+        if (region != null) {
+            batch.draw(region, position.x, position.y, scale.x / 2, scale.y / 2, scale.x, scale.y, 1, 1, rotation);
+            return;
+        }
         batch.draw(texture, position.x, position.y, scale.x / 2, scale.y / 2, scale.x, scale.y, 1, 1, rotation, 0, 0, texture.getWidth(), texture.getHeight(), false, false);
     }
 }
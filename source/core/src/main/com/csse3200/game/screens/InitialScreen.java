@@ -14,6 +14,7 @@ import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +30,7 @@ public class InitialScreen extends ScreenAdapter {
     private static final String[] introScreenAssets = {"images/menu/InitialScreenBG.png", "images/menu/InitialScreenImage.png"};
     private final GdxGame game;
     private final Renderer renderer;
+    private final TimerService timerService;
 
     /**
      * Creates a new instance of the InitialScreen.
@@ -44,6 +46,8 @@ public class InitialScreen extends ScreenAdapter {
         ServiceLocator.registerEntityService(new EntityService());
         ServiceLocator.registerRenderService(new RenderService());
         ServiceLocator.registerTimeSource(new GameTime());
+        timerService = new TimerService();
+        ServiceLocator.registerTimerService(timerService);
 
         renderer = RenderFactory.createRenderer();
         renderer.getCamera().getEntity().setPosition(5f, 5f);
@@ -54,6 +58,7 @@ public class InitialScreen extends ScreenAdapter {
 
     @Override
     public void render(float delta) {
+        timerService.update();
         ServiceLocator.getEntityService().update();
         renderer.render();
     }
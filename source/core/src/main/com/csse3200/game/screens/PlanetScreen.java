@@ -4,34 +4,48 @@ import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.GdxGame;
+import com.csse3200.game.ai.AIScheduler;
 import com.csse3200.game.areas.GameArea;
 import com.csse3200.game.areas.MapGameArea;
+import com.csse3200.game.areas.mapConfig.GameAreaConfig;
+import com.csse3200.game.areas.mapConfig.MapConfigLoader;
 import com.csse3200.game.areas.terrain.TerrainFactory;
 import com.csse3200.game.components.ProximityControllerComponent;
 import com.csse3200.game.components.gamearea.PerformanceDisplay;
+import com.csse3200.game.components.maingame.LoadingDisplay;
 import com.csse3200.game.components.maingame.MainGameActions;
 import com.csse3200.game.components.maingame.MainGameExitDisplay;
+import com.csse3200.game.components.structures.JoinService;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.entities.factories.RenderFactory;
+import com.csse3200.game.files.UserSettings;
 import com.csse3200.game.input.InputComponent;
 import com.csse3200.game.input.InputDecorator;
 import com.csse3200.game.input.InputFactory;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.VisibilityService;
+import com.csse3200.game.profiling.FrameProfiler;
+import com.csse3200.game.profiling.ProfileScope;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.services.GameStateObserver;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import com.csse3200.game.ui.terminal.Terminal;
 import com.csse3200.game.ui.terminal.TerminalDisplay;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * A screen that represents a single planet of the game with its corresponding game area/s.
@@ -49,14 +63,40 @@ public class PlanetScreen extends ScreenAdapter {
     private String currentAreaName = "primary";
     private final Map<String, GameArea> allGameAreas = new HashMap<>();
 
+    /** Game area configs still being parsed in the background */
+    private final Map<String, CompletableFuture<GameAreaConfig>> pendingAreas = new LinkedHashMap<>();
+    private int totalAreas = 0;
+    private boolean loading = false;
+    /** Set once the screen is cleared, so configs parsed after that are ignored */
+    private boolean disposed = false;
+    private Entity loadingUI;
+    private LoadingDisplay loadingDisplay;
+    private int loadingProgress = 0;
+
+    /** Time spent uploading loaded assets each frame while loading */
+    private static final int LOAD_BUDGET_MILLIS = 8;
+    /** Share of the loading bar given to parsing the game area configs */
+    private static final int CONFIG_PROGRESS_WEIGHT = 20;
+
     /** Starting position of the camera */
     private static final Vector2 CAMERA_POSITION = new Vector2(7.5f, 7.5f);
 
     /** Service Instances */
     private Renderer renderer;
     private PhysicsEngine physicsEngine;
+    private VisibilityService visibilityService;
+    private TimerService timerService;
+    private AIScheduler aiScheduler;
+    private JoinService joinService;
+    private FrameProfiler profiler;
+    private ProfileScope timersScope;
+    private ProfileScope physicsScope;
+    private ProfileScope entitiesScope;
+    private ProfileScope renderScope;
+    private ProfileScope proximityScope;
 
     /** file paths of textures for screen to load. */
+    private static final String PLANET_TEXTURE_PAGE = "planetTextures";
     private static final String[] planetTextures = {
             "images/player/heart.png",
             "images/structure-icons/gate.png",
@@ -93,19 +133,18 @@ public class PlanetScreen extends ScreenAdapter {
     }
 
     /**
-     * Create the screen services and game areas on show.
+     * Create the screen services and start loading the game areas on show. The areas are parsed
+     * and their assets streamed in over the following frames behind a loading screen, and the
+     * current area is created once everything it needs has loaded.
      */
     @Override
     public void show() {
         registerServices();
 
-        loadAssets();
-        createUI();
+        queueAssets();
         generateGameAreas();
-        allGameAreas.get(currentAreaName).create();
-
-        logger.debug((String.format("Initialising %s screen entities", this.name)));
-        this.player = allGameAreas.get(currentAreaName).getPlayer();
+        createLoadingUI();
+        loading = true;
     }
 
     /**
@@ -124,6 +163,9 @@ public class PlanetScreen extends ScreenAdapter {
      */
     public void setCurrentArea(String name) {
         this.allGameAreas.get(currentAreaName).dispose();
+        if (visibilityService != null) {
+            visibilityService.clear();
+        }
         this.currentAreaName = name;
         this.allGameAreas.get(currentAreaName).create();
     }
@@ -156,8 +198,79 @@ public class PlanetScreen extends ScreenAdapter {
      * @param configPath    The configPath to load.
      */
     private void generateGameArea(String name, String configPath) {
-        TerrainFactory terrainFactory = new TerrainFactory(renderer.getCamera());
-        this.allGameAreas.put(name, new MapGameArea(configPath, terrainFactory, game, game.getPlayerLives()));
+        this.pendingAreas.put(name, MapConfigLoader.loadMapDirectoryAsync(configPath));
+        totalAreas++;
+    }
+
+    /**
+     * Creates game areas whose configs have finished parsing and queues their assets.
+     */
+    private void resolveGameAreas() {
+        Iterator<Map.Entry<String, CompletableFuture<GameAreaConfig>>> iterator =
+                pendingAreas.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, CompletableFuture<GameAreaConfig>> entry = iterator.next();
+            if (!entry.getValue().isDone()) {
+                continue;
+            }
+
+            GameAreaConfig config = null;
+            try {
+                config = entry.getValue().join();
+                logger.info("Successfully loaded map {}", entry.getKey());
+            } catch (CompletionException exception) {
+                // The area sends the player back to the main menu when it is created
+                logger.error("FAILED TO LOAD GAME - RETURNING TO MAIN MENU", exception.getCause());
+            }
+
+            TerrainFactory terrainFactory = new TerrainFactory(renderer.getCamera());
+            MapGameArea area = new MapGameArea(config, terrainFactory, game, game.getPlayerLives());
+            area.queueAssets();
+            this.allGameAreas.put(entry.getKey(), area);
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Advance loading by one frame: pick up parsed game areas, upload assets for a fixed time and
+     * draw the loading screen. Creates the current area once loading has finished.
+     */
+    private void updateLoading() {
+        if (disposed) {
+            return;
+        }
+        resolveGameAreas();
+        boolean assetsLoaded = ServiceLocator.getResourceService().loadForMillis(LOAD_BUDGET_MILLIS);
+        boolean texturesPacked = ServiceLocator.getResourceService().finishPackedTextures(PLANET_TEXTURE_PAGE);
+
+        int configProgress = (totalAreas - pendingAreas.size()) * CONFIG_PROGRESS_WEIGHT / totalAreas;
+        int assetProgress = ServiceLocator.getResourceService().getProgress()
+                * (100 - CONFIG_PROGRESS_WEIGHT) / 100;
+        // Asset progress drops whenever a newly parsed area queues more assets
+        loadingProgress = Math.max(loadingProgress, configProgress + assetProgress);
+        loadingDisplay.setProgress(loadingProgress);
+        renderer.render();
+
+        if (pendingAreas.isEmpty() && assetsLoaded && texturesPacked) {
+            finishLoading();
+        }
+    }
+
+    /**
+     * Swap the loading screen for the game once all the game areas and their assets have loaded.
+     */
+    private void finishLoading() {
+        loading = false;
+
+        loadingUI.dispose();
+        loadingUI = null;
+        loadingDisplay = null;
+
+        createUI();
+        allGameAreas.get(currentAreaName).create();
+
+        logger.debug((String.format("Initialising %s screen entities", this.name)));
+        this.player = allGameAreas.get(currentAreaName).getPlayer();
     }
 
     /**
@@ -174,9 +287,32 @@ public class PlanetScreen extends ScreenAdapter {
         ServiceLocator.registerRenderService(new RenderService());
         ServiceLocator.registerPhysicsService(new PhysicsService());
         physicsEngine = ServiceLocator.getPhysicsService().getPhysics();
+        int physicsRate = UserSettings.current().physicsRate;
+        if (physicsRate <= 0) {
+            // A hand-edited settings file can hold any value, so don't let it stop the game starting
+            logger.warn("Invalid physics rate {} in settings, using {}", physicsRate, PhysicsEngine.DEFAULT_STEP_RATE);
+            physicsRate = PhysicsEngine.DEFAULT_STEP_RATE;
+        }
+        physicsEngine.setStepRate(physicsRate);
+        visibilityService = new VisibilityService();
+        ServiceLocator.registerVisibilityService(visibilityService);
+        timerService = new TimerService();
+        ServiceLocator.registerTimerService(timerService);
+        aiScheduler = new AIScheduler();
+        ServiceLocator.registerAIScheduler(aiScheduler);
+        joinService = new JoinService();
+        ServiceLocator.registerJoinService(joinService);
 
         ServiceLocator.registerGameStateObserverService(new GameStateObserver());
 
+        profiler = new FrameProfiler();
+        ServiceLocator.registerProfiler(profiler);
+        timersScope = profiler.getScope("timers");
+        physicsScope = profiler.getScope("physics");
+        entitiesScope = profiler.getScope("entities");
+        renderScope = profiler.getScope("render");
+        proximityScope = profiler.getScope("proximity");
+
         renderer = RenderFactory.createRenderer();
         renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
         renderer.getDebug().renderPhysicsWorld(physicsEngine.getWorld());
@@ -184,15 +320,40 @@ public class PlanetScreen extends ScreenAdapter {
 
     @Override
     public void render(float delta) {
+        if (loading) {
+            updateLoading();
+            return;
+        }
+
+        timersScope.begin();
+        timerService.update();
+        timersScope.end();
+
+        physicsScope.begin();
         physicsEngine.update();
+        visibilityService.resolve();
+        physicsScope.end();
+
+        entitiesScope.begin();
+        aiScheduler.beginFrame(player, renderer.getCamera().getCamera());
         ServiceLocator.getEntityService().update();
+        joinService.resolve();
+        entitiesScope.end();
+
         followPlayer();
+
+        renderScope.begin();
         renderer.render();
+        renderScope.end();
 
+        proximityScope.begin();
         ProximityControllerComponent proximityController = player.getComponent(ProximityControllerComponent.class);
         if (proximityController != null) {
             proximityController.checkAllEntitiesProximity();   //checks whether the player is near an intractable entity to show the prompt
         }
+        proximityScope.end();
+
+        profiler.endFrame();
     }
 
     @Override
@@ -224,23 +385,32 @@ public class PlanetScreen extends ScreenAdapter {
      */
     public void clear() {
         logger.debug(String.format("Disposing %s screen", this.name));
+        disposed = true;
+
+        // Areas still parsing are never created, so stop waiting for them
+        for (CompletableFuture<GameAreaConfig> pending : pendingAreas.values()) {
+            pending.cancel(false);
+        }
+        pendingAreas.clear();
 
         for (GameArea area : allGameAreas.values()) {
             area.dispose();
         }
+        joinService.clear();
 
         renderer.dispose();
         unloadAssets();
     }
 
     /**
-     * Load in all the assests for the screen.
+     * Queue all the assets for the screen. They are loaded along with the game areas' assets.
      */
-    private void loadAssets() {
-        logger.debug("Loading assets");
-        ResourceService resourceService = ServiceLocator.getResourceService();
-        resourceService.loadTextures(planetTextures);
-        ServiceLocator.getResourceService().loadAll();
+    private void queueAssets() {
+        logger.debug("Queueing assets");
+        ServiceLocator.getResourceService().loadTextures(planetTextures);
+        // Structures and icons drawn together in the world share one texture page, decoded and
+        // packed in the background while the loading screen is up
+        ServiceLocator.getResourceService().queuePackedTextures(PLANET_TEXTURE_PAGE, planetTextures);
     }
 
     /**
@@ -250,6 +420,7 @@ public class PlanetScreen extends ScreenAdapter {
         logger.debug("Unloading assets");
         ResourceService resourceService = ServiceLocator.getResourceService();
         resourceService.unloadAssets(planetTextures);
+        resourceService.disposePackedTextures(PLANET_TEXTURE_PAGE);
     }
 
     /**
@@ -275,6 +446,15 @@ public class PlanetScreen extends ScreenAdapter {
 
     }
 
+    /**
+     * Creates the loading screen shown while the game areas load.
+     */
+    private void createLoadingUI() {
+        loadingDisplay = new LoadingDisplay();
+        loadingUI = new Entity().addComponent(loadingDisplay);
+        ServiceLocator.getEntityService().register(loadingUI);
+    }
+
     /**
      * Move the camera to follow the player around at screen centre.
      */
@@ -289,9 +469,11 @@ public class PlanetScreen extends ScreenAdapter {
         float minY = halfViewportHeight;
         float maxY = 90 * 0.5f - halfViewportHeight;
 
-        // Calculate the camera's new X and Y positions within map boundaries
-        float cameraX = Math.min(maxX, Math.max(minX, player.getPosition().x));
-        float cameraY = Math.min(maxY, Math.max(minY, player.getPosition().y));
+        // Calculate the camera's new X and Y positions within map boundaries, following where the
+        // player is drawn so the camera moves as smoothly as the player does
+        Vector2 playerPosition = player.getRenderPosition();
+        float cameraX = Math.min(maxX, Math.max(minX, playerPosition.x));
+        float cameraY = Math.min(maxY, Math.max(minY, playerPosition.y));
 
         //Set new position
         renderer.getCamera().getEntity().setPosition(cameraX, cameraY);
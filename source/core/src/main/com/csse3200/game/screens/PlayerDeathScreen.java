@@ -9,7 +9,7 @@ import com.csse3200.game.components.player.DeathScreenDisplay;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.SoundsConfig;
 import com.csse3200.game.entities.factories.RenderFactory;
-import com.csse3200.game.files.FileLoader;
+import com.csse3200.game.files.ConfigRegistry;
 import com.csse3200.game.input.InputDecorator;
 import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.services.ResourceService;
@@ -21,7 +21,7 @@ import org.slf4j.LoggerFactory;
  * The game screen indicating a player's death and options to either restart or exit game.
  */
 public class PlayerDeathScreen extends ScreenAdapter {
-    SoundsConfig soundsConfig = FileLoader.readClass(SoundsConfig.class, "configs/deathScreen.json", FileLoader.Location.INTERNAL);
+    SoundsConfig soundsConfig = ConfigRegistry.get(SoundsConfig.class, "configs/deathScreen.json");
     public static final Logger logger = LoggerFactory.getLogger(PlayerDeathScreen.class);
     private final GdxGame game;
     private final Renderer renderer;
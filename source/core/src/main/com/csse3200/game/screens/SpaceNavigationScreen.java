@@ -15,6 +15,7 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.components.spacenavigation.NavigationBackground;
 import com.csse3200.game.services.PlanetTravel;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import java.util.Objects;
 
@@ -27,8 +28,12 @@ public class SpaceNavigationScreen implements Screen {
     private final GdxGame game;
     /** Stage where all actors will be drawn */
     private Stage stage;
+    /** Loads and shares the textures and skin of this screen */
+    private ResourceService resourceService;
     /** Skin for the UI elements */
     private Skin skin;
+    /** Style for the planet labels */
+    private Label.LabelStyle labelStyle;
     /** Texture for the title of this screen */
     private Texture navigationTitle;
     /** Textures for the planets shown on the screen */
@@ -56,24 +61,27 @@ public class SpaceNavigationScreen implements Screen {
      */
     @Override
     public void show() {
+        resourceService = new ResourceService();
+        ServiceLocator.registerResourceService(resourceService);
+
         // First load textures
-        navigationTitle = new Texture(Gdx.files.internal(IMAGE_PATH + "title.png"));
+        navigationTitle = resourceService.acquireTexture(IMAGE_PATH + "title.png");
 
         // Planet icons from:
         // https://www.freepik.com/premium-vector/pixel-planets-set-pixel-art-solar-system_36179935.htm
         for(var i = 0; i < planetTextures.length; i++){
-            planetTextures[i] = new Texture(Gdx.files.internal(IMAGE_PATH + "planets/" + planetNames[i].replace(" ", "_").toLowerCase() + ".png"));
+            planetTextures[i] = resourceService.acquireTexture(IMAGE_PATH + "planets/" + planetNames[i].replace(" ", "_").toLowerCase() + ".png");
         }
 
         // Load in the arrow textures
-        arrowTextures[0] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_left.png"));
-        arrowTextures[1] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_right.png"));
-        arrowTextures[2] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_up.png"));
-        arrowTextures[3] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_down.png"));
-        arrowTextures[4] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_left_grey.png"));
-        arrowTextures[5] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_right_grey.png"));
-        arrowTextures[6] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_up_grey.png"));
-        arrowTextures[7] = new Texture(Gdx.files.internal(IMAGE_PATH + "arrows/arrow_down_grey.png"));
+        arrowTextures[0] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_left.png");
+        arrowTextures[1] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_right.png");
+        arrowTextures[2] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_up.png");
+        arrowTextures[3] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_down.png");
+        arrowTextures[4] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_left_grey.png");
+        arrowTextures[5] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_right_grey.png");
+        arrowTextures[6] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_up_grey.png");
+        arrowTextures[7] = resourceService.acquireTexture(IMAGE_PATH + "arrows/arrow_down_grey.png");
 
         // Initialise a stage for the scene
         stage = new Stage(new ScreenViewport());
@@ -83,7 +91,7 @@ public class SpaceNavigationScreen implements Screen {
         stage.addActor(animatedBackground);
 
         // Create Back button
-        skin = new Skin(Gdx.files.internal("kenney-rpg-expansion/kenneyrpg.json"));
+        skin = resourceService.acquireSkin();
 
         TextButton button = new TextButton("Return", skin);
         button.setPosition(Gdx.graphics.getWidth() - (button.getWidth() + 20),
@@ -185,8 +193,10 @@ public class SpaceNavigationScreen implements Screen {
      * @return A new Label instance.
      */
     private Label createLabel(String text) {
-        Label.LabelStyle labelStyle = new Label.LabelStyle();
-        labelStyle.font = skin.getFont("thick_white");
+        if (labelStyle == null) {
+            labelStyle = new Label.LabelStyle();
+            labelStyle.font = skin.getFont("thick_white");
+        }
         return new Label(text, labelStyle);
     }
 
@@ -299,13 +309,7 @@ public class SpaceNavigationScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        skin.dispose();
-        navigationTitle.dispose();
-        for(Texture texture : planetTextures){
-            texture.dispose();
-        }
-        for(Texture texture : arrowTextures){
-            texture.dispose();
-        }
+        // Disposes the skin and every texture acquired by the screen
+        resourceService.dispose();
     }
 }
\ No newline at end of file
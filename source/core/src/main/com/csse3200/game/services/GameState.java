@@ -6,6 +6,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents the current state of the game whilst ensuring thread safety.
+ * Resources and extractor counts are kept in a {@link ResourceLedger}, which also answers their
+ * game state keys.
  */
 public class GameState {
 
@@ -15,6 +17,16 @@ public class GameState {
     // Callback list of state changes' listeners.
     private final CopyOnWriteArrayList<StateChangeListener> stateChangeListeners = new CopyOnWriteArrayList<>();
 
+    // Holds the player's resources and extractor counts.
+    private final ResourceLedger resourceLedger = new ResourceLedger();
+
+    /**
+     * Creates an empty game state.
+     */
+    public GameState() {
+        resourceLedger.addChangeListener((resource, version) -> notifyStateChangeListeners());
+    }
+
     /**
      * Add or update the state data and trigger the state change callbacks.
      *
@@ -22,6 +34,10 @@ public class GameState {
      * @param newValue The new value to be set.
      */
     public void put(String key, Object newValue) {
+        if (newValue instanceof Integer value && resourceLedger.setStateValue(key, value)) {
+            // The ledger notifies the listeners
+            return;
+        }
         stateData.put(key, newValue);
         notifyStateChangeListeners();
     }
@@ -33,7 +49,17 @@ public class GameState {
      * @return The data corresponding to the provided key.
      */
     public Object get(String key) {
-        return stateData.get(key);
+        Integer resourceValue = resourceLedger.getStateValue(key);
+        return resourceValue != null ? resourceValue : stateData.get(key);
+    }
+
+    /**
+     * Returns the ledger holding the player's resources and extractor counts.
+     *
+     * @return The resource ledger.
+     */
+    public ResourceLedger getResourceLedger() {
+        return resourceLedger;
     }
 
     /**
@@ -41,6 +67,7 @@ public class GameState {
      */
     public void clear() {
         stateData.clear();
+        resourceLedger.clear();
     }
 
     /**
@@ -49,8 +76,7 @@ public class GameState {
      * @return The copy of current state data
      */
     public Map<String, Object> getStateData() {
-        return new ConcurrentHashMap<>(stateData);
-
+        return copyStateData();
     }
 
     /**
@@ -71,9 +97,20 @@ public class GameState {
         stateChangeListeners.remove(listener);
     }
 
+    private ConcurrentHashMap<String, Object> copyStateData() {
+        ConcurrentHashMap<String, Object> data = new ConcurrentHashMap<>(stateData);
+        resourceLedger.putStateData(data);
+        return data;
+    }
+
     private void notifyStateChangeListeners() {
+        if (stateChangeListeners.isEmpty()) {
+            return;
+        }
+
+        ConcurrentHashMap<String, Object> data = copyStateData();
         for (StateChangeListener listener : stateChangeListeners) {
-            listener.onStateChange(stateData);
+            listener.onStateChange(data);
         }
     }
 
@@ -1,5 +1,7 @@
 package com.csse3200.game.services;
 
+import com.csse3200.game.components.resources.Resource;
+
 import java.util.Map;
 
 
@@ -66,6 +68,15 @@ public class GameStateInteraction {
         return gameState.getStateData();
     }
 
+    /**
+     * Returns the ledger holding the player's resources and extractor counts.
+     *
+     * @return The resource ledger of the managed game state.
+     */
+    public ResourceLedger getResourceLedger() {
+        return gameState.getResourceLedger();
+    }
+
     /**
      * Increases the specified resource name by a given amount.
      * Retrieves the current amount stored and adds the given amount.
@@ -75,6 +86,12 @@ public class GameStateInteraction {
      * @param changeAmount  The amount the resource should increase by.
      */
     public void updateResource(String resourceName, int changeAmount){
+        Resource resource = ResourceLedger.resourceOf(resourceName);
+        if (resource != null) {
+            gameState.getResourceLedger().add(resource, changeAmount);
+            return;
+        }
+
         String resourceKey = "resource/" + resourceName;
         Object value = gameState.get(resourceKey);
         int amount = value == null ? 0 : (int) value;
@@ -109,6 +126,12 @@ public class GameStateInteraction {
      * @param changeAmount  The amount the count should change by.
      */
     public void updateExtractors(String resourceName, int changeAmount){
+        Resource resource = ResourceLedger.resourceOf(resourceName);
+        if (resource != null) {
+            gameState.getResourceLedger().addExtractors(resource, changeAmount);
+            return;
+        }
+
         String resourceKey = "extractors/" + resourceName;
         Object value = gameState.get(resourceKey);
         int amount = value == null ? 0 : (int) value;
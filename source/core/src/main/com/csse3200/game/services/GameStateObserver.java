@@ -54,6 +54,16 @@ public class GameStateObserver extends EventHandler {
         return stateInteraction.getStateData();
     }
 
+    /**
+     * Returns the ledger holding the player's resources and extractor counts.
+     * Prefer this to the "resource/" and "extractors/" game state keys.
+     *
+     * @return The resource ledger.
+     */
+    public ResourceLedger getResourceLedger() {
+        return stateInteraction.getResourceLedger();
+    }
+
     /**
      * Returns the value corresponding to the given key in the game state data.
      *
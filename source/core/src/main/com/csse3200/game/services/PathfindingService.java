@@ -0,0 +1,377 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.csse3200.game.entities.PlaceableEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds paths across the tile grid of a game area using A*.
+ *
+ * <p>Which tiles can be walked on is kept in a bitmap that is updated as structures are placed
+ * and removed, instead of being rebuilt from the area's entities for every query. The search runs
+ * over arrays which are reused between queries, so finding a path does not allocate.
+ *
+ * <p>Paths are returned as packed cell indices, which can be converted back to tile coordinates
+ * with {@link #getCellX(int)} and {@link #getCellY(int)}.
+ */
+public class PathfindingService {
+  private static final Logger logger = LoggerFactory.getLogger(PathfindingService.class);
+  private static final int STRAIGHT_COST = 10;
+  private static final int DIAGONAL_COST = 14;
+  // Straight neighbours first, then diagonals
+  private static final int[] NEIGHBOUR_X = {1, -1, 0, 0, 1, 1, -1, -1};
+  private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+
+  private final int width;
+  private final int height;
+  private final long[] blocked;
+
+  // Search state, only valid for cells stamped with the current generation
+  private final int[] costs;
+  private final int[] estimates;
+  private final int[] parents;
+  private final int[] visited;
+  private final int[] closed;
+  private int generation = 0;
+
+  // Open set as a binary min-heap of cells ordered by estimate
+  private final int[] heap;
+  private final int[] heapIndices;
+  private int heapSize = 0;
+
+  /**
+   * Creates a pathfinding service for a grid where every tile is walkable.
+   *
+   * @param width width of the grid in tiles
+   * @param height height of the grid in tiles
+   */
+  public PathfindingService(int width, int height) {
+    this.width = width;
+    this.height = height;
+
+    int cells = width * height;
+    blocked = new long[(cells + 63) / 64];
+    costs = new int[cells];
+    estimates = new int[cells];
+    parents = new int[cells];
+    visited = new int[cells];
+    closed = new int[cells];
+    heap = new int[cells];
+    heapIndices = new int[cells];
+  }
+
+  /**
+   * Keeps the walkability bitmap up to date with the structures placed through the given service.
+   *
+   * @param structurePlacementService service which structures are placed and removed with
+   */
+  public void trackStructures(StructurePlacementService structurePlacementService) {
+    structurePlacementService.getEvents().addListener("structurePlaced", this::onStructurePlaced);
+    structurePlacementService.getEvents().addListener("structureRemoved", this::onStructureRemoved);
+    structurePlacementService.getEvents().addListener("structuresPlaced", this::onStructuresPlaced);
+  }
+
+  private void onStructurePlaced(PlaceableEntity structure, GridPoint2 tilePos) {
+    setBlocked(tilePos.x, tilePos.y, structure.getWidth(), structure.getHeight(), true);
+  }
+
+  private void onStructuresPlaced(List<PlaceableEntity> structures, List<GridPoint2> tilePositions) {
+    for (int i = 0; i < structures.size(); i++) {
+      onStructurePlaced(structures.get(i), tilePositions.get(i));
+    }
+  }
+
+  private void onStructureRemoved(PlaceableEntity structure, GridPoint2 tilePos) {
+    setBlocked(tilePos.x, tilePos.y, structure.getWidth(), structure.getHeight(), false);
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Whether the given tile is within the grid.
+   *
+   * @param x tile x coordinate
+   * @param y tile y coordinate
+   * @return true if within the grid, false otherwise
+   */
+  public boolean isWithinBounds(int x, int y) {
+    return x >= 0 && x < width && y >= 0 && y < height;
+  }
+
+  /**
+   * Whether the given tile can not be walked on. Tiles outside the grid are always blocked.
+   *
+   * @param x tile x coordinate
+   * @param y tile y coordinate
+   * @return true if blocked, false otherwise
+   */
+  public boolean isBlocked(int x, int y) {
+    return !isWithinBounds(x, y) || isBlocked(getCell(x, y));
+  }
+
+  /**
+   * Sets whether a single tile can be walked on.
+   *
+   * @param x tile x coordinate
+   * @param y tile y coordinate
+   * @param isBlocked true if the tile can not be walked on
+   */
+  public void setBlocked(int x, int y, boolean isBlocked) {
+    setBlocked(x, y, 1, 1, isBlocked);
+  }
+
+  /**
+   * Sets whether a rectangle of tiles can be walked on. Tiles outside the grid are ignored.
+   *
+   * @param x x coordinate of the bottom left tile
+   * @param y y coordinate of the bottom left tile
+   * @param rectWidth width of the rectangle in tiles
+   * @param rectHeight height of the rectangle in tiles
+   * @param isBlocked true if the tiles can not be walked on
+   */
+  public void setBlocked(int x, int y, int rectWidth, int rectHeight, boolean isBlocked) {
+    for (int tileX = Math.max(x, 0); tileX < Math.min(x + rectWidth, width); tileX++) {
+      for (int tileY = Math.max(y, 0); tileY < Math.min(y + rectHeight, height); tileY++) {
+        int cell = getCell(tileX, tileY);
+        if (isBlocked) {
+          blocked[cell >> 6] |= 1L << cell;
+        } else {
+          blocked[cell >> 6] &= ~(1L << cell);
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the shortest path between two tiles, moving in eight directions without cutting the
+   * corners of blocked tiles. The target tile itself may be blocked, so that a path can lead up
+   * to a structure.
+   *
+   * @param startX x coordinate of the starting tile
+   * @param startY y coordinate of the starting tile
+   * @param targetX x coordinate of the target tile
+   * @param targetY y coordinate of the target tile
+   * @param path cleared and filled with the cells of the path, excluding the start and including
+   *             the target
+   * @return true if a path was found, false otherwise
+   */
+  public boolean findPath(int startX, int startY, int targetX, int targetY, IntArray path) {
+    path.clear();
+    if (!isWithinBounds(startX, startY) || !isWithinBounds(targetX, targetY)) {
+      logger.debug("Path from ({}, {}) to ({}, {}) is out of bounds", startX, startY, targetX, targetY);
+      return false;
+    }
+
+    nextGeneration();
+    int start = getCell(startX, startY);
+    int target = getCell(targetX, targetY);
+    visit(start, 0, heuristic(startX, startY, targetX, targetY), -1);
+
+    while (heapSize > 0) {
+      int current = pop();
+      if (current == target) {
+        extractPath(start, target, path);
+        return true;
+      }
+      closed[current] = generation;
+
+      int currentX = getCellX(current);
+      int currentY = getCellY(current);
+      for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+        int neighbourX = currentX + NEIGHBOUR_X[i];
+        int neighbourY = currentY + NEIGHBOUR_Y[i];
+        if (!isWithinBounds(neighbourX, neighbourY)) {
+          continue;
+        }
+
+        int neighbour = getCell(neighbourX, neighbourY);
+        if (closed[neighbour] == generation || neighbour != target && isBlocked(neighbour)) {
+          continue;
+        }
+
+        boolean isDiagonal = i >= 4;
+        if (isDiagonal
+            && (isBlocked(getCell(neighbourX, currentY)) || isBlocked(getCell(currentX, neighbourY)))) {
+          continue;
+        }
+
+        int cost = costs[current] + (isDiagonal ? DIAGONAL_COST : STRAIGHT_COST);
+        int estimate = cost + heuristic(neighbourX, neighbourY, targetX, targetY);
+        if (visited[neighbour] != generation) {
+          visit(neighbour, cost, estimate, current);
+        } else if (cost < costs[neighbour]) {
+          costs[neighbour] = cost;
+          estimates[neighbour] = estimate;
+          parents[neighbour] = current;
+          siftUp(heapIndices[neighbour]);
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Finds paths for many agents heading to the same target, such as an enemy wave. The search
+   * buffers and path arrays are reused, so once the path arrays have grown to size repeated
+   * batches do not allocate.
+   *
+   * @param starts starting tile of each agent
+   * @param target target tile
+   * @param paths filled with the path of each agent at the same index as its start, grown to fit
+   *              if needed. Paths which could not be found are left empty.
+   * @return number of paths found
+   */
+  public int findPaths(Array<GridPoint2> starts, GridPoint2 target, Array<IntArray> paths) {
+    while (paths.size < starts.size) {
+      paths.add(new IntArray());
+    }
+
+    int found = 0;
+    for (int i = 0; i < starts.size; i++) {
+      GridPoint2 start = starts.get(i);
+      if (findPath(start.x, start.y, target.x, target.y, paths.get(i))) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Finds the shortest path between two tiles. Allocates the returned list, so prefer
+   * {@link #findPath(int, int, int, int, IntArray)} for frequent queries.
+   *
+   * @param start starting tile
+   * @param target target tile
+   * @return tiles of the path excluding the start, or an empty list if there is no path
+   */
+  public List<GridPoint2> findPath(GridPoint2 start, GridPoint2 target) {
+    IntArray cells = new IntArray();
+    List<GridPoint2> path = new ArrayList<>();
+    if (findPath(start.x, start.y, target.x, target.y, cells)) {
+      for (int i = 0; i < cells.size; i++) {
+        path.add(new GridPoint2(getCellX(cells.get(i)), getCellY(cells.get(i))));
+      }
+    }
+    return path;
+  }
+
+  /**
+   * @param cell packed cell index from a path
+   * @return tile x coordinate of the cell
+   */
+  public int getCellX(int cell) {
+    return cell % width;
+  }
+
+  /**
+   * @param cell packed cell index from a path
+   * @return tile y coordinate of the cell
+   */
+  public int getCellY(int cell) {
+    return cell / width;
+  }
+
+  private int getCell(int x, int y) {
+    return y * width + x;
+  }
+
+  private boolean isBlocked(int cell) {
+    return (blocked[cell >> 6] & (1L << cell)) != 0;
+  }
+
+  /** Octile distance, which never overestimates the cost with diagonal movement */
+  private static int heuristic(int x, int y, int targetX, int targetY) {
+    int dx = Math.abs(x - targetX);
+    int dy = Math.abs(y - targetY);
+    return STRAIGHT_COST * (dx + dy) + (DIAGONAL_COST - 2 * STRAIGHT_COST) * Math.min(dx, dy);
+  }
+
+  private void nextGeneration() {
+    heapSize = 0;
+    if (generation == Integer.MAX_VALUE) {
+      Arrays.fill(visited, 0);
+      Arrays.fill(closed, 0);
+      generation = 0;
+    }
+    generation++;
+  }
+
+  private void extractPath(int start, int target, IntArray path) {
+    for (int cell = target; cell != start; cell = parents[cell]) {
+      path.add(cell);
+    }
+    path.reverse();
+  }
+
+  private void visit(int cell, int cost, int estimate, int parent) {
+    visited[cell] = generation;
+    costs[cell] = cost;
+    estimates[cell] = estimate;
+    parents[cell] = parent;
+
+    heap[heapSize] = cell;
+    heapIndices[cell] = heapSize;
+    siftUp(heapSize++);
+  }
+
+  private int pop() {
+    int top = heap[0];
+    heapSize--;
+    if (heapSize > 0) {
+      heap[0] = heap[heapSize];
+      heapIndices[heap[0]] = 0;
+      siftDown(0);
+    }
+    return top;
+  }
+
+  private void siftUp(int index) {
+    int cell = heap[index];
+    while (index > 0) {
+      int parentIndex = (index - 1) >> 1;
+      int parentCell = heap[parentIndex];
+      if (estimates[parentCell] <= estimates[cell]) {
+        break;
+      }
+      heap[index] = parentCell;
+      heapIndices[parentCell] = index;
+      index = parentIndex;
+    }
+    heap[index] = cell;
+    heapIndices[cell] = index;
+  }
+
+  private void siftDown(int index) {
+    int cell = heap[index];
+    while (true) {
+      int child = (index << 1) + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize && estimates[heap[child + 1]] < estimates[heap[child]]) {
+        child++;
+      }
+      if (estimates[cell] <= estimates[heap[child]]) {
+        break;
+      }
+      heap[index] = heap[child];
+      heapIndices[heap[index]] = index;
+      index = child;
+    }
+    heap[index] = cell;
+    heapIndices[cell] = index;
+  }
+}
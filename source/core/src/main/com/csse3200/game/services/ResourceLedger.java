@@ -0,0 +1,369 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.resources.Resource;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stores the player's resources and extractor counts in arrays indexed by {@link Resource}.
+ *
+ * <p>Every change increases the ledger's version, and listeners are told which resource changed
+ * and the new version, so they only need to refresh that resource. Multiple resources can be
+ * spent at once with {@link #trySpend(ObjectMap)}, which either takes the whole cost or nothing.
+ *
+ * <p>The ledger also answers the old "resource/", "resourceMax/", "extractors/", "extractorsMax/"
+ * and "extractorsTotal/" game state keys, so code using {@link GameStateObserver} events keeps
+ * working. Values which have never been set read as missing through those keys.
+ */
+public class ResourceLedger {
+    private static final Resource[] RESOURCES = Resource.values();
+    private static final int AMOUNT = 0;
+    private static final int MAX = 1;
+    private static final int EXTRACTORS = 2;
+    private static final int EXTRACTORS_MAX = 3;
+    private static final int EXTRACTORS_TOTAL = 4;
+    // Game state key prefix of each field, in field order
+    private static final String[] PREFIXES =
+            {"resource/", "resourceMax/", "extractors/", "extractorsMax/", "extractorsTotal/"};
+
+    private static final ObjectMap<String, Resource> resourcesByName = new ObjectMap<>();
+    // Field * number of resources + resource ordinal, for each game state key
+    private static final ObjectIntMap<String> keys = new ObjectIntMap<>();
+
+    static {
+        for (Resource resource : RESOURCES) {
+            resourcesByName.put(resource.toString(), resource);
+            for (int field = 0; field < PREFIXES.length; field++) {
+                keys.put(PREFIXES[field] + resource, field * RESOURCES.length + resource.ordinal());
+            }
+        }
+    }
+
+    private final int[][] values = new int[PREFIXES.length][RESOURCES.length];
+    // Whether each value has been set
+    private final boolean[][] present = new boolean[PREFIXES.length][RESOURCES.length];
+    private final long[] versions = new long[RESOURCES.length];
+    private long version = 0;
+    private final CopyOnWriteArrayList<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Finds the resource with the given name.
+     *
+     * @param name The name of the resource, e.g. "Nebulite".
+     * @return The resource, or null if there is no resource with that name.
+     */
+    public static Resource resourceOf(String name) {
+        return resourcesByName.get(name);
+    }
+
+    /**
+     * Returns the amount of a resource the player has.
+     *
+     * @param resource The resource.
+     * @return The amount, or 0 if none has been added.
+     */
+    public synchronized int getAmount(Resource resource) {
+        return values[AMOUNT][resource.ordinal()];
+    }
+
+    /**
+     * Returns the most of a resource the player can hold.
+     *
+     * @param resource The resource.
+     * @return The maximum amount, or Integer.MAX_VALUE if there is no maximum.
+     */
+    public synchronized int getMax(Resource resource) {
+        int index = resource.ordinal();
+        return present[MAX][index] ? values[MAX][index] : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of working extractors producing a resource.
+     *
+     * @param resource The resource produced.
+     * @return The number of working extractors.
+     */
+    public synchronized int getExtractors(Resource resource) {
+        return values[EXTRACTORS][resource.ordinal()];
+    }
+
+    /**
+     * Returns the most extractors which can be built for a resource.
+     *
+     * @param resource The resource produced.
+     * @return The maximum number of extractors.
+     */
+    public synchronized int getMaxExtractors(Resource resource) {
+        return values[EXTRACTORS_MAX][resource.ordinal()];
+    }
+
+    /**
+     * Returns the number of extractors built for a resource, working or not.
+     *
+     * @param resource The resource produced.
+     * @return The number of extractors built.
+     */
+    public synchronized int getTotalExtractors(Resource resource) {
+        return values[EXTRACTORS_TOTAL][resource.ordinal()];
+    }
+
+    /**
+     * Returns the current version of the ledger, which increases every time anything changes.
+     *
+     * @return The current version.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the version of the ledger when a resource last changed.
+     *
+     * @param resource The resource.
+     * @return The version of the last change, or 0 if it has never changed.
+     */
+    public synchronized long getVersion(Resource resource) {
+        return versions[resource.ordinal()];
+    }
+
+    /**
+     * Adds an amount of a resource, without going over its maximum.
+     *
+     * @param resource The resource to add to.
+     * @param changeAmount The amount to add, or a negative amount to remove.
+     * @return The new amount of the resource.
+     */
+    public int add(Resource resource, int changeAmount) {
+        int index = resource.ordinal();
+        int amount;
+        long changed;
+        synchronized (this) {
+            amount = values[AMOUNT][index] + changeAmount;
+            if (present[MAX][index] && amount > values[MAX][index]) {
+                amount = values[MAX][index];
+            }
+            changed = write(AMOUNT, index, amount);
+        }
+        notifyChangeListeners(resource, changed);
+        return amount;
+    }
+
+    /**
+     * Sets the most of a resource the player can hold.
+     *
+     * @param resource The resource.
+     * @param max The maximum amount.
+     */
+    public void setMax(Resource resource, int max) {
+        set(MAX, resource, max);
+    }
+
+    /**
+     * Changes the number of working extractors producing a resource.
+     *
+     * @param resource The resource produced.
+     * @param changeAmount The amount the count should change by.
+     */
+    public void addExtractors(Resource resource, int changeAmount) {
+        int index = resource.ordinal();
+        long changed;
+        synchronized (this) {
+            changed = write(EXTRACTORS, index, values[EXTRACTORS][index] + changeAmount);
+        }
+        notifyChangeListeners(resource, changed);
+    }
+
+    /**
+     * Sets the most extractors which can be built for a resource.
+     *
+     * @param resource The resource produced.
+     * @param max The maximum number of extractors.
+     */
+    public void setMaxExtractors(Resource resource, int max) {
+        set(EXTRACTORS_MAX, resource, max);
+    }
+
+    /**
+     * Sets the number of extractors built for a resource.
+     *
+     * @param resource The resource produced.
+     * @param total The number of extractors built.
+     */
+    public void setTotalExtractors(Resource resource, int total) {
+        set(EXTRACTORS_TOTAL, resource, total);
+    }
+
+    /**
+     * Checks whether the player has enough resources to pay a cost.
+     *
+     * @param cost The amount of each resource, by resource name.
+     * @return Whether every resource in the cost is available.
+     */
+    public synchronized boolean canAfford(ObjectMap<String, Integer> cost) {
+        for (ObjectMap.Entry<String, Integer> entry : cost.entries()) {
+            Resource resource = resourceOf(entry.key);
+            if (resource == null || !present[AMOUNT][resource.ordinal()]
+                    || values[AMOUNT][resource.ordinal()] < entry.value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spends every resource in a cost at once. If any resource is short, nothing is spent.
+     * Listeners are notified once per resource spent, all with the same version.
+     *
+     * @param cost The amount of each resource, by resource name.
+     * @return Whether the cost was paid.
+     */
+    public boolean trySpend(ObjectMap<String, Integer> cost) {
+        int changedResources = 0;
+        long changed;
+        synchronized (this) {
+            if (!canAfford(cost)) {
+                return false;
+            }
+
+            changed = ++version;
+            for (ObjectMap.Entry<String, Integer> entry : cost.entries()) {
+                int index = resourceOf(entry.key).ordinal();
+                values[AMOUNT][index] -= entry.value;
+                versions[index] = changed;
+                changedResources |= 1 << index;
+            }
+        }
+
+        for (Resource resource : RESOURCES) {
+            if ((changedResources & (1 << resource.ordinal())) != 0) {
+                notifyChangeListeners(resource, changed);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all resources and extractor counts.
+     */
+    public void clear() {
+        long changed;
+        synchronized (this) {
+            for (int field = 0; field < PREFIXES.length; field++) {
+                Arrays.fill(values[field], 0);
+                Arrays.fill(present[field], false);
+            }
+            changed = ++version;
+            Arrays.fill(versions, changed);
+        }
+
+        for (Resource resource : RESOURCES) {
+            notifyChangeListeners(resource, changed);
+        }
+    }
+
+    /**
+     * Registers a listener to be told when a resource changes.
+     *
+     * @param listener The listener to be registered.
+     */
+    public void addChangeListener(ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a change listener.
+     *
+     * @param listener The listener to be unregistered.
+     */
+    public void removeChangeListener(ChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Returns the value stored at an old game state key, e.g. "resource/Nebulite".
+     *
+     * @param key The game state key.
+     * @return The value, or null if the key isn't kept by the ledger or has never been set.
+     */
+    synchronized Integer getStateValue(String key) {
+        int index = keys.get(key, -1);
+        if (index < 0) {
+            return null;
+        }
+        int field = index / RESOURCES.length;
+        int resource = index % RESOURCES.length;
+        return present[field][resource] ? values[field][resource] : null;
+    }
+
+    /**
+     * Sets the value stored at an old game state key, e.g. "resourceMax/Nebulite".
+     *
+     * @param key The game state key.
+     * @param value The new value.
+     * @return Whether the key is kept by the ledger.
+     */
+    boolean setStateValue(String key, int value) {
+        int index = keys.get(key, -1);
+        if (index < 0) {
+            return false;
+        }
+        set(index / RESOURCES.length, RESOURCES[index % RESOURCES.length], value);
+        return true;
+    }
+
+    /**
+     * Copies every value which has been set into a map of game state data.
+     *
+     * @param stateData The map to copy into.
+     */
+    synchronized void putStateData(Map<String, Object> stateData) {
+        for (int field = 0; field < PREFIXES.length; field++) {
+            for (Resource resource : RESOURCES) {
+                if (present[field][resource.ordinal()]) {
+                    stateData.put(PREFIXES[field] + resource, values[field][resource.ordinal()]);
+                }
+            }
+        }
+    }
+
+    private void set(int field, Resource resource, int value) {
+        long changed;
+        synchronized (this) {
+            changed = write(field, resource.ordinal(), value);
+        }
+        notifyChangeListeners(resource, changed);
+    }
+
+    // Must hold the lock
+    private long write(int field, int index, int value) {
+        values[field][index] = value;
+        present[field][index] = true;
+        versions[index] = ++version;
+        return version;
+    }
+
+    private void notifyChangeListeners(Resource resource, long changedVersion) {
+        for (ChangeListener listener : changeListeners) {
+            listener.onResourceChanged(resource, changedVersion);
+        }
+    }
+
+    /**
+     * Callback interface to be implemented by classes interested in
+     * receiving notifications about resource changes.
+     */
+    public interface ChangeListener {
+
+        /**
+         * Callback method triggered when a resource or its extractor counts change.
+         *
+         * @param resource The resource which changed.
+         * @param version The version of the ledger after the change.
+         */
+        void onResourceChanged(Resource resource, long version);
+    }
+}
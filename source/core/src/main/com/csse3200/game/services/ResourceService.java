@@ -1,15 +1,41 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Window;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.csse3200.game.concurrency.JobSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
@@ -17,7 +43,21 @@ import org.slf4j.LoggerFactory;
 public class ResourceService implements Disposable {
 
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
+  /** Skin used by the game's UI */
+  public static final String UI_SKIN = "kenney-rpg-expansion/kenneyrpg.json";
   private final AssetManager assetManager;
+  private static final int PACKED_PAGE_SIZE = 1024;
+  private static final int PACKED_PADDING = 2;
+  private final Map<String, SharedAtlas> sharedAtlases = new HashMap<>();
+  private final Map<String, TextureAtlas> packedAtlases = new HashMap<>();
+  private final Map<String, TextureRegion> packedRegions = new HashMap<>();
+  // Pages being decoded and packed in the background
+  private final Map<String, CompletableFuture<PixmapPacker>> pendingPacks = new HashMap<>();
+  private final Map<String, SharedDrawable> sharedDrawables = new HashMap<>();
+  private final Map<String, Window.WindowStyle> windowStyles = new HashMap<>();
+  private final Map<Color, Drawable> colorDrawables = new HashMap<>();
+  private BitmapFont defaultFont;
+  private Texture whitePixel;
 
   public ResourceService() {
     this(new AssetManager());
@@ -103,9 +143,443 @@ public class ResourceService implements Disposable {
    */
   public void clearAllAssets() {
     logger.debug("Clearing all assets");
+    sharedAtlases.clear();
+    disposePackedTextures();
+    disposeUiAssets();
     assetManager.clear();
   }
 
+  /**
+   * Acquires a reference to a texture atlas which is shared between every entity using the same
+   * path. The atlas is loaded through the asset manager the first time it is requested, so later
+   * requests do not re-parse the atlas file or upload new textures. Every call must be paired with
+   * a call to {@link #releaseTextureAtlas(String)}.
+   *
+   * @param atlasPath path of the texture atlas
+   * @return shared texture atlas
+   */
+  public TextureAtlas acquireTextureAtlas(String atlasPath) {
+    SharedAtlas shared = sharedAtlases.get(atlasPath);
+    if (shared == null) {
+      logger.debug("Loading shared texture atlas {}", atlasPath);
+      // Adds a reference in the asset manager, so atlases preloaded by a game area stay loaded
+      assetManager.load(atlasPath, TextureAtlas.class);
+      TextureAtlas atlas = assetManager.finishLoadingAsset(atlasPath);
+      shared = new SharedAtlas(atlas);
+      sharedAtlases.put(atlasPath, shared);
+    }
+    shared.references++;
+    return shared.atlas;
+  }
+
+  /**
+   * Releases a reference acquired with {@link #acquireTextureAtlas(String)}. The atlas is kept
+   * loaded once unreferenced so that the next spawn does not reload it, and is only unloaded by
+   * {@link #unloadUnreferencedAtlases()}.
+   *
+   * @param atlasPath path of the texture atlas
+   */
+  public void releaseTextureAtlas(String atlasPath) {
+    SharedAtlas shared = sharedAtlases.get(atlasPath);
+    if (shared == null || shared.references == 0) {
+      logger.warn("Released texture atlas {} which was not acquired", atlasPath);
+      return;
+    }
+    shared.references--;
+  }
+
+  /**
+   * Get the number of references currently held on a shared texture atlas.
+   *
+   * @param atlasPath path of the texture atlas
+   * @return number of references, 0 if the atlas is not shared
+   */
+  public int getTextureAtlasReferences(String atlasPath) {
+    SharedAtlas shared = sharedAtlases.get(atlasPath);
+    return shared == null ? 0 : shared.references;
+  }
+
+  /**
+   * Unloads every shared texture atlas which no longer has any references, along with the
+   * animations built from it.
+   */
+  public void unloadUnreferencedAtlases() {
+    List<String> unreferenced = new ArrayList<>();
+    for (Map.Entry<String, SharedAtlas> entry : sharedAtlases.entrySet()) {
+      if (entry.getValue().references == 0) {
+        unreferenced.add(entry.getKey());
+      }
+    }
+    for (String atlasPath : unreferenced) {
+      sharedAtlases.remove(atlasPath);
+    }
+    unloadAssets(unreferenced.toArray(new String[0]));
+  }
+
+  /**
+   * Get an animation built from a shared texture atlas. Playback time is passed in by the caller,
+   * so a single instance is built per atlas, name, frame duration and play mode and shared between
+   * entities. The exception is {@link PlayMode#LOOP_RANDOM}, where the animation remembers the last
+   * frame it picked, so each call gets its own instance sharing the same key frames. The atlas must
+   * have been acquired with {@link #acquireTextureAtlas(String)}.
+   *
+   * @param atlasPath path of the shared texture atlas
+   * @param name name of the animation regions inside the atlas
+   * @param frameDuration how long, in seconds, to show each frame
+   * @param playMode how the animation should be played
+   * @return animation, or null if the atlas is not shared or has no matching regions
+   */
+  public Animation<TextureRegion> getAnimation(
+      String atlasPath, String name, float frameDuration, PlayMode playMode) {
+    SharedAtlas shared = sharedAtlases.get(atlasPath);
+    if (shared == null) {
+      logger.error("Texture atlas {} must be acquired before getting animations", atlasPath);
+      return null;
+    }
+
+    AnimationKey key = new AnimationKey(name, frameDuration, playMode);
+    Animation<TextureRegion> animation = shared.animations.get(key);
+    if (animation == null) {
+      Array<AtlasRegion> regions = shared.atlas.findRegions(name);
+      if (regions == null || regions.size == 0) {
+        return null;
+      }
+      animation = new Animation<>(frameDuration, regions, playMode);
+      shared.animations.put(key, animation);
+    }
+    if (playMode == PlayMode.LOOP_RANDOM) {
+      Animation<TextureRegion> randomAnimation = new Animation<>(frameDuration, animation.getKeyFrames());
+      randomAnimation.setPlayMode(playMode);
+      return randomAnimation;
+    }
+    return animation;
+  }
+
+  /**
+   * Packs loose textures into a shared page at runtime, so that entities drawing any of them can be
+   * batched together instead of flushing the sprite batch on every texture swap. Components which
+   * support it, such as {@link com.csse3200.game.rendering.TextureRenderComponent}, pick up the
+   * packed region through {@link #getPackedRegion(String)}. The loose textures are not unloaded, as
+   * UI code still reads them directly.
+   *
+   * <p>Blocks until the textures are decoded and packed. Prefer
+   * {@link #queuePackedTextures(String, String[])} while a loading screen is up.
+   *
+   * @param pageName name of the packed page, used to dispose it later
+   * @param texturePaths paths of the textures to pack
+   */
+  public void packTextures(String pageName, String[] texturePaths) {
+    queuePackedTextures(pageName, texturePaths);
+    pendingPacks.get(pageName).join();
+    finishPackedTextures(pageName);
+  }
+
+  /**
+   * Start decoding and packing loose textures into a shared page in the background. Only the
+   * upload of the finished page happens on the render thread, in
+   * {@link #finishPackedTextures(String)}.
+   *
+   * @param pageName name of the packed page, used to finish and dispose it later
+   * @param texturePaths paths of the textures to pack
+   * @see #packTextures(String, String[])
+   */
+  public void queuePackedTextures(String pageName, String[] texturePaths) {
+    if (packedAtlases.containsKey(pageName) || pendingPacks.containsKey(pageName)) {
+      return;
+    }
+    logger.debug("Packing {} textures into {}", texturePaths.length, pageName);
+    List<String> toPack = new ArrayList<>(texturePaths.length);
+    for (String texturePath : texturePaths) {
+      if (!packedRegions.containsKey(texturePath)) {
+        toPack.add(texturePath);
+      }
+    }
+    // Only Gdx.files and pixmaps are used off the render thread, neither of which need GL
+    pendingPacks.put(pageName, JobSystem.launch(() -> packPixmaps(toPack)));
+  }
+
+  /**
+   * Upload a page queued with {@link #queuePackedTextures(String, String[])} once its textures have
+   * been packed. Must be called on the render thread.
+   *
+   * @param pageName name of the packed page
+   * @return true if the page is ready to use, false if it is still being packed
+   */
+  public boolean finishPackedTextures(String pageName) {
+    CompletableFuture<PixmapPacker> pending = pendingPacks.get(pageName);
+    if (pending == null) {
+      return true;
+    }
+    if (!pending.isDone()) {
+      return false;
+    }
+    pendingPacks.remove(pageName);
+
+    PixmapPacker packer;
+    try {
+      packer = pending.join();
+    } catch (CompletionException e) {
+      // Keep drawing the loose textures
+      logger.error("Could not pack {}", pageName, e.getCause());
+      return true;
+    }
+    TextureAtlas atlas =
+        packer.generateTextureAtlas(TextureFilter.Nearest, TextureFilter.Nearest, false);
+    packer.dispose();
+    packedAtlases.put(pageName, atlas);
+    for (AtlasRegion region : atlas.getRegions()) {
+      packedRegions.put(region.name, region);
+    }
+    logger.debug("Packed {} into {} page(s)", pageName, atlas.getTextures().size);
+    return true;
+  }
+
+  /** Decode and pack textures into pixmap pages. Runs off the render thread. */
+  private PixmapPacker packPixmaps(List<String> texturePaths) {
+    PixmapPacker packer = new PixmapPacker(
+        PACKED_PAGE_SIZE, PACKED_PAGE_SIZE, Pixmap.Format.RGBA8888, PACKED_PADDING, false);
+    for (String texturePath : texturePaths) {
+      if (packer.getRect(texturePath) != null) {
+        continue;
+      }
+      Pixmap pixmap = null;
+      try {
+        pixmap = new Pixmap(Gdx.files.internal(texturePath));
+        packer.pack(texturePath, pixmap);
+      } catch (GdxRuntimeException e) {
+        // Too large for a page or unreadable, so keep drawing the loose texture
+        logger.warn("Could not pack texture {}: {}", texturePath, e.getMessage());
+      } finally {
+        if (pixmap != null) {
+          pixmap.dispose();
+        }
+      }
+    }
+    return packer;
+  }
+
+  /**
+   * Get the packed region of a texture packed with {@link #packTextures(String, String[])}.
+   *
+   * @param texturePath path of the loose texture
+   * @return packed region, or null if the texture has not been packed
+   */
+  public TextureRegion getPackedRegion(String texturePath) {
+    return packedRegions.get(texturePath);
+  }
+
+  /**
+   * Dispose a packed page created by {@link #packTextures(String, String[])}.
+   *
+   * @param pageName name of the packed page
+   */
+  public void disposePackedTextures(String pageName) {
+    disposePendingPack(pendingPacks.remove(pageName));
+    TextureAtlas atlas = packedAtlases.remove(pageName);
+    if (atlas == null) {
+      return;
+    }
+    for (AtlasRegion region : atlas.getRegions()) {
+      packedRegions.remove(region.name);
+    }
+    atlas.dispose();
+  }
+
+  private void disposePackedTextures() {
+    for (CompletableFuture<PixmapPacker> pending : pendingPacks.values()) {
+      disposePendingPack(pending);
+    }
+    pendingPacks.clear();
+    for (TextureAtlas atlas : packedAtlases.values()) {
+      atlas.dispose();
+    }
+    packedAtlases.clear();
+    packedRegions.clear();
+  }
+
+  /** Dispose the pixmaps of a page still being packed, whenever packing finishes. */
+  private static void disposePendingPack(CompletableFuture<PixmapPacker> pending) {
+    if (pending != null) {
+      pending.thenAccept(PixmapPacker::dispose);
+    }
+  }
+
+  /**
+   * Acquires a reference to a skin, loaded through the asset manager the first time it is
+   * requested so later requests do not re-parse the skin or reload its fonts and textures. Every
+   * call must be paired with a call to {@link #releaseSkin(String)}, and the skin is unloaded once
+   * the last reference is released.
+   *
+   * @param skinPath path of the skin json, with a texture atlas of the same name next to it
+   * @return shared skin
+   */
+  public Skin acquireSkin(String skinPath) {
+    return acquire(skinPath, Skin.class);
+  }
+
+  /**
+   * Acquires a reference to the game's UI skin. See {@link #acquireSkin(String)}.
+   *
+   * @return shared UI skin
+   */
+  public Skin acquireSkin() {
+    return acquireSkin(UI_SKIN);
+  }
+
+  /**
+   * Releases a reference acquired with {@link #acquireSkin(String)}.
+   *
+   * @param skinPath path of the skin json
+   */
+  public void releaseSkin(String skinPath) {
+    release(skinPath);
+  }
+
+  /** Releases a reference to the game's UI skin acquired with {@link #acquireSkin()}. */
+  public void releaseSkin() {
+    releaseSkin(UI_SKIN);
+  }
+
+  /**
+   * Acquires a reference to a texture, loaded through the asset manager if it is not already
+   * loaded. Every call must be paired with a call to {@link #releaseTexture(String)}. Textures
+   * loaded by a screen keep the screen's reference, so releasing never unloads them early.
+   *
+   * @param texturePath path of the texture
+   * @return shared texture
+   */
+  public Texture acquireTexture(String texturePath) {
+    return acquire(texturePath, Texture.class);
+  }
+
+  /**
+   * Releases a reference acquired with {@link #acquireTexture(String)}.
+   *
+   * @param texturePath path of the texture
+   */
+  public void releaseTexture(String texturePath) {
+    release(texturePath);
+  }
+
+  /**
+   * Acquires a drawable of a whole texture, e.g. for an image or button in the UI. The drawable is
+   * shared by everything using the same texture, so it must not be modified. Every call must be
+   * paired with a call to {@link #releaseDrawable(String)}.
+   *
+   * @param texturePath path of the texture
+   * @return shared drawable
+   */
+  public TextureRegionDrawable acquireDrawable(String texturePath) {
+    SharedDrawable shared = sharedDrawables.get(texturePath);
+    if (shared == null) {
+      shared = new SharedDrawable(new TextureRegionDrawable(acquireTexture(texturePath)));
+      sharedDrawables.put(texturePath, shared);
+    }
+    shared.references++;
+    return shared.drawable;
+  }
+
+  /**
+   * Releases a reference acquired with {@link #acquireDrawable(String)}. The texture is released
+   * once no references remain.
+   *
+   * @param texturePath path of the texture
+   */
+  public void releaseDrawable(String texturePath) {
+    SharedDrawable shared = sharedDrawables.get(texturePath);
+    if (shared == null) {
+      logger.warn("Released drawable {} which was not acquired", texturePath);
+      return;
+    }
+    shared.references--;
+    if (shared.references == 0) {
+      sharedDrawables.remove(texturePath);
+      releaseTexture(texturePath);
+    }
+  }
+
+  /**
+   * Get a drawable filled with a solid colour. Every colour is drawn from the same 1x1 texture,
+   * which lives until the service is disposed.
+   *
+   * @param color fill colour
+   * @return shared drawable
+   */
+  public Drawable getColorDrawable(Color color) {
+    Drawable drawable = colorDrawables.get(color);
+    if (drawable == null) {
+      if (whitePixel == null) {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        whitePixel = new Texture(pixmap);
+        pixmap.dispose();
+      }
+      drawable = new TextureRegionDrawable(new TextureRegion(whitePixel)).tint(color);
+      colorDrawables.put(new Color(color), drawable);
+    }
+    return drawable;
+  }
+
+  /**
+   * Get libGDX's default font, created once and shared until the service is disposed.
+   *
+   * @return shared default font
+   */
+  public BitmapFont getDefaultFont() {
+    if (defaultFont == null) {
+      defaultFont = new BitmapFont();
+    }
+    return defaultFont;
+  }
+
+  /**
+   * Get a style for popup windows with the default font and a background texture. Styles are
+   * created the first time they are requested and shared until the service is disposed.
+   *
+   * @param backgroundPath path of the background texture
+   * @return shared window style
+   */
+  public Window.WindowStyle getWindowStyle(String backgroundPath) {
+    Window.WindowStyle style = windowStyles.get(backgroundPath);
+    if (style == null) {
+      style = new Window.WindowStyle(getDefaultFont(), Color.BLACK, acquireDrawable(backgroundPath));
+      windowStyles.put(backgroundPath, style);
+    }
+    return style;
+  }
+
+  private <T> T acquire(String assetPath, Class<T> type) {
+    if (!assetManager.isLoaded(assetPath, type)) {
+      logger.debug("Loading shared {} {}", type.getSimpleName(), assetPath);
+    }
+    // Every load adds a reference in the asset manager, which unloads the asset at zero
+    assetManager.load(assetPath, type);
+    return assetManager.finishLoadingAsset(assetPath);
+  }
+
+  private void release(String assetPath) {
+    if (!assetManager.isLoaded(assetPath)) {
+      logger.warn("Released {} which was not acquired", assetPath);
+      return;
+    }
+    assetManager.unload(assetPath);
+  }
+
+  private void disposeUiAssets() {
+    windowStyles.clear();
+    sharedDrawables.clear();
+    colorDrawables.clear();
+    if (defaultFont != null) {
+      defaultFont.dispose();
+      defaultFont = null;
+    }
+    if (whitePixel != null) {
+      whitePixel.dispose();
+      whitePixel = null;
+    }
+  }
+
   /**
    * Loads a single asset into the asset manager.
    *
@@ -199,6 +673,17 @@ public class ResourceService implements Disposable {
     loadAssets(particleEffectNames, ParticleEffect.class);
   }
 
+  /**
+   * Loads a list of tiled maps into the asset manager. The TMX files are parsed and their tilesets
+   * decoded on the asset manager's loader thread, leaving only the texture uploads for
+   * {@link #loadForMillis(int)} on the render thread.
+   *
+   * @param tiledMapNames tiled map filenames
+   */
+  public void loadTiledMaps(String[] tiledMapNames) {
+    loadAssets(tiledMapNames, TiledMap.class);
+  }
+
   public void unloadAssets(String[] assetNames) {
     for (String assetName : assetNames) {
       logger.debug("Unloading {}", assetName);
@@ -212,6 +697,68 @@ public class ResourceService implements Disposable {
 
   @Override
   public void dispose() {
+    sharedAtlases.clear();
+    disposePackedTextures();
+    disposeUiAssets();
     assetManager.clear();
   }
+
+  /**
+   * A texture atlas shared between entities, with the animations already built from it.
+   */
+  private static class SharedAtlas {
+    private final TextureAtlas atlas;
+    private final Map<AnimationKey, Animation<TextureRegion>> animations = new HashMap<>();
+    private int references;
+
+    private SharedAtlas(TextureAtlas atlas) {
+      this.atlas = atlas;
+    }
+  }
+
+  /**
+   * A texture drawable shared between UI elements.
+   */
+  private static class SharedDrawable {
+    private final TextureRegionDrawable drawable;
+    private int references;
+
+    private SharedDrawable(TextureRegionDrawable drawable) {
+      this.drawable = drawable;
+    }
+  }
+
+  /**
+   * Identifies an animation built from a shared texture atlas.
+   */
+  private static class AnimationKey {
+    private final String name;
+    private final float frameDuration;
+    private final PlayMode playMode;
+
+    private AnimationKey(String name, float frameDuration, PlayMode playMode) {
+      this.name = name;
+      this.frameDuration = frameDuration;
+      this.playMode = playMode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof AnimationKey)) {
+        return false;
+      }
+      AnimationKey other = (AnimationKey) o;
+      return Float.compare(frameDuration, other.frameDuration) == 0
+          && playMode == other.playMode
+          && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, frameDuration, playMode);
+    }
+  }
 }
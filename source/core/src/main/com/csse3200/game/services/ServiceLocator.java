@@ -1,9 +1,13 @@
 package com.csse3200.game.services;
 
+import com.csse3200.game.ai.AIScheduler;
 import com.csse3200.game.areas.GameArea;
+import com.csse3200.game.components.structures.JoinService;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.VisibilityService;
+import com.csse3200.game.profiling.FrameProfiler;
 import com.csse3200.game.rendering.RenderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +39,12 @@ public class ServiceLocator {
   }
 
   private static StructurePlacementService structurePlacementService;
+  private static PathfindingService pathfindingService;
+  private static FrameProfiler profiler;
+  private static TimerService timerService;
+  private static AIScheduler aiScheduler;
+  private static VisibilityService visibilityService;
+  private static JoinService joinService;
 
   public static EntityService getEntityService() {
     return entityService;
@@ -64,6 +74,18 @@ public class ServiceLocator {
 
   public static StructurePlacementService getStructurePlacementService() { return structurePlacementService; }
 
+  public static PathfindingService getPathfindingService() { return pathfindingService; }
+
+  public static FrameProfiler getProfiler() { return profiler; }
+
+  public static TimerService getTimerService() { return timerService; }
+
+  public static AIScheduler getAIScheduler() { return aiScheduler; }
+
+  public static VisibilityService getVisibilityService() { return visibilityService; }
+
+  public static JoinService getJoinService() { return joinService; }
+
   public static TerrainService getTerrainService() { return terrainService; }
 
   public static EntityPlacementService getEntityPlacementService() { return entityPlacementService; }
@@ -73,6 +95,36 @@ public class ServiceLocator {
     structurePlacementService = service;
   }
 
+  public static void registerPathfindingService(PathfindingService service) {
+    logger.debug("Registering pathfinding service {}", service);
+    pathfindingService = service;
+  }
+
+  public static void registerProfiler(FrameProfiler source) {
+    logger.debug("Registering frame profiler {}", source);
+    profiler = source;
+  }
+
+  public static void registerTimerService(TimerService service) {
+    logger.debug("Registering timer service {}", service);
+    timerService = service;
+  }
+
+  public static void registerAIScheduler(AIScheduler scheduler) {
+    logger.debug("Registering AI scheduler {}", scheduler);
+    aiScheduler = scheduler;
+  }
+
+  public static void registerVisibilityService(VisibilityService service) {
+    logger.debug("Registering visibility service {}", service);
+    visibilityService = service;
+  }
+
+  public static void registerJoinService(JoinService service) {
+    logger.debug("Registering join service {}", service);
+    joinService = service;
+  }
+
   public static void registerEntityPlacementService(EntityPlacementService service) {
     logger.debug("Registering entity placement service {}", service);
     entityPlacementService = service;
@@ -127,6 +179,12 @@ public class ServiceLocator {
     resourceService = null;
     terrainService = null;
     gameStateObserverService = null;
+    pathfindingService = null;
+    profiler = null;
+    timerService = null;
+    aiScheduler = null;
+    visibilityService = null;
+    joinService = null;
   }
 
   private ServiceLocator() {
@@ -1,25 +1,70 @@
 package com.csse3200.game.services;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.PlaceableEntity;
 import com.csse3200.game.events.EventHandler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Keeps track of which tiles are covered by placed structures.
+ *
+ * <p>Tiles are stored in a dense grid of ints holding the slot of the structure covering each
+ * tile, so looking up a tile doesn't allocate or hash. The grid should be sized to the map with
+ * {@link #setGridSize(GridPoint2)}, and grows if a structure is placed outside it.
+ */
 public class StructurePlacementService {
     EventHandler handler;
-    private final Map<GridPoint2, PlaceableEntity> placedStructures = new HashMap<>();
     private final Map<PlaceableEntity, GridPoint2> position = new HashMap<>();
+    // Slot + 1 of the structure covering each tile, or 0 if the tile is empty
+    private int[] grid = new int[0];
+    private int gridX = 0;
+    private int gridY = 0;
+    private int gridWidth = 0;
+    private int gridHeight = 0;
+    // Placed structures by slot, with null for free slots
+    private final Array<PlaceableEntity> structures = new Array<>();
+    private final IntArray freeSlots = new IntArray();
+    private final ObjectIntMap<PlaceableEntity> slots = new ObjectIntMap<>();
+    // Query each slot was last found by, so queries only return each structure once
+    private int[] foundBy = new int[0];
+    private int query = 0;
 
 
     public StructurePlacementService(EventHandler handler) {
         this.handler = handler;
     }
 
+    /**
+     * Gets the event handler structure placement events are triggered on. "structurePlaced" and
+     * "structureRemoved" are triggered with the structure and its tile position.
+     * "structuresPlaced" is triggered once by {@link #placeStructures(List, List, boolean, boolean)}
+     * with the list of structures and the list of their tile positions.
+     *
+     * @return the event handler of this service.
+     */
+    public EventHandler getEvents() {
+        return handler;
+    }
+
+    /**
+     * Sizes the occupancy grid to cover the map, so placing structures on the map never grows it.
+     *
+     * @param mapBounds - the size of the map in tiles.
+     */
+    public void setGridSize(GridPoint2 mapBounds) {
+        ensureGridCovers(0, 0, mapBounds.x, mapBounds.y);
+    }
+
     /**
      * Gets the position of the given entity.
      *
@@ -36,23 +81,59 @@ public class StructurePlacementService {
         }
 
         entity.willPlace();
+        occupy(entity, tilePos);
 
-        position.put(entity, tilePos);
+        handler.trigger("placeStructureAt", new placeStructureAtArgs(entity, tilePos, centerX, centerY));
+        handler.trigger("structurePlaced", entity, tilePos);
+        entity.placed();
+    }
 
-        for (int x = tilePos.x; x < (tilePos.x + entity.getWidth()); x++) {
-            for (int y = tilePos.y; y < (tilePos.y + entity.getHeight()); y++) {
-                placedStructures.put(new GridPoint2(x, y), entity);
+    /**
+     * Places many structures at once, e.g. a line of walls. Each structure is checked against the
+     * placed structures and the structures earlier in the list, and structures which don't fit are
+     * skipped. Rather than an event per structure, "placeStructuresAt" and "structuresPlaced" are
+     * triggered once for all the placed structures.
+     *
+     * @param entities - the structures to place.
+     * @param tilePositions - the position of each structure.
+     * @param centerX - true to center the structures on their tile in x.
+     * @param centerY - true to center the structures on their tile in y.
+     * @return the structures which were placed, in order.
+     */
+    public List<PlaceableEntity> placeStructures(List<PlaceableEntity> entities, List<GridPoint2> tilePositions,
+                                                 boolean centerX, boolean centerY) {
+        if (entities.size() != tilePositions.size()) {
+            throw new IllegalArgumentException("Every structure needs a position");
+        }
+
+        List<PlaceableEntity> placed = new ArrayList<>(entities.size());
+        List<GridPoint2> placedPositions = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            PlaceableEntity entity = entities.get(i);
+            GridPoint2 tilePos = tilePositions.get(i);
+            if (canPlaceStructureAt(entity, tilePos)) {
+                entity.willPlace();
+                occupy(entity, tilePos);
+                placed.add(entity);
+                placedPositions.add(tilePos);
             }
         }
+        if (placed.isEmpty()) {
+            return placed;
+        }
 
-        handler.trigger("placeStructureAt", new placeStructureAtArgs(entity, tilePos, centerX, centerY));
-        entity.placed();
+        handler.trigger("placeStructuresAt", new placeStructuresAtArgs(placed, placedPositions, centerX, centerY));
+        handler.trigger("structuresPlaced", placed, placedPositions);
+        for (PlaceableEntity entity : placed) {
+            entity.placed();
+        }
+        return placed;
     }
 
     public boolean canPlaceStructureAt(PlaceableEntity entity, GridPoint2 tilePos) {
         for (int x = tilePos.x; x < (tilePos.x + entity.getWidth()); x++) {
             for (int y = tilePos.y; y < (tilePos.y + entity.getHeight()); y++) {
-                if (getStructureAt(new GridPoint2(x, y)) != null) {
+                if (getCell(x, y) != 0) {
                     return false;
                 }
             }
@@ -76,7 +157,7 @@ public class StructurePlacementService {
     }
 
     public void removeStructureAt(GridPoint2 tilePos, boolean force) {
-        var entity = placedStructures.get(tilePos);
+        var entity = getStructureAt(tilePos.x, tilePos.y);
 
         if (entity == null || entity.is_irremovable() && !force) {
             return;
@@ -85,20 +166,177 @@ public class StructurePlacementService {
         entity.willRemove();
 
         tilePos = position.get(entity);
+        setCells(tilePos, entity, 0);
+        int slot = slots.remove(entity, -1);
+        structures.set(slot, null);
+        freeSlots.add(slot);
 
-        for (int x = tilePos.x; x < (tilePos.x + entity.getWidth()); x++) {
-            for (int y = tilePos.y; y < (tilePos.y + entity.getHeight()); y++) {
-                placedStructures.remove(new GridPoint2(x, y));
+        entity.removed();
+        handler.trigger("structureRemoved", entity, tilePos);
+        position.remove(entity);
+
+        ServiceLocator.getEntityService().destroy(entity);
+    }
+
+    public PlaceableEntity getStructureAt(GridPoint2 position) {
+        return getStructureAt(position.x, position.y);
+    }
+
+    /**
+     * Gets the structure covering a tile.
+     *
+     * @param x - the x coordinate of the tile.
+     * @param y - the y coordinate of the tile.
+     * @return the structure, or null if the tile is empty.
+     */
+    public PlaceableEntity getStructureAt(int x, int y) {
+        int cell = getCell(x, y);
+        return cell == 0 ? null : structures.get(cell - 1);
+    }
+
+    /**
+     * Finds the structures covering any tile in a rectangle. Each structure is only added once.
+     *
+     * @param x - the x coordinate of the bottom left tile.
+     * @param y - the y coordinate of the bottom left tile.
+     * @param width - the width of the rectangle in tiles.
+     * @param height - the height of the rectangle in tiles.
+     * @param out - the array to add the structures to.
+     * @return out, for chaining.
+     */
+    public Array<PlaceableEntity> getStructuresInRect(int x, int y, int width, int height,
+                                                      Array<PlaceableEntity> out) {
+        query++;
+        int minX = Math.max(x, gridX);
+        int minY = Math.max(y, gridY);
+        int maxX = Math.min(x + width, gridX + gridWidth);
+        int maxY = Math.min(y + height, gridY + gridHeight);
+        for (int tileY = minY; tileY < maxY; tileY++) {
+            for (int tileX = minX; tileX < maxX; tileX++) {
+                addFound(grid[(tileY - gridY) * gridWidth + (tileX - gridX)], out);
             }
         }
+        return out;
+    }
 
-        entity.removed();
+    /**
+     * Finds the structures covering any tile within a radius of a tile. Each structure is only
+     * added once.
+     *
+     * @param center - the tile at the center of the circle.
+     * @param radius - the radius of the circle in tiles.
+     * @param out - the array to add the structures to.
+     * @return out, for chaining.
+     */
+    public Array<PlaceableEntity> getStructuresInRadius(GridPoint2 center, float radius,
+                                                        Array<PlaceableEntity> out) {
+        query++;
+        int reach = (int) Math.floor(radius);
+        float radiusSquared = radius * radius;
+        int minX = Math.max(center.x - reach, gridX);
+        int minY = Math.max(center.y - reach, gridY);
+        int maxX = Math.min(center.x + reach + 1, gridX + gridWidth);
+        int maxY = Math.min(center.y + reach + 1, gridY + gridHeight);
+        for (int tileY = minY; tileY < maxY; tileY++) {
+            int dy = tileY - center.y;
+            for (int tileX = minX; tileX < maxX; tileX++) {
+                int dx = tileX - center.x;
+                if (dx * dx + dy * dy <= radiusSquared) {
+                    addFound(grid[(tileY - gridY) * gridWidth + (tileX - gridX)], out);
+                }
+            }
+        }
+        return out;
+    }
 
-        Gdx.app.postRunnable(entity::dispose);
+    private void addFound(int cell, Array<PlaceableEntity> out) {
+        if (cell != 0 && foundBy[cell - 1] != query) {
+            foundBy[cell - 1] = query;
+            out.add(structures.get(cell - 1));
+        }
     }
 
-    public PlaceableEntity getStructureAt(GridPoint2 position) {
-        return placedStructures.get(position);
+    private void occupy(PlaceableEntity entity, GridPoint2 tilePos) {
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = structures.size;
+            structures.add(entity);
+            if (foundBy.length < structures.size) {
+                foundBy = Arrays.copyOf(foundBy, Math.max(16, foundBy.length * 2));
+            }
+        } else {
+            slot = freeSlots.pop();
+            structures.set(slot, entity);
+        }
+        slots.put(entity, slot);
+        position.put(entity, tilePos);
+
+        ensureGridCovers(tilePos.x, tilePos.y, entity.getWidth(), entity.getHeight());
+        setCells(tilePos, entity, slot + 1);
+    }
+
+    private void setCells(GridPoint2 tilePos, PlaceableEntity entity, int cell) {
+        int minX = Math.max(tilePos.x, gridX);
+        int minY = Math.max(tilePos.y, gridY);
+        int maxX = Math.min(tilePos.x + entity.getWidth(), gridX + gridWidth);
+        int maxY = Math.min(tilePos.y + entity.getHeight(), gridY + gridHeight);
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                grid[(y - gridY) * gridWidth + (x - gridX)] = cell;
+            }
+        }
+    }
+
+    private int getCell(int x, int y) {
+        int localX = x - gridX;
+        int localY = y - gridY;
+        if (localX < 0 || localX >= gridWidth || localY < 0 || localY >= gridHeight) {
+            return 0;
+        }
+        return grid[localY * gridWidth + localX];
+    }
+
+    /**
+     * Grows the grid to cover a rectangle of tiles, keeping the placed structures. The grid grows
+     * by at least double, so placing structures just outside it doesn't copy it every time.
+     */
+    private void ensureGridCovers(int x, int y, int width, int height) {
+        if (x >= gridX && y >= gridY && x + width <= gridX + gridWidth && y + height <= gridY + gridHeight) {
+            return;
+        }
+
+        int minX = Math.min(x, gridX);
+        int minY = Math.min(y, gridY);
+        int maxX = Math.max(x + width, gridX + gridWidth);
+        int maxY = Math.max(y + height, gridY + gridHeight);
+        if (gridWidth > 0 && gridHeight > 0) {
+            // Grow by at least double in each direction which needed to grow
+            if (minX < gridX) {
+                minX = Math.min(minX, gridX - gridWidth);
+            }
+            if (maxX > gridX + gridWidth) {
+                maxX = Math.max(maxX, gridX + 2 * gridWidth);
+            }
+            if (minY < gridY) {
+                minY = Math.min(minY, gridY - gridHeight);
+            }
+            if (maxY > gridY + gridHeight) {
+                maxY = Math.max(maxY, gridY + 2 * gridHeight);
+            }
+        }
+
+        int newWidth = maxX - minX;
+        int newHeight = maxY - minY;
+        int[] newGrid = new int[newWidth * newHeight];
+        for (int row = 0; row < gridHeight; row++) {
+            System.arraycopy(grid, row * gridWidth, newGrid,
+                    (row + gridY - minY) * newWidth + (gridX - minX), gridWidth);
+        }
+        grid = newGrid;
+        gridX = minX;
+        gridY = minY;
+        gridWidth = newWidth;
+        gridHeight = newHeight;
     }
 
     public static class placeStructureAtArgs {
@@ -147,6 +385,37 @@ public class StructurePlacementService {
         }
     }
 
+    public static class placeStructuresAtArgs {
+        private final List<PlaceableEntity> entities;
+        private final List<GridPoint2> tilePositions;
+        private final boolean centerX;
+        private final boolean centerY;
+
+        public placeStructuresAtArgs(List<PlaceableEntity> entities, List<GridPoint2> tilePositions,
+                                     boolean centerX, boolean centerY) {
+            this.entities = entities;
+            this.tilePositions = tilePositions;
+            this.centerX = centerX;
+            this.centerY = centerY;
+        }
+
+        public List<PlaceableEntity> getEntities() {
+            return entities;
+        }
+
+        public List<GridPoint2> getTilePositions() {
+            return tilePositions;
+        }
+
+        public boolean isCenterX() {
+            return centerX;
+        }
+
+        public boolean isCenterY() {
+            return centerY;
+        }
+    }
+
     public static class spawnEntityAtVectorArgs {
         private Entity entity;
         private Vector2 worldPos;
@@ -0,0 +1,53 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.entities.Entity;
+
+/**
+ * A task scheduled on the {@link TimerService}. Keep the handle to cancel the task before it runs.
+ * Repeating tasks reuse the same handle every time they are rescheduled.
+ */
+public class TimerHandle {
+  final TimerService service;
+  Runnable task;
+  Entity owner;
+  long expiresTick;
+  long intervalTicks;
+  boolean scheduled;
+
+  // Links in the wheel bucket and in the owner's timer list
+  int bucket = -1;
+  TimerHandle prev;
+  TimerHandle next;
+  TimerHandle ownerPrev;
+  TimerHandle ownerNext;
+
+  TimerHandle(TimerService service) {
+    this.service = service;
+  }
+
+  /** Cancel the task. Does nothing if it has already run or been cancelled. */
+  public void cancel() {
+    service.cancel(this);
+  }
+
+  /**
+   * @return true if the task is still waiting to run, or is repeating
+   */
+  public boolean isScheduled() {
+    return scheduled;
+  }
+
+  /**
+   * @return true if the task runs repeatedly until cancelled
+   */
+  public boolean isRepeating() {
+    return intervalTicks > 0;
+  }
+
+  /**
+   * @return entity the task belongs to, or null if it is not tied to an entity
+   */
+  public Entity getOwner() {
+    return owner;
+  }
+}
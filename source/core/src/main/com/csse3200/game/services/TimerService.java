@@ -0,0 +1,297 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.csse3200.game.entities.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs delayed and repeating tasks on the main thread, measured in game time. Time only passes
+ * while {@link #update()} is called from the game loop, scaled by the time source's time scale, so
+ * timers pause with the game and never run on another thread.
+ *
+ * <p>Timers are kept in a hierarchical timer wheel: near timers sit in a bucket per tick, and
+ * further ones in coarser buckets that are cascaded down as time approaches them. Scheduling,
+ * cancelling and firing are all constant time. Repeating timers are moved between buckets without
+ * allocating.
+ *
+ * <p>Timers can be owned by an entity, in which case they are cancelled when it is disposed:
+ *
+ * <pre>
+ *   TimerHandle handle = ServiceLocator.getTimerService().schedule(entity, this::explode, 1.5f);
+ *   ...
+ *   handle.cancel();
+ * </pre>
+ */
+public class TimerService {
+  private static final Logger logger = LoggerFactory.getLogger(TimerService.class);
+  /** Wheel ticks per second of game time. Timers fire on the first update at or after their tick. */
+  public static final int TICKS_PER_SECOND = 100;
+  // Absorbs float rounding, e.g. 2.9 seconds being 290.00001 ticks
+  private static final float TICK_TOLERANCE = 0.001f;
+
+  private static final int ROOT_BITS = 8;
+  private static final int ROOT_SIZE = 1 << ROOT_BITS;
+  private static final int ROOT_MASK = ROOT_SIZE - 1;
+  private static final int LEVEL_BITS = 6;
+  private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+  private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+  private static final int LEVELS = 3;
+  private static final int TOP_SHIFT = ROOT_BITS + (LEVELS - 1) * LEVEL_BITS;
+  private static final long MAX_DELAY_TICKS = (1L << (TOP_SHIFT + LEVEL_BITS)) - 1;
+
+  private final GameTime timeSource;
+  private final TimerHandle[] buckets = new TimerHandle[ROOT_SIZE + LEVELS * LEVEL_SIZE];
+  private final IntMap<TimerHandle> timersByOwner = new IntMap<>();
+  private long currentTick = 0;
+  private float pendingTicks = 0f;
+  private int scheduledCount = 0;
+
+  public TimerService() {
+    this(ServiceLocator.getTimeSource());
+  }
+
+  /**
+   * @param timeSource game time that drives the timers
+   */
+  public TimerService(GameTime timeSource) {
+    this.timeSource = timeSource;
+  }
+
+  /**
+   * Run a task once after a delay.
+   *
+   * @param task task to run
+   * @param delaySeconds game time to wait in seconds
+   * @return handle to cancel the task
+   */
+  public TimerHandle schedule(Runnable task, float delaySeconds) {
+    return schedule(null, task, delaySeconds);
+  }
+
+  /**
+   * Run a task once after a delay. The task is cancelled if its owner is disposed first.
+   *
+   * @param owner entity the task belongs to, or null
+   * @param task task to run
+   * @param delaySeconds game time to wait in seconds
+   * @return handle to cancel the task
+   */
+  public TimerHandle schedule(Entity owner, Runnable task, float delaySeconds) {
+    return add(owner, task, toTicks(delaySeconds), 0);
+  }
+
+  /**
+   * Run a task repeatedly until it is cancelled or its owner is disposed.
+   *
+   * @param owner entity the task belongs to, or null
+   * @param task task to run
+   * @param delaySeconds game time in seconds before the first run
+   * @param intervalSeconds game time in seconds between runs
+   * @return handle to cancel the task
+   */
+  public TimerHandle scheduleRepeating(
+      Entity owner, Runnable task, float delaySeconds, float intervalSeconds) {
+    return add(owner, task, toTicks(delaySeconds), Math.max(1, toTicks(intervalSeconds)));
+  }
+
+  /**
+   * Cancel every task owned by an entity.
+   *
+   * @param owner entity being removed
+   */
+  public void cancelAll(Entity owner) {
+    TimerHandle handle = timersByOwner.remove(owner.getId());
+    while (handle != null) {
+      TimerHandle next = handle.ownerNext;
+      handle.ownerPrev = null;
+      handle.ownerNext = null;
+      unlinkBucket(handle);
+      handle.scheduled = false;
+      handle.owner = null;
+      scheduledCount--;
+      handle = next;
+    }
+  }
+
+  /**
+   * @return number of tasks waiting to run
+   */
+  public int getScheduledCount() {
+    return scheduledCount;
+  }
+
+  /** Advance by the time source's scaled delta time. Should only be called from the game loop. */
+  public void update() {
+    update(timeSource.getDeltaTime());
+  }
+
+  /**
+   * Advance the timers and run every task that is due.
+   *
+   * @param deltaSeconds game time passed since the last update in seconds
+   */
+  public void update(float deltaSeconds) {
+    pendingTicks += deltaSeconds * TICKS_PER_SECOND;
+    long ticks = (long) (pendingTicks + TICK_TOLERANCE);
+    if (ticks <= 0) {
+      return;
+    }
+    pendingTicks = Math.max(0f, pendingTicks - ticks);
+
+    long targetTick = currentTick + ticks;
+    while (currentTick < targetTick) {
+      if (scheduledCount == 0) {
+        // Nothing to cascade or run, so skip straight to the end
+        currentTick = targetTick;
+        return;
+      }
+      currentTick++;
+      cascade();
+      runBucket((int) (currentTick & ROOT_MASK));
+    }
+  }
+
+  void cancel(TimerHandle handle) {
+    if (!handle.scheduled) {
+      return;
+    }
+    unlinkBucket(handle);
+    unlinkOwner(handle);
+    handle.scheduled = false;
+    scheduledCount--;
+  }
+
+  private TimerHandle add(Entity owner, Runnable task, long delayTicks, long intervalTicks) {
+    TimerHandle handle = new TimerHandle(this);
+    handle.task = task;
+    handle.intervalTicks = intervalTicks;
+    // The current tick has already run, so the earliest a task can run is the next one
+    handle.expiresTick = currentTick + Math.max(1, delayTicks);
+    handle.scheduled = true;
+    scheduledCount++;
+    insert(handle);
+
+    if (owner != null) {
+      handle.owner = owner;
+      TimerHandle head = timersByOwner.get(owner.getId());
+      handle.ownerNext = head;
+      if (head != null) {
+        head.ownerPrev = handle;
+      }
+      timersByOwner.put(owner.getId(), handle);
+    }
+    return handle;
+  }
+
+  /** Pull down the timers of the coarser buckets whose range the current tick has entered. */
+  private void cascade() {
+    if ((currentTick & ROOT_MASK) != 0) {
+      return;
+    }
+    for (int level = 0; level < LEVELS; level++) {
+      int shift = ROOT_BITS + level * LEVEL_BITS;
+      int index = (int) ((currentTick >> shift) & LEVEL_MASK);
+      int bucket = ROOT_SIZE + level * LEVEL_SIZE + index;
+      TimerHandle handle = buckets[bucket];
+      buckets[bucket] = null;
+      while (handle != null) {
+        TimerHandle next = handle.next;
+        insert(handle);
+        handle = next;
+      }
+      if (index != 0) {
+        // The next level only needs cascading when this one wraps around
+        break;
+      }
+    }
+  }
+
+  private void runBucket(int bucket) {
+    TimerHandle handle;
+    while ((handle = buckets[bucket]) != null) {
+      unlinkBucket(handle);
+      if (handle.intervalTicks > 0) {
+        handle.expiresTick += handle.intervalTicks;
+        insert(handle);
+      } else {
+        unlinkOwner(handle);
+        handle.scheduled = false;
+        scheduledCount--;
+      }
+      try {
+        handle.task.run();
+      } catch (RuntimeException e) {
+        logger.error("Timer task {} failed", handle.task, e);
+      }
+    }
+  }
+
+  private void insert(TimerHandle handle) {
+    long delta = handle.expiresTick - currentTick;
+    int bucket;
+    if (delta < ROOT_SIZE) {
+      bucket = (int) (handle.expiresTick & ROOT_MASK);
+    } else {
+      // Timers beyond the wheel wait in the furthest bucket and are re-inserted when it cascades
+      long expires = delta > MAX_DELAY_TICKS ? currentTick + MAX_DELAY_TICKS : handle.expiresTick;
+      delta = expires - currentTick;
+      int level = 0;
+      while (delta >= 1L << (ROOT_BITS + (level + 1) * LEVEL_BITS)) {
+        level++;
+      }
+      int shift = ROOT_BITS + level * LEVEL_BITS;
+      bucket = ROOT_SIZE + level * LEVEL_SIZE + (int) ((expires >> shift) & LEVEL_MASK);
+    }
+
+    TimerHandle head = buckets[bucket];
+    handle.bucket = bucket;
+    handle.prev = null;
+    handle.next = head;
+    if (head != null) {
+      head.prev = handle;
+    }
+    buckets[bucket] = handle;
+  }
+
+  private void unlinkBucket(TimerHandle handle) {
+    if (handle.bucket < 0) {
+      return;
+    }
+    if (handle.prev != null) {
+      handle.prev.next = handle.next;
+    } else {
+      buckets[handle.bucket] = handle.next;
+    }
+    if (handle.next != null) {
+      handle.next.prev = handle.prev;
+    }
+    handle.prev = null;
+    handle.next = null;
+    handle.bucket = -1;
+  }
+
+  private void unlinkOwner(TimerHandle handle) {
+    if (handle.owner == null) {
+      return;
+    }
+    int ownerId = handle.owner.getId();
+    if (handle.ownerPrev != null) {
+      handle.ownerPrev.ownerNext = handle.ownerNext;
+    } else if (handle.ownerNext != null) {
+      timersByOwner.put(ownerId, handle.ownerNext);
+    } else {
+      timersByOwner.remove(ownerId);
+    }
+    if (handle.ownerNext != null) {
+      handle.ownerNext.ownerPrev = handle.ownerPrev;
+    }
+    handle.ownerPrev = null;
+    handle.ownerNext = null;
+    handle.owner = null;
+  }
+
+  private static long toTicks(float seconds) {
+    return (long) Math.ceil(seconds * TICKS_PER_SECOND - TICK_TOLERANCE);
+  }
+}
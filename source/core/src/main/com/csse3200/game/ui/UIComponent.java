@@ -1,6 +1,7 @@
 package com.csse3200.game.ui;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.csse3200.game.rendering.RenderComponent;
@@ -22,6 +23,12 @@ public abstract class UIComponent extends RenderComponent implements Renderable
     stage = ServiceLocator.getRenderService().getStage();
   }
 
+  @Override
+  public boolean isVisible(Rectangle viewBounds) {
+    // UI is drawn in screen space, not at the entity's position
+    return true;
+  }
+
   @Override
   public int getLayer() {
     return UI_LAYER;
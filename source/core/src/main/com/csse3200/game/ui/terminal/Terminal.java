@@ -3,6 +3,8 @@ package com.csse3200.game.ui.terminal;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.ui.terminal.commands.Command;
 import com.csse3200.game.ui.terminal.commands.DebugCommand;
+import com.csse3200.game.ui.terminal.commands.ProfileCommand;
+import com.csse3200.game.ui.terminal.commands.TextureSortCommand;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +31,8 @@ public class Terminal extends Component {
     this.commands = commands;
 
     addCommand("debug", new DebugCommand());
+    addCommand("profile", new ProfileCommand());
+    addCommand("texturesort", new TextureSortCommand());
   }
 
   /** @return message entered by user */
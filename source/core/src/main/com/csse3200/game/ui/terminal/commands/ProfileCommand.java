@@ -0,0 +1,87 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.csse3200.game.profiling.FrameProfiler;
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * A command for the frame profiler. 'profile dump' writes the current frame time percentiles to a
+ * CSV file, and 'profile components on|off' toggles timing each component class.
+ */
+public class ProfileCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(ProfileCommand.class);
+  private static final String ROOT_DIR = "CSSE3200Game";
+
+  /**
+   * Runs the profiler action matching the arguments.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'profile' command: {}", args);
+      return false;
+    }
+    FrameProfiler profiler = ServiceLocator.getProfiler();
+    if (profiler == null) {
+      logger.debug("No frame profiler registered for 'profile' command");
+      return false;
+    }
+
+    switch (args.get(0)) {
+      case "dump":
+        return dump(profiler);
+      case "components":
+        return setProfilingComponents(profiler, args);
+      default:
+        logger.debug("Unrecognised argument received for 'profile' command: {}", args);
+        return false;
+    }
+  }
+
+  private boolean dump(FrameProfiler profiler) {
+    String path = ROOT_DIR + File.separator + "profile-" + System.currentTimeMillis() + ".csv";
+    FileHandle file = Gdx.files.external(path);
+    try {
+      profiler.dumpCsv(file);
+    } catch (IOException e) {
+      logger.error("Could not write profile to {}", file.path(), e);
+      return false;
+    }
+    logger.info("Wrote profile to {}", file.path());
+    return true;
+  }
+
+  private boolean setProfilingComponents(FrameProfiler profiler, ArrayList<String> args) {
+    if (args.size() != 2) {
+      logger.debug("Invalid arguments received for 'profile components' command: {}", args);
+      return false;
+    }
+    switch (args.get(1)) {
+      case "on":
+        profiler.setProfilingComponents(true);
+        return true;
+      case "off":
+        profiler.setProfilingComponents(false);
+        return true;
+      default:
+        logger.debug("Unrecognised argument received for 'profile components' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return !args.isEmpty() && args.size() <= 2;
+  }
+}
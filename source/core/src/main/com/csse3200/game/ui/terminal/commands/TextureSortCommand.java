@@ -0,0 +1,49 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.csse3200.game.services.ServiceLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+
+/**
+ * A command for toggling the texture sorted render mode on and off.
+ */
+public class TextureSortCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(TextureSortCommand.class);
+  private static final float Z_BAND = 1f;
+
+  /**
+   * Groups renderables by texture, or restores strict z ordering, if the corresponding argument
+   * is received.
+   * @param args command arguments
+   */
+  public boolean action(ArrayList<String> args) {
+    if (!isValid(args)) {
+      logger.debug("Invalid arguments received for 'texturesort' command: {}", args);
+      return false;
+    }
+
+    String arg = args.get(0);
+    switch (arg) {
+      case "on":
+        ServiceLocator.getRenderService().setTextureSorting(true, Z_BAND);
+        return true;
+      case "off":
+        ServiceLocator.getRenderService().setTextureSorting(false, Z_BAND);
+        return true;
+      default:
+        logger.debug("Unrecognised argument received for 'texturesort' command: {}", args);
+        return false;
+    }
+  }
+
+  /**
+   * Validates the command arguments.
+   * @param args command arguments
+   * @return is valid
+   */
+  boolean isValid(ArrayList<String> args) {
+    return args.size() == 1;
+  }
+}
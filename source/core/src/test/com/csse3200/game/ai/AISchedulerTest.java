@@ -0,0 +1,121 @@
+package com.csse3200.game.ai;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class AISchedulerTest {
+  @Test
+  void shouldAssignBucketsRoundRobin() {
+    AIScheduler scheduler = new AIScheduler();
+    for (int i = 0; i < AIScheduler.BUCKETS * 2; i++) {
+      assertEquals(i % AIScheduler.BUCKETS, scheduler.assignBucket());
+    }
+  }
+
+  @Test
+  void shouldEvaluateNearbyEveryFrame() {
+    AIScheduler scheduler = new AIScheduler();
+    Entity focus = new Entity();
+    Entity near = createAt(2f, 0f);
+
+    for (int i = 0; i < 8; i++) {
+      scheduler.beginFrame(focus, null);
+      assertTrue(scheduler.shouldEvaluate(near, 1, scheduler.getFrame() - 1));
+    }
+  }
+
+  @Test
+  void shouldEvaluateFarLessOften() {
+    AIScheduler scheduler = new AIScheduler();
+    Entity focus = new Entity();
+    Entity far = createAt(AIScheduler.FAR_DISTANCE + 5f, 0f);
+
+    assertEquals(AIScheduler.FAR_INTERVAL, countEvaluations(scheduler, focus, null, far, 0, 16));
+  }
+
+  @Test
+  void shouldEvaluateOffCameraLeastOften() {
+    AIScheduler scheduler = new AIScheduler();
+    Entity focus = new Entity();
+    Entity offCamera = createAt(100f, 100f);
+    OrthographicCamera camera = new OrthographicCamera(20f, 10f);
+
+    assertEquals(2, countEvaluations(scheduler, focus, camera, offCamera, 0, 16));
+  }
+
+  @Test
+  void shouldSpreadBucketsAcrossFrames() {
+    AIScheduler scheduler = new AIScheduler();
+    Entity focus = new Entity();
+    Entity far = createAt(AIScheduler.FAR_DISTANCE + 5f, 0f);
+    long[] lastEvaluated = new long[AIScheduler.BUCKETS];
+
+    for (int frame = 0; frame < AIScheduler.FAR_INTERVAL; frame++) {
+      scheduler.beginFrame(focus, null);
+      int due = 0;
+      for (int bucket = 0; bucket < AIScheduler.BUCKETS; bucket++) {
+        if (scheduler.shouldEvaluate(far, bucket, lastEvaluated[bucket])) {
+          due++;
+          lastEvaluated[bucket] = scheduler.getFrame();
+        }
+      }
+      assertEquals(1, due);
+    }
+  }
+
+  @Test
+  void shouldDeferOnceBudgetIsSpent() {
+    AIScheduler scheduler = new AIScheduler(1000);
+    Entity near = createAt(0f, 0f);
+    scheduler.beginFrame(near, null);
+    scheduler.recordEvaluation(5000);
+
+    assertFalse(scheduler.shouldEvaluate(near, 0, scheduler.getFrame() - 1));
+    // AIs which have never evaluated always get to
+    assertTrue(scheduler.shouldEvaluate(near, 0, -1));
+
+    scheduler.beginFrame(near, null);
+    assertEquals(1, scheduler.getDeferralsLastFrame());
+    assertEquals(1, scheduler.getEvaluationsLastFrame());
+    assertEquals(5000, scheduler.getSpentNanosLastFrame());
+    assertTrue(scheduler.shouldEvaluate(near, 0, scheduler.getFrame() - 2));
+  }
+
+  @Test
+  void shouldNotDeferForever() {
+    AIScheduler scheduler = new AIScheduler(0);
+    Entity near = createAt(0f, 0f);
+    for (int i = 0; i < AIScheduler.MAX_DEFERRED_FRAMES; i++) {
+      scheduler.beginFrame(near, null);
+    }
+    assertTrue(scheduler.shouldEvaluate(near, 0, 0));
+    assertFalse(scheduler.shouldEvaluate(near, 0, 1));
+  }
+
+  private static Entity createAt(float x, float y) {
+    Entity entity = new Entity();
+    entity.setPosition(x, y);
+    return entity;
+  }
+
+  private static int countEvaluations(
+      AIScheduler scheduler, Entity focus, OrthographicCamera camera, Entity entity, int bucket,
+      int frames) {
+    int evaluations = 0;
+    long lastEvaluated = 0;
+    for (int i = 0; i < frames; i++) {
+      scheduler.beginFrame(focus, camera);
+      if (scheduler.shouldEvaluate(entity, bucket, lastEvaluated)) {
+        evaluations++;
+        lastEvaluated = scheduler.getFrame();
+      }
+    }
+    return evaluations;
+  }
+}
@@ -28,6 +28,7 @@ import org.mockito.Spy;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -201,4 +202,18 @@ class MapGameAreaTest {
         mapGameArea.unloadAssets();
         verify(assetManager).unload("backgroundMusic.wav");
     }
-}
\ No newline at end of file
+
+    @Test
+    void queueAssetsWithoutBlocking() {
+        gameAreaConfig.texturePaths = new String[] {"Texture7.png"};
+        TerrainFactory terrainFactory = mock(TerrainFactory.class);
+        GdxGame game = mock(GdxGame.class);
+        MapGameArea mapGameArea = new MapGameArea(gameAreaConfig, terrainFactory, game, 3);
+        mapGameArea.queueAssets();
+        mapGameArea.queueAssets();
+
+        verify(assetManager, times(1)).load("Texture7.png", Texture.class);
+        verify(assetManager, never()).update(anyInt());
+        verify(assetManager, never()).finishLoading();
+    }
+}
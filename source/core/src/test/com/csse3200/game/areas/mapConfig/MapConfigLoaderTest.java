@@ -15,6 +15,7 @@ import javax.swing.*;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -69,7 +70,7 @@ class MapConfigLoaderTest {
     @Test
     void loadValidMapFile() throws InvalidConfigException {
         try (MockedStatic<FileLoader> mockFileLoader = mockStatic(FileLoader.class)) {
-            mockFileLoader.when(() -> FileLoader.readClass(eq(GameAreaConfig.class), any(), any()))
+            mockFileLoader.when(() -> FileLoader.readClassConcurrently(eq(GameAreaConfig.class), any(), any()))
                     .thenReturn(fullGameAreaConfig);
             assertEquals(expectedGameArea, MapConfigLoader.loadMapFile("path.json"));
         }
@@ -78,7 +79,7 @@ class MapConfigLoaderTest {
     @Test
     void loadInvalidMapFile() {
         try (MockedStatic<FileLoader> mockFileLoader = mockStatic(FileLoader.class)) {
-            mockFileLoader.when(() -> FileLoader.readClass(eq(GameAreaConfig.class), any(), any()))
+            mockFileLoader.when(() -> FileLoader.readClassConcurrently(eq(GameAreaConfig.class), any(), any()))
                     .thenReturn(null);
             assertThrows(InvalidConfigException.class, () -> MapConfigLoader.loadMapFile("path.json"));
         }
@@ -87,9 +88,9 @@ class MapConfigLoaderTest {
     @Test
     void loadValidMapDirectory() throws InvalidConfigException {
         try (MockedStatic<FileLoader> mockFileLoader = mockStatic(FileLoader.class)) {
-            mockFileLoader.when(() -> FileLoader.readClass(eq(GameAreaConfig.class), any(), any()))
+            mockFileLoader.when(() -> FileLoader.readClassConcurrently(eq(GameAreaConfig.class), any(), any()))
                     .thenReturn(gameAreaConfig);
-            mockFileLoader.when(() -> FileLoader.readClass(eq(AreaEntityConfig.class), any(), any()))
+            mockFileLoader.when(() -> FileLoader.readClassConcurrently(eq(AreaEntityConfig.class), any(), any()))
                     .thenReturn(areaEntityConfig);
 
             assertEquals(MapConfigLoader.loadMapDirectory("path/"), expectedGameArea);
@@ -99,14 +100,21 @@ class MapConfigLoaderTest {
     @Test
     void loadInvalidMapDirectoryGameArea() {
         try (MockedStatic<FileLoader> mockFileLoader = mockStatic(FileLoader.class)) {
-            mockFileLoader.when(() -> FileLoader.readClass(eq(GameAreaConfig.class), any(), any()))
+            mockFileLoader.when(() -> FileLoader.readClassConcurrently(eq(GameAreaConfig.class), any(), any()))
                     .thenReturn(null);
-            mockFileLoader.when(() -> FileLoader.readClass(eq(AreaEntityConfig.class), any(), any()))
+            mockFileLoader.when(() -> FileLoader.readClassConcurrently(eq(AreaEntityConfig.class), any(), any()))
                     .thenReturn(areaEntityConfig);
 
             assertThrows(InvalidConfigException.class, () -> MapConfigLoader.loadMapDirectory("path/"));
         }
     }
 
+    @Test
+    void loadMissingMapDirectoryAsync() {
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> MapConfigLoader.loadMapDirectoryAsync("missing/").join());
+        assertInstanceOf(InvalidConfigException.class, exception.getCause());
+    }
+
     //TODO: Write tests to cover entity folder structure
 }
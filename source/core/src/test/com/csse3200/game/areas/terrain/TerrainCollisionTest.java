@@ -0,0 +1,99 @@
+package com.csse3200.game.areas.terrain;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Rectangle;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class TerrainCollisionTest {
+  private static final float TILE_SIZE = 0.5f;
+  private static final float COLLIDER = TerrainCollision.DEFAULT_COLLIDER_SIZE;
+
+  @Test
+  void shouldMergeFilledBlock() {
+    TiledMapTileLayer layer = new TiledMapTileLayer(10, 10, 16, 16);
+    fill(layer, 2, 3, 4, 5);
+
+    TerrainCollision collision = new TerrainCollision(layer, TILE_SIZE);
+
+    assertEquals(1, collision.getRectangles().size);
+    assertEquals(
+        new Rectangle(1f, 1.5f, 3 * TILE_SIZE + COLLIDER, 4 * TILE_SIZE + COLLIDER),
+        collision.getRectangles().first());
+    assertEquals(20, collision.getSolidTiles().size);
+  }
+
+  @Test
+  void shouldMergeLShape() {
+    TiledMapTileLayer layer = new TiledMapTileLayer(10, 10, 16, 16);
+    // Horizontal bar along the bottom and a vertical bar up the left side
+    fill(layer, 0, 0, 5, 1);
+    fill(layer, 0, 1, 1, 4);
+
+    TerrainCollision collision = new TerrainCollision(layer, TILE_SIZE);
+
+    assertEquals(2, collision.getRectangles().size);
+    assertEquals(9, collision.getSolidTiles().size);
+  }
+
+  @Test
+  void shouldCoverEverySolidTile() {
+    TiledMapTileLayer layer = new TiledMapTileLayer(8, 8, 16, 16);
+    int[][] tiles = {{0, 0}, {1, 0}, {1, 1}, {3, 3}, {4, 3}, {7, 7}, {6, 7}, {5, 2}};
+    for (int[] tile : tiles) {
+      fill(layer, tile[0], tile[1], 1, 1);
+    }
+
+    TerrainCollision collision = new TerrainCollision(layer, TILE_SIZE);
+
+    assertTrue(collision.getRectangles().size < tiles.length);
+    for (GridPoint2 tile : collision.getSolidTiles()) {
+      float centerX = tile.x * TILE_SIZE + COLLIDER / 2;
+      float centerY = tile.y * TILE_SIZE + COLLIDER / 2;
+      boolean covered = false;
+      for (Rectangle rectangle : collision.getRectangles()) {
+        covered |= rectangle.contains(centerX, centerY);
+      }
+      assertTrue(covered, "Tile " + tile + " should be covered");
+    }
+  }
+
+  @Test
+  void shouldKeepCustomCollisionBoxes() {
+    TiledMapTileLayer layer = new TiledMapTileLayer(4, 4, 16, 16);
+    fill(layer, 0, 0, 2, 1);
+    StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion());
+    tile.getObjects().add(new RectangleMapObject(0f, 0f, 16f, 8f));
+    Cell cell = new Cell();
+    cell.setTile(tile);
+    layer.setCell(2, 0, cell);
+
+    TerrainCollision collision = new TerrainCollision(layer, TILE_SIZE);
+
+    assertEquals(2, collision.getRectangles().size);
+    assertEquals(3, collision.getSolidTiles().size);
+    Rectangle custom = collision.getRectangles().first();
+    assertEquals(TILE_SIZE, custom.width, 0.0001f);
+    assertEquals(TILE_SIZE / 2, custom.height, 0.0001f);
+  }
+
+  private static void fill(TiledMapTileLayer layer, int x, int y, int width, int height) {
+    StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion());
+    for (int i = x; i < x + width; i++) {
+      for (int j = y; j < y + height; j++) {
+        Cell cell = new Cell();
+        cell.setTile(tile);
+        layer.setCell(i, j, cell);
+      }
+    }
+  }
+}
@@ -2,6 +2,9 @@ package com.csse3200.game.components;
 
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.Test;
 
 import java.util.Timer;
@@ -21,6 +24,7 @@ class CompanionDeathScreenTest {
     @Test
     void CompanionDeathBackground() {
         GdxGame game = mock(GdxGame.class);
+        ServiceLocator.registerTimerService(new TimerService(mock(GameTime.class)));
         Entity companion = new Entity();
         companion.setEntityType("companion");
         companion.addComponent(new CombatStatsComponent(10, 10, 10, false));
@@ -1,11 +1,17 @@
 package com.csse3200.game.components;
 
+import com.csse3200.game.concurrency.JobSystem;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @ExtendWith(GameExtension.class)
 class ComponentTypeTest {
@@ -32,6 +38,19 @@ class ComponentTypeTest {
     assertNotEquals(type2.getId(), type3.getId());
   }
 
+  @Test
+  void shouldGiveSameTypeAcrossThreads() {
+    List<CompletableFuture<ComponentType>> lookups = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      lookups.add(JobSystem.launch(() -> ComponentType.getFrom(TestComponent3.class)));
+    }
+    ComponentType type = lookups.get(0).join();
+    for (CompletableFuture<ComponentType> lookup : lookups) {
+      assertSame(type, lookup.join());
+    }
+  }
+
   static class TestComponent1 extends Component {}
   static class TestComponent2 extends TestComponent1 {}
+  static class TestComponent3 extends Component {}
 }
\ No newline at end of file
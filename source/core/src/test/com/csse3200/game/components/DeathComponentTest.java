@@ -7,6 +7,9 @@ import com.csse3200.game.events.EventHandler;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +27,7 @@ class DeathComponentTest {
     @BeforeEach
     void setUp() {
         deathComponent = new DeathComponent();
+        ServiceLocator.registerTimerService(new TimerService(mock(GameTime.class)));
 
         mockEntity = mock(Entity.class);
         mockCombatStats = mock(CombatStatsComponent.class);
@@ -0,0 +1,63 @@
+package com.csse3200.game.components;
+
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class ProximityControllerComponentTest {
+    private EntityService entityService;
+    private Entity player;
+    private ProximityControllerComponent controller;
+
+    @BeforeEach
+    void beforeEach() {
+        entityService = new EntityService();
+        ServiceLocator.registerEntityService(entityService);
+        controller = new ProximityControllerComponent();
+        player = new Entity().addComponent(controller);
+        entityService.register(player);
+    }
+
+    @Test
+    void shouldShowLabelWithinDistance() {
+        InteractLabel label = mock(InteractLabel.class);
+        createTarget(3f, 2f, label);
+
+        controller.checkAllEntitiesProximity();
+        verify(label).setVisible(true);
+    }
+
+    @Test
+    void shouldOnlyCheckRegisteredDistances() {
+        InteractLabel farLabel = mock(InteractLabel.class);
+        Entity farTarget = createTarget(5f, 4f, farLabel);
+        InteractLabel nearLabel = mock(InteractLabel.class);
+        createTarget(1f, 2f, nearLabel);
+
+        controller.checkAllEntitiesProximity();
+        verify(farLabel).setVisible(true);
+        verify(nearLabel).setVisible(false);
+
+        // Once the far target is gone, nothing further than 1 unit away needs checking
+        entityService.unregister(farTarget);
+        controller.checkAllEntitiesProximity();
+        clearInvocations(nearLabel);
+        controller.checkAllEntitiesProximity();
+        verify(nearLabel, never()).setVisible(anyBoolean());
+    }
+
+    private Entity createTarget(float distance, float x, InteractLabel label) {
+        Entity target = new Entity().addComponent(new DistanceCheckComponent(distance, label));
+        target.setPosition(x, 0f);
+        entityService.register(target);
+        return target;
+    }
+}
@@ -11,6 +11,8 @@ import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.StructurePlacementService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -34,6 +36,18 @@ class JoinableComponentTest {
     SpriteBatch batch;
     @Mock
     TextureAtlas.AtlasRegion atlasRegion;
+    JoinService joinService;
+
+    @BeforeEach
+    void setUp() {
+        joinService = new JoinService();
+        ServiceLocator.registerJoinService(joinService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServiceLocator.clear();
+    }
 
     @Test
     void placedTest() {
@@ -54,7 +68,7 @@ class JoinableComponentTest {
         when(placementService.getStructurePosition(entity)).thenReturn(new GridPoint2(2,2));
 
         when(entity.getComponent(ColliderComponent.class)).thenReturn(colliderComponent);
-        when(shapes.getShape("up-down")).thenReturn(shape);
+        when(shapes.getShape(JoinDirection.UP.getMask() | JoinDirection.DOWN.getMask())).thenReturn(shape);
         when(textureAtlas.findRegion("up-down")).thenReturn(atlasRegion);
         when(textureAtlas.findRegion("no-connection")).thenReturn(mock(TextureAtlas.AtlasRegion.class));
 
@@ -62,6 +76,7 @@ class JoinableComponentTest {
 
         component.setEntity(entity);
         component.placed();
+        joinService.resolve();
 
         verify(colliderComponent).setShape(shape);
 
@@ -77,7 +92,7 @@ class JoinableComponentTest {
         ChainShape shape = mock(ChainShape.class);
 
         when(entity.getComponent(ColliderComponent.class)).thenReturn(colliderComponent);
-        when(shapes.getShape("up")).thenReturn(shape);
+        when(shapes.getShape(JoinDirection.UP.getMask())).thenReturn(shape);
         when(textureAtlas.findRegion("up")).thenReturn(atlasRegion);
         when(textureAtlas.findRegion("no-connection")).thenReturn(mock(TextureAtlas.AtlasRegion.class));
 
@@ -85,6 +100,7 @@ class JoinableComponentTest {
 
         component.setEntity(entity);
         component.updateJoin(JoinDirection.UP, true);
+        joinService.resolve();
 
         verify(colliderComponent).setShape(shape);
 
@@ -95,6 +111,79 @@ class JoinableComponentTest {
         verify(batch).draw(atlasRegion, 2,2,1,1);
     }
 
+    @Test
+    void updateJoinRebuildsOncePerFrame() {
+        ChainShape shape = mock(ChainShape.class);
+        int upDown = JoinDirection.UP.getMask() | JoinDirection.DOWN.getMask();
+
+        when(entity.getComponent(ColliderComponent.class)).thenReturn(colliderComponent);
+        when(shapes.getShape(upDown)).thenReturn(shape);
+        when(textureAtlas.findRegion("up-down")).thenReturn(atlasRegion);
+        when(textureAtlas.findRegion("no-connection")).thenReturn(mock(TextureAtlas.AtlasRegion.class));
+
+        JoinableComponent component = new JoinableComponent(textureAtlas, JoinLayer.WALLS, shapes);
+        component.setEntity(entity);
+
+        component.updateJoin(JoinDirection.UP, true);
+        component.updateJoin(JoinDirection.LEFT, true);
+        component.updateJoin(JoinDirection.DOWN, true);
+        component.updateJoin(JoinDirection.LEFT, false);
+        verifyNoInteractions(colliderComponent);
+
+        joinService.resolve();
+        assertEquals(upDown, component.getJoinMask());
+        verify(colliderComponent, times(1)).setShape(shape);
+
+        // joins which end up where they started don't rebuild anything
+        component.updateJoin(JoinDirection.UP, false);
+        component.updateJoin(JoinDirection.UP, true);
+        joinService.resolve();
+        verify(colliderComponent, times(1)).setShape(any());
+        verify(textureAtlas, times(1)).findRegion("up-down");
+    }
+
+    @Test
+    void disposeDropsQueuedJoin() {
+        ServiceLocator.registerRenderService(mock(RenderService.class));
+        when(textureAtlas.findRegion("no-connection")).thenReturn(mock(TextureAtlas.AtlasRegion.class));
+
+        JoinableComponent component = new JoinableComponent(textureAtlas, JoinLayer.WALLS, shapes);
+        component.setEntity(entity);
+        component.updateJoin(JoinDirection.UP, true);
+        assertEquals(1, joinService.getDirtyCount());
+
+        component.dispose();
+        assertEquals(0, joinService.getDirtyCount());
+        joinService.resolve();
+        verifyNoInteractions(colliderComponent);
+    }
+
+    @Test
+    void updateJoinWithoutService() {
+        ServiceLocator.registerJoinService(null);
+        ChainShape shape = mock(ChainShape.class);
+
+        when(entity.getComponent(ColliderComponent.class)).thenReturn(colliderComponent);
+        when(shapes.getShape(JoinDirection.UP.getMask())).thenReturn(shape);
+        when(textureAtlas.findRegion("up")).thenReturn(atlasRegion);
+        when(textureAtlas.findRegion("no-connection")).thenReturn(mock(TextureAtlas.AtlasRegion.class));
+
+        JoinableComponent component = new JoinableComponent(textureAtlas, JoinLayer.WALLS, shapes);
+        component.setEntity(entity);
+
+        // Joins are applied straight away when no screen is batching them
+        component.updateJoin(JoinDirection.UP, true);
+        verify(colliderComponent).setShape(shape);
+    }
+
+    @Test
+    void regionNames() {
+        assertEquals("no-connection", JoinableComponent.getRegionName(0));
+        assertEquals("left-up-right-down", JoinableComponent.getRegionName(JoinableComponent.JOIN_MASKS - 1));
+        assertEquals("up-right",
+                JoinableComponent.getRegionName(JoinDirection.RIGHT.getMask() | JoinDirection.UP.getMask()));
+    }
+
     @Test
     void notifyNeighbours() {
         ServiceLocator.registerStructurePlacementService(placementService);
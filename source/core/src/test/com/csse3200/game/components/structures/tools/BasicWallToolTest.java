@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.resources.Resource;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.entities.PlaceableEntity;
@@ -13,6 +14,7 @@ import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.services.GameStateObserver;
+import com.csse3200.game.services.ResourceLedger;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.StructurePlacementService;
@@ -22,7 +24,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
+import static com.csse3200.game.services.ResourceLedgerTestUtils.createLedger;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(GameExtension.class)
@@ -96,10 +100,11 @@ class BasicWallToolTest {
     @Test
     void testInteractWithCostAndSufficientFunds() {
         ObjectMap<String, Integer> cost = new ObjectMap<>();
-        cost.put("resource1", 10);
-        cost.put("resource2", 25);
+        cost.put("Nebulite", 10);
+        cost.put("Durasteel", 25);
 
-        when(stateObserver.getStateData(any())).thenReturn(100);
+        ResourceLedger ledger = createLedger(100);
+        when(stateObserver.getResourceLedger()).thenReturn(ledger);
 
         var tool = new BasicWallTool(cost);
 
@@ -109,8 +114,8 @@ class BasicWallToolTest {
 
         tool.interact(player, position);
 
-        verify(stateObserver).getStateData("resource/resource1");
-        verify(stateObserver).getStateData("resource/resource2");
+        assertEquals(90, ledger.getAmount(Resource.Nebulite));
+        assertEquals(75, ledger.getAmount(Resource.Durasteel));
         verify(structurePlacementService).placeStructureAt(any(), eq(position),
                 eq(false), eq(false));
     }
@@ -118,10 +123,11 @@ class BasicWallToolTest {
     @Test
     void testInteractWithCostAndInsufficientFunds() {
         ObjectMap<String, Integer> cost = new ObjectMap<>();
-        cost.put("resource1", 10);
-        cost.put("resource2", 25);
+        cost.put("Nebulite", 10);
+        cost.put("Durasteel", 25);
 
-        when(stateObserver.getStateData(any())).thenReturn(15);
+        ResourceLedger ledger = createLedger(15);
+        when(stateObserver.getResourceLedger()).thenReturn(ledger);
 
         var tool = new BasicWallTool(cost);
 
@@ -133,9 +139,8 @@ class BasicWallToolTest {
 
         tool.interact(player, position);
 
-        // don't care which order they get checked in. Don't care if loops breaks early.
-        verify(stateObserver, atMost(1)).getStateData("resource/resource1");
-        verify(stateObserver, atMost(1)).getStateData("resource/resource2");
+        assertEquals(15, ledger.getAmount(Resource.Nebulite));
+        assertEquals(15, ledger.getAmount(Resource.Durasteel));
         verify(structurePlacementService, never()).placeStructureAt(any(), eq(position),
                 eq(false), eq(false));
     }
@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.resources.Resource;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.entities.PlaceableEntity;
@@ -13,6 +14,7 @@ import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.services.GameStateObserver;
+import com.csse3200.game.services.ResourceLedger;
 import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.StructurePlacementService;
@@ -22,7 +24,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
+import static com.csse3200.game.services.ResourceLedgerTestUtils.createLedger;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(GameExtension.class)
@@ -117,10 +121,11 @@ class IntermediateWallToolTest {
     @Test
     void testInteractExistingWallSufficientFunds() {
         ObjectMap<String, Integer> cost = new ObjectMap<>();
-        cost.put("resource1", 10);
-        cost.put("resource2", 25);
+        cost.put("Nebulite", 10);
+        cost.put("Durasteel", 25);
 
-        when(stateObserver.getStateData(any())).thenReturn(100);
+        ResourceLedger ledger = createLedger(100);
+        when(stateObserver.getResourceLedger()).thenReturn(ledger);
 
         var tool = new IntermediateWallTool(cost);
 
@@ -133,8 +138,8 @@ class IntermediateWallToolTest {
 
         tool.interact(player, position);
 
-        verify(stateObserver).getStateData("resource/resource1");
-        verify(stateObserver).getStateData("resource/resource2");
+        assertEquals(90, ledger.getAmount(Resource.Nebulite));
+        assertEquals(75, ledger.getAmount(Resource.Durasteel));
         verify(structurePlacementService, atLeastOnce()).getStructureAt(position);
         verify(structurePlacementService).replaceStructureAt(any(), eq(position),
                 eq(false), eq(false));
@@ -143,10 +148,11 @@ class IntermediateWallToolTest {
     @Test
     void testInteractExistingWallInsufficientFunds() {
         ObjectMap<String, Integer> cost = new ObjectMap<>();
-        cost.put("resource1", 10);
-        cost.put("resource2", 25);
+        cost.put("Nebulite", 10);
+        cost.put("Durasteel", 25);
 
-        when(stateObserver.getStateData(any())).thenReturn(15);
+        ResourceLedger ledger = createLedger(15);
+        when(stateObserver.getResourceLedger()).thenReturn(ledger);
 
         when(player.getEvents()).thenReturn(mock(EventHandler.class));
 
@@ -159,8 +165,8 @@ class IntermediateWallToolTest {
 
         tool.interact(player, position);
 
-        verify(stateObserver).getStateData("resource/resource1");
-        verify(stateObserver).getStateData("resource/resource2");
+        assertEquals(15, ledger.getAmount(Resource.Nebulite));
+        assertEquals(15, ledger.getAmount(Resource.Durasteel));
         verify(structurePlacementService, atLeastOnce()).getStructureAt(position);
         verify(structurePlacementService, never()).replaceStructureAt(any(), eq(position),
                 eq(false), eq(false));
@@ -169,10 +175,11 @@ class IntermediateWallToolTest {
     @Test
     void testInteractWithCostAndSufficientFunds() {
         ObjectMap<String, Integer> cost = new ObjectMap<>();
-        cost.put("resource1", 10);
-        cost.put("resource2", 25);
+        cost.put("Nebulite", 10);
+        cost.put("Durasteel", 25);
 
-        when(stateObserver.getStateData(any())).thenReturn(100);
+        ResourceLedger ledger = createLedger(100);
+        when(stateObserver.getResourceLedger()).thenReturn(ledger);
 
         var tool = new IntermediateWallTool(cost);
 
@@ -182,8 +189,8 @@ class IntermediateWallToolTest {
 
         tool.interact(player, position);
 
-        verify(stateObserver).getStateData("resource/resource1");
-        verify(stateObserver).getStateData("resource/resource2");
+        assertEquals(90, ledger.getAmount(Resource.Nebulite));
+        assertEquals(75, ledger.getAmount(Resource.Durasteel));
         verify(structurePlacementService).placeStructureAt(any(), eq(position),
                 eq(false), eq(false));
     }
@@ -191,10 +198,11 @@ class IntermediateWallToolTest {
     @Test
     void testInteractWithCostAndInsufficientFunds() {
         ObjectMap<String, Integer> cost = new ObjectMap<>();
-        cost.put("resource1", 10);
-        cost.put("resource2", 25);
+        cost.put("Nebulite", 10);
+        cost.put("Durasteel", 25);
 
-        when(stateObserver.getStateData(any())).thenReturn(15);
+        ResourceLedger ledger = createLedger(15);
+        when(stateObserver.getResourceLedger()).thenReturn(ledger);
 
         when(player.getEvents()).thenReturn(mock(EventHandler.class));
 
@@ -206,9 +214,8 @@ class IntermediateWallToolTest {
 
         tool.interact(player, position);
 
-        // don't care which order they get checked in. Don't care if loops breaks early.
-        verify(stateObserver, atMost(1)).getStateData("resource/resource1");
-        verify(stateObserver, atMost(1)).getStateData("resource/resource2");
+        assertEquals(15, ledger.getAmount(Resource.Nebulite));
+        assertEquals(15, ledger.getAmount(Resource.Durasteel));
         verify(structurePlacementService, never()).placeStructureAt(any(), eq(position),
                 eq(false), eq(false));
     }
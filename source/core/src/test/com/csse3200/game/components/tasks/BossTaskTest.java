@@ -13,6 +13,7 @@ import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.services.StructurePlacementService;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +31,7 @@ class BossTaskTest {
     ServiceLocator.registerPhysicsService(new PhysicsService());
     GameTime gameTime = mock(GameTime.class);
     ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerTimerService(new TimerService(gameTime));
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerStructurePlacementService(new StructurePlacementService(new EventHandler()));
   }
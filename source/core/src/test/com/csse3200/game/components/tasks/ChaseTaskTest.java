@@ -1,5 +1,6 @@
 package com.csse3200.game.components.tasks;
 
+import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.events.listeners.EventListener0;
@@ -10,6 +11,7 @@ import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.PathfindingService;
 import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -146,6 +148,30 @@ class ChaseTaskTest {
     chaseTask.start();
     verify(callback).handle();}
 
+  @Test
+  void shouldFollowPathAroundBlockedTiles() {
+    PathfindingService pathfindingService = new PathfindingService(10, 10);
+    pathfindingService.setBlocked(1, 0, 1, 4, true);
+    ServiceLocator.registerPathfindingService(pathfindingService);
+
+    Entity target = new Entity();
+    target.setPosition(3f, 0f);
+    Entity entity = makePhysicsEntity();
+    entity.create();
+    entity.setPosition(0f, 0f);
+    ChaseTask chaseTask = new ChaseTask(target, 10, 5, 10);
+    chaseTask.create(() -> entity);
+
+    chaseTask.start();
+    // Heads up around the wall rather than straight into it
+    assertEquals(new Vector2(0f, 1f), entity.getComponent(PhysicsMovementComponent.class).getTarget());
+
+    // Heads straight for the target once it is on the next tile
+    target.setPosition(0.5f, 1.5f);
+    chaseTask.update();
+    assertEquals(target.getPosition(), entity.getComponent(PhysicsMovementComponent.class).getTarget());
+  }
+
   private Entity makePhysicsEntity() {
     return new Entity()
         .addComponent(new PhysicsComponent())
@@ -10,6 +10,7 @@ import com.csse3200.game.rendering.DebugRenderer;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +31,7 @@ class RunTaskTest {
     GameTime gameTime = mock(GameTime.class);
     when(gameTime.getDeltaTime()).thenReturn(20f / 1000);
     ServiceLocator.registerTimeSource(gameTime);
+    ServiceLocator.registerTimerService(new TimerService(gameTime));
     ServiceLocator.registerPhysicsService(new PhysicsService());
   }
 
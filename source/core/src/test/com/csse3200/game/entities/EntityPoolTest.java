@@ -0,0 +1,131 @@
+package com.csse3200.game.entities;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class EntityPoolTest {
+  private EntityService entityService;
+  private EntityPool<Entity> pool;
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    pool = entityService.createPool("test", () -> new Entity().addComponent(new CountingComponent()), 2);
+  }
+
+  @Test
+  void shouldReuseDisposedEntities() {
+    Entity entity = pool.obtain();
+    entityService.register(entity);
+    entity.dispose();
+
+    assertTrue(entity.isParked());
+    assertEquals(0, entityService.getEntitiesByComponent(CountingComponent.class).size());
+    assertSame(entity, pool.obtain());
+    assertEquals(1, pool.getHits());
+    assertEquals(1, pool.getMisses());
+  }
+
+  @Test
+  void shouldResetAndReactivateComponents() {
+    Entity entity = pool.obtain();
+    CountingComponent component = entity.getComponent(CountingComponent.class);
+    entityService.register(entity);
+    entity.dispose();
+
+    assertEquals(1, component.resets);
+    assertEquals(0, component.disposes);
+
+    entityService.register(pool.obtain());
+    assertFalse(entity.isParked());
+    assertEquals(1, component.creates);
+    assertEquals(1, component.reactivates);
+    assertEquals(1, entityService.getEntitiesByComponent(CountingComponent.class).size());
+  }
+
+  @Test
+  void shouldIgnoreDoubleDispose() {
+    Entity entity = pool.obtain();
+    entityService.register(entity);
+    entity.dispose();
+    entity.dispose();
+
+    assertEquals(1, pool.getIdleCount());
+    assertEquals(1, entity.getComponent(CountingComponent.class).resets);
+  }
+
+  @Test
+  void shouldTrackHighWater() {
+    Entity first = pool.obtain();
+    Entity second = pool.obtain();
+    entityService.register(first);
+    entityService.register(second);
+    assertEquals(2, pool.getInUse());
+
+    first.dispose();
+    entityService.register(pool.obtain());
+    assertEquals(2, pool.getInUse());
+    assertEquals(2, pool.getHighWater());
+  }
+
+  @Test
+  void shouldDisposeWhenFull() {
+    Entity[] entities = {pool.obtain(), pool.obtain(), pool.obtain()};
+    for (Entity entity : entities) {
+      entityService.register(entity);
+    }
+    for (Entity entity : entities) {
+      entity.dispose();
+    }
+
+    assertEquals(2, pool.getIdleCount());
+    assertEquals(1, entities[2].getComponent(CountingComponent.class).disposes);
+    assertFalse(entities[2].isParked());
+  }
+
+  @Test
+  void shouldDisposeIdleEntitiesWithService() {
+    Entity entity = pool.obtain();
+    entityService.register(entity);
+    entity.dispose();
+    entityService.dispose();
+
+    assertEquals(1, entity.getComponent(CountingComponent.class).disposes);
+    assertEquals(0, pool.getIdleCount());
+  }
+
+  private static class CountingComponent extends Component {
+    int creates = 0;
+    int resets = 0;
+    int reactivates = 0;
+    int disposes = 0;
+
+    @Override
+    public void create() {
+      creates++;
+    }
+
+    @Override
+    public void reset() {
+      resets++;
+    }
+
+    @Override
+    public void reactivate() {
+      reactivates++;
+    }
+
+    @Override
+    public void dispose() {
+      disposes++;
+    }
+  }
+}
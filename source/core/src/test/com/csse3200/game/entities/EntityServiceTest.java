@@ -7,6 +7,7 @@ import com.csse3200.game.components.player.KeyboardPlayerInputComponent;
 import com.csse3200.game.components.player.PlayerActions;
 import com.csse3200.game.components.player.PlayerStatsDisplay;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -108,4 +109,124 @@ class EntityServiceTest {
 
   }
 
-}
\ No newline at end of file
+  @Test
+  void shouldKeepComponentListsLive() {
+    List<Entity> withCombatStats = entityService.getEntitiesByComponent(CombatStatsComponent.class);
+    Entity entity = new Entity().addComponent(new CombatStatsComponent(10, 1, 1, false));
+
+    entityService.register(entity);
+    Assertions.assertEquals(1, withCombatStats.size());
+    Assertions.assertSame(entity, withCombatStats.get(0));
+    Assertions.assertSame(withCombatStats, entityService.getEntitiesByComponent(CombatStatsComponent.class));
+
+    entityService.unregister(entity);
+    Assertions.assertTrue(withCombatStats.isEmpty());
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> withCombatStats.add(entity));
+  }
+
+  @Test
+  void shouldGetEntitiesByMultipleComponents() {
+    Entity both = new Entity()
+        .addComponent(new CombatStatsComponent(10, 1, 1, false))
+        .addComponent(new TouchAttackComponent((short) 0));
+    Entity combatOnly = new Entity().addComponent(new CombatStatsComponent(10, 1, 1, false));
+    entityService.register(both);
+
+    List<Entity> archetype =
+        entityService.getEntitiesByComponents(CombatStatsComponent.class, TouchAttackComponent.class);
+    entityService.register(combatOnly);
+
+    Assertions.assertEquals(List.of(both), archetype);
+    Assertions.assertSame(archetype,
+        entityService.getEntitiesByComponents(TouchAttackComponent.class, CombatStatsComponent.class));
+
+    entityService.unregister(both);
+    Assertions.assertTrue(archetype.isEmpty());
+  }
+
+  @Test
+  void shouldDestroyAtEndOfUpdate() {
+    ServiceLocator.registerEntityService(entityService);
+    Entity entity = spy(Entity.class);
+    entityService.register(entity);
+
+    entityService.destroy(entity);
+    entityService.destroy(entity);
+    verify(entity, never()).dispose();
+
+    entityService.update();
+    verify(entity, never()).update();
+    verify(entity, times(1)).dispose();
+    Assertions.assertEquals(1, entityService.getDestroyedLastFrame());
+
+    entityService.update();
+    Assertions.assertEquals(0, entityService.getDestroyedLastFrame());
+    Assertions.assertEquals(1, entityService.getDestroyedTotal());
+  }
+
+  @Test
+  void shouldKeepOtherEntitiesWhenUnregistering() {
+    List<Entity> withCombatStats = entityService.getEntitiesByComponent(CombatStatsComponent.class);
+    Entity[] entities = new Entity[4];
+    for (int i = 0; i < entities.length; i++) {
+      entities[i] = new Entity().addComponent(new CombatStatsComponent(10, 1, 1, false));
+      entityService.register(entities[i]);
+    }
+
+    entityService.unregister(entities[1]);
+    entityService.unregister(entities[1]);
+    entityService.unregister(entities[0]);
+
+    Assertions.assertEquals(2, withCombatStats.size());
+    Assertions.assertTrue(withCombatStats.contains(entities[2]));
+    Assertions.assertTrue(withCombatStats.contains(entities[3]));
+
+    entityService.unregister(entities[3]);
+    Assertions.assertEquals(List.of(entities[2]), withCombatStats);
+  }
+
+  @Test
+  void shouldThinkBeforeUpdating() {
+    for (EntityService.ThinkMode mode : EntityService.ThinkMode.values()) {
+      EntityService service = new EntityService();
+      ServiceLocator.registerEntityService(service);
+      service.setThinkMode(mode);
+
+      ThinkingComponent[] thinkers = new ThinkingComponent[EntityService.PARALLEL_THINK_THRESHOLD * 2 + 1];
+      for (int i = 0; i < thinkers.length; i++) {
+        thinkers[i] = new ThinkingComponent();
+        service.register(new Entity().addComponent(thinkers[i]));
+      }
+      thinkers[0].setEnabled(false);
+
+      service.update();
+      service.update();
+
+      Assertions.assertEquals(0, thinkers[0].thinks);
+      for (int i = 1; i < thinkers.length; i++) {
+        Assertions.assertEquals(2, thinkers[i].thinks, mode.toString());
+        Assertions.assertEquals(2, thinkers[i].thoughtUpdates, mode.toString());
+      }
+    }
+  }
+
+  private static class ThinkingComponent extends Component implements Thinker {
+    private volatile boolean thought = false;
+    int thinks = 0;
+    int thoughtUpdates = 0;
+
+    @Override
+    public void think() {
+      thinks++;
+      thought = true;
+    }
+
+    @Override
+    public void update() {
+      if (thought) {
+        thoughtUpdates++;
+      }
+      thought = false;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.structures.TurretTargetableComponent;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class SpatialIndexTest {
+  private EntityService entityService;
+  private SpatialIndex spatialIndex;
+  private final Array<Entity> results = new Array<>();
+
+  @BeforeEach
+  void beforeEach() {
+    entityService = new EntityService();
+    spatialIndex = entityService.getSpatialIndex();
+  }
+
+  @Test
+  void shouldTrackRegisteredEntities() {
+    Entity entity = createEntity(1f, 1f);
+    assertTrue(spatialIndex.contains(entity));
+    assertEquals(1, spatialIndex.size());
+
+    entityService.unregister(entity);
+    assertFalse(spatialIndex.contains(entity));
+    assertEquals(0, spatialIndex.size());
+  }
+
+  @Test
+  void shouldQueryRadius() {
+    Entity near = createEntity(1f, 1f);
+    Entity edge = createEntity(4f, 0f);
+    Entity far = createEntity(10f, 10f);
+
+    spatialIndex.queryRadius(new Vector2(0.5f, 0.5f), 4f, null, results);
+
+    assertTrue(results.contains(near, true));
+    assertTrue(results.contains(edge, true));
+    assertFalse(results.contains(far, true));
+  }
+
+  @Test
+  void shouldQueryAABB() {
+    Entity inside = createEntity(2f, 2f);
+    Entity outside = createEntity(-5f, 2f);
+
+    spatialIndex.queryAABB(0f, 0f, 5f, 5f, null, results);
+
+    assertTrue(results.contains(inside, true));
+    assertFalse(results.contains(outside, true));
+  }
+
+  @Test
+  void shouldFilterByComponent() {
+    Entity targetable = new Entity().addComponent(new TurretTargetableComponent());
+    targetable.setPosition(1f, 1f);
+    entityService.register(targetable);
+    createEntity(1f, 1f);
+
+    spatialIndex.queryRadius(new Vector2(1f, 1f), 2f, TurretTargetableComponent.class, results);
+
+    assertEquals(1, results.size);
+    assertSame(targetable, results.first());
+  }
+
+  @Test
+  void shouldFollowMovingEntities() {
+    Entity entity = createEntity(0f, 0f);
+
+    entity.setPosition(20f, 20f);
+    spatialIndex.queryRadius(new Vector2(0f, 0f), 3f, null, results);
+    assertEquals(0, results.size);
+
+    spatialIndex.queryRadius(new Vector2(20f, 20f), 3f, null, results);
+    assertEquals(1, results.size);
+
+    entity.setPosition(new Vector2(-20f, -20f), false);
+    spatialIndex.queryRadius(new Vector2(-20f, -20f), 3f, null, results);
+    assertEquals(1, results.size);
+  }
+
+  @Test
+  void shouldQueryLargeAreas() {
+    for (int i = 0; i < 10; i++) {
+      createEntity(i * 100f, i * 100f);
+    }
+
+    spatialIndex.queryAABB(-1000f, -1000f, 10000f, 10000f, null, results);
+    assertEquals(10, results.size);
+  }
+
+  private Entity createEntity(float x, float y) {
+    Entity entity = new Entity();
+    entity.setPosition(x, y);
+    entityService.register(entity);
+    return entity;
+  }
+}
@@ -1,63 +1,39 @@
 package com.csse3200.game.entities.factories;
 
-import com.badlogic.gdx.maps.MapObjects;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
-import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.terrain.TerrainCollision;
 import com.csse3200.game.entities.Entity;
-import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
-import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.physics.components.CompoundColliderComponent;
+import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.services.ServiceLocator;
-import com.csse3200.game.services.StructurePlacementService;
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-public class EnvironmentFactoryTest {
+@ExtendWith(GameExtension.class)
+class EnvironmentFactoryTest {
 
-    public void testCreateEnvironmentWithObstacle() {
-        // Create a mock entity to return when createEnvironment is called with an obstacle
-
-        TiledMapTileLayer layer = mock(TiledMapTileLayer.class);
-        StructurePlacementService placementService = mock(StructurePlacementService.class);
-        Cell cell = mock(Cell.class);
-        TiledMapTile tile = mock(TiledMapTile.class);
-        RectangleMapObject rectangleMapObject = mock(RectangleMapObject.class);
-        Rectangle rectangle = mock(Rectangle.class);
-        MapObjects mapObjects = mock(MapObjects.class);
-        mapObjects.add(rectangleMapObject);
-        ServiceLocator.registerEntityService(new EntityService());
+    @Test
+    void testCreateEnvironmentFromCollision() {
         ServiceLocator.registerPhysicsService(new PhysicsService());
-        ServiceLocator.registerStructurePlacementService(placementService);
-        ResourceService resourceService = new ResourceService();
-        ServiceLocator.registerResourceService(resourceService);
-        resourceService.loadAll();
-
-
-        // Configure the mocks
-        when(layer.getHeight()).thenReturn(1);
-        when(layer.getWidth()).thenReturn(1);
-        when(layer.getCell(0, 0)).thenReturn(cell);
-        when(cell.getTile()).thenReturn(tile);
-        when(tile.getObjects()).thenReturn(mapObjects);
-        when(mapObjects.get(0)).thenReturn(rectangleMapObject);
-        when(rectangleMapObject.getRectangle()).thenReturn(rectangle);
-        rectangle.x = 1f;
-        rectangle.y = 1f;
-        rectangle.width = 1f;
-        rectangle.height = 1f;
-        GridPoint2 gridPoint2 = new GridPoint2();
-        Entity entity = new Entity();
-
-        // Call the method under test
-        EnvironmentFactory.createEnvironment(layer);
-
-        // Verify that PlaceStructureAt is called the correct amount of times
-        //verify(placementService, times(1)).PlaceStructureAt(
-                //any(), any(), anyBoolean(), anyBoolean());
+        TerrainCollision collision = mock(TerrainCollision.class);
+        Array<Rectangle> rectangles = new Array<>();
+        rectangles.add(new Rectangle(0f, 0f, 1f, 1f));
+        rectangles.add(new Rectangle(2f, 0f, 1f, 3f));
+        when(collision.getRectangles()).thenReturn(rectangles);
+
+        Entity environment = EnvironmentFactory.createEnvironment(collision);
+
+        // One static entity holds the collider for every merged rectangle
+        assertNotNull(environment.getComponent(CompoundColliderComponent.class));
+        assertEquals(BodyType.StaticBody,
+                environment.getComponent(PhysicsComponent.class).getBody().getType());
+        verify(collision).getRectangles();
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -92,4 +95,52 @@ class EventHandlerTest {
       handler.trigger("stringEvent", true);
     });
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldInternEventKeys() {
+    EventKey<EventListener0> key = EventKey.of("event");
+    assertSame(key, EventKey.of("event"));
+    assertEquals("event", key.getName());
+    assertNotEquals(key.getId(), EventKey.of("event2").getId());
+  }
+
+  @Test
+  void shouldTriggerTypedEvent() {
+    EventKey<EventListener1<String>> key = EventKey.of("typedEvent");
+    EventListener1<String> listener = (EventListener1<String>)mock(EventListener1.class);
+    handler.addListener(key, listener);
+    handler.trigger(key, "argument");
+    verify(listener).handle("argument");
+  }
+
+  @Test
+  void shouldMixTypedAndStringEvents() {
+    EventKey<EventListener2<Integer, Boolean>> key = EventKey.of("mixedEvent");
+    EventListener2<Integer, Boolean> typedListener =
+        (EventListener2<Integer, Boolean>)mock(EventListener2.class);
+    EventListener2<Integer, Boolean> stringListener =
+        (EventListener2<Integer, Boolean>)mock(EventListener2.class);
+    handler.addListener(key, typedListener);
+    handler.addListener("mixedEvent", stringListener);
+
+    handler.trigger("mixedEvent", 5, true);
+    handler.trigger(key, 6, false);
+
+    verify(typedListener).handle(5, true);
+    verify(typedListener).handle(6, false);
+    verify(stringListener).handle(5, true);
+    verify(stringListener).handle(6, false);
+  }
+
+  @Test
+  void shouldNotCallListenersAddedDuringTrigger() {
+    EventListener0 lateListener = mock(EventListener0.class);
+    handler.addListener("event", () -> handler.addListener("event", lateListener));
+
+    handler.trigger("event");
+    verify(lateListener, times(0)).handle();
+
+    handler.trigger("event");
+    verify(lateListener).handle();
+  }
+}
@@ -0,0 +1,157 @@
+package com.csse3200.game.files;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.areas.mapConfig.AreaEntityConfig;
+import com.csse3200.game.components.SaveableComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.configs.HealthEntityConfig;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class AreaSnapshotTest {
+  @TempDir
+  File tempDir;
+
+  @Test
+  void shouldRoundTripSavedEntities() throws IOException {
+    HealthEntityConfig first = createConfig(10, new GridPoint2(3, 4));
+    HealthEntityConfig second = createConfig(20, new GridPoint2(5, 6));
+    second.requiredTextures = List.of("images/one.png", "images/two.png");
+    second.scale = new Vector2(2f, 0.5f);
+
+    AreaSnapshot snapshot = AreaSnapshot.capture(List.of(createEntity(first), createEntity(second)));
+    assertEquals(2, snapshot.getRecordCount());
+
+    FileHandle file = Gdx.files.absolute(new File(tempDir, "save.sav").getAbsolutePath());
+    snapshot.writeAsync(file).join();
+
+    AreaEntityConfig saved = AreaSnapshot.read(file);
+    List<HealthEntityConfig> configs = saved.getEntities(HealthEntityConfig.class);
+    assertEquals(List.of(first, second), configs);
+    assertEquals(new GridPoint2(5, 6), configs.get(1).position);
+    assertEquals(new Vector2(2f, 0.5f), configs.get(1).scale);
+    assertEquals(List.of("images/one.png", "images/two.png"), configs.get(1).requiredTextures);
+  }
+
+  @Test
+  void shouldFailFutureWhenWriteFails() throws IOException {
+    AreaSnapshot snapshot =
+        AreaSnapshot.capture(List.of(createEntity(createConfig(10, new GridPoint2(1, 1)))));
+
+    // A plain file where the save directory should be can't be written through
+    File blocker = new File(tempDir, "blocker");
+    assertTrue(blocker.createNewFile());
+    FileHandle unwritable = Gdx.files.absolute(new File(blocker, "save.sav").getAbsolutePath());
+    CompletionException exception =
+        assertThrows(CompletionException.class, () -> snapshot.writeAsync(unwritable).join());
+    assertInstanceOf(UncheckedIOException.class, exception.getCause());
+
+    // Later saves still go through
+    FileHandle file = Gdx.files.absolute(new File(tempDir, "save.sav").getAbsolutePath());
+    snapshot.writeAsync(file).join();
+    assertEquals(1, AreaSnapshot.read(file).getEntities(HealthEntityConfig.class).size());
+    assertDoesNotThrow(AreaSnapshot::flush);
+  }
+
+  @Test
+  void shouldRejectOtherFiles() {
+    FileHandle file = Gdx.files.absolute(new File(tempDir, "save.sav").getAbsolutePath());
+    file.writeString("{ not: a snapshot }", false);
+    assertThrows(IOException.class, () -> AreaSnapshot.read(file));
+  }
+
+  @Test
+  void shouldOnlyCreateConfigClasses() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream body = new DataOutputStream(bytes);
+    body.writeInt(2);
+    // A class which isn't a config is skipped without being initialised
+    writeRecordStart(body, NotAConfig.class.getName(), 0);
+    // Values are read as the type of the field, not the class saved with them
+    writeRecordStart(body, HealthEntityConfig.class.getName(), 2);
+    writeString(body, "health");
+    body.writeByte(AreaSnapshot.TAG_INT);
+    body.writeInt(7);
+    writeString(body, "requiredTextures");
+    body.writeByte(AreaSnapshot.TAG_JSON);
+    writeString(body, NotAConfig.class.getName());
+    writeString(body, "[\"images/one.png\"]");
+
+    FileHandle file = Gdx.files.absolute(new File(tempDir, "save.sav").getAbsolutePath());
+    writeSnapshot(file, bytes.toByteArray());
+
+    List<HealthEntityConfig> configs = AreaSnapshot.read(file).getEntities(HealthEntityConfig.class);
+    assertEquals(1, configs.size());
+    assertEquals(7, configs.get(0).health);
+    assertEquals(List.of("images/one.png"), configs.get(0).requiredTextures);
+    assertFalse(notAConfigInitialised);
+  }
+
+  private static void writeRecordStart(DataOutputStream body, String className, int fieldCount)
+      throws IOException {
+    body.writeInt(0);
+    writeString(body, "key");
+    writeString(body, className);
+    body.writeInt(fieldCount);
+  }
+
+  private static void writeString(DataOutputStream body, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    body.writeInt(-2);
+    body.writeInt(bytes.length);
+    body.write(bytes);
+  }
+
+  private static void writeSnapshot(FileHandle file, byte[] body) throws IOException {
+    CRC32 crc = new CRC32();
+    crc.update(body);
+    try (DataOutputStream out = new DataOutputStream(file.write(false))) {
+      out.writeInt(AreaSnapshot.MAGIC);
+      out.writeShort(AreaSnapshot.VERSION);
+      out.writeInt(body.length);
+      out.writeInt((int) crc.getValue());
+      DeflaterOutputStream deflated = new DeflaterOutputStream(out);
+      deflated.write(body);
+      deflated.finish();
+    }
+  }
+
+  private static HealthEntityConfig createConfig(int health, GridPoint2 position) {
+    HealthEntityConfig config = new HealthEntityConfig();
+    config.health = health;
+    config.maxHealth = health * 2;
+    config.position = position;
+    return config;
+  }
+
+  private static Entity createEntity(HealthEntityConfig config) {
+    return new Entity().addComponent(new SaveableComponent<>(e -> config, HealthEntityConfig.class));
+  }
+
+  private static boolean notAConfigInitialised = false;
+
+  static class NotAConfig {
+    static {
+      notAConfigInitialised = true;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.csse3200.game.files;
+
+import com.csse3200.game.entities.configs.PlayerConfig;
+import com.csse3200.game.entities.configs.SoundsConfig;
+import com.csse3200.game.entities.configs.WeaponConfigs;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class ConfigRegistryTest {
+  @Test
+  void shouldParseConfigsOnce() {
+    WeaponConfigs configs = ConfigRegistry.get(WeaponConfigs.class, "configs/weapons.json");
+    assertNotNull(configs);
+    assertSame(configs, ConfigRegistry.get(WeaponConfigs.class, "configs/weapons.json"));
+  }
+
+  @Test
+  void shouldMatchFileLoader() {
+    ConfigRegistry.preload();
+    PlayerConfig config = ConfigRegistry.get(PlayerConfig.class, "configs/player.json");
+    assertEquals(FileLoader.readClass(PlayerConfig.class, "configs/player.json"), config);
+    assertSame(ConfigRegistry.get(SoundsConfig.class, "configs/player_sounds.json"), config.sounds);
+  }
+
+  @Test
+  void shouldReturnNullForMissingConfigs() {
+    assertNull(ConfigRegistry.get(WeaponConfigs.class, "configs/missing.json"));
+  }
+}
@@ -6,13 +6,36 @@ import com.badlogic.gdx.Graphics.DisplayMode;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.files.UserSettings.DisplaySettings;
 import com.csse3200.game.files.UserSettings.Settings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
 class UserSettingsTest {
+  @TempDir
+  File tempDir;
+  private File settingsFile;
+
+  @BeforeEach
+  void beforeEach() {
+    // Keep the player's own settings file and the shared cache out of the tests
+    settingsFile = new File(tempDir, "settings.json");
+    UserSettings.setFile(settingsFile);
+  }
+
+  @AfterEach
+  void afterEach() {
+    UserSettings.setFile(null);
+  }
+
   @Test
   void shouldApplySettings() {
     Gdx.graphics = mock(Graphics.class);
@@ -53,6 +76,30 @@ class UserSettingsTest {
     verify(Gdx.graphics).setFullscreenMode(correctMode);
   }
 
+  @Test
+  void shouldCacheSettingsAndNotifyListeners() {
+    @SuppressWarnings("unchecked")
+    Consumer<Settings> listener = mock(Consumer.class);
+    UserSettings.addListener(listener);
+
+    Settings settings = UserSettings.get();
+    settings.soundVolume = 0.25f;
+    UserSettings.set(settings, false);
+    settings.soundVolume = 1f;
+
+    Settings current = UserSettings.current();
+    assertEquals(0.25f, current.soundVolume);
+    assertSame(current, UserSettings.current());
+    assertNotSame(current, UserSettings.get());
+    verify(listener).accept(current);
+
+    UserSettings.removeListener(listener);
+    UserSettings.set(settings, false);
+    verifyNoMoreInteractions(listener);
+    UserSettings.flush();
+    assertTrue(settingsFile.exists());
+  }
+
   /**
    * This exists to make the constructor public
    */
@@ -9,6 +9,7 @@ import com.csse3200.game.services.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -61,4 +62,34 @@ class PhysicsComponentTest {
     entity.setPosition(newPos);
     verify(body).setTransform(eq(newPos), anyFloat());
   }
+
+  @Test
+  void shouldInterpolateBetweenSteps() {
+    Entity entity = new Entity();
+    PhysicsComponent component = new PhysicsComponent();
+    entity.addComponent(component);
+    entity.create();
+
+    ArgumentCaptor<BodyUserData> userData = ArgumentCaptor.forClass(BodyUserData.class);
+    verify(body).setUserData(userData.capture());
+    userData.getValue().previousPosition.set(0f, 0f);
+    userData.getValue().previousStep = 4;
+
+    Vector2 bodyPos = new Vector2(2f, 0f);
+    when(body.getPosition()).thenReturn(bodyPos);
+    when(engine.isInterpolating()).thenReturn(true);
+    when(engine.getStepCount()).thenReturn(5L);
+    when(engine.getAlpha()).thenReturn(0.5f);
+    entity.earlyUpdate();
+    // Game logic sees the body's position, and only drawing is interpolated
+    assertEquals(new Vector2(2f, 0f), entity.getPosition());
+    assertEquals(new Vector2(1f, 0f), entity.getRenderPosition());
+
+    // Moving the entity directly snaps to the body instead of sliding
+    entity.setPosition(3f, 0f);
+    assertEquals(new Vector2(3f, 0f), entity.getRenderPosition());
+    bodyPos.set(3f, 0f);
+    entity.earlyUpdate();
+    assertEquals(bodyPos, entity.getRenderPosition());
+  }
 }
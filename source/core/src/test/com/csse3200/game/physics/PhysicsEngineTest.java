@@ -5,9 +5,12 @@ import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.services.GameTime;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -15,6 +18,7 @@ import static org.mockito.Mockito.*;
 class PhysicsEngineTest {
   @Mock GameTime gameTime;
   @Mock World world;
+  @Mock Body body;
 
   @Test
   void shouldNotStepWithoutEnoughTime() {
@@ -42,15 +46,65 @@ class PhysicsEngineTest {
     verify(world, times(3)).step(anyFloat(), anyInt(), anyInt());
   }
 
+  @Test
+  void shouldStepAtConfiguredRate() {
+    when(gameTime.getDeltaTime()).thenReturn(0.04f);
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.setStepRate(30);
+
+    engine.update();
+    verify(world, times(1)).step(eq(1f / 30), anyInt(), anyInt());
+    assertEquals(1, engine.getStepsLastUpdate());
+    assertEquals(0.2f, engine.getAlpha(), 0.001f);
+  }
+
+  @Test
+  void shouldDropTimeBeyondMaxSteps() {
+    when(gameTime.getDeltaTime()).thenReturn(0.11f);
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.setMaxSteps(2);
+
+    engine.update();
+    verify(world, times(2)).step(anyFloat(), anyInt(), anyInt());
+    assertEquals(2, engine.getStepsLastUpdate());
+    assertEquals(2, engine.getStepCount());
+    assertEquals(4f / 60, engine.getDroppedTimeLastUpdate(), 0.001f);
+
+    // Caught up again, since the extra time was dropped rather than carried over
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    engine.update();
+    assertEquals(1, engine.getStepsLastUpdate());
+    assertEquals(0f, engine.getDroppedTimeLastUpdate());
+    assertEquals(4f / 60, engine.getDroppedTimeTotal(), 0.001f);
+  }
+
   @Test
   void shouldCreateBody() {
     PhysicsEngine engine = new PhysicsEngine(world, gameTime);
     BodyDef bodyDef = new BodyDef();
-    Body body = engine.createBody(bodyDef);
+    when(world.createBody(bodyDef)).thenReturn(body);
+    assertSame(body, engine.createBody(bodyDef));
     verify(world).createBody(bodyDef);
 
     engine.destroyBody(body);
+    verify(body).setActive(false);
+    verify(world, never()).destroyBody(body);
+
+    engine.update();
     verify(world).destroyBody(body);
+    assertEquals(1, engine.getBodiesDestroyedLastUpdate());
+  }
+
+  @Test
+  void shouldDestroyBodiesAfterStepping() {
+    when(gameTime.getDeltaTime()).thenReturn(0.02f);
+    PhysicsEngine engine = new PhysicsEngine(world, gameTime);
+    engine.destroyBody(body);
+    engine.update();
+
+    InOrder inOrder = inOrder(world);
+    inOrder.verify(world).step(anyFloat(), anyInt(), anyInt());
+    inOrder.verify(world).destroyBody(body);
   }
 
   @Test
@@ -0,0 +1,123 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.raycast.RaycastHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+@ExtendWith(MockitoExtension.class)
+class VisibilityServiceTest {
+  @Mock PhysicsEngine physics;
+  private boolean blocked;
+
+  @BeforeEach
+  void beforeEach() {
+    blocked = false;
+    when(physics.raycastAll(any(), any(), anyShort(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              if (!blocked) {
+                return 0;
+              }
+              Pool<RaycastHit> hitPool = invocation.getArgument(3);
+              Array<RaycastHit> hits = invocation.getArgument(4);
+              RaycastHit hit = hitPool.obtain();
+              hit.fraction = 0.5f;
+              hits.add(hit);
+              return 1;
+            });
+  }
+
+  @Test
+  void shouldShareRaycastWithinCell() {
+    VisibilityService service = new VisibilityService(physics, PhysicsLayer.OBSTACLE, 10);
+    Entity target = createAt(5f, 0f);
+
+    assertTrue(service.isVisible(createAt(0f, 0f), target));
+    assertTrue(service.isVisible(createAt(0.2f, 0.3f), target));
+    assertTrue(service.isVisible(createAt(0.4f, 0.1f), target));
+    // Nothing is raycast until the resolve
+    verify(physics, never()).raycastAll(any(), any(), anyShort(), any(), any());
+
+    service.resolve();
+    verify(physics, times(1)).raycastAll(any(), any(), anyShort(), any(), any());
+    assertEquals(3, service.getRequestsLastFrame());
+    assertEquals(2f / 3, service.getHitRateLastFrame(), 0.001f);
+    assertEquals(1, service.getQueryCount());
+  }
+
+  @Test
+  void shouldUpdateResultOnResolve() {
+    VisibilityService service = new VisibilityService(physics, PhysicsLayer.OBSTACLE, 10);
+    Entity from = createAt(0f, 0f);
+    Entity target = createAt(5f, 0f);
+    // Counts as visible until it is first raycast
+    blocked = true;
+    assertTrue(service.isVisible(from, target));
+    service.resolve();
+    assertFalse(service.isVisible(from, target));
+    assertEquals(1, service.getHits(from, target).size);
+    assertEquals(0.5f, service.getHits(from, target).first().fraction);
+
+    // Last result is used until the next resolve
+    blocked = false;
+    assertFalse(service.isVisible(from, target));
+    service.resolve();
+    assertTrue(service.isVisible(from, target));
+  }
+
+  @Test
+  void shouldDeferBeyondBudget() {
+    VisibilityService service = new VisibilityService(physics, PhysicsLayer.OBSTACLE, 2);
+    Entity target = createAt(0f, 0f);
+    Entity[] lookers = {createAt(1f, 0f), createAt(2f, 0f), createAt(3f, 0f)};
+    // New groups count against the budget too
+    for (Entity looker : lookers) {
+      service.isVisible(looker, target);
+    }
+    service.resolve();
+    assertEquals(2, service.getRaycastsLastFrame());
+    assertEquals(1, service.getDeferredLastFrame());
+    service.resolve();
+    assertEquals(1, service.getRaycastsLastFrame());
+
+    for (Entity looker : lookers) {
+      service.isVisible(looker, target);
+    }
+    service.resolve();
+    assertEquals(2, service.getRaycastsLastFrame());
+    assertEquals(1, service.getDeferredLastFrame());
+
+    // The group left waiting goes first
+    service.resolve();
+    assertEquals(1, service.getRaycastsLastFrame());
+    assertEquals(0, service.getDeferredLastFrame());
+  }
+
+  @Test
+  void shouldForgetIdleGroups() {
+    VisibilityService service = new VisibilityService(physics, PhysicsLayer.OBSTACLE, 10);
+    service.isVisible(createAt(0f, 0f), createAt(5f, 0f));
+    for (int i = 0; i <= VisibilityService.MAX_IDLE_FRAMES + 1; i++) {
+      service.resolve();
+    }
+    assertEquals(0, service.getQueryCount());
+  }
+
+  private static Entity createAt(float x, float y) {
+    Entity entity = new Entity();
+    entity.setPosition(x, y);
+    return entity;
+  }
+}
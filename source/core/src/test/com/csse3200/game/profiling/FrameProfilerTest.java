@@ -0,0 +1,105 @@
+package com.csse3200.game.profiling;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(GameExtension.class)
+class FrameProfilerTest {
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  @Test
+  void shouldComputePercentiles() {
+    FrameProfiler profiler = new FrameProfiler(100);
+    ProfileScope scope = profiler.getScope("physics");
+    for (int i = 100; i >= 1; i--) {
+      scope.record(i * NANOS_PER_MILLI);
+      profiler.endFrame();
+    }
+    profiler.updateStatistics();
+
+    assertEquals(100, scope.getSampleCount());
+    assertEquals(50, scope.getP50(), 0.001);
+    assertEquals(95, scope.getP95(), 0.001);
+    assertEquals(99, scope.getP99(), 0.001);
+    assertEquals(100, scope.getMax(), 0.001);
+  }
+
+  @Test
+  void shouldSumTimeWithinFrame() {
+    FrameProfiler profiler = new FrameProfiler(10);
+    ProfileScope scope = profiler.getScope("entities");
+    scope.record(2 * NANOS_PER_MILLI);
+    scope.record(3 * NANOS_PER_MILLI);
+    profiler.endFrame();
+    profiler.updateStatistics();
+
+    assertEquals(1, scope.getSampleCount());
+    assertEquals(5, scope.getMax(), 0.001);
+  }
+
+  @Test
+  void shouldKeepRollingWindow() {
+    FrameProfiler profiler = new FrameProfiler(10);
+    ProfileScope scope = profiler.getScope("render");
+    scope.record(100 * NANOS_PER_MILLI);
+    profiler.endFrame();
+    for (int i = 0; i < 10; i++) {
+      scope.record(NANOS_PER_MILLI);
+      profiler.endFrame();
+    }
+    profiler.updateStatistics();
+
+    assertEquals(10, scope.getSampleCount());
+    assertEquals(1, scope.getMax(), 0.001);
+  }
+
+  @Test
+  void shouldShareScopesByName() {
+    FrameProfiler profiler = new FrameProfiler();
+    assertSame(profiler.getScope("physics"), profiler.getScope("physics"));
+    assertNotSame(profiler.getScope("physics"), profiler.getScope("render"));
+    assertEquals(2, profiler.getStageScopes().size);
+  }
+
+  @Test
+  void shouldShareComponentScopesByType() {
+    FrameProfiler profiler = new FrameProfiler();
+    ProfileScope scope = profiler.getComponentScope(new TestComponent());
+    assertSame(scope, profiler.getComponentScope(new TestComponent()));
+    assertEquals("component:TestComponent", scope.getName());
+    assertEquals(1, profiler.getComponentScopes().size);
+  }
+
+  @Test
+  void shouldOnlyStoreComponentFramesWhenProfiling() {
+    FrameProfiler profiler = new FrameProfiler();
+    ProfileScope scope = profiler.getComponentScope(new TestComponent());
+    profiler.endFrame();
+    assertEquals(0, scope.getSampleCount());
+
+    profiler.setProfilingComponents(true);
+    assertTrue(profiler.isProfilingComponents());
+    profiler.endFrame();
+    assertEquals(1, scope.getSampleCount());
+  }
+
+  @Test
+  void shouldReportUnwritableFileAsIOException() {
+    FrameProfiler profiler = new FrameProfiler();
+    FileHandle file = mock(FileHandle.class);
+    when(file.writer(false, "UTF-8")).thenThrow(new GdxRuntimeException("Read only"));
+
+    assertThrows(IOException.class, () -> profiler.dumpCsv(file));
+  }
+
+  static class TestComponent extends Component {}
+}
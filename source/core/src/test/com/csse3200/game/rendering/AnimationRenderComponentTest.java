@@ -80,7 +80,7 @@ class AnimationRenderComponentTest {
     animator.startAnimation(animName);
 
     for (int i = 0; i < 5; i++) {
-      // Each draw advances 1 frame, check that it matches for each
+      // Each update advances 1 frame, check that it matches for each
       animator.draw(batch);
       verify(batch).draw(
           regions.get(i),
@@ -89,13 +89,13 @@ class AnimationRenderComponentTest {
           entity.getScale().x,
           entity.getScale().y
       );
+      animator.update();
     }
   }
 
   @Test
   void shouldFinish() {
     TextureAtlas atlas = createMockAtlas("test_name", 1);
-    SpriteBatch batch = mock(SpriteBatch.class);
 
     GameTime gameTime = mock(GameTime.class);
     ServiceLocator.registerTimeSource(gameTime);
@@ -110,7 +110,8 @@ class AnimationRenderComponentTest {
     animator.startAnimation("test_name");
     assertFalse(animator.isFinished());
 
-    animator.draw(batch);
+    // Finishes without being drawn, e.g. while culled off screen
+    animator.update();
     assertTrue(animator.isFinished());
   }
 
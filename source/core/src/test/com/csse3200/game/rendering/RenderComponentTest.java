@@ -1,5 +1,6 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.math.Rectangle;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.services.ServiceLocator;
@@ -9,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
@@ -62,4 +64,24 @@ class RenderComponentTest {
     entity2.setPosition(5f, -3f);
     assertTrue(component1.getZIndex() < component2.getZIndex());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldOnlyBeVisibleNearView() {
+    RenderComponent component = spy(RenderComponent.class);
+    Entity entity = new Entity();
+    component.setEntity(entity);
+    Rectangle view = new Rectangle(0f, 0f, 20f, 10f);
+
+    entity.setPosition(5f, 5f);
+    assertTrue(component.isVisible(view));
+
+    // Partially off screen
+    entity.setPosition(-0.5f, 9.5f);
+    assertTrue(component.isVisible(view));
+
+    entity.setPosition(40f, 5f);
+    assertFalse(component.isVisible(view));
+    entity.setPosition(5f, -20f);
+    assertFalse(component.isVisible(view));
+  }
+}
@@ -1,12 +1,15 @@
 package com.csse3200.game.rendering;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(GameExtension.class)
@@ -76,4 +79,94 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldCullRenderablesOutOfView() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable visible = mock(Renderable.class);
+    Renderable hidden = mock(Renderable.class);
+    when(visible.getLayer()).thenReturn(1);
+    when(hidden.getLayer()).thenReturn(1);
+    when(visible.isVisible(any())).thenReturn(true);
+    when(hidden.isVisible(any())).thenReturn(false);
+    renderService.register(visible);
+    renderService.register(hidden);
+
+    renderService.setViewBounds(new Rectangle(0f, 0f, 10f, 10f));
+    renderService.render(spriteBatch);
+    verify(visible).render(spriteBatch);
+    verify(hidden, times(0)).render(any());
+    assertEquals(1, renderService.getDrawnCount(1));
+    assertEquals(1, renderService.getCulledCount(1));
+
+    // Everything is drawn again without view bounds
+    renderService.setViewBounds(null);
+    renderService.render(spriteBatch);
+    verify(hidden).render(spriteBatch);
+    assertEquals(2, renderService.getDrawnCount(1));
+    assertEquals(0, renderService.getCulledCount(1));
+  }
+
+  @Test
+  void shouldKeepSortedOrderBetweenFrames() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    RenderComponent back = mock(RenderComponent.class);
+    RenderComponent front = mock(RenderComponent.class);
+    when(back.getLayer()).thenReturn(1);
+    when(front.getLayer()).thenReturn(1);
+    when(back.compareTo(any())).thenReturn(-1);
+    when(front.compareTo(any())).thenReturn(1);
+    renderService.register(front);
+    renderService.register(back);
+
+    renderService.render(spriteBatch);
+    renderService.render(spriteBatch);
+
+    InOrder inOrder = Mockito.inOrder(back, front);
+    inOrder.verify(back).render(any());
+    inOrder.verify(front).render(any());
+    inOrder.verify(back).render(any());
+    inOrder.verify(front).render(any());
+  }
+
+  @Test
+  void shouldGroupByTextureWithinZBand() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Texture textureA = mock(Texture.class);
+    Texture textureB = mock(Texture.class);
+    when(textureA.getTextureObjectHandle()).thenReturn(1);
+    when(textureB.getTextureObjectHandle()).thenReturn(2);
+
+    // Alternating textures in z order, all within one band
+    Renderable first = mockRenderable(0.1f, textureA);
+    Renderable second = mockRenderable(0.2f, textureB);
+    Renderable third = mockRenderable(0.3f, textureA);
+    Renderable far = mockRenderable(5f, textureA);
+    renderService.register(first);
+    renderService.register(second);
+    renderService.register(third);
+    renderService.register(far);
+
+    renderService.setTextureSorting(true, 1f);
+    renderService.render(spriteBatch);
+
+    InOrder inOrder = Mockito.inOrder(first, second, third, far);
+    inOrder.verify(first).render(any());
+    inOrder.verify(third).render(any());
+    inOrder.verify(second).render(any());
+    inOrder.verify(far).render(any());
+  }
+
+  private static Renderable mockRenderable(float zIndex, Texture texture) {
+    Renderable renderable = mock(Renderable.class);
+    when(renderable.getLayer()).thenReturn(1);
+    when(renderable.getZIndex()).thenReturn(zIndex);
+    when(renderable.getTexture()).thenReturn(texture);
+    when(renderable.compareTo(any()))
+        .thenAnswer(invocation -> Float.compare(zIndex, ((Renderable) invocation.getArgument(0)).getZIndex()));
+    return renderable;
+  }
 }
@@ -0,0 +1,123 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.csse3200.game.entities.PlaceableEntity;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class PathfindingServiceTest {
+  @Test
+  void shouldFindDirectPath() {
+    PathfindingService service = new PathfindingService(10, 10);
+    IntArray path = new IntArray();
+
+    assertTrue(service.findPath(0, 0, 5, 0, path));
+    assertEquals(5, path.size);
+    assertEquals(5, service.getCellX(path.peek()));
+    assertEquals(0, service.getCellY(path.peek()));
+  }
+
+  @Test
+  void shouldMoveDiagonally() {
+    PathfindingService service = new PathfindingService(10, 10);
+    IntArray path = new IntArray();
+
+    assertTrue(service.findPath(0, 0, 4, 4, path));
+    assertEquals(4, path.size);
+  }
+
+  @Test
+  void shouldPathAroundBlockedTiles() {
+    PathfindingService service = new PathfindingService(10, 10);
+    // Wall across x = 5 with a gap at the top
+    service.setBlocked(5, 0, 1, 9, true);
+    IntArray path = new IntArray();
+
+    assertTrue(service.findPath(0, 0, 9, 0, path));
+    for (int i = 0; i < path.size; i++) {
+      int cell = path.get(i);
+      assertFalse(service.isBlocked(service.getCellX(cell), service.getCellY(cell)));
+    }
+    assertTrue(path.size > 9);
+  }
+
+  @Test
+  void shouldFailWhenEnclosed() {
+    PathfindingService service = new PathfindingService(10, 10);
+    service.setBlocked(5, 0, 1, 10, true);
+    IntArray path = new IntArray();
+
+    assertFalse(service.findPath(0, 0, 9, 0, path));
+    assertEquals(0, path.size);
+  }
+
+  @Test
+  void shouldAllowBlockedTarget() {
+    PathfindingService service = new PathfindingService(10, 10);
+    service.setBlocked(5, 5, true);
+    IntArray path = new IntArray();
+
+    assertTrue(service.findPath(0, 5, 5, 5, path));
+    assertEquals(5, path.size);
+  }
+
+  @Test
+  void shouldReuseBuffersBetweenQueries() {
+    PathfindingService service = new PathfindingService(20, 20);
+    IntArray path = new IntArray();
+
+    assertTrue(service.findPath(0, 0, 19, 19, path));
+    service.setBlocked(10, 0, 1, 19, true);
+    assertTrue(service.findPath(0, 0, 19, 0, path));
+    assertEquals(19, service.getCellX(path.peek()));
+    assertFalse(service.findPath(0, 0, 25, 0, path));
+  }
+
+  @Test
+  void shouldFindBatchedPaths() {
+    PathfindingService service = new PathfindingService(10, 10);
+    service.setBlocked(0, 5, 10, 1, true);
+    Array<GridPoint2> starts = new Array<>();
+    starts.add(new GridPoint2(0, 0));
+    starts.add(new GridPoint2(9, 9));
+    starts.add(new GridPoint2(3, 2));
+    Array<IntArray> paths = new Array<>();
+
+    assertEquals(2, service.findPaths(starts, new GridPoint2(5, 0), paths));
+    assertEquals(3, paths.size);
+    assertTrue(paths.get(0).size > 0);
+    assertEquals(0, paths.get(1).size);
+    assertTrue(paths.get(2).size > 0);
+  }
+
+  @Test
+  void shouldTrackPlacedStructures() {
+    StructurePlacementService placementService = new StructurePlacementService(new EventHandler());
+    PathfindingService service = new PathfindingService(10, 10);
+    service.trackStructures(placementService);
+
+    PlaceableEntity structure = new PlaceableEntity(2, 2);
+    placementService.getEvents().trigger("structurePlaced", structure, new GridPoint2(3, 3));
+    assertTrue(service.isBlocked(4, 4));
+
+    placementService.getEvents().trigger("structureRemoved", structure, new GridPoint2(3, 3));
+    assertFalse(service.isBlocked(4, 4));
+  }
+
+  @Test
+  void shouldConvertPathToTiles() {
+    PathfindingService service = new PathfindingService(10, 10);
+    List<GridPoint2> path = service.findPath(new GridPoint2(1, 1), new GridPoint2(1, 4));
+
+    assertEquals(List.of(new GridPoint2(1, 2), new GridPoint2(1, 3), new GridPoint2(1, 4)), path);
+  }
+}
@@ -0,0 +1,100 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.resources.Resource;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(GameExtension.class)
+class ResourceLedgerTest {
+    private ResourceLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new ResourceLedger();
+    }
+
+    @Test
+    void testAddCapsAtMax() {
+        ledger.setMax(Resource.Nebulite, 100);
+        ledger.add(Resource.Nebulite, 80);
+        assertEquals(100, ledger.add(Resource.Nebulite, 50));
+        assertEquals(100, ledger.getAmount(Resource.Nebulite));
+        assertEquals(Integer.MAX_VALUE, ledger.getMax(Resource.Solstite));
+    }
+
+    @Test
+    void testTrySpendTakesWholeCost() {
+        ledger.add(Resource.Nebulite, 50);
+        ledger.add(Resource.Durasteel, 50);
+        long version = ledger.getVersion();
+
+        ObjectMap<String, Integer> cost = new ObjectMap<>();
+        cost.put("Nebulite", 20);
+        cost.put("Durasteel", 30);
+
+        assertTrue(ledger.trySpend(cost));
+        assertEquals(30, ledger.getAmount(Resource.Nebulite));
+        assertEquals(20, ledger.getAmount(Resource.Durasteel));
+        assertEquals(version + 1, ledger.getVersion());
+        assertEquals(ledger.getVersion(), ledger.getVersion(Resource.Nebulite));
+        assertEquals(ledger.getVersion(), ledger.getVersion(Resource.Durasteel));
+    }
+
+    @Test
+    void testTrySpendTakesNothingWhenShort() {
+        ledger.add(Resource.Nebulite, 50);
+        ledger.add(Resource.Durasteel, 10);
+        long version = ledger.getVersion();
+
+        ObjectMap<String, Integer> cost = new ObjectMap<>();
+        cost.put("Nebulite", 20);
+        cost.put("Durasteel", 30);
+
+        assertFalse(ledger.trySpend(cost));
+        assertEquals(50, ledger.getAmount(Resource.Nebulite));
+        assertEquals(10, ledger.getAmount(Resource.Durasteel));
+        assertEquals(version, ledger.getVersion());
+
+        cost.clear();
+        cost.put("Solstite", 0);
+        assertFalse(ledger.trySpend(cost), "Resources which were never added can't be spent");
+    }
+
+    @Test
+    void testListenersOnlyToldAboutChangedResource() {
+        List<Resource> changed = new ArrayList<>();
+        ledger.addChangeListener((resource, version) -> changed.add(resource));
+
+        ledger.add(Resource.Solstite, 5);
+        ledger.addExtractors(Resource.Durasteel, 1);
+
+        assertEquals(List.of(Resource.Solstite, Resource.Durasteel), changed);
+    }
+
+    @Test
+    void testGameStateKeys() {
+        GameState gameState = new GameState();
+        ResourceLedger stateLedger = gameState.getResourceLedger();
+
+        assertNull(gameState.get("resource/Nebulite"));
+        gameState.put("resourceMax/Nebulite", 10);
+        stateLedger.add(Resource.Nebulite, 25);
+
+        assertEquals(10, stateLedger.getMax(Resource.Nebulite));
+        assertEquals(10, gameState.get("resource/Nebulite"));
+        assertEquals(10, gameState.getStateData().get("resource/Nebulite"));
+        assertFalse(gameState.getStateData().containsKey("resource/Solstite"));
+
+        gameState.clear();
+        assertNull(gameState.get("resource/Nebulite"));
+        assertEquals(0, stateLedger.getAmount(Resource.Nebulite));
+    }
+}
@@ -0,0 +1,22 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.components.resources.Resource;
+
+public class ResourceLedgerTestUtils {
+    /**
+     * Creates a ledger holding the same amount of every resource.
+     * @param amount Amount of each resource
+     * @return The new ledger
+     */
+    public static ResourceLedger createLedger(int amount) {
+        ResourceLedger ledger = new ResourceLedger();
+        for (Resource resource : Resource.values()) {
+            ledger.add(resource, amount);
+        }
+        return ledger;
+    }
+
+    private ResourceLedgerTestUtils() {
+        throw new IllegalStateException("Instantiating static util class");
+    }
+}
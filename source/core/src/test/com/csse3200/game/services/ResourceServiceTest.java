@@ -3,14 +3,21 @@ package com.csse3200.game.services;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(GameExtension.class)
@@ -144,4 +151,111 @@ class ResourceServiceTest {
     verify(assetManager).load(asset2, Music.class);
   }
 
+  @Test
+  void shouldShareAcquiredTextureAtlases() {
+    String atlasPath = "test/files/test.atlas";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    TextureAtlas atlas1 = resourceService.acquireTextureAtlas(atlasPath);
+    TextureAtlas atlas2 = resourceService.acquireTextureAtlas(atlasPath);
+
+    assertSame(atlas1, atlas2);
+    assertEquals(2, resourceService.getTextureAtlasReferences(atlasPath));
+    verify(assetManager, times(1)).load(atlasPath, TextureAtlas.class);
+
+    resourceService.releaseTextureAtlas(atlasPath);
+    assertEquals(1, resourceService.getTextureAtlasReferences(atlasPath));
+  }
+
+  @Test
+  void shouldShareAnimations() {
+    String atlasPath = "test/files/test.atlas";
+
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+    resourceService.acquireTextureAtlas(atlasPath);
+
+    Animation<TextureRegion> animation =
+        resourceService.getAnimation(atlasPath, "attack", 0.1f, PlayMode.LOOP);
+    assertNotNull(animation);
+    assertSame(animation, resourceService.getAnimation(atlasPath, "attack", 0.1f, PlayMode.LOOP));
+    assertNotSame(animation, resourceService.getAnimation(atlasPath, "attack", 0.2f, PlayMode.LOOP));
+    assertNull(resourceService.getAnimation(atlasPath, "missing", 0.1f, PlayMode.LOOP));
+  }
+
+  @Test
+  void shouldNotShareRandomAnimations() {
+    String atlasPath = "test/files/test.atlas";
+
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+    resourceService.acquireTextureAtlas(atlasPath);
+
+    Animation<TextureRegion> animation =
+        resourceService.getAnimation(atlasPath, "attack", 0.1f, PlayMode.LOOP_RANDOM);
+    Animation<TextureRegion> other =
+        resourceService.getAnimation(atlasPath, "attack", 0.1f, PlayMode.LOOP_RANDOM);
+    assertNotSame(animation, other);
+    assertSame(animation.getKeyFrames(), other.getKeyFrames());
+    assertEquals(PlayMode.LOOP_RANDOM, other.getPlayMode());
+  }
+
+  @Test
+  void shouldOnlyUnloadUnreferencedAtlases() {
+    String atlasPath = "test/files/test.atlas";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.acquireTextureAtlas(atlasPath);
+
+    resourceService.unloadUnreferencedAtlases();
+    assertTrue(assetManager.contains(atlasPath, TextureAtlas.class));
+
+    resourceService.releaseTextureAtlas(atlasPath);
+    resourceService.unloadUnreferencedAtlases();
+    assertFalse(assetManager.contains(atlasPath, TextureAtlas.class));
+    assertEquals(0, resourceService.getTextureAtlasReferences(atlasPath));
+  }
+
+  @Test
+  void shouldShareDrawablesUntilReleased() {
+    String texturePath = "test/files/tree.png";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+
+    TextureRegionDrawable drawable = resourceService.acquireDrawable(texturePath);
+    assertSame(drawable, resourceService.acquireDrawable(texturePath));
+    verify(assetManager, times(1)).load(texturePath, Texture.class);
+
+    resourceService.releaseDrawable(texturePath);
+    assertTrue(assetManager.contains(texturePath, Texture.class));
+
+    resourceService.releaseDrawable(texturePath);
+    assertFalse(assetManager.contains(texturePath, Texture.class));
+  }
+
+  @Test
+  void shouldKeepScreenTexturesLoadedWhenReleased() {
+    String texturePath = "test/files/tree.png";
+
+    AssetManager assetManager = spy(AssetManager.class);
+    ResourceService resourceService = new ResourceService(assetManager);
+    resourceService.loadTextures(new String[] {texturePath});
+    resourceService.loadAll();
+
+    assertSame(resourceService.getAsset(texturePath, Texture.class), resourceService.acquireTexture(texturePath));
+    resourceService.releaseTexture(texturePath);
+    assertTrue(assetManager.contains(texturePath, Texture.class));
+  }
+
+  @Test
+  void shouldCacheColorDrawables() {
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+
+    Drawable brown = resourceService.getColorDrawable(Color.BROWN);
+    assertSame(brown, resourceService.getColorDrawable(new Color(Color.BROWN)));
+    assertNotSame(brown, resourceService.getColorDrawable(Color.BLACK));
+    assertSame(resourceService.getDefaultFont(), resourceService.getDefaultFont());
+  }
 }
@@ -0,0 +1,97 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.PlaceableEntity;
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(GameExtension.class)
+class StructurePlacementServiceTest {
+    private StructurePlacementService service;
+
+    @BeforeEach
+    void beforeEach() {
+        ServiceLocator.registerEntityService(mock(EntityService.class));
+        service = new StructurePlacementService(new EventHandler());
+        service.setGridSize(new GridPoint2(10, 10));
+    }
+
+    @Test
+    void shouldPlaceAndRemoveStructures() {
+        PlaceableEntity structure = new PlaceableEntity(2, 2);
+        service.placeStructureAt(structure, new GridPoint2(3, 3), false, false);
+
+        assertSame(structure, service.getStructureAt(new GridPoint2(4, 4)));
+        assertNull(service.getStructureAt(new GridPoint2(5, 3)));
+        assertFalse(service.canPlaceStructureAt(new PlaceableEntity(1, 1), new GridPoint2(4, 3)));
+
+        service.removeStructureAt(new GridPoint2(4, 4));
+        assertNull(service.getStructureAt(new GridPoint2(3, 3)));
+        assertTrue(service.canPlaceStructureAt(new PlaceableEntity(2, 2), new GridPoint2(3, 3)));
+    }
+
+    @Test
+    void shouldGrowOutsideGrid() {
+        PlaceableEntity outside = new PlaceableEntity(1, 1);
+        PlaceableEntity inside = new PlaceableEntity(1, 1);
+        service.placeStructureAt(inside, new GridPoint2(0, 0), false, false);
+        service.placeStructureAt(outside, new GridPoint2(-5, 25), false, false);
+
+        assertSame(outside, service.getStructureAt(-5, 25));
+        assertSame(inside, service.getStructureAt(0, 0));
+        assertEquals(new GridPoint2(-5, 25), service.getStructurePosition(outside));
+    }
+
+    @Test
+    void shouldFindStructuresInRectAndRadius() {
+        PlaceableEntity big = new PlaceableEntity(3, 3);
+        PlaceableEntity near = new PlaceableEntity(1, 1);
+        PlaceableEntity far = new PlaceableEntity(1, 1);
+        service.placeStructureAt(big, new GridPoint2(0, 0), false, false);
+        service.placeStructureAt(near, new GridPoint2(4, 4), false, false);
+        service.placeStructureAt(far, new GridPoint2(9, 9), false, false);
+
+        Array<PlaceableEntity> found = service.getStructuresInRect(0, 0, 5, 5, new Array<>());
+        assertEquals(2, found.size);
+        assertTrue(found.contains(big, true));
+        assertTrue(found.contains(near, true));
+
+        found = service.getStructuresInRadius(new GridPoint2(9, 9), 1.5f, new Array<>());
+        assertEquals(1, found.size);
+        assertSame(far, found.first());
+    }
+
+    @Test
+    void shouldPlaceManyStructuresWithOneEvent() {
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger singles = new AtomicInteger();
+        service.getEvents().addListener("structuresPlaced",
+                (List<PlaceableEntity> structures, List<GridPoint2> positions) -> batches.incrementAndGet());
+        service.getEvents().addListener("structurePlaced",
+                (PlaceableEntity structure, GridPoint2 position) -> singles.incrementAndGet());
+
+        PlaceableEntity first = new PlaceableEntity(1, 1);
+        PlaceableEntity overlapping = new PlaceableEntity(1, 1);
+        PlaceableEntity second = new PlaceableEntity(1, 1);
+        List<PlaceableEntity> placed = service.placeStructures(
+                List.of(first, overlapping, second),
+                List.of(new GridPoint2(1, 1), new GridPoint2(1, 1), new GridPoint2(2, 1)),
+                false, false);
+
+        assertEquals(List.of(first, second), placed);
+        assertSame(second, service.getStructureAt(2, 1));
+        assertEquals(1, batches.get());
+        assertEquals(0, singles.get());
+    }
+}
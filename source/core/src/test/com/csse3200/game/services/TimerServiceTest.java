@@ -0,0 +1,140 @@
+package com.csse3200.game.services;
+
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(GameExtension.class)
+class TimerServiceTest {
+  private TimerService timerService;
+  private int runs;
+
+  @BeforeEach
+  void beforeEach() {
+    timerService = new TimerService(mock(GameTime.class));
+    runs = 0;
+  }
+
+  @Test
+  void shouldRunAfterDelay() {
+    TimerHandle handle = timerService.schedule(() -> runs++, 1f);
+    timerService.update(0.5f);
+    assertEquals(0, runs);
+    assertTrue(handle.isScheduled());
+
+    timerService.update(0.5f);
+    assertEquals(1, runs);
+    assertFalse(handle.isScheduled());
+
+    timerService.update(5f);
+    assertEquals(1, runs);
+    assertEquals(0, timerService.getScheduledCount());
+  }
+
+  @Test
+  void shouldRunOnNextUpdateWithoutDelay() {
+    timerService.schedule(() -> runs++, 0f);
+    timerService.update(1f / TimerService.TICKS_PER_SECOND);
+    assertEquals(1, runs);
+  }
+
+  @Test
+  void shouldRunDistantTimers() {
+    // Far enough away to be cascaded through every level of the wheel
+    timerService.schedule(() -> runs++, 1000f);
+    for (int i = 0; i < 999; i++) {
+      timerService.update(1f);
+    }
+    assertEquals(0, runs);
+    timerService.update(1f);
+    assertEquals(1, runs);
+  }
+
+  @Test
+  void shouldRunInOrder() {
+    StringBuilder order = new StringBuilder();
+    timerService.schedule(() -> order.append('c'), 3f);
+    timerService.schedule(() -> order.append('a'), 0.1f);
+    timerService.schedule(() -> order.append('b'), 2.9f);
+    timerService.update(10f);
+    assertEquals("abc", order.toString());
+  }
+
+  @Test
+  void shouldRepeatUntilCancelled() {
+    TimerHandle handle = timerService.scheduleRepeating(null, () -> runs++, 1f, 0.5f);
+    assertTrue(handle.isRepeating());
+    timerService.update(1f);
+    assertEquals(1, runs);
+    timerService.update(1f);
+    assertEquals(3, runs);
+
+    handle.cancel();
+    timerService.update(5f);
+    assertEquals(3, runs);
+    assertFalse(handle.isScheduled());
+  }
+
+  @Test
+  void shouldNotRunCancelled() {
+    TimerHandle handle = timerService.schedule(() -> runs++, 1f);
+    handle.cancel();
+    handle.cancel();
+    timerService.update(2f);
+    assertEquals(0, runs);
+    assertEquals(0, timerService.getScheduledCount());
+  }
+
+  @Test
+  void shouldFollowTimeScale() {
+    GameTime gameTime = mock(GameTime.class);
+    when(gameTime.getDeltaTime()).thenReturn(0f);
+    TimerService scaledService = new TimerService(gameTime);
+    scaledService.schedule(() -> runs++, 1f);
+
+    // Paused game time
+    scaledService.update();
+    assertEquals(0, runs);
+
+    when(gameTime.getDeltaTime()).thenReturn(1f);
+    scaledService.update();
+    assertEquals(1, runs);
+  }
+
+  @Test
+  void shouldCancelOwnedTimersOnDispose() {
+    ServiceLocator.registerEntityService(new EntityService());
+    ServiceLocator.registerTimerService(timerService);
+    Entity owner = new Entity();
+    Entity other = new Entity();
+    owner.create();
+    timerService.schedule(owner, () -> runs++, 1f);
+    timerService.scheduleRepeating(owner, () -> runs++, 1f, 1f);
+    timerService.schedule(other, () -> runs += 10, 1f);
+
+    owner.dispose();
+    timerService.update(1f);
+    assertEquals(10, runs);
+  }
+
+  @Test
+  void shouldAllowTaskToDisposeOwner() {
+    ServiceLocator.registerEntityService(new EntityService());
+    ServiceLocator.registerTimerService(timerService);
+    Entity owner = new Entity();
+    owner.create();
+    timerService.scheduleRepeating(owner, owner::dispose, 1f, 1f);
+    timerService.schedule(owner, () -> runs++, 2f);
+
+    timerService.update(3f);
+    assertEquals(0, runs);
+    assertEquals(0, timerService.getScheduledCount());
+  }
+}